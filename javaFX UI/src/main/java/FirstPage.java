@@ -2,14 +2,18 @@ import javafx.application.Application;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -128,11 +132,15 @@ public class FirstPage extends Application {
             primaryStage.close();
         });
 
+        // --- 다시 보기 버튼 (게임 기록 파일 선택) ---
+        Button replayButton = new Button("다시 보기");
+        replayButton.setOnAction(e -> openReplay(primaryStage));
+
         root.getChildren().addAll(
                 new HBox(10, playerLabel, playerCountBox),
                 new HBox(10, pieceLabel, pieceCountBox),
                 new HBox(10, boardLabel, boardTypeBox),
-                startButton
+                new HBox(10, startButton, replayButton)
         );
 
         Scene scene = new Scene(root, 450, 300);
@@ -140,6 +148,28 @@ public class FirstPage extends Application {
         primaryStage.show();
     }
 
+    /** 기록 파일을 골라 다시 보기 화면 열기 */
+    private void openReplay(Stage primaryStage) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("다시 볼 게임 기록 선택");
+        File dir = new File(System.getProperty(GameRecord.DIR_PROPERTY, "."));
+        if (dir.isDirectory()) chooser.setInitialDirectory(dir);
+        chooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter("윷놀이 기록 (*" + GameRecord.SUFFIX + ")", "*" + GameRecord.SUFFIX));
+        File file = chooser.showOpenDialog(primaryStage);
+        if (file == null) return;
+        try {
+            new YutBoard(new GameReplay(GameRecord.read(file.toPath())), new Stage());
+            primaryStage.close();
+        } catch (IOException | IllegalArgumentException ex) {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("기록을 열 수 없습니다");
+            alert.setHeaderText(null);
+            alert.setContentText(ex.getMessage());
+            alert.showAndWait();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,57 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Swing 판에서 저장한 게임 기록 파일(.yrp) 읽기.
+ * 헤더(판 종류, 인원, 말 수, 규칙) 뒤에 int 명령이 이어진다.
+ * 이 판은 기본 규칙만 알고 있으므로, 사각형/오각형/육각형 판에서 기본 규칙으로 둔 기록만 읽는다.
+ */
+public class GameRecord {
+    public static final String SUFFIX = ".yrp";
+    public static final String DIR_PROPERTY = "yut.replayDir";  // 기록 파일 디렉터리 (Swing 판과 같은 시스템 속성)
+
+    private static final int MAGIC = 0x59525031;                // "YRP1"
+    private static final int STICKS = 4;                        // 윷가락 수
+    private static final int HEADER_BYTES = 4 + 3 + 4 + 8 + 8 * STICKS + 1;
+    private static final int STANDARD_RULE_FLAGS = 0x9;         // 기본 규칙의 규칙 비트
+
+    private final PlayConfig config;
+    private final int[] commands;
+
+    public GameRecord(PlayConfig config, int[] commands) {
+        this.config = config;
+        this.commands = commands;
+    }
+
+    public PlayConfig getConfig() { return config; }
+    /** 명령 수 */
+    public int size() { return commands.length; }
+    /** i번째 명령 */
+    public int command(int i) { return commands[i]; }
+
+    /** 기록 파일 읽기 (쓰다 끊긴 마지막 명령은 버림) */
+    public static GameRecord read(Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buf.remaining() < HEADER_BYTES || buf.getInt() != MAGIC) {
+            throw new IOException("게임 기록 파일이 아닙니다: " + file);
+        }
+        int type = buf.get();
+        int playerCount = buf.get();
+        int pieceCount = buf.get();
+        if (type < 0 || type >= PlayConfig.BoardType.values().length) {
+            throw new IOException("이 판에서 지원하지 않는 판 종류입니다: " + file);
+        }
+        int ruleFlags = buf.getInt();
+        double nak = buf.getDouble();
+        if (ruleFlags != STANDARD_RULE_FLAGS || nak != 0) {
+            throw new IOException("기본 규칙이 아닌 기록은 다시 볼 수 없습니다: " + file);
+        }
+        buf.position(HEADER_BYTES);   // 윷가락 확률: 던진 결과가 명령에 남으므로 재생에는 쓰지 않음
+        PlayConfig config = new PlayConfig(playerCount, pieceCount, PlayConfig.BoardType.values()[type]);
+        int[] commands = new int[buf.remaining() / 4];
+        for (int i = 0; i < commands.length; i++) commands[i] = buf.getInt();
+        return new GameRecord(config, commands);
+    }
+}
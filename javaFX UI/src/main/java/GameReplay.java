@@ -0,0 +1,128 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 기록 다시 보기.
+ * 기록된 명령을 이 판의 GameState에 처음부터 다시 적용한다.
+ * 앞으로 가는 이동은 이어서 적용하고, 뒤로 가는 이동은 처음부터 다시 적용한다.
+ * 턴 시작 위치(차례가 바뀐 직후의 명령 수)를 미리 구해 두어 턴 단위로 이동할 수 있다.
+ */
+public class GameReplay {
+    private static final int THROW = 1;     // a = 윷 결과 ordinal
+    private static final int MOVE = 2;      // a = 경로, b = 단계, c = 윷 결과 인덱스
+    private static final int DEPLOY = 3;    // c = 윷 결과 인덱스
+
+    private final GameRecord record;
+    private final List<Integer> turnStarts = new ArrayList<>();
+
+    private GameState state;
+    private int position;
+
+    public GameReplay(GameRecord record) {
+        this.record = record;
+        reset();
+        turnStarts.add(0);
+        int current = state.getCurrentPlayer().getId();
+        while (step()) {
+            if (state.getCurrentPlayer().getId() != current) {
+                current = state.getCurrentPlayer().getId();
+                turnStarts.add(position);
+            }
+        }
+        reset();
+    }
+
+    /** 기록의 기본 플레이어 이름 (Player1..N, 게임 화면과 같음) */
+    public static List<String> playerNames(int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= count; i++) names.add("Player" + i);
+        return names;
+    }
+
+    public PlayConfig getConfig() { return record.getConfig(); }
+    /** 현재 위치의 게임 상태 (다음 이동 전까지 유효) */
+    public GameState getState() { return state; }
+    /** 지금까지 적용한 명령 수 */
+    public int getPosition() { return position; }
+    /** 전체 명령 수 */
+    public int size() { return record.size(); }
+    public int turnCount() { return turnStarts.size(); }
+    public int turnStart(int turn) { return turnStarts.get(turn); }
+
+    /** 현재 위치가 속한 턴 */
+    public int getTurn() {
+        int lo = 0, hi = turnStarts.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (turnStarts.get(mid) <= position) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    /** 명령 하나 앞으로 (끝이면 false) */
+    public boolean step() {
+        if (position >= record.size()) return false;
+        apply(record.command(position++));
+        return true;
+    }
+
+    /** 명령 target개를 적용한 위치로 이동 */
+    public void seek(int target) {
+        if (target < 0 || target > record.size()) {
+            throw new IllegalArgumentException("위치는 0~" + record.size() + " 사이여야 합니다: " + target);
+        }
+        if (target < position) reset();
+        while (position < target) step();
+    }
+
+    /** turn번째 턴의 시작으로 이동 */
+    public void seekTurn(int turn) {
+        seek(turnStarts.get(turn));
+    }
+
+    private void reset() {
+        PlayConfig config = record.getConfig();
+        state = new GameState(config, playerNames(config.getPlayerCount()));
+        position = 0;
+    }
+
+    /** 기록된 명령 하나를 GameState에 적용 (GameController의 던지기/말 선택/새 말 꺼내기와 같음) */
+    private void apply(int command) {
+        int type = command >>> 24;
+        int a = (command >>> 16) & 0xFF;
+        int b = (command >>> 8) & 0xFF;
+        int c = command & 0xFF;
+        if ((type == MOVE || type == DEPLOY) && c >= state.getLastThrow().size()) {
+            throw new IllegalArgumentException("남은 윷 결과가 없는 이동 명령: " + Integer.toHexString(command));
+        }
+        switch (type) {
+            case THROW:
+                state.applyThrow(Yut.Result.values()[a]);
+                break;
+            case MOVE:
+                state.setSelect(c);
+                for (Piece p : state.getCurrentPlayer().getPieces()) {
+                    if (!p.isFinished() && p.getPathIndex() == a && p.getStepIndex() == b) {
+                        state.movePiece(p.getId());
+                        state.isGameOver();   // 승자 결정
+                        break;
+                    }
+                }
+                break;
+            case DEPLOY:
+                state.setSelect(c);
+                for (Piece p : state.getCurrentPlayer().getPieces()) {
+                    if (p.getPathIndex() == -1 && !p.isFinished()) {
+                        p.setPathIndex(0);
+                        p.setStepIndex(0);
+                        state.movePiece(p.getId());
+                        break;
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("이 판에서 다시 볼 수 없는 명령: " + Integer.toHexString(command));
+        }
+    }
+}
@@ -79,6 +79,7 @@ public class GameState {
             // 판에 말이 하나도 없는 상태에서 빽도가 나온 경우에만 턴을 넘김
             if (!hasPieceOnBoard) {
                 this.lastTurnEvent = TurnEvent.BAEKDO_TURN_PASS; // 턴 넘어감 이벤트 설정
+                lastThrow.clear(); // 모아 둔 결과는 다음 플레이어에게 넘어가지 않음
                 nextTurn(); // 다음 플레이어에게 턴 넘김
                 return; // 메소드 종료
             }
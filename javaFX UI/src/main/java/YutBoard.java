@@ -1,3 +1,4 @@
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 // YutBoardFX: JavaFX 기반의 윷놀이 게임판 UI를 구현하는 클래스
 public class YutBoard implements GameView {
     private static final String IMG_ROOT = "/img/"; // 이미지 리소스의 루트 경로
+    private static final double REPLAY_BASE_RATE = 2.0; // 다시 보기 1배속에서 초당 적용하는 명령 수 (Swing 판과 같음)
 
     // 게임 설정, 컨트롤러, 경로 설정 등 핵심 로직 관련 객체
     private final PlayConfig config;
@@ -51,6 +53,17 @@ public class YutBoard implements GameView {
     private Button specBtnFX; // 지정 윷 던지기 버튼
     private ComboBox<Yut.Result> yutComboBoxFX; // 지정 윷 결과를 선택하는 콤보박스
 
+    // 다시 보기 관련 (게임 모드면 replay는 null)
+    private final GameReplay replay; // 기록된 명령을 적용하는 다시 보기 상태
+    private AnimationTimer replayTimer; // 재생 중일 때만 동작, 화면 갱신마다 한 번씩 명령을 적용
+    private double replaySpeed = 1; // 재생 배속
+    private double replayCarry; // 아직 적용하지 않은 명령 수 (소수 부분)
+    private long replayLastTick; // 직전 틱 시각 (나노초)
+    private Slider replaySlider; // 턴 위치
+    private Label replayTurnLabel; // "턴 t / T"
+    private Button replayPlayBtn; // 재생/일시정지
+    private boolean updatingReplaySlider = false; // 화면 갱신으로 슬라이더를 옮기는 중
+
     /**
      * YutBoardFX 생성자. 게임 설정, 플레이어 이름, 주 Stage를 받아 UI를 초기화하고 게임 로직을 연결합니다.
      * @param config 게임 설정 객체
@@ -58,20 +71,44 @@ public class YutBoard implements GameView {
      * @param stage 주 Stage 객체
      */
     public YutBoard(PlayConfig config, List<String> playerNames, Stage stage) {
+        this(config, playerNames, stage, null);
+    }
+
+    /**
+     * 다시 보기 화면. 기록된 게임을 입력 없이 재생합니다 (재생/일시정지, 턴 이동, 재생 속도).
+     * @param replay 기록 파일로 만든 다시 보기 상태
+     * @param stage 주 Stage 객체
+     */
+    public YutBoard(GameReplay replay, Stage stage) {
+        this(replay.getConfig(), GameReplay.playerNames(replay.getConfig().getPlayerCount()), stage, replay);
+    }
+
+    private YutBoard(PlayConfig config, List<String> playerNames, Stage stage, GameReplay replay) {
         this.primaryStage = stage;
         this.config = config;
         this.pathConfigInstance = new PathConfig(config.getBoardType()); //
+        // 다시 보기에서는 컨트롤러를 시작하지 않고 재시작 요청에만 쓴다 (상태는 replay가 가진다)
         this.controller = new GameController(config, playerNames, this); //
+        this.replay = replay;
 
         initUI(); // JavaFX UI 요소들 초기화 및 레이아웃 설정
         // UI가 완전히 그려진 후 보드 기하학 정보 계산 및 게임 시작
         Platform.runLater(() -> {
             initBoardGeometry(); // 윷판 경로의 화면 좌표 계산
             initBoardUIElements(); // 윷판의 각 칸(버튼) UI 요소 생성
-            controller.startGame(); // 게임 로직 시작 및 초기 상태 업데이트 요청
+            if (replay != null) {
+                updateBoard(replay.getState()); // 처음 위치부터 그림 (재생은 사용자가 시작)
+            } else {
+                controller.startGame(); // 게임 로직 시작 및 초기 상태 업데이트 요청
+            }
         });
     }
 
+    /** 지금 화면에 그릴 게임 상태 (다시 보기면 재생 위치의 상태) */
+    private GameState shownState() {
+        return replay != null ? replay.getState() : controller.getState();
+    }
+
     /**
      * JavaFX UI 요소들을 초기화하고 전체 레이아웃을 설정합니다.
      */
@@ -92,7 +129,7 @@ public class YutBoard implements GameView {
         specBtnFX.setOnAction(e -> controller.onThrowSpecified(yutComboBoxFX.getValue())); // 지정 윷 던지기 이벤트 연결
 
         topPanel.getChildren().addAll(rndBtnFX, yutComboBoxFX, specBtnFX);
-        rootPane.setTop(topPanel);
+        rootPane.setTop(replay != null ? createReplayPanel() : topPanel);
 
         // --- 중앙: 윷판 패널 ---
         boardPane = new Pane(); //
@@ -146,7 +183,7 @@ public class YutBoard implements GameView {
 
         // --- Scene 및 Stage 설정 ---
         Scene scene = new Scene(rootPane, 820, 720); // (너비, 높이) 초기 창 크기
-        primaryStage.setTitle("윷놀이 게임 (JavaFX)");
+        primaryStage.setTitle(replay != null ? "윷놀이 다시 보기 (JavaFX)" : "윷놀이 게임 (JavaFX)");
         primaryStage.setScene(scene);
         primaryStage.setOnCloseRequest(e -> System.exit(0)); // 창 닫기 버튼 클릭 시 프로그램 종료
         primaryStage.show(); // 창 보여주기
@@ -161,8 +198,8 @@ public class YutBoard implements GameView {
             initBoardGeometry(); // 변경된 크기에 맞춰 경로 좌표 재계산
             initBoardUIElements(); // 재계산된 좌표를 바탕으로 칸(버튼) UI 재생성
             // 컨트롤러와 게임 상태가 유효하면 현재 상태로 보드 다시 그리기
-            if (controller != null && controller.getState() != null) {
-                updateBoard(controller.getState()); //
+            if (controller != null && shownState() != null) {
+                updateBoard(shownState()); //
             }
         }
     }
@@ -351,6 +388,7 @@ public class YutBoard implements GameView {
                 final int fStepIdx = stepIdx; //
                 btn.setOnAction(e -> { //
                     // ... (기존 이벤트 핸들러 로직 동일) ...
+                    if (replay != null) return; // 다시 보기에서는 입력 없음
                     if (!canMove) { //
                         statusLabelFX.setText("먼저 윷을 던져주세요!"); //
                         return;
@@ -552,7 +590,108 @@ public class YutBoard implements GameView {
             statusLabelFX.setText(statusText); // 최종적으로 생성된 상태 메시지를 라벨에 설정
 
             updateInfoPanel(state); //
+            if (replay != null) updateReplayControls(newPieceBtn);
+        });
+    }
+
+    /**
+     * 다시 보기 조작 패널(재생/일시정지, 턴 이동, 턴 슬라이더, 재생 속도)을 만듭니다.
+     * Swing 구현의 createReplayPanel과 같은 구성.
+     * @return 상단에 놓을 조작 패널
+     */
+    private HBox createReplayPanel() {
+        HBox panel = new HBox(10);
+        panel.setPadding(new Insets(10));
+        panel.setAlignment(Pos.CENTER);
+
+        replayPlayBtn = new Button("재생");
+        replayPlayBtn.setOnAction(e -> {
+            if (replayTimer != null) pauseReplay(); else playReplay();
+        });
+        Button prevBtn = new Button("◀ 턴");
+        prevBtn.setOnAction(e -> seekReplayTurn(replay.getTurn() - 1));
+        Button nextBtn = new Button("턴 ▶");
+        nextBtn.setOnAction(e -> seekReplayTurn(replay.getTurn() + 1));
+
+        replaySlider = new Slider(0, Math.max(0, replay.turnCount() - 1), 0);
+        replaySlider.setPrefWidth(260);
+        replaySlider.setBlockIncrement(1);
+        replaySlider.setMajorTickUnit(1);
+        replaySlider.setMinorTickCount(0);
+        replaySlider.setSnapToTicks(true);
+        // 끄는 동안에도 바로 이동
+        replaySlider.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (!updatingReplaySlider) seekReplayTurn((int) Math.round(newVal.doubleValue()));
+        });
+        replayTurnLabel = new Label();
+
+        ComboBox<String> speedBox = new ComboBox<>();
+        speedBox.getItems().setAll("1×", "2×", "5×", "10×", "25×", "50×", "100×");
+        speedBox.setValue("1×");
+        speedBox.setOnAction(e -> {
+            String label = speedBox.getValue();
+            replaySpeed = Double.parseDouble(label.substring(0, label.length() - 1));
         });
+
+        panel.getChildren().addAll(replayPlayBtn, prevBtn, replaySlider, nextBtn, replayTurnLabel,
+                new Label("속도:"), speedBox);
+        return panel;
+    }
+
+    /** 다시 보기 재생 시작 (끝에 있으면 처음부터) */
+    private void playReplay() {
+        if (replay.getPosition() == replay.size()) replay.seek(0);
+        replayCarry = 0;
+        replayLastTick = System.nanoTime();
+        replayTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                // 경과 시간만큼 명령을 적용하고, 틱마다 마지막 상태 하나만 그림
+                replayCarry += replaySpeed * REPLAY_BASE_RATE * (now - replayLastTick) / 1e9;
+                replayLastTick = now;
+                int steps = (int) replayCarry;
+                replayCarry -= steps;
+                boolean moved = false;
+                while (steps-- > 0 && replay.step()) moved = true;
+                if (replay.getPosition() == replay.size()) pauseReplay();
+                if (moved) updateBoard(replay.getState());
+            }
+        };
+        replayTimer.start();
+        replayPlayBtn.setText("일시정지");
+    }
+
+    /** 다시 보기 일시정지 */
+    private void pauseReplay() {
+        if (replayTimer != null) {
+            replayTimer.stop();
+            replayTimer = null;
+        }
+        replayPlayBtn.setText("재생");
+    }
+
+    /** 다시 보기: turn번째 턴의 시작으로 이동 (범위 밖이면 무시) */
+    private void seekReplayTurn(int turn) {
+        if (turn < 0 || turn >= replay.turnCount() || turn == replay.getTurn() && replay.getPosition() == replay.turnStart(turn)) {
+            return;
+        }
+        replay.seekTurn(turn);
+        updateBoard(replay.getState());
+    }
+
+    /**
+     * 다시 보기: 입력은 막고 재생 위치를 조작 패널에 표시합니다.
+     * @param newPieceBtn 이번 갱신에서 만든 '새 말 꺼내기' 버튼
+     */
+    private void updateReplayControls(Button newPieceBtn) {
+        enableYutButtons(false);
+        newPieceBtn.setDisable(true);
+        canMove = false;
+        int turn = replay.getTurn();
+        updatingReplaySlider = true;
+        if (!replaySlider.isValueChanging()) replaySlider.setValue(turn);
+        updatingReplaySlider = false;
+        replayTurnLabel.setText("턴 " + (turn + 1) + " / " + replay.turnCount());
     }
 
     /**
@@ -637,6 +776,7 @@ public class YutBoard implements GameView {
     @Override
     public void closeGameView() { //
         Platform.runLater(() -> {
+            if (replay != null) pauseReplay();
             if (primaryStage != null) {
                 primaryStage.close(); //
             }
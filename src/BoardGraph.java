@@ -0,0 +1,427 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 윷판을 방향 그래프로 정의하는 클래스.
+ * 노드는 (경로, 단계) 한 칸이고, 간선은 다음 칸 / 지름길 진입 / 빽도 / 중앙 합류로 나뉜다.
+ * 정의 파일을 읽은 뒤 시작 시 한 번 "노드 x 윷 결과 -> 도착 노드" 표로 컴파일하므로
+ * 판 모양(변의 개수)과 관계없이 말 이동은 배열 조회 한 번으로 끝난다.
+ *
+ * <pre>
+ * # 정의 파일 형식 (한 줄에 지시어 하나, '#' 뒤는 주석)
+ * name 사각형
+ * path 0 20            경로 0(외곽)은 20칸, 각 칸은 같은 경로의 다음 칸으로 이어짐
+ * path 1 5             지름길 1은 5칸
+ * branch 0:5 1:0       0:5에서 "출발"하는 이동은 첫 칸을 1:0으로 진입
+ * link 1:4 0:15        1:4의 다음 칸은 0:15 (지름길 탈출)
+ * link 0:19 goal       goal = 완주
+ * merge 1:2 2:2        1:2에 "멈추면" 2:2로 합류 (중앙 노드)
+ * back 0:1 goal        빽도 간선 지정 (기본값: 같은 경로의 이전 칸, 경로 첫 칸은 분기점)
+ * polygon 4 0.5657 45 0  화면 배치: 변 수, 반지름, 회전 각도, 출발 꼭짓점
+ * at 1:2 0 0           특정 칸의 화면 좌표 지정 (중앙 기준, 짧은 변 길이 비율)
+ * </pre>
+ */
+public class BoardGraph {
+    public static final int FINISH = -2;    // 완주 (도착 노드 대신 반환)
+    private static final int NONE = -1;
+    private static final int RESULTS = Yut.Result.values().length;
+
+    private static final Map<Integer, BoardGraph> REGULAR_CACHE = new HashMap<>();
+
+    private final String name;
+    private final int sides;                // 화면 배치용 다각형 변의 수
+    private final int[] pathLengths;        // 경로별 칸 수
+    private final int[][] nodeOf;           // [경로][단계] -> 노드 번호
+    private final int[] pathOf;             // 노드 -> 경로
+    private final int[] stepOf;             // 노드 -> 단계
+    private final int[] next;               // 다음 칸 (FINISH 가능)
+    private final int[] branch;             // 이 칸에서 출발할 때의 첫 칸 (없으면 NONE)
+    private final int[] back;               // 빽도 도착 칸 (FINISH 가능)
+    private final int[] merge;              // 이 칸에 멈췄을 때 합류할 칸 (없으면 NONE)
+    private final int[] moveTable;          // [노드 * RESULTS + 결과 ordinal] -> 도착 노드
+    private final int[] distance;           // 완주까지 남은 최소 칸 수
+    private final double[] layoutX;         // 화면 배치 좌표 (중앙 기준)
+    private final double[] layoutY;
+
+    private BoardGraph(String name, int sides, int[] pathLengths,
+                       int[] next, int[] branch, int[] back, int[] merge,
+                       double[] layoutX, double[] layoutY) {
+        this.name = name;
+        this.sides = sides;
+        this.pathLengths = pathLengths;
+        this.next = next;
+        this.branch = branch;
+        this.back = back;
+        this.merge = merge;
+        this.layoutX = layoutX;
+        this.layoutY = layoutY;
+
+        int nodeCount = next.length;
+        this.pathOf = new int[nodeCount];
+        this.stepOf = new int[nodeCount];
+        this.nodeOf = new int[pathLengths.length][];
+        int node = 0;
+        for (int p = 0; p < pathLengths.length; p++) {
+            nodeOf[p] = new int[pathLengths[p]];
+            for (int s = 0; s < pathLengths[p]; s++) {
+                nodeOf[p][s] = node;
+                pathOf[node] = p;
+                stepOf[node] = s;
+                node++;
+            }
+        }
+
+        // 윷 결과별 도착 노드 표 컴파일
+        this.moveTable = new int[nodeCount * RESULTS];
+        for (int n = 0; n < nodeCount; n++) {
+            for (Yut.Result r : Yut.Result.values()) {
+                moveTable[n * RESULTS + r.ordinal()] = walk(n, stepsOf(r));
+            }
+        }
+
+        // 완주까지 최소 칸 수 (분기점에서는 지름길 진입도 고려)
+        this.distance = new int[nodeCount];
+        Arrays.fill(distance, Integer.MAX_VALUE / 2);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int n = 0; n < nodeCount; n++) {
+                int d = 1 + (next[n] == FINISH ? 0 : distance[next[n]]);
+                if (branch[n] != NONE) d = Math.min(d, 1 + distance[branch[n]]);
+                if (d < distance[n]) {
+                    distance[n] = d;
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /** 윷 결과의 이동 칸 수 (빽도 = -1) */
+    public static int stepsOf(Yut.Result result) {
+        switch (result) {
+            case 빽도: return -1;
+            case 도:  return 1;
+            case 개:  return 2;
+            case 걸:  return 3;
+            case 윷:  return 4;
+            case 모:  return 5;
+            default:   return 0;
+        }
+    }
+
+    /** 간선을 따라 steps 칸 이동 (컴파일 시에만 사용) */
+    private int walk(int start, int steps) {
+        if (steps < 0) {
+            return back[start];
+        }
+        int n = start;
+        for (int i = 0; i < steps; i++) {
+            n = (i == 0 && branch[n] != NONE) ? branch[n] : next[n];
+            if (n == FINISH) return FINISH;
+        }
+        if (steps > 0 && merge[n] != NONE) {
+            n = merge[n];
+        }
+        return n;
+    }
+
+    // --- 조회 ---
+
+    /** 노드에서 윷 결과만큼 이동한 도착 노드 (완주 시 FINISH) */
+    public int move(int node, Yut.Result result) {
+        return moveTable[node * RESULTS + result.ordinal()];
+    }
+
+    public String getName() { return name; }
+    public int getSides() { return sides; }
+    public int getNodeCount() { return next.length; }
+    public int getPathCount() { return pathLengths.length; }
+    public int getPathLength(int path) { return pathLengths[path]; }
+    public int pathOf(int node) { return pathOf[node]; }
+    public int stepOf(int node) { return stepOf[node]; }
+    /** 출발 노드 (외곽 0번 칸) */
+    public int startNode() { return nodeOf[0][0]; }
+
+    /** (경로, 단계) -> 노드 번호, 판 밖이면 -1 */
+    public int nodeOf(int path, int step) {
+        if (path < 0 || path >= nodeOf.length || step < 0 || step >= nodeOf[path].length) return NONE;
+        return nodeOf[path][step];
+    }
+
+    /** 지름길 진입 간선이 있는 칸(분기점)인지 */
+    public boolean isBranch(int node) { return branch[node] != NONE; }
+    /** 지름길 진입 간선의 도착 칸 */
+    public int branchTarget(int node) { return branch[node]; }
+    /** 다음 칸 */
+    public int nextOf(int node) { return next[node]; }
+    /** 빽도 도착 칸 */
+    public int backOf(int node) { return back[node]; }
+    /** 멈췄을 때 합류할 칸 (없으면 -1) */
+    public int mergeOf(int node) { return merge[node]; }
+
+    /** 완주까지 남은 최소 칸 수 */
+    public int distanceToGoal(int node) { return distance[node]; }
+
+    /** 합류 지점(중앙 노드) 여부 */
+    public boolean isCenter(int node) {
+        if (merge[node] != NONE) return true;
+        for (int m : merge) if (m == node) return true;
+        return false;
+    }
+
+    /** 외곽 경로의 꼭짓점(출발점 제외) 여부 */
+    public boolean isCorner(int node) {
+        int perSide = pathLengths[0] / sides;
+        return pathOf[node] == 0 && stepOf[node] != 0 && perSide > 0 && stepOf[node] % perSide == 0;
+    }
+
+    /** 화면 좌표 X (보드 중앙 기준, 짧은 변 길이에 대한 비율) */
+    public double layoutX(int node) { return layoutX[node]; }
+    /** 화면 좌표 Y (보드 중앙 기준, 짧은 변 길이에 대한 비율) */
+    public double layoutY(int node) { return layoutY[node]; }
+
+    // --- 생성 ---
+
+    /** 한 칸의 빽도 간선만 바꾼 윷판 (이동 표 다시 컴파일, RuleSet.compile에서 사용) */
+    BoardGraph withBack(int node, int target) {
+        int[] changedBack = back.clone();
+        changedBack[node] = target;
+        return new BoardGraph(name, sides, pathLengths, next, branch, changedBack, merge, layoutX, layoutY);
+    }
+
+    /** 판 종류에 맞는 기본 정다각형 윷판 */
+    public static BoardGraph forType(PlayConfig.BoardType boardType) {
+        return regular(boardType.getSides());
+    }
+
+    /**
+     * 변이 sides개인 정다각형 윷판.
+     * 외곽 5*sides칸, 꼭짓점마다(출발점과 마지막 꼭짓점 제외) 중앙을 지나는 지름길 5칸,
+     * 마지막 지름길이 중앙 합류 후 출발점으로 향하는 경로가 된다.
+     */
+    public static synchronized BoardGraph regular(int sides) {
+        return REGULAR_CACHE.computeIfAbsent(sides, s -> parse(regularDefinition(s)));
+    }
+
+    /** 정다각형 윷판의 정의 파일 내용을 생성 */
+    static String regularDefinition(int sides) {
+        if (sides < 3) throw new IllegalArgumentException("윷판의 변은 3개 이상이어야 합니다: " + sides);
+        int outer = sides * 5;
+        int shortcuts = sides - 2;
+        StringBuilder sb = new StringBuilder();
+        sb.append("name ").append(sides).append("각형\n");
+        sb.append("path 0 ").append(outer).append('\n');
+        for (int i = 1; i <= shortcuts; i++) sb.append("path ").append(i).append(" 5\n");
+        sb.append("link 0:").append(outer - 1).append(" goal\n");
+        sb.append("back 0:1 goal\n");
+        sb.append("back 0:0 0:0\n");
+        for (int i = 1; i <= shortcuts; i++) {
+            sb.append("branch 0:").append(i * 5).append(' ').append(i).append(":0\n");
+            if (i == shortcuts) {
+                sb.append("link ").append(i).append(":4 goal\n");
+            } else {
+                sb.append("link ").append(i).append(":4 0:").append(outer - 5).append('\n');
+                sb.append("merge ").append(i).append(":2 ").append(shortcuts).append(":2\n");
+            }
+        }
+        // 기존 화면 배치와 동일한 회전/출발 꼭짓점
+        switch (sides) {
+            case 4:  sb.append("polygon 4 0.5657 45 0\n"); break;
+            case 5:  sb.append("polygon 5 0.35 -90 2\n"); break;
+            case 6:  sb.append("polygon 6 0.35 0 1\n"); break;
+            default: sb.append("polygon ").append(sides).append(" 0.4 ").append(90 - 180.0 / sides).append(" 0\n");
+        }
+        return sb.toString();
+    }
+
+    /** 정의 파일 읽기 */
+    public static BoardGraph load(Path file) throws IOException {
+        return parse(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    /** 정의 파일 내용 해석 후 컴파일 */
+    public static BoardGraph parse(String text) {
+        String[] lines = text.split("\n");
+        String name = "custom";
+        List<Integer> lengths = new ArrayList<>();
+
+        // 1차: 경로 선언
+        for (String raw : lines) {
+            String[] t = tokens(raw);
+            if (t.length == 0) continue;
+            if (t[0].equals("name")) {
+                name = t[1];
+            } else if (t[0].equals("path")) {
+                int p = Integer.parseInt(t[1]);
+                if (p != lengths.size()) throw new IllegalArgumentException("경로는 0번부터 순서대로 선언해야 합니다: " + raw);
+                lengths.add(Integer.parseInt(t[2]));
+            }
+        }
+        if (lengths.isEmpty()) throw new IllegalArgumentException("경로가 정의되지 않았습니다.");
+
+        int[] pathLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+        int[] base = new int[pathLengths.length];
+        int nodeCount = 0;
+        for (int p = 0; p < pathLengths.length; p++) {
+            base[p] = nodeCount;
+            nodeCount += pathLengths[p];
+        }
+
+        int[] next = new int[nodeCount];
+        int[] branch = new int[nodeCount];
+        int[] back = new int[nodeCount];
+        int[] merge = new int[nodeCount];
+        Arrays.fill(branch, NONE);
+        Arrays.fill(merge, NONE);
+        Arrays.fill(back, NONE);
+        for (int p = 0; p < pathLengths.length; p++) {
+            for (int s = 0; s < pathLengths[p]; s++) {
+                int n = base[p] + s;
+                next[n] = (s + 1 < pathLengths[p]) ? n + 1 : FINISH;
+                if (s > 0) back[n] = n - 1;
+            }
+        }
+
+        int sides = 4;
+        double radius = 0.4, angleDeg = 45;
+        int startVertex = 0;
+        Map<Integer, double[]> fixed = new HashMap<>();
+
+        // 2차: 간선과 배치
+        for (String raw : lines) {
+            String[] t = tokens(raw);
+            if (t.length == 0) continue;
+            switch (t[0]) {
+                case "name": case "path": break;
+                case "link":   next[node(t[1], base, pathLengths)] = target(t[2], base, pathLengths); break;
+                case "branch": branch[node(t[1], base, pathLengths)] = target(t[2], base, pathLengths); break;
+                case "back":   back[node(t[1], base, pathLengths)] = target(t[2], base, pathLengths); break;
+                case "merge":  merge[node(t[1], base, pathLengths)] = target(t[2], base, pathLengths); break;
+                case "polygon":
+                    sides = Integer.parseInt(t[1]);
+                    radius = Double.parseDouble(t[2]);
+                    angleDeg = Double.parseDouble(t[3]);
+                    startVertex = Integer.parseInt(t[4]);
+                    break;
+                case "at":
+                    fixed.put(node(t[1], base, pathLengths), new double[]{Double.parseDouble(t[2]), Double.parseDouble(t[3])});
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 지시어: " + raw);
+            }
+        }
+
+        // 경로 첫 칸의 빽도는 그 경로로 진입한 분기점으로, 분기점도 없으면 제자리
+        for (int p = 0; p < pathLengths.length; p++) {
+            int first = base[p];
+            if (back[first] != NONE) continue;
+            back[first] = first;
+            for (int n = 0; n < nodeCount; n++) {
+                if (branch[n] == first) { back[first] = n; break; }
+            }
+        }
+
+        double[] xs = new double[nodeCount];
+        double[] ys = new double[nodeCount];
+        layoutPolygon(pathLengths, base, next, branch, merge, sides, radius, angleDeg, startVertex, xs, ys);
+        for (Map.Entry<Integer, double[]> e : fixed.entrySet()) {
+            xs[e.getKey()] = e.getValue()[0];
+            ys[e.getKey()] = e.getValue()[1];
+        }
+
+        return new BoardGraph(name, sides, pathLengths, next, branch, back, merge, xs, ys);
+    }
+
+    /**
+     * 외곽 경로를 다각형 변 위에 균등 배치하고,
+     * 지름길은 분기점 -> 중앙 -> 탈출 지점을 잇는 선분 위에 배치
+     */
+    private static void layoutPolygon(int[] pathLengths, int[] base, int[] next, int[] branch, int[] merge,
+                                      int sides, double radius, double angleDeg, int startVertex,
+                                      double[] xs, double[] ys) {
+        double offset = Math.toRadians(angleDeg);
+        double[] vx = new double[sides];
+        double[] vy = new double[sides];
+        for (int i = 0; i < sides; i++) {
+            double angle = 2 * Math.PI * i / sides + offset;
+            vx[i] = radius * Math.cos(angle);
+            vy[i] = radius * Math.sin(angle);
+        }
+
+        // 외곽 경로: 출발 꼭짓점부터 꼭짓점 번호가 줄어드는 방향으로
+        int outer = pathLengths[0];
+        int perSide = Math.max(1, outer / sides);
+        for (int s = 0; s < outer; s++) {
+            int side = Math.min(s / perSide, sides - 1);
+            int a = ((startVertex - side) % sides + sides) % sides;
+            int b = ((startVertex - side - 1) % sides + sides) % sides;
+            double t = (s - side * perSide) / (double) perSide;
+            xs[s] = vx[a] * (1 - t) + vx[b] * t;
+            ys[s] = vy[a] * (1 - t) + vy[b] * t;
+        }
+
+        // 지름길: 경로 위 합류 칸(있다면)을 중앙으로 둔다
+        for (int p = 1; p < pathLengths.length; p++) {
+            int first = base[p];
+            int len = pathLengths[p];
+            int source = 0;
+            for (int n = 0; n < next.length; n++) if (branch[n] == first) { source = n; break; }
+            int exit = next[first + len - 1];
+            int exitNode = (exit == FINISH || exit == NONE) ? 0 : exit;
+
+            int centerStep = len / 2;
+            for (int s = 0; s < len; s++) {
+                int n = first + s;
+                boolean isMergeTarget = false;
+                for (int m : merge) if (m == n) { isMergeTarget = true; break; }
+                if (merge[n] != NONE || isMergeTarget) { centerStep = s; break; }
+            }
+
+            for (int s = 0; s < len; s++) {
+                int n = first + s;
+                if (s < centerStep) {
+                    double t = (s + 1) / (double) (centerStep + 1);
+                    xs[n] = xs[source] * (1 - t);
+                    ys[n] = ys[source] * (1 - t);
+                } else if (s == centerStep) {
+                    xs[n] = 0;
+                    ys[n] = 0;
+                } else {
+                    double t = (s - centerStep) / (double) (len - centerStep);
+                    xs[n] = xs[exitNode] * t;
+                    ys[n] = ys[exitNode] * t;
+                }
+            }
+        }
+    }
+
+    private static String[] tokens(String raw) {
+        int hash = raw.indexOf('#');
+        String line = (hash >= 0 ? raw.substring(0, hash) : raw).trim();
+        return line.isEmpty() ? new String[0] : line.split("\\s+");
+    }
+
+    private static int node(String ref, int[] base, int[] lengths) {
+        int n = target(ref, base, lengths);
+        if (n == FINISH) throw new IllegalArgumentException("goal은 출발 칸으로 사용할 수 없습니다.");
+        return n;
+    }
+
+    private static int target(String ref, int[] base, int[] lengths) {
+        if (ref.equals("goal")) return FINISH;
+        String[] ps = ref.split(":");
+        int p = Integer.parseInt(ps[0]);
+        int s = Integer.parseInt(ps[1]);
+        if (p < 0 || p >= lengths.length || s < 0 || s >= lengths[p]) {
+            throw new IllegalArgumentException("존재하지 않는 칸: " + ref);
+        }
+        return base[p] + s;
+    }
+}
@@ -0,0 +1,30 @@
+import java.util.List;
+
+/**
+ * 자동 플레이어(봇) 인터페이스.
+ * 남은 윷 결과 중 하나와, 그 결과로 움직일 말 묶음을 고른다.
+ */
+public interface Bot {
+    /** 봇 선택 결과: 사용할 윷 결과의 인덱스와 출발 노드(또는 Position.DEPLOY) */
+    final class Move {
+        private final int resultIndex;
+        private final int from;
+
+        public Move(int resultIndex, int from) {
+            this.resultIndex = resultIndex;
+            this.from = from;
+        }
+
+        public int getResultIndex() { return resultIndex; }
+        public int getFrom() { return from; }
+    }
+
+    /** 봇 이름 (순위표/보고서 표시용) */
+    String getName();
+
+    /**
+     * 현재 플레이어(pos.getCurrent())의 이동 선택.
+     * 남은 결과 중 적어도 하나는 둘 수 있는 이동이 있을 때만 호출된다.
+     */
+    Move choose(Position pos, List<Yut.Result> pending);
+}
@@ -0,0 +1,263 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 2인 종반 승률표 (endgame tablebase).
+ * 두 플레이어의 남은 말(대기 + 판 위)이 각각 N개 이하인 모든 위치에 대해
+ * "윷을 던질 차례인 플레이어의 승률"을 윷 결과 확률 위에서 가치 반복(value iteration)으로 구한다.
+ *
+ * 위치 번호는 2명 N말 PositionIndex의 번호(현재 플레이어 = 던질 플레이어)이다. 말이 N개보다 적게 남은
+ * 쪽은 나머지를 완주한 말로 보며, 두 플레이어의 말이 같은 칸에 있는 (잡기로 정리되었어야 할) 위치는
+ * 번호가 없어 표에 들어가지 않는다.
+ * 완성된 표는 값당 2바이트로 파일에 저장되고 메모리 매핑으로 O(1) 조회한다.
+ *
+ * 모델: 던진 결과를 바로 말 하나(묶음)에 적용하며, 윷/모 또는 잡기면 같은 플레이어가 한 번 더 던진다.
+ * 여러 결과를 모아 두었다가 순서를 고르는 실제 턴보다 단순한 근사이다.
+ */
+public class EndgameTablebase {
+    private static final int MAGIC = 0x59544231;          // "YTB1"
+    private static final int FORMAT_VERSION = 2;          // 2: PositionIndex 번호
+    private static final int HEADER_BYTES = 32;
+    private static final double EPSILON = 1e-6;           // 수렴 기준 (최대 변화량)
+    private static final int MAX_SWEEPS = 10_000;
+    private static final long CHECKPOINT_MILLIS = 30_000; // 중간 저장 주기
+
+    private final BoardGraph board;
+    private final int maxRemaining;
+    private final PositionIndex index;
+    private final MappedByteBuffer table;
+
+    private EndgameTablebase(BoardGraph board, int maxRemaining, MappedByteBuffer table) {
+        this.board = board;
+        this.maxRemaining = maxRemaining;
+        this.index = new PositionIndex(board, 2, maxRemaining);
+        this.table = table;
+    }
+
+    /** 전체 위치 수 */
+    public long size() { return index.size(); }
+    public int getMaxRemaining() { return maxRemaining; }
+
+    // --- 조회 ---
+
+    /** 저장된 표 열기 (메모리 매핑) */
+    public static EndgameTablebase open(BoardGraph board, Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            if (buf.getInt(0) != MAGIC || buf.getInt(4) != FORMAT_VERSION || buf.getInt(8) != board.getNodeCount()) {
+                throw new IOException("윷판이나 형식이 맞지 않는 승률표 파일: " + file);
+            }
+            EndgameTablebase tb = new EndgameTablebase(board, buf.getInt(12), buf);
+            if (buf.getLong(16) != tb.size()) throw new IOException("승률표 크기 불일치: " + file);
+            return tb;
+        }
+    }
+
+    /**
+     * 던질 차례인 플레이어의 승률.
+     * 2인 게임이 아니거나, 남은 말이 N개를 넘거나, 두 플레이어의 말이 같은 칸에 있으면 NaN.
+     */
+    public double probe(Position pos) {
+        if (pos.getPlayerCount() != 2 || pos.getBoard().getNodeCount() != board.getNodeCount()) return Double.NaN;
+        long i = index(pos, pos.getCurrent());
+        if (i < 0) return Double.NaN;
+        return (table.getChar(HEADER_BYTES + (int) (i * 2)) & 0xFFFF) / 65535.0;
+    }
+
+    /** GameState 기준 조회 (THROW 단계에서 의미가 있음) */
+    public double probe(GameState state) {
+        return probe(Position.of(state));
+    }
+
+    // --- 위치 번호 ---
+
+    /** mover가 던질 차례인 위치의 번호, 표에 없는 위치면 -1 */
+    long index(Position pos, int mover) {
+        Position p = pos;
+        if (pos.getBoard() != board || pos.getPieceCount() != maxRemaining) {
+            p = new Position(board, 2, maxRemaining);
+            for (int pl = 0; pl < 2; pl++) {
+                int piece = 0;
+                for (int i = 0; i < pos.getPieceCount(); i++) {
+                    int n = pos.nodeOf(pl, i);
+                    if (n == BoardGraph.FINISH) continue;
+                    if (piece == maxRemaining) return -1;
+                    p.setNode(pl, piece++, n);
+                }
+                while (piece < maxRemaining) p.setNode(pl, piece++, BoardGraph.FINISH);
+            }
+        }
+        int current = p.getCurrent();
+        p.setCurrent(mover);
+        try {
+            return index.rank(p);
+        } catch (IllegalArgumentException e) {                 // 두 플레이어의 말이 같은 칸
+            return -1;
+        } finally {
+            p.setCurrent(current);
+        }
+    }
+
+    // --- 생성 ---
+
+    /**
+     * 승률표를 생성해 file에 저장한다.
+     * 반복마다 전체 위치를 코어 수만큼 나누어 병렬로 갱신하고, 주기적으로 file.part에 중간 결과를 남긴다.
+     * 같은 인자로 다시 실행하면 중간 결과에서 이어서 계산한다.
+     */
+    public static EndgameTablebase generate(BoardGraph board, int maxRemaining, Path file) throws IOException {
+        EndgameTablebase tb = new EndgameTablebase(board, maxRemaining, null);
+        if (tb.size() > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("승률표가 너무 큽니다. 남은 말 수를 줄이세요: " + maxRemaining);
+        }
+        int size = (int) tb.size();
+        Path part = file.resolveSibling(file.getFileName() + ".part");
+
+        float[] cur = new float[size];
+        float[] next = new float[size];
+        int sweep = tb.loadCheckpoint(part, cur);
+        if (sweep == 0) Arrays.fill(cur, 0.5f);
+
+        double[] prob = new double[Yut.Result.values().length];
+        for (Yut.Result r : Yut.Result.values()) prob[r.ordinal()] = Yut.probability(r);
+
+        long lastSave = System.currentTimeMillis();
+        double residual = Double.MAX_VALUE;
+        while (sweep < MAX_SWEEPS && residual > EPSILON) {
+            final float[] src = cur;
+            final float[] dst = next;
+            residual = IntStream.range(0, size).parallel()
+                    .mapToDouble(i -> {
+                        dst[i] = (float) tb.evaluate(i, src, prob);
+                        return Math.abs(dst[i] - src[i]);
+                    })
+                    .max().orElse(0);
+            cur = dst;
+            next = src;
+            sweep++;
+            if (System.currentTimeMillis() - lastSave > CHECKPOINT_MILLIS) {
+                tb.saveCheckpoint(part, cur, sweep);
+                lastSave = System.currentTimeMillis();
+                System.out.printf("승률표 %s N=%d: %d회 반복, 변화량 %.2e\n", board.getName(), maxRemaining, sweep, residual);
+            }
+        }
+
+        tb.writeTable(file, cur, sweep, (float) residual);
+        Files.deleteIfExists(part);
+        return open(board, file);
+    }
+
+    /** 위치 하나의 새 가치 (던질 플레이어 관점) */
+    private double evaluate(int i, float[] values, double[] prob) {
+        Position pos = index.unrank(i);
+        int mover = pos.getCurrent();
+        if (pos.isWinner(mover)) return 1;
+        if (pos.isWinner(1 - mover)) return 0;
+        int swapped = i ^ 1;                                   // 같은 배치, 상대가 던질 차례
+
+        double value = 0;
+        for (Yut.Result r : Yut.Result.values()) {
+            double p = prob[r.ordinal()];
+            if (p == 0) continue;
+            int[] moves = pos.legalMoves(r);
+            if (moves.length == 0) {               // 빽도인데 판 위에 말이 없으면 턴 넘김
+                value += p * (1 - values[swapped]);
+                continue;
+            }
+            double best = 0;
+            for (int from : moves) {
+                Position after = pos.copy();
+                int captured = after.apply(from, r);
+                double v;
+                if (after.isWinner(mover)) {
+                    v = 1;
+                } else if (captured > 0 || r == Yut.Result.윷 || r == Yut.Result.모) {
+                    v = values[(int) index.rank(after)];
+                } else {
+                    v = 1 - values[(int) index(after, 1 - mover)];
+                }
+                best = Math.max(best, v);
+            }
+            value += p * best;
+        }
+        return value;
+    }
+
+    private int loadCheckpoint(Path part, float[] values) throws IOException {
+        if (!Files.exists(part)) return 0;
+        try (FileChannel ch = FileChannel.open(part, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            ch.read(header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION || header.getInt(8) != board.getNodeCount()
+                    || header.getInt(12) != maxRemaining || header.getLong(16) != values.length) {
+                System.err.println("중간 결과 파일이 맞지 않아 처음부터 계산합니다: " + part);
+                return 0;
+            }
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) values.length * 4);
+            buf.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(values);
+            System.out.println("중간 결과에서 이어서 계산: " + header.getInt(24) + "회 반복 완료");
+            return header.getInt(24);
+        }
+    }
+
+    private void saveCheckpoint(Path part, float[] values, int sweep) throws IOException {
+        Path tmp = part.resolveSibling(part.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) values.length * 4);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            writeHeader(buf, sweep, 0);
+            buf.position(HEADER_BYTES);
+            buf.asFloatBuffer().put(values);
+            buf.force();
+        }
+        Files.move(tmp, part, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeTable(Path file, float[] values, int sweep, float residual) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) values.length * 2);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            writeHeader(buf, sweep, residual);
+            for (int i = 0; i < values.length; i++) {
+                double v = Math.min(1, Math.max(0, values[i]));
+                buf.putChar(HEADER_BYTES + i * 2, (char) Math.round(v * 65535));
+            }
+            buf.force();
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeHeader(ByteBuffer buf, int sweep, float residual) {
+        buf.putInt(0, MAGIC);
+        buf.putInt(4, FORMAT_VERSION);
+        buf.putInt(8, board.getNodeCount());
+        buf.putInt(12, maxRemaining);
+        buf.putLong(16, size());
+        buf.putInt(24, sweep);
+        buf.putFloat(28, residual);
+    }
+
+    /** 사용법: java EndgameTablebase SQUARE 2 square2.ytb */
+    public static void main(String[] args) throws IOException {
+        PlayConfig.BoardType type = PlayConfig.BoardType.valueOf(args[0]);
+        int n = Integer.parseInt(args[1]);
+        long start = System.currentTimeMillis();
+        EndgameTablebase tb = generate(BoardGraph.forType(type), n, Paths.get(args[2]));
+        System.out.printf("승률표 생성 완료: %s, 위치 %d개, %.1f초\n",
+                type, tb.size(), (System.currentTimeMillis() - start) / 1000.0);
+    }
+}
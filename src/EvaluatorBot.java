@@ -0,0 +1,32 @@
+import java.util.List;
+
+/**
+ * 이동 후 위치의 분석 모델 승률이 가장 높은 이동을 고르는 봇
+ */
+public class EvaluatorBot implements Bot {
+    private WinProbabilityEvaluator evaluator;     // 첫 호출 때 판과 규칙에 맞춰 생성
+
+    @Override
+    public String getName() { return "evaluator"; }
+
+    @Override
+    public Move choose(Position pos, List<Yut.Result> pending) {
+        if (evaluator == null) evaluator = new WinProbabilityEvaluator(pos.getBoard(), pos.getRules());
+        int player = pos.getCurrent();
+        Move best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < pending.size(); i++) {
+            Yut.Result r = pending.get(i);
+            for (int from : pos.legalMoves(r)) {
+                Position after = pos.copy();
+                after.apply(from, r);
+                double score = evaluator.analytic(after)[player];
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = new Move(i, from);
+                }
+            }
+        }
+        return best;
+    }
+}
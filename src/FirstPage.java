@@ -1,6 +1,7 @@
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.io.IOException;
 import java.awt.event.ActionListener;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,7 +10,7 @@ import java.util.List;
 public class FirstPage extends JFrame {
     private static final int MAX_PLAYER = 4;
     private static final int MAX_PIECE  = 5;
-    private static final String[] BOARD_LABELS = {"사각형", "오각형", "육각형"};
+    private static final String[] BOARD_LABELS = {"사각형", "오각형", "육각형", "팔각형", "십이각형"};
 
     private final PlayConfig playConfig = new PlayConfig();
     private final PlayerAdapter playerAdapter = new PlayerAdapter(playConfig);
@@ -17,6 +18,8 @@ public class FirstPage extends JFrame {
 
     public FirstPage() {
         super("초기 설정");
+        // 설정을 고르는 동안 게임 화면 이미지를 백그라운드에서 미리 읽음
+        IconCache.preloadAsync();
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.X_AXIS));
 
@@ -61,20 +64,41 @@ public class FirstPage extends JFrame {
         JButton start = new JButton("시작");
         start.addActionListener(e -> {
             // 플레이어 이름 자동 생성
-            int pc = playConfig.getPlayerCount();
-            List<String> names = new ArrayList<>();
-            for (int i = 1; i <= pc; i++) names.add("Player" + i);
+            List<String> names = GameState.defaultPlayerNames(playConfig.getPlayerCount());
             // 새 게임 화면 열기
             new YutBoard(playConfig, names);
             dispose();
         });
         panel.add(start);
 
+        // 기록된 게임 다시 보기 (GameRecord 파일 선택)
+        JButton replay = new JButton("다시 보기");
+        replay.addActionListener(e -> openReplay());
+        panel.add(Box.createHorizontalStrut(10));
+        panel.add(replay);
+
         getContentPane().add(panel);
         pack();
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
         setVisible(true);
+        StartupTrace.mark("설정 화면 표시");
+        // AppCDS 학습 실행: 기본 설정으로 바로 게임 화면까지 진행
+        if (StartupTrace.isTraining()) SwingUtilities.invokeLater(start::doClick);
+    }
+
+    /** 기록 파일을 골라 다시 보기 화면 열기 */
+    private void openReplay() {
+        JFileChooser chooser = new JFileChooser(System.getProperty(GameRecord.DIR_PROPERTY, "."));
+        chooser.setFileFilter(new FileNameExtensionFilter("윷놀이 기록 (*" + GameRecord.SUFFIX + ")",
+                GameRecord.SUFFIX.substring(1)));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            new YutBoard(new GameReplay(GameRecord.read(chooser.getSelectedFile().toPath())));
+            dispose();
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "기록을 열 수 없습니다", JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     public static void main(String[] args) {
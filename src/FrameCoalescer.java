@@ -0,0 +1,57 @@
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 화면 갱신 합치기.
+ * 어느 스레드에서든 submit으로 스냅샷을 넘기면 EDT에 그리기 작업을 하나만 예약하고,
+ * 그 작업이 실행되기 전에 들어온 스냅샷은 가장 최신 것 하나로 덮어쓴다.
+ * 따라서 명령이 몰려도 그리기는 EDT가 따라갈 수 있는 만큼만 일어나고, 항상 최신 상태를 그린다.
+ * 이미 그린 것보다 오래된 스냅샷(버전 기준)은 그리지 않는다. 같은 버전은 다시 그린다 (창 크기 변경 등).
+ */
+public class FrameCoalescer {
+    private final Consumer<GameSnapshot> renderer;
+    private final GameMetrics metrics;                // null 가능
+    private final AtomicReference<GameSnapshot> pending = new AtomicReference<>();
+    private final AtomicInteger skipped = new AtomicInteger();   // 예약 후 덮어쓴 스냅샷 수
+    private long renderedVersion = -1;                // EDT 전용
+
+    /**
+     * @param renderer EDT에서 호출되는 그리기 함수
+     * @param metrics  그린 횟수/건너뛴 횟수/그리기 시간 기록 (없으면 null)
+     */
+    public FrameCoalescer(Consumer<GameSnapshot> renderer, GameMetrics metrics) {
+        this.renderer = renderer;
+        this.metrics = metrics;
+    }
+
+    /** 스냅샷 그리기 요청 (어느 스레드에서든 호출 가능) */
+    public void submit(GameSnapshot snapshot) {
+        GameSnapshot previous = pending.getAndAccumulate(snapshot,
+                (old, next) -> old != null && old.getVersion() > next.getVersion() ? old : next);
+        if (previous == null) {
+            SwingUtilities.invokeLater(this::renderPending);
+        } else {
+            skipped.incrementAndGet();
+        }
+    }
+
+    private void renderPending() {
+        GameSnapshot snapshot = pending.getAndSet(null);
+        int dropped = skipped.getAndSet(0);
+        if (snapshot == null || snapshot.getVersion() < renderedVersion) return;
+        renderedVersion = snapshot.getVersion();
+        GameFlightEvents.ViewUpdate event = new GameFlightEvents.ViewUpdate();
+        event.kind = "updateBoard";
+        event.begin();
+        long start = System.nanoTime();
+        renderer.accept(snapshot);
+        long elapsed = System.nanoTime() - start;
+        event.commit();
+        if (metrics != null) {
+            metrics.recordViewUpdate(elapsed);
+            metrics.recordFrame(dropped);
+        }
+    }
+}
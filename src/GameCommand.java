@@ -0,0 +1,42 @@
+/**
+ * GameState를 바꾸는 명령의 int 인코딩.
+ * 상위 8비트 = 종류, 나머지 = 인자 3개(각 8비트). 무작위 던지기도 실제 나온 결과로 기록하므로
+ * 같은 명령 열을 다시 적용하면 같은 상태가 된다 (세션 로그 재생에 사용).
+ */
+public final class GameCommand {
+    public static final int THROW = 1;     // a = 윷 결과 ordinal
+    public static final int MOVE = 2;      // a = 경로, b = 단계, c = 윷 결과 인덱스
+    public static final int DEPLOY = 3;    // c = 윷 결과 인덱스
+    public static final int NAK = 4;       // 낙 (결과 없는 던지기)
+
+    private GameCommand() { }
+
+    public static int throwResult(Yut.Result result) {
+        return encode(THROW, result.ordinal(), 0, 0);
+    }
+
+    public static int nak() {
+        return encode(NAK, 0, 0, 0);
+    }
+
+    public static int move(int pathIndex, int stepIndex, int resultIndex) {
+        return encode(MOVE, pathIndex, stepIndex, resultIndex);
+    }
+
+    public static int deploy(int resultIndex) {
+        return encode(DEPLOY, 0, 0, resultIndex);
+    }
+
+    private static int encode(int type, int a, int b, int c) {
+        return type << 24 | (a & 0xFF) << 16 | (b & 0xFF) << 8 | (c & 0xFF);
+    }
+
+    public static int typeOf(int command) { return command >>> 24; }
+    public static int argA(int command) { return (command >>> 16) & 0xFF; }
+    public static int argB(int command) { return (command >>> 8) & 0xFF; }
+    public static int argC(int command) { return command & 0xFF; }
+
+    public static Yut.Result resultOf(int command) {
+        return Yut.Result.values()[argA(command)];
+    }
+}
@@ -1,44 +1,318 @@
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * 게임 진행 제어 클래스
+ *
+ * 동시성 모델: GameState를 바꾸는 모든 요청은 명령으로 큐(MpscRingBuffer)에 넣고,
+ * 한 번에 한 스레드만 큐를 비우며 명령을 실행한다(단일 작성자).
+ * 명령 하나를 처리할 때마다 불변 GameSnapshot을 volatile 참조로 공개하므로
+ * UI, 봇, 네트워크 세션 등 읽는 쪽은 getSnapshot()으로 잠금 없이 읽는다.
+ *
+ * 기본적으로는 명령을 넣은 스레드가 직접 큐를 비운다(테스트/서버용).
+ * startGameThread()를 호출하면 전용 게임 스레드가 큐를 비우므로,
+ * Swing 화면에서는 EDT가 명령을 넣기만 하고 규칙 처리와 로그 출력은 게임 스레드에서 일어난다.
  */
 public class GameController {
-    private final GameState state;
+    private static final int COMMAND_CAPACITY = 1024;
+
+    private final GameState state;               // 명령 실행 중에만 접근
     private final GameView view;
+    private final GameMetrics metrics = new GameMetrics();
+    private final MpscRingBuffer<QueuedCommand> commands = new MpscRingBuffer<>(COMMAND_CAPACITY);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile Thread gameThread;          // null이면 제출한 스레드가 직접 처리
+    private volatile boolean gameThreadRunning;
+    private volatile Thread drainer;             // 지금 큐를 비우는 스레드 (명령 안에서의 재제출 감지용)
+    private long version;                        // 처리한 게임 명령 수 (작성자 전용)
+    private volatile GameSnapshot snapshot;
+    private final List<Consumer<GameSnapshot>> snapshotListeners = new CopyOnWriteArrayList<>();
+    private final List<IntConsumer> commandListeners = new CopyOnWriteArrayList<>();
+
+    private SessionStore.Journal journal;        // null이면 기록 안 함
+    private int executedCommand;                 // 이번 명령의 GameCommand 인코딩 (기록용)
+
+    /** 큐에 넣은 명령과 제출 시각 (입력 지연 측정용) */
+    private static final class QueuedCommand {
+        final Runnable action;
+        final long submittedNanos;
+
+        QueuedCommand(Runnable action) {
+            this.action = action;
+            this.submittedNanos = System.nanoTime();
+        }
+    }
 
     public GameController(PlayConfig config, List<String> playerNames, GameView view) {
-        this.state = new GameState(config, playerNames);
+        this(new GameState(config, playerNames), 0, view);
+    }
+
+    /**
+     * 복구한 상태로 이어서 진행하는 컨트롤러
+     * @param version 복구 시점까지 처리된 명령 수
+     */
+    public GameController(GameState state, long version, GameView view) {
+        this.state = state;
         this.view  = view;
+        this.version = version;
+        this.snapshot = GameSnapshot.of(state, version);
     }
 
     /** 게임 시작 시 보드 초기화 */
     public void startGame() {
-        view.updateBoard(state);
+        submit(this::updateView);
     }
 
-    /** 랜덤 윷 던지기 처리 */
+    /** 랜덤 윷 던지기 처리 (규칙에 낙이 있으면 낙이 나올 수 있음) */
     public void onThrowRandom() {
-        Yut.Result result = Yut.throwRandom();
-        state.applyThrow(result);
-        view.showThrowResult(result);
+        submit(() -> {
+            Yut.Result result = state.getRules().throwRandom();
+            execute(result == null ? GameCommand.nak() : GameCommand.throwResult(result));
+        });
     }
 
     /** 지정 윷 던지기 처리 */
     public void onThrowSpecified(Yut.Result specified) {
-        Yut.Result result = Yut.throwSpecified(specified);
+        submit(() -> execute(GameCommand.throwResult(Yut.throwSpecified(specified))));
+    }
+
+    /** 인코딩된 명령 실행 (작성자 스레드 전용). 게임 명령만 버전을 올린다. */
+    private void execute(int command) {
+        version++;
+        executedCommand = command;
+        switch (GameCommand.typeOf(command)) {
+            case GameCommand.THROW:
+                applyThrow(GameCommand.resultOf(command));
+                break;
+            case GameCommand.MOVE:
+                state.setSelect(GameCommand.argC(command));
+                selectPiece(GameCommand.argA(command), GameCommand.argB(command));
+                break;
+            case GameCommand.DEPLOY:
+                state.setSelect(GameCommand.argC(command));
+                deployPiece();
+                break;
+            case GameCommand.NAK:
+                applyNak();
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 명령: " + Integer.toHexString(command));
+        }
+    }
+
+    /**
+     * 기록된 명령을 바로 적용 (세션 복구용, 큐/리스너/기록을 거치지 않음).
+     * 다른 스레드가 이 컨트롤러에 명령을 넣기 전에만 호출한다.
+     */
+    void replay(int command) {
+        execute(command);
+        executedCommand = 0;
+        snapshot = GameSnapshot.of(state, version, snapshot);
+    }
+
+    /** 명령 기록 연결 (이후 처리되는 명령이 세션 로그에 남는다) */
+    public void setJournal(SessionStore.Journal journal) {
+        submit(() -> this.journal = journal);
+    }
+
+    /**
+     * 명령 제출.
+     * 게임 스레드가 있으면 큐에 넣고 깨우기만 하며, 없으면 호출한 스레드가 직접 비운다.
+     * 큐가 가득 차면 비워질 때까지 기다린다.
+     * 명령 안에서(큐를 비우는 스레드에서) 다시 제출하면 지금 처리 중인 명령 뒤에 넣기만 하며,
+     * 그때 큐가 가득 차 있으면 비워 줄 스레드가 자신뿐이므로 기다리지 않고 IllegalStateException을 던진다.
+     */
+    private void submit(Runnable action) {
+        QueuedCommand command = new QueuedCommand(action);
+        if (Thread.currentThread() == drainer) {
+            if (!commands.offer(command)) throw new IllegalStateException("명령 처리 중 명령 큐가 가득 참");
+            return;
+        }
+        Thread worker = gameThread;
+        if (worker != null) {
+            while (!commands.offer(command)) {
+                LockSupport.unpark(worker);
+                Thread.yield();
+            }
+            LockSupport.unpark(worker);
+            return;
+        }
+        while (!commands.offer(command)) {
+            drain();
+            Thread.onSpinWait();
+        }
+        drain();
+    }
+
+    private void drain() {
+        // 플래그를 내린 뒤 들어온 명령을 놓치지 않도록 큐가 빌 때까지 반복
+        while (!commands.isEmpty() && draining.compareAndSet(false, true)) {
+            drainer = Thread.currentThread();
+            try {
+                QueuedCommand command;
+                while ((command = commands.poll()) != null) {
+                    try {
+                        command.action.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("명령 처리 중 오류: " + e);
+                    }
+                    GameSnapshot published = publish();
+                    metrics.recordCommandLatency(System.nanoTime() - command.submittedNanos);
+                    if (executedCommand != 0) {
+                        if (journal != null) journal.append(executedCommand, published);
+                        for (IntConsumer listener : commandListeners) listener.accept(executedCommand);
+                    }
+                    executedCommand = 0;
+                    for (Consumer<GameSnapshot> listener : snapshotListeners) listener.accept(published);
+                }
+            } finally {
+                drainer = null;
+                draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 전용 게임 스레드 시작. 이후 제출된 명령은 모두 이 스레드에서 처리된다.
+     * 이미 실행 중이면 아무것도 하지 않는다.
+     */
+    public synchronized void startGameThread() {
+        if (gameThread != null) return;
+        gameThreadRunning = true;
+        Thread worker = new Thread(this::runGameThread, "game-logic");
+        worker.setDaemon(true);
+        gameThread = worker;
+        worker.start();
+    }
+
+    /** 게임 스레드 종료 (남은 명령은 처리한 뒤 끝남). 이후 명령은 제출한 스레드가 처리한다. */
+    public synchronized void stopGameThread() {
+        Thread worker = gameThread;
+        if (worker == null) return;
+        gameThreadRunning = false;
+        gameThread = null;
+        LockSupport.unpark(worker);
+        if (worker == Thread.currentThread()) return;   // 명령 안에서 호출된 경우
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();    // 종료 직전에 들어온 명령
+    }
+
+    private void runGameThread() {
+        while (gameThreadRunning) {
+            drain();
+            // 제출 쪽은 큐에 넣은 뒤 unpark하므로 확인과 park 사이에 들어온 명령도 놓치지 않는다
+            if (commands.isEmpty() && gameThreadRunning) LockSupport.park(this);
+        }
+        drain();
+    }
+
+    private void applyThrow(Yut.Result result) {
+        int player = currentIndex();
+        GameFlightEvents.Throw event = new GameFlightEvents.Throw();
+        event.player = player;
+        event.result = result.name();
+        event.commit();
+        metrics.recordThrow();
+
         state.applyThrow(result);
+        checkTurnChange(player);
         view.showThrowResult(result);
     }
 
+    private void applyNak() {
+        int player = currentIndex();
+        metrics.recordThrow();
+        state.applyNak();
+        checkTurnChange(player);
+    }
+
+    /** 말 이동 (지표/이벤트 기록 포함), 규칙상 둘 수 없는 이동이면 false */
+    private boolean movePiece(int pieceId) {
+        int player = currentIndex();
+        int waitingBefore = opponentsWaiting();
+        GameFlightEvents.Move event = new GameFlightEvents.Move();
+        event.player = player;
+        event.pieceId = pieceId;
+        List<Yut.Result> pending = state.getLastThrow();
+        if (state.getSelect() < pending.size()) event.result = pending.get(state.getSelect()).name();
+        event.begin();
+        long start = System.nanoTime();
+
+        boolean moved = state.movePiece(pieceId);
+
+        metrics.recordMove(System.nanoTime() - start);
+        event.commit();
+        int captured = opponentsWaiting() - waitingBefore;
+        if (captured > 0) {
+            GameFlightEvents.Capture capture = new GameFlightEvents.Capture();
+            capture.player = player;
+            capture.captured = captured;
+            capture.commit();
+            metrics.recordCapture(captured);
+        }
+        checkTurnChange(player);
+        return moved;
+    }
+
+    /** 현재 상태의 스냅샷을 공개 (직전 스냅샷과 바뀌지 않은 부분은 공유) */
+    private GameSnapshot publish() {
+        GameSnapshot next = GameSnapshot.of(state, version, snapshot);
+        snapshot = next;
+        return next;
+    }
+
+    /** 보드 갱신 요청 (실제 그리기 시간은 화면 쪽 FrameCoalescer가 EDT에서 잰다) */
+    private void updateView() {
+        metrics.recordViewRequest();
+        view.updateBoard(publish());
+    }
+
+    private int currentIndex() {
+        return state.getPlayers().indexOf(state.getCurrentPlayer());
+    }
+
+    /** 상대 플레이어들의 대기 중(판 밖, 미완주) 말 수 */
+    private int opponentsWaiting() {
+        PieceStore pieces = state.getPieceStore();
+        int current = currentIndex();
+        int count = 0;
+        for (int p = 0; p < pieces.getPlayerCount(); p++) {
+            if (p != current) count += pieces.waitingCount(p);
+        }
+        return count;
+    }
+
+    private void checkTurnChange(int before) {
+        int after = currentIndex();
+        if (after == before) return;
+        GameFlightEvents.TurnChange event = new GameFlightEvents.TurnChange();
+        event.from = before;
+        event.to = after;
+        event.commit();
+        metrics.recordTurnChange();
+    }
+
     /**
      * 보드판 위 pathIndex, stepIndex 칸을 클릭했을 때 호출.
      * 해당 위치에 있는 현재 플레이어의 말을 찾아서 이동 처리.
      *
      * @param pathIndex  경로 인덱스 (0=외곽, 1~=지름길)
      * @param stepIndex  해당 경로 위 단계 인덱스
+     * @param resultIndex 사용할 윷 결과의 인덱스 (남은 결과 목록 기준)
      */
-    public void onSelectPiece(int pathIndex, int stepIndex) {
+    public void onSelectPiece(int pathIndex, int stepIndex, int resultIndex) {
+        submit(() -> execute(GameCommand.move(pathIndex, stepIndex, resultIndex)));
+    }
+
+    private void selectPiece(int pathIndex, int stepIndex) {
         Player current = state.getCurrentPlayer();
         Piece selectedPiece = null;
         for (Piece p : current.getPieces()) {
@@ -49,22 +323,31 @@ public class GameController {
         }
 
         if (selectedPiece != null) {
-            state.movePiece(selectedPiece.getId()); // GameState 변경
+            movePiece(selectedPiece.getId()); // GameState 변경
 
             // GameState.movePiece() 내부에서 승리 조건, 추가 턴 등을 결정하고 상태를 변경
             // 그 최종 상태를 기반으로 UI를 업데이트
             if (state.isGameOver() && state.getWinner() != null) {
                 // showWinner가 내부적으로 updateBoard를 호출하여 최종 화면을 그림
+                metrics.recordViewRequest();
                 view.showWinner(state.getWinner());
             } else {
                 // 게임이 계속 진행 중이면 현재 상태로 보드 업데이트
-                view.updateBoard(state);
+                updateView();
             }
         }
         // 선택된 말이 없거나 이미 처리된 경우 아무것도 하지 않음
     }
 
-    public void deployNewPiece() {
+    /**
+     * 대기 중인 말 하나를 꺼내 이동
+     * @param resultIndex 사용할 윷 결과의 인덱스
+     */
+    public void deployNewPiece(int resultIndex) {
+        submit(() -> execute(GameCommand.deploy(resultIndex)));
+    }
+
+    private void deployPiece() {
         Player current = state.getCurrentPlayer();
         for (Piece p : current.getPieces()) {
             // 아직 보드에 올라가지 않은 말 찾기
@@ -72,8 +355,11 @@ public class GameController {
                 // 시작 위치 세팅하고 바로 이동
                 p.setPathIndex(0);
                 p.setStepIndex(0);
-                state.movePiece(p.getId());
-                view.updateBoard(state);
+                if (!movePiece(p.getId())) {   // 업기 제한 등으로 둘 수 없으면 다시 대기
+                    p.setPathIndex(-1);
+                    p.setStepIndex(-1);
+                }
+                updateView();
                 return;
             }
         }
@@ -81,7 +367,44 @@ public class GameController {
         view.showThrowResult(Yut.Result.빽도); // 예외적 알림
     }
 
-    /** 현재 게임 상태를 반환 */
+    /** 게임 진행 지표 (JMX 등록/텍스트 엔드포인트는 GameMetrics 참고) */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** 마지막으로 처리된 명령 이후의 불변 상태 (어느 스레드에서든 호출 가능) */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 명령 처리 후 공개된 스냅샷을 받을 리스너 등록.
+     * 명령을 실행한 스레드에서 호출되므로 리스너는 막히지 않아야 한다 (SpectatorHub 참고).
+     */
+    public void addSnapshotListener(Consumer<GameSnapshot> listener) {
+        snapshotListeners.add(listener);
+    }
+
+    public void removeSnapshotListener(Consumer<GameSnapshot> listener) {
+        snapshotListeners.remove(listener);
+    }
+
+    /**
+     * 처리된 명령(GameCommand 인코딩)을 받을 리스너 등록 (게임 기록 저장용, GameRecord 참고).
+     * 상태를 바꾼 명령만 전달되며, 스냅샷 리스너와 같이 명령을 실행한 스레드에서 호출된다.
+     */
+    public void addCommandListener(IntConsumer listener) {
+        commandListeners.add(listener);
+    }
+
+    public void removeCommandListener(IntConsumer listener) {
+        commandListeners.remove(listener);
+    }
+
+    /**
+     * 현재 게임 상태를 반환.
+     * 변경 가능한 원본이므로 명령을 실행하는 스레드(게임 스레드) 밖에서는 getSnapshot()을 사용한다.
+     */
     public GameState getState() {
         return state;
     }
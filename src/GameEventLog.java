@@ -0,0 +1,106 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 게임 이벤트 기록 파일.
+ * 이벤트 하나를 long 하나(상위 4비트 = 종류)로 압축해 저장하고,
+ * 저장된 기록을 다시 GameEventSink로 흘려보낸다.
+ */
+public class GameEventLog {
+    private static final int GAME_START = 1;
+    private static final int THROW = 2;
+    private static final int MOVE = 3;
+    private static final int TURN_END = 4;
+    private static final int GAME_END = 5;
+
+    private static final PlayConfig.BoardType[] BOARD_TYPES = PlayConfig.BoardType.values();
+    private static final Yut.Result[] RESULTS = Yut.Result.values();
+
+    /** 이벤트를 기록 파일로 쓰는 수신자 */
+    public static class Writer implements GameEventSink, Closeable {
+        private final DataOutputStream out;
+
+        public Writer(OutputStream out) {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        }
+
+        private void write(long word) {
+            try {
+                out.writeLong(word);
+            } catch (IOException e) {
+                throw new IllegalStateException("게임 기록 쓰기 실패", e);
+            }
+        }
+
+        @Override
+        public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+            write(((long) GAME_START << 60) | (boardType.ordinal() << 8) | (playerCount << 4) | pieceCount);
+        }
+
+        @Override
+        public void thrown(int player, Yut.Result result) {
+            write(((long) THROW << 60) | (player << 4) | result.ordinal());
+        }
+
+        @Override
+        public void moved(int player, Yut.Result result, int from, int to, int captured) {
+            write(((long) MOVE << 60) | ((long) player << 44) | ((long) result.ordinal() << 40)
+                    | ((long) (from + 2) << 24) | ((long) (to + 2) << 8) | captured);
+        }
+
+        @Override
+        public void turnEnded(int player) {
+            write(((long) TURN_END << 60) | player);
+        }
+
+        @Override
+        public void gameEnded(int winner, int turns) {
+            write(((long) GAME_END << 60) | ((long) (winner + 1) << 32) | turns);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /** 기록 파일을 끝까지 읽어 이벤트를 sink로 전달 */
+    public static void replay(InputStream in, GameEventSink sink) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        while (true) {
+            long word;
+            try {
+                word = data.readLong();
+            } catch (EOFException e) {
+                return;
+            }
+            switch ((int) (word >>> 60)) {
+                case GAME_START:
+                    sink.gameStarted(BOARD_TYPES[(int) (word >>> 8) & 0xFF], (int) (word >>> 4) & 0xF, (int) word & 0xF);
+                    break;
+                case THROW:
+                    sink.thrown((int) (word >>> 4) & 0xF, RESULTS[(int) word & 0xF]);
+                    break;
+                case MOVE:
+                    sink.moved((int) (word >>> 44) & 0xF, RESULTS[(int) (word >>> 40) & 0xF],
+                            (int) ((word >>> 24) & 0xFFFF) - 2, (int) ((word >>> 8) & 0xFFFF) - 2, (int) word & 0xFF);
+                    break;
+                case TURN_END:
+                    sink.turnEnded((int) word & 0xF);
+                    break;
+                case GAME_END:
+                    sink.gameEnded((int) ((word >>> 32) & 0xFF) - 1, (int) word);
+                    break;
+                default:
+                    throw new IOException("알 수 없는 게임 기록 형식: " + Long.toHexString(word));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * 게임 진행 이벤트를 받는 인터페이스.
+ * 시뮬레이션, 저장된 게임 기록 재생, 통계 집계가 같은 이벤트 흐름을 공유한다.
+ * 노드 번호는 BoardGraph 기준이며 객체를 만들지 않도록 기본형 인자만 사용한다.
+ */
+public interface GameEventSink {
+    /** 게임 시작 */
+    void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount);
+
+    /** 윷 던짐 */
+    void thrown(int player, Yut.Result result);
+
+    /** 낙 (던진 윷이 판 밖으로 나가 무효, RuleSet 참고) */
+    default void nak(int player) { }
+
+    /**
+     * 말 이동
+     * @param from     출발 노드 (새 말 꺼내기면 Position.DEPLOY)
+     * @param to       도착 노드 (완주면 BoardGraph.FINISH)
+     * @param captured 잡은 상대 말 개수
+     */
+    void moved(int player, Yut.Result result, int from, int to, int captured);
+
+    /** 턴 종료 */
+    void turnEnded(int player);
+
+    /** 게임 종료 (winner가 -1이면 제한 턴 초과) */
+    void gameEnded(int winner, int turns);
+}
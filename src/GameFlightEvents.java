@@ -0,0 +1,56 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 게임 진행 Java Flight Recorder 이벤트 모음.
+ * 녹화가 꺼져 있으면 begin/commit은 JIT에서 사실상 사라지므로 항상 생성해도 된다.
+ * (예: java -XX:StartFlightRecording=filename=yut.jfr ... 후 JDK Mission Control에서 "Yut" 분류 확인)
+ */
+public final class GameFlightEvents {
+    private GameFlightEvents() { }
+
+    @Name("yut.Throw")
+    @Label("윷 던지기")
+    @Category("Yut")
+    public static final class Throw extends Event {
+        @Label("플레이어") int player;
+        @Label("결과") String result;
+    }
+
+    @Name("yut.Move")
+    @Label("말 이동")
+    @Category("Yut")
+    @Description("GameState.movePiece 실행 구간")
+    public static final class Move extends Event {
+        @Label("플레이어") int player;
+        @Label("말 ID") int pieceId;
+        @Label("윷 결과") String result;
+    }
+
+    @Name("yut.Capture")
+    @Label("말 잡기")
+    @Category("Yut")
+    public static final class Capture extends Event {
+        @Label("플레이어") int player;
+        @Label("잡은 말 수") int captured;
+    }
+
+    @Name("yut.TurnChange")
+    @Label("턴 변경")
+    @Category("Yut")
+    public static final class TurnChange extends Event {
+        @Label("이전 플레이어") int from;
+        @Label("다음 플레이어") int to;
+    }
+
+    @Name("yut.ViewUpdate")
+    @Label("화면 갱신")
+    @Category("Yut")
+    @Description("EDT에서 스냅샷 하나를 그린 구간 (FrameCoalescer)")
+    public static final class ViewUpdate extends Event {
+        @Label("종류") String kind;
+    }
+}
@@ -0,0 +1,154 @@
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 게임 진행 지표 레지스트리: 카운터와 지연 시간 히스토그램.
+ * 기록은 잠금 없이 하며, JMX(MBean) 또는 로컬 텍스트 엔드포인트로 읽는다.
+ */
+public class GameMetrics implements GameMetricsMBean {
+    private final LongAdder throwCount = new LongAdder();
+    private final LongAdder moveCount = new LongAdder();
+    private final LongAdder captureCount = new LongAdder();
+    private final LongAdder turnChangeCount = new LongAdder();
+    private final LongAdder viewRequestCount = new LongAdder();              // 게임 스레드가 화면 갱신을 요청한 수
+    private final LongAdder viewUpdateCount = new LongAdder();               // EDT에서 실제로 그린 수
+    private final LatencyHistogram movePiece = new LatencyHistogram();
+    private final LatencyHistogram viewUpdate = new LatencyHistogram();      // EDT 그리기 시간
+    private final LatencyHistogram commandLatency = new LatencyHistogram();  // 명령 제출 ~ 스냅샷 공개
+    private final LongAdder frameCount = new LongAdder();
+    private final LongAdder coalescedFrameCount = new LongAdder();
+    private volatile long firstFrameMillis = -1;                             // JVM 시작 ~ 첫 입력 가능 프레임
+
+    private ObjectName registeredName;
+    private HttpServer server;
+
+    // --- 기록 ---
+
+    public void recordThrow() { throwCount.increment(); }
+    public void recordMove(long nanos) { moveCount.increment(); movePiece.record(nanos); }
+    public void recordCapture(int captured) { captureCount.add(captured); }
+    public void recordTurnChange() { turnChangeCount.increment(); }
+    public void recordViewRequest() { viewRequestCount.increment(); }
+    public void recordViewUpdate(long nanos) { viewUpdateCount.increment(); viewUpdate.record(nanos); }
+    public void recordCommandLatency(long nanos) { commandLatency.record(nanos); }
+    /** 화면을 한 번 그림 (skipped: 그리기 전에 새 스냅샷이 와서 건너뛴 중간 상태 수) */
+    public void recordFrame(int skipped) { frameCount.increment(); coalescedFrameCount.add(skipped); }
+    public void recordFirstFrame(long millis) { firstFrameMillis = millis; }
+
+    // --- 조회 ---
+
+    @Override public long getThrows() { return throwCount.sum(); }
+    @Override public long getMoves() { return moveCount.sum(); }
+    @Override public long getCaptures() { return captureCount.sum(); }
+    @Override public long getTurnChanges() { return turnChangeCount.sum(); }
+    @Override public long getViewRequests() { return viewRequestCount.sum(); }
+    @Override public long getViewUpdates() { return viewUpdateCount.sum(); }
+    @Override public long getMovePieceP50Nanos() { return movePiece.percentile(0.5); }
+    @Override public long getMovePieceP99Nanos() { return movePiece.percentile(0.99); }
+    @Override public long getViewUpdateP50Nanos() { return viewUpdate.percentile(0.5); }
+    @Override public long getViewUpdateP99Nanos() { return viewUpdate.percentile(0.99); }
+    @Override public long getCommandLatencyP50Nanos() { return commandLatency.percentile(0.5); }
+    @Override public long getCommandLatencyP99Nanos() { return commandLatency.percentile(0.99); }
+    @Override public long getFrames() { return frameCount.sum(); }
+    @Override public long getCoalescedFrames() { return coalescedFrameCount.sum(); }
+    @Override public long getFirstFrameMillis() { return firstFrameMillis; }
+    public LatencyHistogram getMovePieceHistogram() { return movePiece; }
+    public LatencyHistogram getViewUpdateHistogram() { return viewUpdate; }
+    public LatencyHistogram getCommandLatencyHistogram() { return commandLatency; }
+
+    @Override
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("yut_throws_total ").append(getThrows()).append('\n');
+        sb.append("yut_moves_total ").append(getMoves()).append('\n');
+        sb.append("yut_captures_total ").append(getCaptures()).append('\n');
+        sb.append("yut_turn_changes_total ").append(getTurnChanges()).append('\n');
+        sb.append("yut_view_requests_total ").append(getViewRequests()).append('\n');
+        sb.append("yut_view_updates_total ").append(getViewUpdates()).append('\n');
+        sb.append("yut_frames_total ").append(getFrames()).append('\n');
+        sb.append("yut_coalesced_frames_total ").append(getCoalescedFrames()).append('\n');
+        sb.append("yut_first_frame_millis ").append(getFirstFrameMillis()).append('\n');
+        appendHistogram(sb, "yut_move_piece_nanos", movePiece);
+        appendHistogram(sb, "yut_view_update_nanos", viewUpdate);
+        appendHistogram(sb, "yut_command_latency_nanos", commandLatency);
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, LatencyHistogram h) {
+        for (double q : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            sb.append(name).append("{quantile=\"").append(q).append("\"} ").append(h.percentile(q)).append('\n');
+        }
+        sb.append(name).append("_max ").append(h.getMax()).append('\n');
+        sb.append(name).append("_count ").append(h.getCount()).append('\n');
+    }
+
+    @Override
+    public void reset() {
+        throwCount.reset();
+        moveCount.reset();
+        captureCount.reset();
+        turnChangeCount.reset();
+        viewRequestCount.reset();
+        viewUpdateCount.reset();
+        movePiece.reset();
+        viewUpdate.reset();
+        commandLatency.reset();
+        frameCount.reset();
+        coalescedFrameCount.reset();
+    }
+
+    // --- 노출 ---
+
+    /** 플랫폼 MBean 서버에 yut:type=GameMetrics,name=<name> 으로 등록 */
+    public void registerMBean(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("yut:type=GameMetrics,name=" + ObjectName.quote(name));
+            if (server.isRegistered(objectName)) server.unregisterMBean(objectName);
+            server.registerMBean(this, objectName);
+            registeredName = objectName;
+        } catch (JMException e) {
+            System.err.println("지표 MBean 등록 실패: " + e.getMessage());
+        }
+    }
+
+    /** 로컬(루프백) HTTP 텍스트 엔드포인트 시작: http://127.0.0.1:<port>/metrics */
+    public void startTextEndpoint(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = dump().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    /** MBean 등록 해제 및 엔드포인트 종료 */
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (registeredName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            } catch (JMException e) {
+                // 이미 해제됨
+            }
+            registeredName = null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * JMX로 노출하는 게임 지표 (jconsole 등에서 yut:type=GameMetrics 로 조회)
+ */
+public interface GameMetricsMBean {
+    long getThrows();
+    long getMoves();
+    long getCaptures();
+    long getTurnChanges();
+    /** 게임 스레드가 화면 갱신을 요청한 수 (EDT에 넘기기만 함) */
+    long getViewRequests();
+    /** EDT에서 실제로 그린 수 (몰린 요청은 합쳐짐) */
+    long getViewUpdates();
+    long getMovePieceP50Nanos();
+    long getMovePieceP99Nanos();
+    /** EDT에서 스냅샷 하나를 그리는 시간 */
+    long getViewUpdateP50Nanos();
+    long getViewUpdateP99Nanos();
+    /** 명령 제출부터 처리 완료(스냅샷 공개)까지 */
+    long getCommandLatencyP50Nanos();
+    long getCommandLatencyP99Nanos();
+    long getFrames();
+    long getCoalescedFrames();
+    /** JVM 시작부터 게임 화면의 첫 입력 가능 프레임까지 (밀리초, 아직이면 -1) */
+    long getFirstFrameMillis();
+    /** 전체 지표를 텍스트로 */
+    String dump();
+    void reset();
+}
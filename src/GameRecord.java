@@ -0,0 +1,125 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+/**
+ * 게임 한 판의 기록: 설정(판 종류, 인원, 말 수, 규칙)과 처리된 명령(GameCommand 인코딩) 전체.
+ * 무작위 던지기도 실제 나온 결과로 기록되므로 처음부터 명령을 다시 적용하면 같은 게임이 된다 (GameReplay).
+ * 세션 로그(SessionStore)는 스냅샷을 찍을 때마다 비워지므로, 다시 보기에는 이 기록을 따로 남긴다.
+ *
+ * 파일 형식: [magic "YRP1"][판 종류 1][인원 1][말 수 1][규칙 플래그 4][낙 확률 8][윷가락 확률 8 × STICKS][표시 윷가락 1]
+ * 뒤에 명령 int가 하나씩 붙는다. 명령은 처리될 때마다 바로 파일에 쓰므로 프로그램이 중간에 끝나도 그때까지의 기록이 남는다.
+ */
+public final class GameRecord {
+    public static final String SUFFIX = ".yrp";
+    public static final String DIR_PROPERTY = "yut.replayDir";
+    private static final int MAGIC = 0x59525031;                // "YRP1"
+    private static final int HEADER_BYTES = 4 + 3 + 4 + 8 + 8 * ThrowModel.STICKS + 1;
+
+    private final PlayConfig config;
+    private final int[] commands;
+
+    public GameRecord(PlayConfig config, int[] commands) {
+        this.config = config;
+        this.commands = commands.clone();
+    }
+
+    public PlayConfig getConfig() { return config; }
+    /** 명령 수 */
+    public int size() { return commands.length; }
+    /** i번째 명령 (GameCommand 인코딩) */
+    public int command(int i) { return commands[i]; }
+    public int[] getCommands() { return commands.clone(); }
+
+    // --- 쓰기 ---
+
+    /** 컨트롤러의 명령 리스너로 등록해 명령마다 파일에 덧붙이는 기록기 (명령 처리 스레드 전용) */
+    public static final class Writer implements IntConsumer, Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(4);
+
+        private Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void accept(int command) {
+            buffer.clear();
+            buffer.putInt(command).flip();
+            try {
+                while (buffer.hasRemaining()) channel.write(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** 설정 헤더를 쓴 새 기록 파일을 만들고 기록기를 돌려준다 */
+    public static Writer writer(Path file, PlayConfig config) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = encodeHeader(config);
+            while (header.hasRemaining()) channel.write(header);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new Writer(channel);
+    }
+
+    /** 기록 전체를 파일로 저장 */
+    public void write(Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + 4 * commands.length);
+        buf.put(encodeHeader(config));
+        for (int command : commands) buf.putInt(command);
+        Files.write(file, buf.array());
+    }
+
+    private static ByteBuffer encodeHeader(PlayConfig config) {
+        RuleSet rules = config.getRuleSet();
+        ThrowModel model = rules.getThrowModel();
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES);
+        buf.putInt(MAGIC);
+        buf.put((byte) config.getBoardType().ordinal());
+        buf.put((byte) config.getPlayerCount());
+        buf.put((byte) config.getPieceCount());
+        buf.putInt(rules.encodeFlags());
+        buf.putDouble(rules.getNakProbability());
+        for (int i = 0; i < ThrowModel.STICKS; i++) buf.putDouble(model.getFlatProbability(i));
+        buf.put((byte) model.getMarkedStick());
+        return buf.flip();
+    }
+
+    // --- 읽기 ---
+
+    /** 기록 파일 읽기 (쓰다 끊긴 마지막 명령은 버림) */
+    public static GameRecord read(Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buf.remaining() < HEADER_BYTES || buf.getInt() != MAGIC) {
+            throw new IOException("게임 기록 파일이 아닙니다: " + file);
+        }
+        PlayConfig.BoardType type = PlayConfig.BoardType.values()[buf.get()];
+        int playerCount = buf.get();
+        int pieceCount = buf.get();
+        PlayConfig config = new PlayConfig(playerCount, pieceCount, type);
+        int ruleFlags = buf.getInt();
+        double nak = buf.getDouble();
+        double[] flat = new double[ThrowModel.STICKS];
+        for (int i = 0; i < flat.length; i++) flat[i] = buf.getDouble();
+        config.setRuleSet(RuleSet.decode(ruleFlags, nak, new ThrowModel(flat, buf.get())));
+        int[] commands = new int[buf.remaining() / 4];
+        for (int i = 0; i < commands.length; i++) commands[i] = buf.getInt();
+        return new GameRecord(config, commands);
+    }
+}
@@ -0,0 +1,140 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게임 기록(GameRecord) 다시 보기 색인: 임의의 위치(적용한 명령 수)나 턴으로 바로 이동한다.
+ *
+ * 만들 때 기록을 처음부터 한 번 재생하며 KEYFRAME_INTERVAL 명령마다 불변 스냅샷(키프레임)을 남기고,
+ * 턴이 바뀌는 위치(턴 시작 위치)를 적어 둔다. 이동(Cursor.seek)은 목표 이하의 가장 가까운 키프레임에서
+ * GameState를 복원한 뒤 남은 명령(최대 KEYFRAME_INTERVAL - 1개)만 GameController.replay로 다시 적용한다.
+ * 목표가 현재 위치 바로 뒤라면 복원 없이 앞으로만 재생한다.
+ *
+ * 색인은 불변이라 여러 스레드가 함께 쓸 수 있고, Cursor는 한 스레드에서만 쓴다.
+ */
+public final class GameReplay {
+    public static final int KEYFRAME_INTERVAL = 16;
+
+    private final GameRecord record;
+    private final List<String> playerNames;
+    private final GameSnapshot[] keyframes;      // [k] = 명령 k * KEYFRAME_INTERVAL개 적용 후
+    private final int[] turnStarts;              // [t] = t번째 턴이 시작하는 위치
+
+    public GameReplay(GameRecord record) {
+        this.record = record;
+        List<String> names = GameState.defaultPlayerNames(record.getConfig().getPlayerCount());
+        this.playerNames = Collections.unmodifiableList(names);
+
+        GameController controller = new GameController(new GameState(record.getConfig(), names), 0, GameView.HEADLESS);
+        this.keyframes = new GameSnapshot[record.size() / KEYFRAME_INTERVAL + 1];
+        keyframes[0] = controller.getSnapshot();
+        int[] starts = new int[16];
+        int turns = 1;
+        int current = controller.getSnapshot().getCurrentPlayer();
+        for (int i = 0; i < record.size(); i++) {
+            controller.replay(record.command(i));
+            GameSnapshot after = controller.getSnapshot();
+            if ((i + 1) % KEYFRAME_INTERVAL == 0) keyframes[(i + 1) / KEYFRAME_INTERVAL] = after;
+            if (after.getCurrentPlayer() != current) {
+                current = after.getCurrentPlayer();
+                if (turns == starts.length) starts = Arrays.copyOf(starts, turns * 2);
+                starts[turns++] = i + 1;
+            }
+        }
+        this.turnStarts = Arrays.copyOf(starts, turns);
+    }
+
+    public GameRecord getRecord() { return record; }
+    /** 기록에는 이름이 없으므로 FirstPage와 같은 기본 이름 (Player1, Player2, ...) */
+    public List<String> getPlayerNames() { return playerNames; }
+    /** 전체 명령 수 (위치는 0 ~ size()) */
+    public int size() { return record.size(); }
+    /** 턴 수 (게임 시작 턴 포함) */
+    public int turnCount() { return turnStarts.length; }
+    /** 턴이 시작하는 위치 */
+    public int turnStart(int turn) { return turnStarts[turn]; }
+
+    /** 위치가 속한 턴 */
+    public int turnOf(int position) {
+        int i = Arrays.binarySearch(turnStarts, position);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    /** 새 재생 위치 (처음 위치) */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /** 재생 위치: 기록의 한 시점 상태 (한 스레드 전용) */
+    public final class Cursor {
+        private GameController controller;
+        private int position;
+        private GameSnapshot lastFrame;          // 같은 GameState에서 만든 직전 화면 스냅샷 (공유용)
+
+        private Cursor() {
+            restore(0);
+        }
+
+        /** 적용한 명령 수 */
+        public int getPosition() { return position; }
+        public int getTurn() { return turnOf(position); }
+        public boolean isAtEnd() { return position == record.size(); }
+
+        /** 다음 명령 하나 적용 (끝이면 false) */
+        public boolean step() {
+            if (position == record.size()) return false;
+            controller.replay(record.command(position++));
+            return true;
+        }
+
+        /** 위치로 이동 (0 ~ size()) */
+        public void seek(int target) {
+            if (target < 0 || target > record.size()) {
+                throw new IndexOutOfBoundsException("위치 범위 밖: " + target + " / " + record.size());
+            }
+            int keyframe = target / KEYFRAME_INTERVAL;
+            // 뒤로 가거나, 앞의 키프레임에서 시작하는 편이 더 가까우면 복원
+            if (target < position || keyframe * KEYFRAME_INTERVAL > position) restore(keyframe);
+            while (position < target) step();
+        }
+
+        /** 턴 시작 위치로 이동 */
+        public void seekTurn(int turn) {
+            seek(turnStarts[Math.max(0, Math.min(turn, turnStarts.length - 1))]);
+        }
+
+        /** 현재 위치의 상태 스냅샷 (버전은 기록 위치) */
+        public GameSnapshot getSnapshot() {
+            return controller.getSnapshot();
+        }
+
+        /**
+         * 화면에 넘길 스냅샷 (버전은 호출한 쪽이 정함).
+         * FrameCoalescer는 버전이 더 작은 스냅샷을 그리지 않으므로 뒤로 이동해도 버전이 늘도록 화면 순번을 쓴다.
+         */
+        public GameSnapshot frame(long version) {
+            lastFrame = GameSnapshot.of(controller.getState(), version, lastFrame);
+            return lastFrame;
+        }
+
+        /** k번째 키프레임의 상태로 새 GameState를 만든다 */
+        private void restore(int k) {
+            GameSnapshot s = keyframes[k];
+            GameState state = new GameState(record.getConfig(), playerNames);
+            for (int i = 0; i < state.getPlayers().size(); i++) {
+                GameSnapshot.PlayerSnapshot ps = s.getPlayers().get(i);
+                for (Piece p : state.getPlayers().get(i).getPieces()) {
+                    p.setPathIndex(ps.getPathIndex(p.getId()));
+                    p.setStepIndex(ps.getStepIndex(p.getId()));
+                    p.setFinished(ps.isFinished(p.getId()));
+                    p.setGrouped(ps.isGrouped(p.getId()));
+                }
+            }
+            state.restore(s.getCurrentPlayer(), s.getPhase(), s.getThrowCount(), s.getPendingThrows(),
+                    s.getLastTurnEvent(), s.getWinner());
+            controller = new GameController(state, (long) k * KEYFRAME_INTERVAL, GameView.HEADLESS);
+            position = k * KEYFRAME_INTERVAL;
+            lastFrame = null;                        // 다른 GameState의 스냅샷과는 공유하지 않음
+        }
+    }
+}
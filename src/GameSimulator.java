@@ -0,0 +1,164 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 화면 없이 한 게임을 끝까지 진행하는 시뮬레이터.
+ * GameState와 같은 턴 규칙(윷/모는 한 번 더, 모아 둔 결과를 하나씩 사용, 잡으면 한 번 더)을
+ * Position 위에서 로그 출력 없이 적용하고, 진행 이벤트를 GameEventSink로 내보낸다.
+ * 규칙 변형(RuleSet)은 생성 시 이동 표와 턴 처리 상수로 받아 둔다.
+ */
+public class GameSimulator {
+    public static final int MAX_TURNS = 2000;   // 끝나지 않는 게임 방지
+
+    private final PlayConfig.BoardType boardType;
+    private final BoardGraph board;
+    private final int playerCount;
+    private final int pieceCount;
+    private final RuleSet rules;
+    private final boolean passTurnOnBackdo;     // 말 없을 때 빽도면 모아 둔 결과와 관계없이 턴 넘김
+    private final int captureBonus;             // 잡았을 때 더할 던지기 횟수
+
+    /** 제한 시간이 있는 수를 계산하는 스레드 (데몬, 처음 쓸 때 생성). 제한을 넘긴 봇의 스레드는 인터럽트하고 버린다 */
+    private static final class MoveRunner {
+        static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "bot-move");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public GameSimulator(PlayConfig config) {
+        this.boardType = config.getBoardType();
+        this.board = config.getBoardGraph();
+        this.playerCount = config.getPlayerCount();
+        this.pieceCount = config.getPieceCount();
+        this.rules = config.getRuleSet();
+        this.passTurnOnBackdo = rules.passTurnOnBackdo();
+        this.captureBonus = rules.captureBonus();
+    }
+
+    /**
+     * 한 게임 진행
+     * @param bots   자리(플레이어 번호) 순서의 봇
+     * @param random 윷 던지기 난수
+     * @param sink   이벤트 수신자 (null 가능)
+     * @return 승자 자리 번호 (제한 턴 초과 시 -1)
+     */
+    public int play(Bot[] bots, Random random, GameEventSink sink) {
+        return play(bots, random, sink, 0);
+    }
+
+    /**
+     * 수당 시간 제한을 두고 한 게임 진행.
+     * 제한이 있으면 봇은 위치와 결과 목록의 복사본으로 다른 스레드에서 수를 계산하고, 이 스레드는 제한 시간까지만 기다린다.
+     * 그래서 멈춘 봇도 게임을 붙잡지 못한다.
+     * @param moveLimitNanos 봇 한 수의 제한 시간 (0이면 제한 없음)
+     * @throws TimeForfeitException 봇이 제한 시간 안에 수를 내지 못한 경우
+     */
+    public int play(Bot[] bots, Random random, GameEventSink sink, long moveLimitNanos) {
+        Position pos = new Position(board, playerCount, pieceCount, rules);
+        if (sink != null) sink.gameStarted(boardType, playerCount, pieceCount);
+
+        List<Yut.Result> pending = new ArrayList<>();
+        for (int turn = 1; turn <= MAX_TURNS; turn++) {
+            int player = pos.getCurrent();
+            int winner = playTurn(pos, bots[player], random, sink, pending, moveLimitNanos);
+            if (sink != null) sink.turnEnded(player);
+            if (winner >= 0) {
+                if (sink != null) sink.gameEnded(winner, turn);
+                return winner;
+            }
+            pos.nextTurn();
+        }
+        if (sink != null) sink.gameEnded(-1, MAX_TURNS);
+        return -1;
+    }
+
+    /** 한 턴 진행, 이번 턴에 이기면 플레이어 번호 반환 */
+    private int playTurn(Position pos, Bot bot, Random random, GameEventSink sink, List<Yut.Result> pending,
+                         long moveLimitNanos) {
+        int player = pos.getCurrent();
+        int throwsLeft = 1;
+        pending.clear();
+        while (true) {
+            while (throwsLeft > 0) {
+                Yut.Result r = rules.throwRandom(random);
+                throwsLeft--;
+                if (r == null) {                        // 낙: 던질 기회만 씀
+                    if (sink != null) sink.nak(player);
+                    continue;
+                }
+                if (sink != null) sink.thrown(player, r);
+                if (r == Yut.Result.빽도 && !pos.hasPieceOnBoard(player)) {
+                    if (passTurnOnBackdo || pending.isEmpty()) return -1;   // 움직일 말이 없어 턴 넘김
+                    continue;                           // 모아 둔 결과가 있으면 빽도만 버림
+                }
+                pending.add(r);
+                if (r == Yut.Result.윷 || r == Yut.Result.모) throwsLeft++;
+            }
+            if (!hasLegalMove(pos, pending)) return -1;
+
+            Bot.Move move = moveLimitNanos > 0
+                    ? chooseWithin(bot, pos, pending, moveLimitNanos)
+                    : bot.choose(pos, pending);
+            Yut.Result r = pending.remove(move.getResultIndex());
+            int from = move.getFrom();
+            int to = board.move(from == Position.DEPLOY ? board.startNode() : from, r);
+            int captured = pos.apply(from, r);
+            if (sink != null) sink.moved(player, r, from, to, captured);
+            if (pos.isWinner(player)) return player;
+            if (captured > 0) throwsLeft += captureBonus;
+            if (pending.isEmpty() && throwsLeft == 0) return -1;
+        }
+    }
+
+    /** 제한 시간 안에 봇의 수를 받는다 (넘기면 계산을 인터럽트하고 시간패) */
+    private static Bot.Move chooseWithin(Bot bot, Position pos, List<Yut.Result> pending, long limitNanos) {
+        Position view = pos.copy();
+        List<Yut.Result> results = new ArrayList<>(pending);
+        Future<Bot.Move> future = MoveRunner.EXECUTOR.submit(() -> bot.choose(view, results));
+        try {
+            return future.get(limitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TimeForfeitException(pos.getCurrent());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("수 계산을 기다리다 인터럽트됨", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /** 남은 결과 중 하나라도 둘 수 있는지 (빽도만 남고 판 위 말이 없으면 false) */
+    static boolean hasLegalMove(Position pos, List<Yut.Result> pending) {
+        for (Yut.Result r : pending) {
+            if (pos.legalMoves(r).length > 0) return true;
+        }
+        return false;
+    }
+
+    /** 봇이 수당 제한 시간을 넘겨 시간패한 경우 */
+    public static class TimeForfeitException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int player;
+
+        public TimeForfeitException(int player) {
+            super("플레이어 " + player + " 시간 초과");
+            this.player = player;
+        }
+
+        public int getPlayer() { return player; }
+    }
+}
@@ -0,0 +1,129 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게임 상태의 불변 스냅샷.
+ * GameController가 명령을 하나 처리할 때마다 만들어 volatile 참조로 공개하므로,
+ * 어느 스레드에서든(화면 그리기, 관전자 전송 등) 잠금 없이 일관된 상태를 읽을 수 있다.
+ *
+ * 이전 스냅샷과 구조를 공유한다: 말 상태가 바뀌지 않은 플레이어(Player.getModCount 기준)와
+ * 내용이 같은 남은 윷 결과 목록은 이전 객체를 그대로 재사용하므로,
+ * 이동 한 번 뒤 새로 만드는 부분은 움직인 플레이어와 잡힌 플레이어뿐이다.
+ */
+public final class GameSnapshot {
+    private final long version;
+    private final List<PlayerSnapshot> players;
+    private final int currentPlayer;
+    private final GameState.phase phase;
+    private final int throwCount;
+    private final List<Yut.Result> pendingThrows;
+    private final GameState.TurnEvent lastTurnEvent;
+    private final int winner;                       // 승자 인덱스, 없으면 -1
+
+    /** 플레이어 한 명의 말 배치 (불변) */
+    public static final class PlayerSnapshot {
+        private final int id;
+        private final String color;
+        private final int modCount;                 // 만들 때의 Player.getModCount()
+        private final int[] pathIndex;
+        private final int[] stepIndex;
+        private final int finished;                 // 완주한 말 비트마스크
+        private final int grouped;                  // 업힌 말 비트마스크
+        private final int onBoard;                  // 판 위 말 비트마스크
+        private final int waiting;                  // 대기 중인 말 비트마스크
+
+        PlayerSnapshot(Player player) {
+            PieceStore store = player.getStore();
+            int pl = player.getIndex();
+            int n = store.getPieceCount();
+            this.id = player.getId();
+            this.color = player.getColor();
+            this.modCount = player.getModCount();
+            this.pathIndex = new int[n];
+            this.stepIndex = new int[n];
+            for (int i = 0; i < n; i++) {
+                pathIndex[i] = store.getPath(pl, i);
+                stepIndex[i] = store.getStep(pl, i);
+            }
+            this.finished = store.finishedMask(pl);
+            this.grouped = store.groupedMask(pl);
+            this.onBoard = store.onBoardMask(pl);
+            this.waiting = store.waitingMask(pl);
+        }
+
+        public int getId() { return id; }
+        public String getColor() { return color; }
+        public int getPieceCount() { return pathIndex.length; }
+        public int getPathIndex(int piece) { return pathIndex[piece]; }
+        public int getStepIndex(int piece) { return stepIndex[piece]; }
+        public boolean isFinished(int piece) { return (finished & (1 << piece)) != 0; }
+        public boolean isGrouped(int piece) { return (grouped & (1 << piece)) != 0; }
+
+        /** 판 위에 있는 말인지 */
+        public boolean isOnBoard(int piece) { return (onBoard & (1 << piece)) != 0; }
+
+        /** 대기 중인 말 개수 (판에 아직 올라가지 않은 말) */
+        public int waitingCount() { return Integer.bitCount(waiting); }
+
+        /** 완주한 말 개수 */
+        public int finishedCount() { return Integer.bitCount(finished); }
+
+        /** 판 위에 말이 하나라도 있는지 */
+        public boolean hasPieceOnBoard() { return onBoard != 0; }
+    }
+
+    private GameSnapshot(GameState state, long version, GameSnapshot previous) {
+        List<Player> source = state.getPlayers();
+        PlayerSnapshot[] list = new PlayerSnapshot[source.size()];
+        boolean samePlayers = previous != null && previous.players.size() == list.length;
+        for (int i = 0; i < list.length; i++) {
+            Player p = source.get(i);
+            PlayerSnapshot old = previous != null && i < previous.players.size() ? previous.players.get(i) : null;
+            if (old != null && old.id == p.getId() && old.modCount == p.getModCount()) {
+                list[i] = old;   // 바뀌지 않은 플레이어는 공유
+            } else {
+                list[i] = new PlayerSnapshot(p);
+                samePlayers = false;
+            }
+        }
+        List<Yut.Result> pending = state.getLastThrow();
+
+        this.version = version;
+        this.players = samePlayers ? previous.players : Collections.unmodifiableList(Arrays.asList(list));
+        this.currentPlayer = source.indexOf(state.getCurrentPlayer());
+        this.phase = state.getPhase();
+        this.throwCount = state.getThrowCount();
+        this.pendingThrows = previous != null && previous.pendingThrows.equals(pending)
+                ? previous.pendingThrows
+                : Collections.unmodifiableList(Arrays.asList(pending.toArray(new Yut.Result[0])));
+        this.lastTurnEvent = state.getLastTurnEvent();
+        this.winner = state.getWinner() == null ? -1 : source.indexOf(state.getWinner());
+    }
+
+    /** 현재 GameState로부터 새로 생성 (상태를 변경하는 스레드에서만 호출) */
+    public static GameSnapshot of(GameState state, long version) {
+        return new GameSnapshot(state, version, null);
+    }
+
+    /**
+     * 이전 스냅샷과 바뀌지 않은 부분을 공유해 생성 (상태를 변경하는 스레드에서만 호출)
+     * @param previous 같은 GameState의 직전 스냅샷 (없으면 null)
+     */
+    public static GameSnapshot of(GameState state, long version, GameSnapshot previous) {
+        return new GameSnapshot(state, version, previous);
+    }
+
+    /** 처리된 명령 수 (스냅샷 순서 비교용) */
+    public long getVersion() { return version; }
+    public List<PlayerSnapshot> getPlayers() { return players; }
+    public int getCurrentPlayer() { return currentPlayer; }
+    public GameState.phase getPhase() { return phase; }
+    public int getThrowCount() { return throwCount; }
+    /** 아직 사용하지 않은 윷 결과 */
+    public List<Yut.Result> getPendingThrows() { return pendingThrows; }
+    public GameState.TurnEvent getLastTurnEvent() { return lastTurnEvent; }
+    public int getWinner() { return winner; }
+    /** 승자가 정해졌는지 */
+    public boolean isGameOver() { return winner >= 0; }
+}
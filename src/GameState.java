@@ -10,13 +10,21 @@ public class GameState {
         NORMAL,             // 일반 상태
         YUT_OR_MO_THROWN,   // 윷 또는 모를 던져서 추가 턴 획득
         CAPTURE_OCCURRED,    // 상대 말을 잡아서 추가 턴 획득
-        BAEKDO_TURN_PASS    // 빽도가 나왔지만 말이 없어 턴이 넘어감
+        BAEKDO_TURN_PASS,   // 빽도가 나왔지만 말이 없어 턴이 넘어감
+        NAK_THROWN          // 낙: 윷이 판 밖으로 나가 던지기 무효
     }
 
     private final List<Player> players;
+    private final PieceStore pieces;      // 모든 플레이어의 말 상태 (Player/Piece는 뷰)
     private final PlayConfig config;
-    private final PathConfig pathConfig;
-    private final int totalOuterSteps;
+    private final BoardGraph board;
+    private final RuleSet rules;
+
+    // 생성 시 규칙에서 컴파일한 턴 처리 상수
+    private final boolean passTurnOnBackdo;   // 말 없을 때 빽도면 모아 둔 결과와 관계없이 턴 넘김
+    private final int captureBonus;           // 잡았을 때 더할 던지기 횟수
+    private final int stackLimit;             // 한 칸에 업을 수 있는 최대 말 수
+    private final boolean stackLimited;       // stackLimit이 말 개수보다 작은지
 
     private int currentPlayerIndex = 0;
     private List<Yut.Result> lastThrow;
@@ -29,17 +37,29 @@ public class GameState {
 
     private TurnEvent lastTurnEvent = TurnEvent.NORMAL; // 마지막 턴 이벤트 상태 변수
 
+    /** 이름을 따로 받지 않을 때의 플레이어명 (시작 화면, 복구, 다시 보기가 같은 이름을 쓴다) */
+    public static List<String> defaultPlayerNames(int playerCount) {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= playerCount; i++) names.add("Player" + i);
+        return names;
+    }
+
     /**
      * 생성자: 게임 설정과 플레이어명을 받아 초기화
      */
     public GameState(PlayConfig config, List<String> playerNames) {
         this.config = config; //
-        this.pathConfig = new PathConfig(config.getBoardType()); //
-        this.totalOuterSteps = pathConfig.getOuterLength(); //
+        this.board = config.getBoardGraph(); // 규칙(빽도 간선)이 반영된 이동 표
+        this.rules = config.getRuleSet();
+        this.passTurnOnBackdo = rules.passTurnOnBackdo();
+        this.captureBonus = rules.captureBonus();
+        this.stackLimit = rules.stackLimit(config.getPieceCount());
+        this.stackLimited = stackLimit < config.getPieceCount();
         this.players = new ArrayList<>(); //
         this.lastThrow = new ArrayList<>(); //
+        this.pieces = new PieceStore(config.getPlayerCount(), config.getPieceCount());
         for (int i = 0; i < config.getPlayerCount(); i++) { //
-            players.add(new Player(i, playerNames.get(i), config.getPieceCount())); //
+            players.add(new Player(i, playerNames.get(i), pieces, i)); //
         }
     }
 
@@ -55,10 +75,18 @@ public class GameState {
     public phase getPhase() { return currentPhase; }
     /** 현재 플레이어 인덱스 반환 */
     public void setSelect(int value) { select = value; }
+    /** 이동에 사용할 윷 결과 인덱스 */
+    public int getSelect() { return select; }
     /** 이벤트 상태 getter */
     public TurnEvent getLastTurnEvent() { return lastTurnEvent; }
     /** 승리 플레이어 getter*/
     public Player getWinner() { return winner; }
+    /** 윷판 그래프 getter */
+    public BoardGraph getBoard() { return board; }
+    /** 말 상태 저장소 (플레이어 번호 = players 인덱스) */
+    public PieceStore getPieceStore() { return pieces; }
+    /** 이 게임의 규칙 */
+    public RuleSet getRules() { return rules; }
 
     /**
      * 윷 던지기 결과 적용
@@ -67,21 +95,19 @@ public class GameState {
     public void applyThrow(Yut.Result result) {
         this.lastTurnEvent = TurnEvent.NORMAL; // 이벤트를 기본적으로 '일반'으로 초기화
 
-        if (result == Yut.Result.빽도) {
-            // 현재 플레이어의 말 중 하나라도 판 위에 있는지 확인
-            boolean hasPieceOnBoard = false;
-            for (Piece p : getCurrentPlayer().getPieces()) {
-                if (p.getPathIndex() != -1 && !p.isFinished()) {
-                    hasPieceOnBoard = true;
-                    break;
-                }
-            }
-            // 판에 말이 하나도 없는 상태에서 빽도가 나온 경우에만 턴을 넘김
-            if (!hasPieceOnBoard) {
+        if (result == Yut.Result.빽도 && !pieces.hasPieceOnBoard(currentPlayerIndex)) {
+            // 판에 말이 하나도 없는 상태의 빽도: 규칙에 따라 턴을 넘기거나 빽도만 버림
+            if (passTurnOnBackdo || lastThrow.isEmpty()) {
                 this.lastTurnEvent = TurnEvent.BAEKDO_TURN_PASS; // 턴 넘어감 이벤트 설정
+                lastThrow.clear(); // 모아 둔 결과는 다음 플레이어에게 넘어가지 않음
                 nextTurn(); // 다음 플레이어에게 턴 넘김
                 return; // 메소드 종료
             }
+            if (currentPhase == phase.THROW) {
+                throwCount--;
+                if (throwCount == 0) currentPhase = phase.MOVE; // 모아 둔 결과로 이동
+            }
+            return;
         }
 
         // 윷 던지기 단계가 아니면 로직을 실행하지 않음
@@ -108,307 +134,120 @@ public class GameState {
     /**
      * 특정 말 이동 처리
      * @param pieceId 이동할 말의 ID (플레이어의 말 리스트에서의 인덱스)
+     * @return 이동했으면 true (말이 없거나 업기 제한을 넘는 이동이면 윷 결과를 쓰지 않고 false)
      */
-    public void movePiece(int pieceId) {
+    public boolean movePiece(int pieceId) {
         this.lastTurnEvent = TurnEvent.NORMAL;
         Player current = getCurrentPlayer();
 
         if (lastThrow.isEmpty()) {
             if (throwCount == 0 && currentPhase == phase.MOVE) nextTurn();
-            return;
+            return false;
         }
 
         Yut.Result yutResult = lastThrow.get(select);
 
-        int move;
-        switch (yutResult) {
-            case 빽도: move = -1; break;
-            case 도:  move = 1;  break;
-            case 개:  move = 2;  break;
-            case 걸:  move = 3;  break;
-            case 윷:  move = 4;  break;
-            case 모:  move = 5;  break;
-            default:   move = 0;  break; // 예외 상황
-        }
+        int move = BoardGraph.stepsOf(yutResult);
 
-        lastThrow.remove(select); // 사용한 윷 결과 제거
-        select = 0; // 다음 선택을 위해 초기화
-
-        // 함께 이동할 말들 선택 (업힌 말 그룹)
-        // 기준이 되는 말(selectedPieceLogic)의 시작 위치를 알아야 함.
-        // GameController에서 pieceId를 넘겨주므로, 해당 ID의 말이 기준이 됨.
-        Piece representativePiece = null;
-        for(Piece p : current.getPieces()){
-            if(p.getId() == pieceId) {
-                representativePiece = p;
-                break;
-            }
-        }
-        if (representativePiece == null || representativePiece.isFinished()) {
+        // 함께 이동할 말들 선택 (업힌 말 그룹): 기준 말과 같은 칸에 있는 완주 전 말들의 비트마스크
+        // GameController가 pieceId를 넘겨주므로 해당 ID의 말이 기준이 된다.
+        // 새 말 꺼내기는 GameController.deployPiece에서 (0,0)으로 설정한 뒤 호출한다.
+        int cur = currentPlayerIndex;
+        if (pieceId < 0 || pieceId >= pieces.getPieceCount() || pieces.isFinished(cur, pieceId)) {
             System.err.println("오류: 선택된 말을 찾을 수 없거나 이미 완주한 말입니다. pieceId: " + pieceId);
-            // 만약 이 상황에서 lastThrow가 비어있지 않으면 다른 말을 선택해야 함.
-            // 또는 오류로 간주하고 턴을 어떻게 처리할지 결정.
-            // 현재는 그냥 리턴.
-            if (lastThrow.isEmpty() && throwCount == 0 && currentPhase == phase.MOVE) {
-                // 잡기가 발생하지 않았고, 던질 기회도 없고, 남은 윷도 없으면 턴 넘김
-                boolean canMoveOtherPiece = false;
-                for(Piece p : current.getPieces()) {
-                    if(!p.isFinished() && p.getPathIndex() != -1) { // 움직일 수 있는 다른 말이 있는 경우
-                        canMoveOtherPiece = true;
-                        break;
-                    }
-                }
-                if(!canMoveOtherPiece && current.getPieces().stream().allMatch(p -> p.isFinished() || p.getPathIndex() == -1)) {
-                    // 모든 말이 시작점에 있거나 완주했고, 새 말을 놓을 수 없는 상황 (윷 결과에 따라)
-                    // 또는 움직일 말이 없는 상황
-                }
-                // nextTurn(); // 무조건 넘기기보다 상태에 따라 결정. 여기선 일단 턴 넘김 방지.
-            }
-            return;
+            return false;
         }
-
-        List<Piece> groupToMove = new ArrayList<>();
-        int startPathForGroup = representativePiece.getPathIndex();
-        int startStepForGroup = representativePiece.getStepIndex();
-
-        // 만약 시작점에 있는 말을 처음 움직이는 경우 (새 말 꺼내기)
-        if (startPathForGroup == -1 && !representativePiece.isFinished()) {
-            // 새 말을 출발점으로 설정 (0,0)
-            // GameController의 deployNewPiece에서 (0,0)으로 설정 후 movePiece를 호출하는 구조라면
-            // 여기서는 startPathForGroup이 0, startStepForGroup이 0으로 넘어올 것임.
-            // 만약 여기서 -1, -1 상태로 넘어온다면, 여기서 (0,0)으로 초기화.
-            // 사용자의 GameController.deployNewPiece()는 p.setPathIndex(0); p.setStepIndex(0); 후 state.movePiece(p.getId());를 호출.
-            // 따라서 이 부분은 GameController에서 이미 처리되었을 것이므로, startPathForGroup은 0, startStepForGroup은 0으로 가정.
-        }
-
-
-        for (Piece p : current.getPieces()) {
-            if (!p.isFinished() && p.getPathIndex() == startPathForGroup && p.getStepIndex() == startStepForGroup) {
-                groupToMove.add(p);
+        int startPathForGroup = pieces.getPath(cur, pieceId);
+        int startStepForGroup = pieces.getStep(cur, pieceId);
+        int groupToMove = pieces.piecesAt(cur, startPathForGroup, startStepForGroup);
+
+        // 그룹의 기준 위치에서 윷 결과만큼 이동한 도착 노드 (컴파일된 이동 표 조회)
+        int startNode = board.nodeOf(startPathForGroup, startStepForGroup);
+        if (startNode < 0) startNode = board.startNode(); // 판 밖의 말은 출발점에서 이동
+        int destNode = board.move(startNode, yutResult);
+
+        // 업기 제한 (제한이 있는 규칙에서만 확인)
+        if (stackLimited && destNode != BoardGraph.FINISH) {
+            int stack = groupToMove | pieces.piecesAt(cur, board.pathOf(destNode), board.stepOf(destNode));
+            if (Integer.bitCount(stack) > stackLimit) {
+                System.err.println("업을 수 있는 말 수(" + stackLimit + ")를 넘는 이동입니다. pieceId: " + pieceId);
+                return false;
             }
         }
-        if (groupToMove.isEmpty() && !representativePiece.isFinished()){ // 업히지 않은 단독 말인 경우
-            groupToMove.add(representativePiece);
-        }
 
+        lastThrow.remove(select); // 사용한 윷 결과 제거
+        select = 0; // 다음 선택을 위해 초기화
 
-        for (Piece pieceToMove : groupToMove) {
-            if (pieceToMove.isFinished()) continue;
+        for (int group = groupToMove; group != 0; group &= group - 1) {
+            int id = Integer.numberOfTrailingZeros(group);
 
             System.out.printf("이동 전: ID %d, P%d S%d. 이동량: %d (%s)\n",
-                    pieceToMove.getId(), pieceToMove.getPathIndex(), pieceToMove.getStepIndex(), move, yutResult.toString());
-
-            int currentPath = pieceToMove.getPathIndex();
-            int currentStep = pieceToMove.getStepIndex();
-
-            int nextPath = currentPath; // 이동 후 경로 (초기값은 현재 경로)
-            int nextStep = currentStep; // 이동 후 단계 (초기값은 현재 단계)
-
-            boolean stoppedAtBranchThisMove = false; // 전진 시 분기점에 멈춰 대기하는지 여부
-
-            if (move == -1) { // 빽도 (-1) 처리
-                System.out.printf("빽도 처리 시작: ID %d, 현재 P%d S%d\n", pieceToMove.getId(), currentPath, currentStep);
-                if (currentPath == 0) { // 현재 외곽 경로에 있을 때
-                    // 수정된 로직: 위치 1에 있는 말이 빽도를 만나면 완주
-                    if (currentStep == 1) {
-                        System.out.printf("빽도: ID %d, 외곽 P0 S1에서 뒤로 가 완주 처리.\n", pieceToMove.getId());
-                        pieceToMove.setFinished(true);
-                        nextPath = 0;
-                        nextStep = 0; // 시각적 위치를 위해 명시적으로 설정
-                    } else if (currentStep > 1) { // 외곽 경로의 다른 지점 (위치 0은 제외)
-                        nextPath = 0;
-                        nextStep = currentStep - 1; // 한 칸 뒤로
-                        System.out.printf("빽도: ID %d, 외곽 P%d S%d -> P%d S%d\n",
-                                pieceToMove.getId(), currentPath, currentStep, nextPath, nextStep);
-                    }
-                    // 만약 currentStep == 0 이면, 아무것도 하지 않고 현재 위치를 유지
-                } else { // 현재 지름길(currentPath > 0)에 있을 때
-                    if (currentStep == 0) {
-                        int correspondingBranchPoint = pathConfig.getBranchPoint(currentPath);
-                        nextPath = 0;
-                        nextStep = correspondingBranchPoint;
-                        System.out.printf("빽도: ID %d, 지름길 P%d S0 -> 외곽 P%d S%d (분기점 복귀)\n",
-                                pieceToMove.getId(), currentPath, nextPath, nextStep);
-                    } else {
-                        nextPath = currentPath;
-                        nextStep = currentStep - 1;
-                        System.out.printf("빽도: ID %d, 지름길 P%d S%d -> P%d S%d\n",
-                                pieceToMove.getId(), currentPath, currentStep, nextPath, nextStep);
-                    }
-                }
-            } else if (move > 0) { // 전진 (move > 0) 처리
-                boolean startedFromOuterBranch = false;
-                // 시나리오 1: 외곽 경로의 분기점에서 출발하는 경우
-                if (currentPath == 0) {
-                    for (int i = 1; i < pathConfig.getBranchCount(); i++) { // pathConfig.branchPoints[0]은 시작점이므로 실제 분기점은 1부터
-                        if (currentStep == pathConfig.getBranchPoint(i)) {
-                            startedFromOuterBranch = true;
-                            nextPath = i; // 해당 지름길 경로 인덱스로 변경
-                            nextStep = move - 1; // 지름길 내부는 0부터 시작 (예: '도'는 0번 칸)
-                            System.out.printf("분기점 출발->지름길 진입: ID %d, 외곽S%d -> P%d S%d (이동량:%d)\n",
-                                    pieceToMove.getId(), currentStep, nextPath, nextStep, move);
-                            break;
-                        }
-                    }
-                }
-
-                // 시나리오 2 & 3: 분기점에서 출발하지 않았거나, 이미 지름길에 있는 경우
-                if (!startedFromOuterBranch) {
-                    if (currentPath == 0) { // 외곽 경로에서 일반 이동 중 분기점 도착 확인
-                        int potentialOuterLandingStep = currentStep + move;
-                        boolean landedExactlyOnBranch = false;
-                        for (int i = 1; i < pathConfig.getBranchCount(); i++) {
-                            if (potentialOuterLandingStep == pathConfig.getBranchPoint(i)) {
-                                nextPath = 0; // 외곽 경로 유지
-                                nextStep = potentialOuterLandingStep; // 분기점에 멈춤
-                                stoppedAtBranchThisMove = true; // 현재 윷 이동은 여기서 종료 (대기)
-                                landedExactlyOnBranch = true;
-                                System.out.printf("분기점 도착 및 대기: ID %d, 외곽S%d -> 외곽S%d (이동량:%d)\n",
-                                        pieceToMove.getId(), currentStep, nextStep, move);
-                                break;
-                            }
-                        }
-                        if (!landedExactlyOnBranch) { // 분기점에 멈추지 않았다면 일반 외곽 이동
-                            nextPath = 0;
-                            nextStep = potentialOuterLandingStep;
-                        }
-                    } else { // 지름길(currentPath > 0)에서 계속 이동
-                        nextPath = currentPath; // 현재 지름길 경로 유지 (탈출 전까지)
-                        nextStep = currentStep + move;
-                    }
-                }
-
-                // 전진 이동 시, 분기점 대기가 아니라면 추가 경로 규칙(중앙,탈출,완주) 적용
-                if (!stoppedAtBranchThisMove) {
-                    int tempPath = nextPath; // 위에서 계산된 경로/단계를 임시 변수에 할당
-                    int tempStep = nextStep;
-
-                    // 지름길 위에서의 로직
-                    if (tempPath > 0) { // 현재 계산된 위치가 지름길인 경우
-                        // 중앙 노드(갈림길 합류점) 도착 시, 합류 후의 지름길로 경로 변경
-                        if (tempPath != pathConfig.getMergeShortcut() && tempStep == pathConfig.getMergeStep()) {
-                            System.out.printf("중앙 노드 도착(지름길): ID %d, P%d S%d -> P%d (합류지름길) S%d 유지\n",
-                                    pieceToMove.getId(), tempPath, tempStep, pathConfig.getMergeShortcut(), tempStep);
-                            tempPath = pathConfig.getMergeShortcut();
-                        }
-
-                        // 지름길 완주 및 외곽 경로로 복귀
-                        // 주의: tempPath가 위에서 mergeShortcut으로 변경되었을 수 있으므로, 변경 후의 tempPath를 기준으로 길이 체크
-                        if (tempPath > 0 && tempStep >= pathConfig.getShortcutLength()) {
-                            int overshotSteps = tempStep - pathConfig.getShortcutLength();
-                            // 어떤 지름길(nextPath)에서 탈출하는지 명확히 하기 위해, 탈출 전 지름길 인덱스(nextPath)를 사용
-                            int targetOuterStep = pathConfig.getExitOffset(nextPath);
-
-                            System.out.printf("지름길 탈출: ID %d, 원래P%d S%d -> 외곽P0 S%d (목표S%d + 초과%d)\n",
-                                    pieceToMove.getId(), nextPath, tempStep, (targetOuterStep + overshotSteps), targetOuterStep, overshotSteps);
-                            tempPath = 0; // 외곽 경로로 변경
-                            tempStep = targetOuterStep + overshotSteps;
-                        }
-                    }
-
-                    // 외곽 경로 위에서의 로직 또는 지름길 탈출 후 외곽 경로에서의 로직
-                    if (tempPath == 0) {
-                        if (tempStep >= totalOuterSteps) { // 완주 (골인)
-                            System.out.printf("완주(외곽): ID %d, P%d S%d\n", pieceToMove.getId(), tempPath, tempStep);
-                            pieceToMove.setFinished(true);
-                        }
-                    }
-                    // 규칙 적용된 경로/단계를 nextPath/nextStep에 최종 반영
-                    nextPath = tempPath;
-                    nextStep = tempStep;
-                }
-            } // end of 전진 처리 (move > 0)
+                    id, pieces.getPath(cur, id), pieces.getStep(cur, id), move, yutResult.toString());
 
             // 최종 위치 업데이트
-            if (pieceToMove.isFinished()) {
-                pieceToMove.setPathIndex(-1);
-                pieceToMove.setStepIndex(-1);
+            if (destNode == BoardGraph.FINISH) {
+                pieces.setFinished(cur, id, true);
+                pieces.setPosition(cur, id, -1, -1);
             } else {
-                pieceToMove.setPathIndex(nextPath);
-                pieceToMove.setStepIndex(nextStep);
+                pieces.setPosition(cur, id, board.pathOf(destNode), board.stepOf(destNode));
             }
 
             System.out.printf("이동 후 최종: ID %d, P%d S%d, 완주:%b\n",
-                    pieceToMove.getId(), pieceToMove.getPathIndex(), pieceToMove.getStepIndex(), pieceToMove.isFinished());
-
-        } // end of for (Piece pieceToMove : groupToMove)
-
+                    id, pieces.getPath(cur, id), pieces.getStep(cur, id), pieces.isFinished(cur, id));
+        }
 
         // --- 잡기 (Capture) ---
-        // 이동 후 기준 좌표: 그룹 내 첫 번째 살아있는 말의 최종 위치
-        int finalPathForAction = -1, finalStepForAction = -1;
-        Piece firstAlivePieceInGroup = null;
-        for (Piece p : groupToMove) {
-            if (!p.isFinished()) {
-                firstAlivePieceInGroup = p;
-                finalPathForAction = p.getPathIndex();
-                finalStepForAction = p.getStepIndex();
-                break;
-            }
-        }
+        // 이동 후 기준 좌표: 그룹은 함께 움직이므로 완주하지 않았다면 모두 도착 칸에 있다
+        int finalPathForAction = destNode == BoardGraph.FINISH ? -1 : board.pathOf(destNode);
+        int finalStepForAction = destNode == BoardGraph.FINISH ? -1 : board.stepOf(destNode);
 
         boolean capturedOpponentPiece = false;
-        if (finalPathForAction != -1 && firstAlivePieceInGroup != null) { // 그룹의 어떤 말이든 아직 말판 위에 있다면
-            // 그리고 그 위치가 특수 지역(예: 시작점 0,0에서 잡기 불가 등)이 아닌 경우에만 잡기
-            // 잡을 수 있는 위치인지 확인 (예: 상대방 말이 있는 곳에 도착해야 함)
+        if (finalPathForAction != -1) { // 그룹이 아직 말판 위에 있다면
             // 윷놀이 규칙상, 상대방 말이 없는 빈칸에 도착하면 잡는 것이 아님.
             // 따라서, finalPathForAction, finalStepForAction에 상대방 말이 "있는지" 확인해야 함.
-            for (Player opponent : players) {
-                if (opponent == current) continue;
-
-                List<Piece> opponentPiecesToReset = new ArrayList<>(); // 동시 수정 오류 방지
-                for (Piece opPiece : opponent.getPieces()) {
-                    if (!opPiece.isFinished() && opPiece.getPathIndex() == finalPathForAction && opPiece.getStepIndex() == finalStepForAction) {
-                        opponentPiecesToReset.add(opPiece);
-                    }
-                }
-
-                if (!opponentPiecesToReset.isEmpty()) {
-                    capturedOpponentPiece = true;
-                    for (Piece opPieceToReset : opponentPiecesToReset) {
-                        System.out.printf("말 잡힘!: P%d의 말 ID%d (소유자 %s)이 P%d에게 P%d S%d에서 잡힘\n",
-                                opponent.getId(), opPieceToReset.getId(), opPieceToReset.getOwner().getColor(), current.getId(), finalPathForAction, finalStepForAction);
-                        opPieceToReset.setPathIndex(-1); // 시작 지점으로 돌아감 (말판 밖 대기)
-                        opPieceToReset.setStepIndex(-1);
-                        opPieceToReset.setFinished(false); // 잡힌 경우 완료 상태가 아님을 명확히 함
-                        opPieceToReset.setGrouped(false); // 업힌 상태 리셋
-                    }
+            for (int op = 0; op < players.size(); op++) {
+                if (op == cur) continue;
+                int opponentPiecesToReset = pieces.piecesAt(op, finalPathForAction, finalStepForAction);
+                if (opponentPiecesToReset == 0) continue;
+
+                capturedOpponentPiece = true;
+                Player opponent = players.get(op);
+                for (int m = opponentPiecesToReset; m != 0; m &= m - 1) {
+                    int opId = Integer.numberOfTrailingZeros(m);
+                    System.out.printf("말 잡힘!: P%d의 말 ID%d (소유자 %s)이 P%d에게 P%d S%d에서 잡힘\n",
+                            opponent.getId(), opId, opponent.getColor(), current.getId(), finalPathForAction, finalStepForAction);
+                    pieces.setPosition(op, opId, -1, -1); // 시작 지점으로 돌아감 (말판 밖 대기)
+                    pieces.setFinished(op, opId, false); // 잡힌 경우 완료 상태가 아님을 명확히 함
+                    pieces.setGrouped(op, opId, false); // 업힌 상태 리셋
                 }
             }
         }
 
-        // --- 잡기 성공 시 처리 ---
-        if (capturedOpponentPiece) {
-            throwCount++; // 한 번 더 던질 기회 획득
+        // --- 잡기 성공 시 처리 (잡으면 한 번 더 던지는 규칙일 때) ---
+        if (capturedOpponentPiece && captureBonus > 0) {
+            throwCount += captureBonus; // 한 번 더 던질 기회 획득
             currentPhase = phase.THROW; // 단계를 THROW로 다시 전환
             this.lastTurnEvent = TurnEvent.CAPTURE_OCCURRED; // '말 잡기' 이벤트 발생 기록
             System.out.println("상대 말 잡음! 한 번 더 던지기. 남은 던질 기회: " + throwCount); //
         }
 
         // --- 업기 (Grouping) ---
-        if (finalPathForAction != -1 && firstAlivePieceInGroup != null && !capturedOpponentPiece) { // 상대 말을 잡은 위치에서는 업기 불가
-            int piecesAtLocation = 0;
-            for (Piece myPiece : current.getPieces()) {
-                if (!myPiece.isFinished() && myPiece.getPathIndex() == finalPathForAction && myPiece.getStepIndex() == finalStepForAction) {
-                    piecesAtLocation++;
-                }
-            }
-            boolean isNowGrouped = piecesAtLocation > 1;
-            for (Piece myPiece : current.getPieces()) {
-                if (!myPiece.isFinished() && myPiece.getPathIndex() == finalPathForAction && myPiece.getStepIndex() == finalStepForAction) {
-                    myPiece.setGrouped(isNowGrouped);
-                    // if(isNowGrouped) System.out.println("말 ID " + myPiece.getId() + "이(가) " + finalPathForAction + "," + finalStepForAction + "에서 업힘(총 " + piecesAtLocation + "개).");
-                }
+        if (finalPathForAction != -1 && !capturedOpponentPiece) { // 상대 말을 잡은 위치에서는 업기 불가
+            int piecesAtLocation = pieces.piecesAt(cur, finalPathForAction, finalStepForAction);
+            boolean isNowGrouped = Integer.bitCount(piecesAtLocation) > 1;
+            for (int m = piecesAtLocation; m != 0; m &= m - 1) {
+                pieces.setGrouped(cur, Integer.numberOfTrailingZeros(m), isNowGrouped);
             }
         }
 
 
         // --- 다음 턴 또는 추가 던지기 ---
-        if (isGameOver()) {
+        if (pieces.allFinished(cur)) {
+            winner = current; // 승자 설정
             System.out.println("Player " + current.getId() + "님이 모든 말을 완주시켰습니다! 게임 종료.");
             currentPhase = phase.THROW; // 게임 종료 상태로 두지만, UI에서 버튼 비활성화 등 처리
             // GameController에서 winner를 view에 알리고 UI를 최종 업데이트해야 함.
-            return;
+            return true;
         }
 
         // 윷/모를 던졌거나 말을 잡아서 추가 기회가 생긴 경우가 아니면서, 현재 이동할 윷 결과가 다 떨어졌으면 턴 넘김
@@ -424,6 +263,34 @@ public class GameState {
             System.out.println("적용할 윷 결과가 남아있습니다. Phase: MOVE");
         }
         // currentPhase가 THROW가 되었다면 (잡기 또는 보류된 던지기 때문), THROW 상태 유지.
+        return true;
+    }
+
+    /** 낙 적용: 윷이 판 밖으로 나가 던질 기회만 쓰고 결과는 없다 */
+    public void applyNak() {
+        this.lastTurnEvent = TurnEvent.NAK_THROWN;
+        if (currentPhase != phase.THROW) return;
+        throwCount--;
+        if (throwCount == 0) {
+            if (lastThrow.isEmpty()) nextTurn(); // 쓸 결과가 없으면 턴 넘김
+            else currentPhase = phase.MOVE;
+        }
+    }
+
+    /**
+     * 턴 진행 상태 복원 (세션 복구용). 말 위치는 Piece setter로 따로 복원한다.
+     * @param winnerIndex 승자 인덱스, 없으면 -1
+     */
+    void restore(int currentIndex, phase phase, int throwCount, List<Yut.Result> pending,
+                 TurnEvent turnEvent, int winnerIndex) {
+        this.currentPlayerIndex = currentIndex;
+        this.currentPhase = phase;
+        this.throwCount = throwCount;
+        this.lastThrow.clear();
+        this.lastThrow.addAll(pending);
+        this.lastTurnEvent = turnEvent;
+        this.winner = winnerIndex < 0 ? null : players.get(winnerIndex);
+        this.select = 0;
     }
 
     /** 턴 넘기기 */
@@ -434,16 +301,10 @@ public class GameState {
     }
 
     /**
-     * 게임 종료 여부 확인
-     * @return 모든 말이 완주했으면 true
+     * 게임 종료 여부 확인 (상태를 바꾸지 않음, 승자는 movePiece에서 정해진다)
+     * @return 승자가 정해졌으면 true
      */
     public boolean isGameOver() {
-        for (Piece p : getCurrentPlayer().getPieces()) {
-            if (!p.isFinished()) {
-                return false;
-            }
-        }
-        this.winner = getCurrentPlayer(); // 승자 설정
-        return true;
+        return winner != null;
     }
 }
\ No newline at end of file
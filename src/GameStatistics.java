@@ -0,0 +1,293 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * 게임 이벤트 흐름을 기본형 배열 히스토그램으로 집계하는 누산기.
+ * 스레드마다 하나씩 두고 마지막에 merge로 합친다 (스레드 안전하지 않음).
+ *
+ * 집계 항목:
+ * - 게임 길이(턴 수), 게임당 잡기 횟수 분포
+ * - 분기점별 지름길 진입 횟수 (판 종류별)
+ * - 1번 칸 빽도 완주 횟수와, 그것을 사용한 플레이어의 승률
+ * - 판 종류 x 인원 x 말 개수별 첫 번째 플레이어 승률 (기준값 1/인원과 비교)
+ *
+ * 인원과 말 개수는 MAX_PLAYERS, MAX_PIECES - 1 이상을 마지막 칸에 함께 센다.
+ */
+public class GameStatistics implements GameEventSink {
+    private static final int MAX_TURN_BUCKET = 512;
+    private static final int MAX_CAPTURE_BUCKET = 128;
+    private static final PlayConfig.BoardType[] BOARD_TYPES = PlayConfig.BoardType.values();
+    private static final int MAX_PLAYERS = 4;
+    private static final int MAX_PIECES = 6;
+
+    // 게임 단위
+    private long games;
+    private long unfinishedGames;
+    private long moves;
+    private final long[] turnHistogram = new long[MAX_TURN_BUCKET];
+    private final long[] captureHistogram = new long[MAX_CAPTURE_BUCKET];
+    private final long[][][] gamesByConfig = new long[BOARD_TYPES.length][MAX_PLAYERS + 1][MAX_PIECES];    // [판][인원][말 수]
+    private final long[][][] firstPlayerWins = new long[BOARD_TYPES.length][MAX_PLAYERS + 1][MAX_PIECES];
+
+    // 지름길 진입 [판 종류][분기점 노드]
+    private final long[][] shortcutEntries = new long[BOARD_TYPES.length][];
+
+    // 1번 칸 빽도 완주
+    private long backDoFinishes;
+    private long gamesWithBackDoFinish;
+    private long backDoFinisherWins;
+
+    // 진행 중인 게임 상태
+    private PlayConfig.BoardType boardType;
+    private BoardGraph board;
+    private int playerCount;
+    private int pieceCount;
+    private int captures;
+    private int backDoPlayers;                  // 이번 게임에서 빽도 완주한 플레이어 비트마스크
+    private int stepOneNode;
+
+    public GameStatistics() {
+        for (PlayConfig.BoardType type : BOARD_TYPES) {
+            shortcutEntries[type.ordinal()] = new long[BoardGraph.forType(type).getNodeCount()];
+        }
+    }
+
+    // --- 이벤트 ---
+
+    @Override
+    public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+        this.boardType = boardType;
+        this.board = BoardGraph.forType(boardType);
+        this.playerCount = playerCount;
+        this.pieceCount = pieceCount;
+        this.captures = 0;
+        this.backDoPlayers = 0;
+        this.stepOneNode = board.nodeOf(0, 1);
+    }
+
+    @Override
+    public void thrown(int player, Yut.Result result) { }
+
+    @Override
+    public void moved(int player, Yut.Result result, int from, int to, int captured) {
+        moves++;
+        captures += captured;
+        if (from >= 0 && board.isBranch(from) && to >= 0 && board.pathOf(to) != 0) {
+            shortcutEntries[boardType.ordinal()][from]++;
+        }
+        if (result == Yut.Result.빽도 && from == stepOneNode && to == BoardGraph.FINISH) {
+            backDoFinishes++;
+            backDoPlayers |= 1 << player;
+        }
+    }
+
+    @Override
+    public void turnEnded(int player) { }
+
+    @Override
+    public void gameEnded(int winner, int turns) {
+        games++;
+        turnHistogram[Math.min(turns, MAX_TURN_BUCKET - 1)]++;
+        captureHistogram[Math.min(captures, MAX_CAPTURE_BUCKET - 1)]++;
+        if (winner < 0) {
+            unfinishedGames++;
+            return;
+        }
+        int b = boardType.ordinal();
+        int pl = playerBucket(playerCount), pc = pieceBucket(pieceCount);
+        gamesByConfig[b][pl][pc]++;
+        if (winner == 0) firstPlayerWins[b][pl][pc]++;
+        if (backDoPlayers != 0) {
+            gamesWithBackDoFinish++;
+            if ((backDoPlayers & (1 << winner)) != 0) backDoFinisherWins++;
+        }
+    }
+
+    // --- 합치기 ---
+
+    /** 다른 누산기의 값을 더한다 */
+    public void merge(GameStatistics other) {
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        moves += other.moves;
+        add(turnHistogram, other.turnHistogram);
+        add(captureHistogram, other.captureHistogram);
+        for (int b = 0; b < BOARD_TYPES.length; b++) {
+            for (int pl = 0; pl <= MAX_PLAYERS; pl++) {
+                add(gamesByConfig[b][pl], other.gamesByConfig[b][pl]);
+                add(firstPlayerWins[b][pl], other.firstPlayerWins[b][pl]);
+            }
+            add(shortcutEntries[b], other.shortcutEntries[b]);
+        }
+        backDoFinishes += other.backDoFinishes;
+        gamesWithBackDoFinish += other.gamesWithBackDoFinish;
+        backDoFinisherWins += other.backDoFinisherWins;
+    }
+
+    private static void add(long[] into, long[] from) {
+        for (int i = 0; i < into.length; i++) into[i] += from[i];
+    }
+
+    // --- 조회 ---
+
+    public long getGames() { return games; }
+    public long getMoves() { return moves; }
+    public long getBackDoFinishes() { return backDoFinishes; }
+
+    /** 평균 게임 길이 (턴) */
+    public double meanTurns() { return mean(turnHistogram); }
+    /** 게임당 평균 잡기 횟수 */
+    public double meanCaptures() { return mean(captureHistogram); }
+
+    /** 승자가 난 게임 수 (설정별) */
+    public long finishedGames(PlayConfig.BoardType type, int playerCount, int pieceCount) {
+        return gamesByConfig[type.ordinal()][playerBucket(playerCount)][pieceBucket(pieceCount)];
+    }
+
+    /** 첫 번째 플레이어 승률 (해당 설정의 게임이 없으면 NaN) */
+    public double firstPlayerWinRate(PlayConfig.BoardType type, int playerCount, int pieceCount) {
+        int b = type.ordinal(), pl = playerBucket(playerCount), pc = pieceBucket(pieceCount);
+        long n = gamesByConfig[b][pl][pc];
+        return n == 0 ? Double.NaN : firstPlayerWins[b][pl][pc] / (double) n;
+    }
+
+    /** 첫 번째 플레이어 이점: 승률 - 1/인원 (해당 설정의 게임이 없으면 NaN) */
+    public double firstPlayerAdvantage(PlayConfig.BoardType type, int playerCount, int pieceCount) {
+        return firstPlayerWinRate(type, playerCount, pieceCount) - 1.0 / playerCount;
+    }
+
+    private static int playerBucket(int playerCount) {
+        return Math.max(1, Math.min(playerCount, MAX_PLAYERS));
+    }
+
+    private static int pieceBucket(int pieceCount) {
+        return Math.max(0, Math.min(pieceCount, MAX_PIECES - 1));
+    }
+
+    /** 분기점 노드별 지름길 진입 횟수 */
+    public long shortcutEntries(PlayConfig.BoardType type, int branchNode) {
+        return shortcutEntries[type.ordinal()][branchNode];
+    }
+
+    private static double mean(long[] histogram) {
+        long n = 0;
+        double sum = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            n += histogram[i];
+            sum += (double) i * histogram[i];
+        }
+        return n == 0 ? 0 : sum / n;
+    }
+
+    /** 히스토그램 백분위 (버킷 번호) */
+    private static int percentile(long[] histogram, double q) {
+        long n = 0;
+        for (long c : histogram) n += c;
+        long target = (long) Math.ceil(q * n);
+        long acc = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            acc += histogram[i];
+            if (acc >= target && acc > 0) return i;
+        }
+        return 0;
+    }
+
+    // --- 보고서 ---
+
+    /** CSV 보고서: metric,board,key,value */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("metric,board,key,value\n");
+        row(out, "games", "", "", games);
+        row(out, "unfinished_games", "", "", unfinishedGames);
+        row(out, "moves", "", "", moves);
+        for (int i = 0; i < turnHistogram.length; i++) {
+            if (turnHistogram[i] > 0) row(out, "game_length_turns", "", String.valueOf(i), turnHistogram[i]);
+        }
+        for (int i = 0; i < captureHistogram.length; i++) {
+            if (captureHistogram[i] > 0) row(out, "captures_per_game", "", String.valueOf(i), captureHistogram[i]);
+        }
+        for (PlayConfig.BoardType type : BOARD_TYPES) {
+            BoardGraph g = BoardGraph.forType(type);
+            for (int node = 0; node < g.getNodeCount(); node++) {
+                if (g.isBranch(node)) {
+                    row(out, "shortcut_entries", type.name(), g.pathOf(node) + ":" + g.stepOf(node),
+                            shortcutEntries[type.ordinal()][node]);
+                }
+            }
+            for (int pl = 1; pl <= MAX_PLAYERS; pl++) {
+                for (int pc = 0; pc < MAX_PIECES; pc++) {
+                    long n = gamesByConfig[type.ordinal()][pl][pc];
+                    if (n == 0) continue;
+                    String key = pl + ":" + pc;             // 인원:말 수
+                    row(out, "first_player_games", type.name(), key, n);
+                    row(out, "first_player_wins", type.name(), key, firstPlayerWins[type.ordinal()][pl][pc]);
+                }
+            }
+        }
+        row(out, "backdo_finishes", "", "", backDoFinishes);
+        row(out, "games_with_backdo_finish", "", "", gamesWithBackDoFinish);
+        row(out, "backdo_finisher_wins", "", "", backDoFinisherWins);
+    }
+
+    private static void row(Writer out, String metric, String board, String key, long value) throws IOException {
+        out.write(metric + "," + board + "," + key + "," + value + "\n");
+    }
+
+    /** JSON 보고서 (요약 값과 분포) */
+    public void writeJson(Writer out) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"games\": ").append(games).append(",\n");
+        sb.append("  \"unfinishedGames\": ").append(unfinishedGames).append(",\n");
+        sb.append("  \"moves\": ").append(moves).append(",\n");
+        sb.append("  \"gameLength\": {\"mean\": ").append(fmt(meanTurns()))
+                .append(", \"p50\": ").append(percentile(turnHistogram, 0.5))
+                .append(", \"p90\": ").append(percentile(turnHistogram, 0.9))
+                .append(", \"p99\": ").append(percentile(turnHistogram, 0.99)).append("},\n");
+        sb.append("  \"capturesPerGame\": {\"mean\": ").append(fmt(meanCaptures()))
+                .append(", \"p50\": ").append(percentile(captureHistogram, 0.5))
+                .append(", \"p90\": ").append(percentile(captureHistogram, 0.9)).append("},\n");
+        sb.append("  \"backDoFinish\": {\"count\": ").append(backDoFinishes)
+                .append(", \"games\": ").append(gamesWithBackDoFinish)
+                .append(", \"finisherWinRate\": ")
+                .append(fmt(gamesWithBackDoFinish == 0 ? 0 : backDoFinisherWins / (double) gamesWithBackDoFinish))
+                .append("},\n");
+        sb.append("  \"boards\": {");
+        boolean firstBoard = true;
+        for (PlayConfig.BoardType type : BOARD_TYPES) {
+            BoardGraph g = BoardGraph.forType(type);
+            sb.append(firstBoard ? "\n" : ",\n");
+            firstBoard = false;
+            sb.append("    \"").append(type.name()).append("\": {\"shortcutEntries\": {");
+            boolean first = true;
+            for (int node = 0; node < g.getNodeCount(); node++) {
+                if (!g.isBranch(node)) continue;
+                sb.append(first ? "" : ", ").append('"').append(g.pathOf(node)).append(':').append(g.stepOf(node))
+                        .append("\": ").append(shortcutEntries[type.ordinal()][node]);
+                first = false;
+            }
+            sb.append("}, \"firstPlayer\": {");
+            first = true;
+            for (int pl = 1; pl <= MAX_PLAYERS; pl++) {
+                for (int pc = 0; pc < MAX_PIECES; pc++) {
+                    long n = gamesByConfig[type.ordinal()][pl][pc];
+                    if (n == 0) continue;
+                    sb.append(first ? "" : ", ").append('"').append(pl).append(':').append(pc)
+                            .append("\": {\"games\": ").append(n)
+                            .append(", \"winRate\": ").append(fmt(firstPlayerWinRate(type, pl, pc)))
+                            .append(", \"baseline\": ").append(fmt(1.0 / pl))
+                            .append(", \"advantage\": ").append(fmt(firstPlayerAdvantage(type, pl, pc))).append('}');
+                    first = false;
+                }
+            }
+            sb.append("}}");
+        }
+        sb.append("\n  }\n}\n");
+        out.write(sb.toString());
+    }
+
+    private static String fmt(double v) {
+        return String.format(Locale.ROOT, "%.4f", v);
+    }
+}
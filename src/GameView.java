@@ -1,7 +1,16 @@
 import java.util.List;
 
 public interface GameView {
-    void updateBoard(GameState state);
+    /** 화면 없는 뷰: 모든 호출을 무시한다 (세션 복구, 다시 보기 색인, 테스트/벤치마크용) */
+    GameView HEADLESS = new GameView() {
+        @Override public void updateBoard(GameSnapshot snapshot) { }
+        @Override public void showThrowResult(Yut.Result result) { }
+        @Override public void showWinner(Player winner) { }
+        @Override public void closeGameView() { }
+        @Override public void showInitialSetup() { }
+    };
+
+    void updateBoard(GameSnapshot snapshot);    // 불변 스냅샷으로 보드 표시
     void showThrowResult(Yut.Result result);    // 윷결과 표시 메소드
     void showWinner(Player winner);             // 승리자 표시 메소드
     void closeGameView();                       // 현재 게임 뷰를 닫는 메소드
@@ -0,0 +1,42 @@
+import java.util.List;
+
+/**
+ * 상대 말을 잡거나 남은 칸 수를 가장 줄이는 이동을 고르는 봇
+ */
+public class GreedyBot implements Bot {
+    private static final int CAPTURE_BONUS = 30;   // 잡은 말 하나의 가치 (칸 수 환산)
+
+    @Override
+    public String getName() { return "greedy"; }
+
+    @Override
+    public Move choose(Position pos, List<Yut.Result> pending) {
+        int player = pos.getCurrent();
+        Move best = null;
+        int bestScore = Integer.MIN_VALUE;
+        for (int i = 0; i < pending.size(); i++) {
+            Yut.Result r = pending.get(i);
+            for (int from : pos.legalMoves(r)) {
+                Position after = pos.copy();
+                int score = CAPTURE_BONUS * after.apply(from, r) - remainingSteps(after, player);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = new Move(i, from);
+                }
+            }
+        }
+        return best;
+    }
+
+    /** 플레이어의 모든 말이 완주까지 남은 칸 수 합 */
+    static int remainingSteps(Position pos, int player) {
+        BoardGraph board = pos.getBoard();
+        int total = 0;
+        for (int i = 0; i < pos.getPieceCount(); i++) {
+            int node = pos.nodeOf(player, i);
+            if (node == Position.WAITING) total += board.distanceToGoal(board.startNode());
+            else if (node >= 0) total += board.distanceToGoal(node);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,110 @@
+import javax.swing.ImageIcon;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 화면 이미지(img/) 공유 캐시.
+ * ImageIcon(URL)은 파일을 읽고 디코딩이 끝날 때까지 호출한 스레드를 막으므로,
+ * 설정 화면(FirstPage)이 떠 있는 동안 preloadAsync()로 게임 화면에 쓰는 이미지를 백그라운드에서 병렬로 미리 읽어 둔다.
+ * 같은 경로는 한 번만 읽고, 게임을 다시 시작해도 다시 읽지 않는다.
+ *
+ * get()은 읽기가 끝나기를 기다리고 (아직 요청되지 않은 경로는 호출한 스레드에서 바로 읽음),
+ * getNow()는 기다리지 않고 준비된 경우에만 돌려준다 (배경처럼 없어도 그릴 수 있는 이미지용).
+ */
+public final class IconCache {
+    public static final String IMG_ROOT = "img/";
+    public static final String BACKGROUND = IMG_ROOT + "background.png";
+    private static final String[] COLORS = {"blue", "red", "green", "yellow"};
+    private static final int MAX_STACK = 5;
+    private static final Map<String, CompletableFuture<ImageIcon>> CACHE = new ConcurrentHashMap<>();
+
+    private IconCache() { }
+
+    /** 미리 읽기 작업 스레드 (데몬, 처음 쓸 때 생성) */
+    private static final class Loader {
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())), r -> {
+                    Thread t = new Thread(r, "icon-preload");
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);         // EDT의 첫 화면 그리기를 방해하지 않게
+                    return t;
+                });
+    }
+
+    /** 게임 화면이 쓰는 이미지 경로 (배경, 칸, 플레이어 아이콘, 말 스택 1~MAX_STACK) */
+    static List<String> boardImages() {
+        List<String> paths = new ArrayList<>();
+        paths.add(BACKGROUND);
+        paths.add(IMG_ROOT + "startcircle.jpg");
+        paths.add(IMG_ROOT + "bigcircle.jpg");
+        paths.add(IMG_ROOT + "circle.jpg");
+        for (String color : COLORS) {
+            paths.add(IMG_ROOT + color + ".jpg");
+            for (int stack = 1; stack <= MAX_STACK; stack++) {
+                paths.add(IMG_ROOT + color + stack + ".jpg");
+                paths.add(IMG_ROOT + "big" + color + stack + ".jpg");
+            }
+        }
+        return paths;
+    }
+
+    /** 게임 화면 이미지를 모두 백그라운드에서 읽기 시작 (바로 반환, 여러 번 불러도 한 번만 읽음) */
+    public static void preloadAsync() {
+        for (String path : boardImages()) request(path);
+    }
+
+    /** 경로의 이미지 읽기 요청 (이미 요청된 경로면 그 작업을 돌려줌) */
+    public static CompletableFuture<ImageIcon> request(String path) {
+        CompletableFuture<ImageIcon> future = CACHE.get(path);
+        if (future != null) return future;
+        CompletableFuture<ImageIcon> created = new CompletableFuture<>();
+        future = CACHE.putIfAbsent(path, created);
+        if (future != null) return future;
+        Loader.EXECUTOR.execute(() -> complete(created, path));
+        return created;
+    }
+
+    /**
+     * 이미지 (읽기가 끝날 때까지 기다림)
+     * @return 리소스가 없거나 읽지 못하면 null
+     */
+    public static ImageIcon get(String path) {
+        CompletableFuture<ImageIcon> future = CACHE.get(path);
+        if (future == null) {
+            CompletableFuture<ImageIcon> created = new CompletableFuture<>();
+            future = CACHE.putIfAbsent(path, created);
+            if (future == null) {                               // 미리 읽지 않은 경로: 여기서 바로 읽음
+                complete(created, path);
+                future = created;
+            }
+        }
+        return future.join();
+    }
+
+    /** 이미 읽힌 이미지 (아직이면 읽기를 요청하고 null) */
+    public static ImageIcon getNow(String path) {
+        return request(path).getNow(null);
+    }
+
+    private static void complete(CompletableFuture<ImageIcon> future, String path) {
+        try {
+            future.complete(load(path));
+        } catch (RuntimeException e) {
+            System.err.println("이미지 읽기 실패: " + path + " (" + e.getMessage() + ")");
+            future.complete(null);
+        }
+    }
+
+    private static ImageIcon load(String path) {
+        URL url = IconCache.class.getClassLoader().getResource(path);
+        if (url == null) return null;
+        ImageIcon icon = new ImageIcon(url);                    // 디코딩이 끝날 때까지 막힘
+        return icon.getIconWidth() > 0 ? icon : null;
+    }
+}
@@ -0,0 +1,62 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR 방식(로그-선형 버킷) 지연 시간 히스토그램.
+ * 2의 거듭제곱 구간마다 SUB_BUCKETS개로 나누어 상대 오차 약 1/SUB_BUCKETS 안에서 값을 센다.
+ * 기록은 잠금 없이 원자적 덧셈 한 번이다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /** 값 하나 기록 (나노초, 음수는 0으로 취급) */
+    public void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;   // 0 이상
+        int sub = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** 버킷의 대표값(하한) */
+    static long valueOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << shift;
+    }
+
+    public long getCount() {
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) n += counts.get(i);
+        return n;
+    }
+
+    /** 분위값 (q = 0~1), 기록이 없으면 0 */
+    public long percentile(double q) {
+        long n = getCount();
+        if (n == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(q * n));
+        long acc = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            acc += counts.get(i);
+            if (acc >= target) return valueOf(i);
+        }
+        return valueOf(BUCKETS - 1);
+    }
+
+    public long getMax() {
+        for (int i = BUCKETS - 1; i >= 0; i--) if (counts.get(i) > 0) return valueOf(i);
+        return 0;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+    }
+}
@@ -0,0 +1,142 @@
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 이동 힌트 엔진.
+ * 남은 윷 결과를 쓰는 이동 순서를 제한 시간 안에서 TurnPlanner로 탐색해
+ * 분석 모델 승률(TurnPlanner.analytic)이 가장 높은 계획의 첫 이동을 추천한다.
+ *
+ * 탐색은 전용 백그라운드 스레드에서 반복 심화(계획할 결과 수 1개, 2개, ...)로 진행하며,
+ * 제한 시간이 지나면 마지막으로 끝난 깊이의 답을 돌려준다.
+ * 새 요청이 들어오거나 cancel()을 호출하면 세대 번호가 바뀌어 이전 탐색은 바로 중단되고 결과도 버려진다.
+ */
+public class MoveHintEngine {
+    public static final long DEFAULT_BUDGET_MILLIS = 80;  // 탐색 제한 시간 (응답 100ms 이내 목표)
+
+    private final BoardGraph board;
+    private final RuleSet rules;
+    private final TurnPlanner planner;
+    private final long budgetNanos;
+    private final ExecutorService worker;
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 추천 이동 (불변) */
+    public static final class Hint {
+        private final long version;
+        private final int resultIndex;
+        private final Yut.Result result;
+        private final int from;
+        private final int to;
+        private final double score;
+        private final int depth;
+
+        Hint(long version, int resultIndex, Yut.Result result, int from, int to, double score, int depth) {
+            this.version = version;
+            this.resultIndex = resultIndex;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.score = score;
+            this.depth = depth;
+        }
+
+        /** 힌트를 계산한 스냅샷 버전 */
+        public long getVersion() { return version; }
+        /** 사용할 윷 결과의 인덱스 (남은 결과 목록 기준) */
+        public int getResultIndex() { return resultIndex; }
+        public Yut.Result getResult() { return result; }
+        /** 출발 노드 또는 Position.DEPLOY (새 말 꺼내기) */
+        public int getFrom() { return from; }
+        /** 도착 노드 또는 BoardGraph.FINISH */
+        public int getTo() { return to; }
+        /** 현재 플레이어의 예상 승률 */
+        public double getScore() { return score; }
+        /** 끝까지 탐색한 이동 수 */
+        public int getDepth() { return depth; }
+        public boolean isDeploy() { return from == Position.DEPLOY; }
+    }
+
+    public MoveHintEngine(BoardGraph board) {
+        this(board, RuleSet.standard());
+    }
+
+    /** @param board 규칙을 적용해 컴파일한 윷판 (PlayConfig.getBoardGraph) */
+    public MoveHintEngine(BoardGraph board, RuleSet rules) {
+        this(board, rules, TimeUnit.MILLISECONDS.toNanos(DEFAULT_BUDGET_MILLIS));
+    }
+
+    public MoveHintEngine(BoardGraph board, long budgetNanos) {
+        this(board, RuleSet.standard(), budgetNanos);
+    }
+
+    public MoveHintEngine(BoardGraph board, RuleSet rules, long budgetNanos) {
+        this.board = board;
+        this.rules = rules;
+        this.planner = new TurnPlanner(TurnPlanner.analytic(board, rules));
+        this.budgetNanos = budgetNanos;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "move-hint");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 스냅샷에 대한 힌트를 백그라운드에서 계산한다 (진행 중인 이전 요청은 취소).
+     * 말을 옮길 차례가 아니면 아무것도 하지 않는다.
+     * @param callback 힌트 스레드에서 호출된다. 그 사이 새 요청이나 취소가 있었으면 호출되지 않는다.
+     */
+    public void request(GameSnapshot snapshot, Consumer<Hint> callback) {
+        long id = generation.incrementAndGet();
+        if (snapshot.isGameOver() || snapshot.getPhase() != GameState.phase.MOVE) return;
+        Position pos = Position.of(snapshot, board, rules);
+        List<Yut.Result> pending = snapshot.getPendingThrows();
+        long version = snapshot.getVersion();
+        worker.execute(() -> {
+            BooleanSupplier stale = () -> generation.get() != id;
+            if (stale.getAsBoolean()) return;
+            Hint hint = search(pos, pending, version, System.nanoTime() + budgetNanos, stale);
+            if (hint != null && !stale.getAsBoolean()) callback.accept(hint);
+        });
+    }
+
+    /** 진행 중인 힌트 계산 취소 */
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /** 힌트 스레드 종료 */
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    /**
+     * 현재 플레이어의 추천 이동 (호출한 스레드에서 계산)
+     * @param deadline System.nanoTime() 기준 마감 시각
+     * @param cancelled true를 돌려주면 탐색 중단
+     * @return 둘 수 있는 이동이 없거나 첫 깊이도 끝내기 전에 취소되면 null
+     */
+    Hint search(Position pos, List<Yut.Result> pending, long version, long deadline, BooleanSupplier cancelled) {
+        // 첫 깊이는 마감 시각과 관계없이 끝까지 (취소만 확인)
+        BooleanSupplier expired = () -> System.nanoTime() > deadline || cancelled.getAsBoolean();
+        TurnPlanner.Plan best = null;
+        int bestDepth = 0;
+        for (int depth = 1; depth <= pending.size(); depth++) {
+            TurnPlanner.Plan plan = planner.plan(pos, pending, depth, depth == 1 ? cancelled : expired);
+            if (plan == null) break;            // 중단됨: 이전 깊이의 답 사용
+            best = plan;
+            bestDepth = depth;
+            if (plan.getSteps().isEmpty()) break;   // 둘 수 있는 이동이 없음
+        }
+        if (best == null || best.getSteps().isEmpty()) return null;
+        TurnPlanner.Step first = best.getSteps().get(0);
+        return new Hint(version, pending.indexOf(first.getResult()), first.getResult(),
+                first.getFrom(), first.getTo(), best.getScore(), bestDepth);
+    }
+}
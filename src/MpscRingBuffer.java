@@ -0,0 +1,63 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 다중 생산자 / 단일 소비자 고정 크기 링 버퍼.
+ * 칸마다 시퀀스 번호를 두어 생산자는 tail CAS 한 번으로 칸을 예약하고,
+ * 소비자는 잠금 없이 순서대로 꺼낸다. (한 시점에 poll을 부르는 스레드는 하나여야 한다)
+ */
+public class MpscRingBuffer<T> {
+    private final Object[] slots;
+    private final AtomicLongArray sequence;   // 칸 상태: == 위치면 빈 칸, == 위치+1이면 채워진 칸
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;               // 소비자만 쓴다
+
+    /** @param capacity 칸 수 (2의 거듭제곱으로 올림) */
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Object[size];
+        this.sequence = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) sequence.set(i, i);
+    }
+
+    /** 항목 추가, 가득 차 있으면 false */
+    public boolean offer(T item) {
+        while (true) {
+            long t = tail.get();
+            int index = (int) t & mask;
+            long diff = sequence.get(index) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots[index] = item;
+                    sequence.set(index, t + 1);   // 항목 공개
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 예약함, 다시 시도
+        }
+    }
+
+    /** 맨 앞 항목을 꺼낸다, 없으면 null (아직 쓰는 중인 칸도 없는 것으로 본다) */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long h = head;
+        int index = (int) h & mask;
+        if (sequence.get(index) != h + 1) return null;
+        T item = (T) slots[index];
+        slots[index] = null;
+        sequence.set(index, h + slots.length);   // 다음 바퀴용으로 비움
+        head = h + 1;
+        return item;
+    }
+
+    /** 비어 있는지 (생산자 스레드에서도 호출 가능) */
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    public int capacity() { return slots.length; }
+}
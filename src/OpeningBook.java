@@ -0,0 +1,227 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첫 몇 턴의 정석(opening book).
+ * 출발 위치에서 나올 수 있는 한 턴 결과 묶음(TurnOutcomes)마다 TurnPlanner의 최선 계획을 미리 구하고,
+ * 계획의 각 단계를 (위치 해시, 남은 결과 묶음, 판) 키 -> 둘 수 (결과, 출발 노드)로 파일에 저장한다.
+ * 계획대로 둔 다음 위치에서 다음 플레이어의 턴을 같은 방식으로 펼치며, 누적 확률이 작은 갈래는 버린다.
+ *
+ * 파일은 열린 주소 해시 표(선형 탐사, 항목 16바이트)이고 메모리 매핑으로 읽으므로 조회는 O(1)이다.
+ * shared()는 처음 쓸 때 한 번만 파일을 매핑한다 (없으면 빈 정석).
+ * 기본 규칙과 기본 정다각형 판에서 만든 수이므로, 다른 규칙이나 판에서는 찾지 않고
+ * 찾은 수도 둘 수 있는 수인지 확인한 뒤 돌려준다 (해시 충돌이나 업기 제한 규칙 대비).
+ */
+public final class OpeningBook {
+    public static final String PATH_PROPERTY = "yut.openingBook";
+    public static final String DEFAULT_PATH = "opening.book";
+    public static final int DEFAULT_TURNS = 4;
+    public static final double DEFAULT_MIN_PROBABILITY = 1e-4;
+    private static final int MAGIC = 0x594F4231;              // "YOB1"
+    private static final int HEADER_BYTES = 16;               // magic, 칸 수, 항목 수, 예비
+    private static final int SLOT_BYTES = 16;                 // 키, 값
+    private static final Yut.Result[] RESULTS = Yut.Result.values();
+    private static final OpeningBook EMPTY = new OpeningBook(null, 0);
+
+    private final ByteBuffer table;
+    private final int mask;
+
+    private OpeningBook(ByteBuffer table, int slots) {
+        this.table = table;
+        this.mask = slots - 1;
+    }
+
+    /** 지연 로딩 보관 (처음 shared()를 부를 때 매핑) */
+    private static final class Holder {
+        static final OpeningBook SHARED = load();
+
+        private static OpeningBook load() {
+            Path path = Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_PATH));
+            if (!Files.isRegularFile(path)) return EMPTY;
+            try {
+                return open(path);
+            } catch (IOException e) {
+                System.err.println("정석 파일을 읽지 못했습니다: " + path + " (" + e.getMessage() + ")");
+                return EMPTY;
+            }
+        }
+    }
+
+    /** 기본 경로(시스템 속성 yut.openingBook, 없으면 opening.book)의 정석 */
+    public static OpeningBook shared() { return Holder.SHARED; }
+
+    /** 빈 정석 (항상 찾지 못함) */
+    public static OpeningBook empty() { return EMPTY; }
+
+    /** 저장된 정석 열기 (메모리 매핑) */
+    public static OpeningBook open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            int slots = buf.getInt(4);
+            if (buf.getInt(0) != MAGIC || Integer.bitCount(slots) != 1
+                    || ch.size() != HEADER_BYTES + (long) slots * SLOT_BYTES) {
+                throw new IOException("정석 파일이 아닙니다: " + file);
+            }
+            return new OpeningBook(buf, slots);
+        }
+    }
+
+    /** 저장된 수 개수 */
+    public int size() { return table == null ? 0 : table.getInt(8); }
+
+    /**
+     * 정석 수 (없으면 null)
+     * @param pending 남은 윷 결과 (순서 무관, 돌려주는 인덱스는 이 목록 기준)
+     */
+    public Bot.Move lookup(Position pos, List<Yut.Result> pending) {
+        if (table == null || !isRegularBoard(pos.getBoard()) || !RuleSet.standard().equals(pos.getRules())) return null;
+        int[] counts = new int[RESULTS.length];
+        for (Yut.Result r : pending) counts[r.ordinal()]++;
+        long key = key(pos, counts);
+        for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+            int at = HEADER_BYTES + slot * SLOT_BYTES;
+            long k = table.getLong(at);
+            if (k == 0) return null;
+            if (k != key) continue;
+            long value = table.getLong(at + 8);
+            Yut.Result result = RESULTS[(int) value & 0xFF];
+            int from = (int) (value >>> 8 & 0xFFFF) - 1;
+            for (int legal : pos.legalMoves(result)) {
+                if (legal == from) return new Bot.Move(pending.indexOf(result), from);
+            }
+            return null;
+        }
+    }
+
+    private static boolean isRegularBoard(BoardGraph board) {
+        for (PlayConfig.BoardType type : PlayConfig.BoardType.values()) {
+            if (board == BoardGraph.forType(type)) return true;
+        }
+        return false;
+    }
+
+    /** (위치, 남은 결과 묶음, 판) 키 (0은 빈 칸 표시라 쓰지 않음) */
+    static long key(Position pos, int[] counts) {
+        long packed = 0;
+        for (int c : counts) packed = (packed << 4) | Math.min(c, 15);
+        long z = pos.hash() ^ (packed << 8 | pos.getBoard().getNodeCount()) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 29)) * 0xBF58476D1CE4E5B9L;
+        z ^= z >>> 32;
+        return z == 0 ? 1 : z;
+    }
+
+    // --- 만들기 ---
+
+    /**
+     * 설정마다 첫 turns턴을 펼쳐 정석 파일을 만든다
+     * @param minProbability 출발 위치부터의 누적 확률이 이보다 작은 턴은 펼치지 않음
+     * @return 저장한 수 개수
+     */
+    public static int build(List<PlayConfig> configs, int turns, double minProbability, Path file)
+            throws IOException {
+        Map<Long, Long> entries = new HashMap<>();
+        TurnOutcomes outcomes = TurnOutcomes.of(RuleSet.standard());
+        for (PlayConfig config : configs) {
+            BoardGraph board = BoardGraph.forType(config.getBoardType());
+            TurnPlanner planner = new TurnPlanner(TurnPlanner.analytic(board));
+            Map<Long, Position> frontier = new HashMap<>();
+            Map<Long, Double> reach = new HashMap<>();
+            Position start = new Position(board, config.getPlayerCount(), config.getPieceCount());
+            frontier.put(start.hash(), start);
+            reach.put(start.hash(), 1.0);
+            for (int turn = 0; turn < turns; turn++) {
+                Map<Long, Position> next = new HashMap<>();
+                Map<Long, Double> nextReach = new HashMap<>();
+                for (Map.Entry<Long, Position> e : frontier.entrySet()) {
+                    double p = reach.get(e.getKey());
+                    for (TurnOutcomes.Outcome o : outcomes.getOutcomes()) {
+                        if (p * o.getProbability() < minProbability) break;     // 확률 큰 순서
+                        Position after = playTurn(e.getValue(), o, planner, entries);
+                        after.nextTurn();
+                        next.putIfAbsent(after.hash(), after);
+                        nextReach.merge(after.hash(), p * o.getProbability(), Double::sum);
+                    }
+                }
+                frontier = next;
+                reach = nextReach;
+            }
+        }
+        write(entries, file);
+        return entries.size();
+    }
+
+    /** 한 턴을 계획대로 두며 단계마다 정석 항목을 남기고, 턴이 끝난 위치를 돌려준다 */
+    private static Position playTurn(Position pos, TurnOutcomes.Outcome outcome, TurnPlanner planner,
+                                     Map<Long, Long> entries) {
+        Position cursor = pos.copy();
+        List<Yut.Result> pending = outcome.getResults();
+        int player = cursor.getCurrent();
+        // 기본 규칙: 판 위에 말이 없을 때 빽도가 나오면 그 턴은 그대로 넘어간다
+        if (pending.contains(Yut.Result.빽도) && !cursor.hasPieceOnBoard(player)) return cursor;
+        if (pending.isEmpty() || cursor.isWinner(player)) return cursor;
+
+        TurnPlanner.Plan plan = planner.plan(cursor, pending);
+        int[] counts = new int[RESULTS.length];
+        for (Yut.Result r : pending) counts[r.ordinal()]++;
+        for (TurnPlanner.Step step : plan.getSteps()) {
+            long value = (step.getFrom() + 1L) << 8 | step.getResult().ordinal();
+            entries.putIfAbsent(key(cursor, counts), value);
+            cursor.apply(step.getFrom(), step.getResult());
+            counts[step.getResult().ordinal()]--;
+        }
+        return cursor;
+    }
+
+    /** 열린 주소 해시 표로 저장 (채움률 1/2 이하, 임시 파일에 쓴 뒤 교체) */
+    private static void write(Map<Long, Long> entries, Path file) throws IOException {
+        int slots = Integer.highestOneBit(Math.max(2, entries.size()) * 2 - 1) << 1;
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + slots * SLOT_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(0, MAGIC);
+        buf.putInt(4, slots);
+        buf.putInt(8, entries.size());
+        for (Map.Entry<Long, Long> e : entries.entrySet()) {
+            int slot = (int) (long) e.getKey() & (slots - 1);
+            while (buf.getLong(HEADER_BYTES + slot * SLOT_BYTES) != 0) slot = (slot + 1) & (slots - 1);
+            buf.putLong(HEADER_BYTES + slot * SLOT_BYTES, e.getKey());
+            buf.putLong(HEADER_BYTES + slot * SLOT_BYTES + 8, e.getValue());
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) ch.write(buf);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 모든 판 종류, 2~4명, 2~5말의 정석 파일 만들기.
+     * 사용법: java OpeningBook [파일] [턴 수] [최소 누적 확률]
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : DEFAULT_PATH);
+        int turns = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TURNS;
+        double minProbability = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MIN_PROBABILITY;
+        List<PlayConfig> configs = new ArrayList<>();
+        for (PlayConfig.BoardType type : PlayConfig.BoardType.values()) {
+            for (int players = 2; players <= 4; players++) {
+                for (int pieces = 2; pieces <= 5; pieces++) configs.add(new PlayConfig(players, pieces, type));
+            }
+        }
+        long start = System.nanoTime();
+        int count = build(configs, turns, minProbability, file);
+        System.out.printf("정석 %d수, %d바이트, %.1f초%n", count, Files.size(file), (System.nanoTime() - start) / 1e9);
+    }
+}
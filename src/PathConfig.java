@@ -1,9 +1,10 @@
 /**
  * 판 종류별 경로(branching, merging, exit) 설정
+ * 실제 경로 정보는 BoardGraph 정의에서 읽어 온다.
  */
 public class PathConfig {
-    private final PlayConfig.BoardType boardType;
-    private final int[] branchPoints;    // 외곽 경로에서 지름길 진입 스텝
+    private final BoardGraph graph;
+    private final int[] branchPoints;    // 외곽 경로에서 지름길 진입 스텝 (0번은 출발점)
     private final int mergeShortcut;     // 중앙 합류 후 진입할 지름길 인덱스
     private final int mergeStep;         // 중앙 합류 지점의 단계 인덱스
     private final int[] exitOffsets;     // 지름길 종료 후 외곽 경로 복귀 보정값
@@ -11,37 +12,39 @@ public class PathConfig {
     private final int shortcutLengths;   // 지름길 최대 단계 수
 
     public PathConfig(PlayConfig.BoardType boardType) {
-        this.boardType = boardType;
-        switch (boardType) {
-            case SQUARE:
-                branchPoints    = new int[]{0, 5, 10};
-                mergeShortcut   = 2;
-                mergeStep       = 2;
-                exitOffsets     = new int[]{0, 15, 20};
-                outerLength     = 20;
-                shortcutLengths = 5;
-                break;
-            case PENTAGON:
-                branchPoints    = new int[]{0, 5, 10, 15};
-                mergeShortcut   = 3;
-                mergeStep       = 2;
-                exitOffsets     = new int[]{0, 20, 20, 25};
-                outerLength     = 25;
-                shortcutLengths = 5;
-                break;
-            case HEXAGON:
-                branchPoints    = new int[]{0, 5, 10, 15, 20};
-                mergeShortcut   = 4;
-                mergeStep       = 2;
-                exitOffsets     = new int[]{0, 25, 25, 25, 30};
-                outerLength     = 30;
-                shortcutLengths = 5;
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown board type");
+        this(BoardGraph.forType(boardType));
+    }
+
+    public PathConfig(BoardGraph graph) {
+        this.graph = graph;
+        int paths = graph.getPathCount();
+        this.outerLength = graph.getPathLength(0);
+        this.shortcutLengths = paths > 1 ? graph.getPathLength(1) : 0;
+        this.branchPoints = new int[paths];
+        this.exitOffsets = new int[paths];
+
+        int mShortcut = paths - 1;
+        int mStep = shortcutLengths / 2;
+        for (int p = 1; p < paths; p++) {
+            int first = graph.nodeOf(p, 0);
+            int last = graph.nodeOf(p, graph.getPathLength(p) - 1);
+            branchPoints[p] = graph.stepOf(graph.backOf(first));
+            int exit = graph.nextOf(last);
+            exitOffsets[p] = (exit == BoardGraph.FINISH) ? outerLength : graph.stepOf(exit);
+            for (int s = 0; s < graph.getPathLength(p); s++) {
+                int target = graph.mergeOf(graph.nodeOf(p, s));
+                if (target >= 0) {
+                    mShortcut = graph.pathOf(target);
+                    mStep = graph.stepOf(target);
+                }
+            }
         }
+        this.mergeShortcut = mShortcut;
+        this.mergeStep = mStep;
     }
 
+    /** 경로 정의 그래프 */
+    public BoardGraph getGraph() { return graph; }
     /** 지름길 진입 단계 수 */
     public int getBranchCount() { return branchPoints.length; }
     /** 특정 지름길 진입 지점 */
@@ -1,36 +1,32 @@
 /**
- * 게임 말(Piece) 정보
+ * 게임 말(Piece) 정보.
+ * 상태는 소유자의 PieceStore 배열에 있고, 이 객체는 (플레이어, 말 번호)를 가리키는 뷰이다.
  */
 public class Piece {
     private final int id;            // 말 ID
     private final Player owner;      // 소유자
 
-    private int pathIndex;           // 경로 인덱스(0=외곽,1~=지름길)
-    private int stepIndex;           // 경로상 단계 인덱스
-    private int stack;               // 업힌 말 개수
-
-    private boolean grouped;         // 그룹핑 여부
-    private boolean finished;        // 완주 여부
-
     public Piece(int id, Player owner) {
         this.id = id;
         this.owner = owner;
-        this.pathIndex = -1;
-        this.stepIndex = -1;
-        this.stack = 1;
-        this.grouped = false;
-        this.finished = false;
     }
 
     public int getId() { return id; }
     public Player getOwner() { return owner; }
-    public int getPathIndex() { return pathIndex; }
-    public void setPathIndex(int pathIndex) { this.pathIndex = pathIndex; }
-    public int getStepIndex() { return stepIndex; }
-    public void setStepIndex(int stepIndex) { this.stepIndex = stepIndex; }
-    public boolean isGrouped() { return grouped; }
-    public int getStack() { return stack; }
-    public void setGrouped(boolean grouped) { this.grouped = grouped; }
-    public boolean isFinished() { return finished; }
-    public void setFinished(boolean finished) { this.finished = finished; }
-}
\ No newline at end of file
+    /** 경로 인덱스(0=외곽,1~=지름길) */
+    public int getPathIndex() { return store().getPath(owner.getIndex(), id); }
+    public void setPathIndex(int pathIndex) { store().setPath(owner.getIndex(), id, pathIndex); }
+    /** 경로상 단계 인덱스 */
+    public int getStepIndex() { return store().getStep(owner.getIndex(), id); }
+    public void setStepIndex(int stepIndex) { store().setStep(owner.getIndex(), id, stepIndex); }
+    /** 그룹핑 여부 */
+    public boolean isGrouped() { return store().isGrouped(owner.getIndex(), id); }
+    /** 업힌 말 개수 (업힘은 isGrouped로 표시하며 개별 말은 항상 1) */
+    public int getStack() { return 1; }
+    public void setGrouped(boolean grouped) { store().setGrouped(owner.getIndex(), id, grouped); }
+    /** 완주 여부 */
+    public boolean isFinished() { return store().isFinished(owner.getIndex(), id); }
+    public void setFinished(boolean finished) { store().setFinished(owner.getIndex(), id, finished); }
+
+    private PieceStore store() { return owner.getStore(); }
+}
@@ -0,0 +1,128 @@
+import java.util.Arrays;
+
+/**
+ * 한 게임의 말 상태 저장소 (배열 구조).
+ * 말 하나당 객체를 두는 대신 [플레이어 * pieceCount + 말] 위치의 기본형 배열에 경로/단계를 두고,
+ * 완주/업힘 여부는 플레이어별 비트마스크(말 번호 = 비트 번호)로 둔다.
+ * 규칙 처리에서 말을 훑을 때 힙의 객체를 따라가지 않고 연속된 배열만 읽는다.
+ * 판 위 말 비트마스크는 위치/완주가 바뀔 때 함께 갱신하므로 승리, 판 위 말 여부,
+ * 대기 말 수는 상수 시간 조회이다.
+ * Player/Piece는 이 저장소를 가리키는 뷰이다.
+ */
+public final class PieceStore {
+    public static final int MAX_PIECES = 32;    // 비트마스크 폭
+
+    private final int playerCount;
+    private final int pieceCount;
+    private final int allPieces;                // 말 전체 비트마스크
+    private final int[] path;                   // 경로 인덱스 (-1 = 판 밖)
+    private final int[] step;                   // 경로상 단계 인덱스 (-1 = 판 밖)
+    private final int[] finished;               // [플레이어] 완주한 말 비트마스크
+    private final int[] grouped;                // [플레이어] 업힌 말 비트마스크
+    private final int[] onBoard;                // [플레이어] 판 위(경로 != -1, 완주 전) 말 비트마스크
+    private final int[] modCount;               // [플레이어] 말 상태 변경 횟수
+
+    public PieceStore(int playerCount, int pieceCount) {
+        if (pieceCount > MAX_PIECES) throw new IllegalArgumentException("말 개수가 너무 많음: " + pieceCount);
+        this.playerCount = playerCount;
+        this.pieceCount = pieceCount;
+        this.allPieces = pieceCount == 32 ? -1 : (1 << pieceCount) - 1;
+        this.path = new int[playerCount * pieceCount];
+        this.step = new int[playerCount * pieceCount];
+        Arrays.fill(path, -1);
+        Arrays.fill(step, -1);
+        this.finished = new int[playerCount];
+        this.grouped = new int[playerCount];
+        this.onBoard = new int[playerCount];
+        this.modCount = new int[playerCount];
+    }
+
+    public int getPlayerCount() { return playerCount; }
+    public int getPieceCount() { return pieceCount; }
+    /** 말 전체 비트마스크 */
+    public int allPieces() { return allPieces; }
+
+    // --- 말 하나 ---
+
+    public int getPath(int player, int piece) { return path[player * pieceCount + piece]; }
+    public int getStep(int player, int piece) { return step[player * pieceCount + piece]; }
+    public boolean isFinished(int player, int piece) { return (finished[player] & (1 << piece)) != 0; }
+    public boolean isGrouped(int player, int piece) { return (grouped[player] & (1 << piece)) != 0; }
+
+    public void setPath(int player, int piece, int value) {
+        path[player * pieceCount + piece] = value;
+        updateOnBoard(player, piece);
+        modCount[player]++;
+    }
+
+    public void setStep(int player, int piece, int value) {
+        step[player * pieceCount + piece] = value;
+        modCount[player]++;
+    }
+
+    /** 위치를 한 번에 설정 */
+    public void setPosition(int player, int piece, int pathValue, int stepValue) {
+        int i = player * pieceCount + piece;
+        path[i] = pathValue;
+        step[i] = stepValue;
+        updateOnBoard(player, piece);
+        modCount[player]++;
+    }
+
+    public void setFinished(int player, int piece, boolean value) {
+        if (value) finished[player] |= 1 << piece;
+        else finished[player] &= ~(1 << piece);
+        updateOnBoard(player, piece);
+        modCount[player]++;
+    }
+
+    public void setGrouped(int player, int piece, boolean value) {
+        if (value) grouped[player] |= 1 << piece;
+        else grouped[player] &= ~(1 << piece);
+        modCount[player]++;
+    }
+
+    /** 말 하나의 판 위 비트 다시 계산 */
+    private void updateOnBoard(int player, int piece) {
+        int bit = 1 << piece;
+        if (path[player * pieceCount + piece] != -1 && (finished[player] & bit) == 0) onBoard[player] |= bit;
+        else onBoard[player] &= ~bit;
+    }
+
+    // --- 플레이어 단위 ---
+
+    /** 완주한 말 비트마스크 */
+    public int finishedMask(int player) { return finished[player]; }
+    /** 업힌 말 비트마스크 */
+    public int groupedMask(int player) { return grouped[player]; }
+    /** 판 위 말 비트마스크 */
+    public int onBoardMask(int player) { return onBoard[player]; }
+    /** 대기 중인(판 밖, 완주 전) 말 비트마스크 */
+    public int waitingMask(int player) { return allPieces & ~(onBoard[player] | finished[player]); }
+    /** 말 상태 변경 횟수 (스냅샷 재사용 판단) */
+    public int getModCount(int player) { return modCount[player]; }
+
+    /** 모든 말이 완주했는지 */
+    public boolean allFinished(int player) { return finished[player] == allPieces; }
+
+    /** 완주하지 않았고 (path, step)에 있는 말 비트마스크 */
+    public int piecesAt(int player, int pathValue, int stepValue) {
+        int mask = 0;
+        int notFinished = ~finished[player];
+        for (int i = 0, base = player * pieceCount; i < pieceCount; i++) {
+            if (path[base + i] == pathValue && step[base + i] == stepValue && (notFinished & (1 << i)) != 0) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /** 판 위(완주 전, 판 밖 아님)에 말이 하나라도 있는지 */
+    public boolean hasPieceOnBoard(int player) { return onBoard[player] != 0; }
+
+    /** 대기 중인 말 개수 (판에 아직 올라가지 않은 말) */
+    public int waitingCount(int player) { return Integer.bitCount(waitingMask(player)); }
+
+    /** 완주한 말 개수 */
+    public int finishedCount(int player) { return Integer.bitCount(finished[player]); }
+}
@@ -0,0 +1,29 @@
+import java.util.List;
+
+/**
+ * 남은 윷 결과 전체의 최선 이동 순서(TurnPlanner)를 구해 그 첫 이동을 두는 봇.
+ * 첫 몇 턴은 정석(OpeningBook)에 있으면 탐색 없이 바로 둔다.
+ */
+public class PlannerBot implements Bot {
+    private final OpeningBook book;
+    private TurnPlanner planner;                    // 첫 호출 때 판과 규칙에 맞춰 생성
+
+    public PlannerBot() {
+        this(OpeningBook.shared());
+    }
+
+    public PlannerBot(OpeningBook book) {
+        this.book = book;
+    }
+
+    @Override
+    public String getName() { return "planner"; }
+
+    @Override
+    public Move choose(Position pos, List<Yut.Result> pending) {
+        Move opening = book.lookup(pos, pending);
+        if (opening != null) return opening;
+        if (planner == null) planner = new TurnPlanner(TurnPlanner.analytic(pos.getBoard(), pos.getRules()));
+        return planner.plan(pos, pending).firstMove(pending);
+    }
+}
@@ -2,11 +2,19 @@
  * 게임 설정 정보
  */
 public class PlayConfig {
-    public enum BoardType { SQUARE, PENTAGON, HEXAGON }
+    public enum BoardType {
+        SQUARE(4), PENTAGON(5), HEXAGON(6), OCTAGON(8), DODECAGON(12);
+
+        private final int sides;    // 변의 수
+        BoardType(int sides) { this.sides = sides; }
+        public int getSides() { return sides; }
+    }
 
     private int playerCount;    // 플레이어 수 (2~4)
     private int pieceCount;     // 말 개수 (2~5)
     private BoardType boardType; // 판 종류
+    private BoardGraph customBoard; // 정의 파일로 불러온 윷판 (null이면 boardType 기본 판)
+    private RuleSet ruleSet = RuleSet.standard(); // 집마다 다른 규칙
 
     /** 기본 생성자: 2명, 2말, 사각형 */
     public PlayConfig() {
@@ -46,6 +54,8 @@ public class PlayConfig {
             case "사각형": this.boardType = BoardType.SQUARE;   break;
             case "오각형": this.boardType = BoardType.PENTAGON; break;
             case "육각형": this.boardType = BoardType.HEXAGON;  break;
+            case "팔각형": this.boardType = BoardType.OCTAGON;  break;
+            case "십이각형": this.boardType = BoardType.DODECAGON; break;
             default:
                 throw new IllegalArgumentException("알 수 없는 판 종류: " + label);
         }
@@ -53,4 +63,18 @@ public class PlayConfig {
     public void setBoardType(BoardType boardType) {
         this.boardType = boardType;
     }
+
+    /** 정의 파일로 불러온 윷판 지정 (null이면 판 종류 기본 판 사용) */
+    public void setCustomBoard(BoardGraph customBoard) { this.customBoard = customBoard; }
+
+    public RuleSet getRuleSet() { return ruleSet; }
+    public void setRuleSet(RuleSet ruleSet) {
+        if (ruleSet == null) throw new IllegalArgumentException("규칙이 지정되지 않았습니다.");
+        this.ruleSet = ruleSet;
+    }
+
+    /** 게임에 사용할 윷판 그래프 (규칙을 적용해 컴파일한 이동 표) */
+    public BoardGraph getBoardGraph() {
+        return ruleSet.compile(customBoard != null ? customBoard : BoardGraph.forType(boardType));
+    }
 }
\ No newline at end of file
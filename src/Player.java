@@ -1,21 +1,34 @@
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * 플레이어 정보
+ * 플레이어 정보.
+ * 말 상태는 게임 단위 PieceStore에 있고, getPieces()의 Piece는 그 저장소를 가리키는 뷰이다.
  */
 public class Player {
     private final int id;                // 플레이어 ID
     private final String color;          // 말 색상
-    private final List<Piece> pieces;    // 소유한 말 리스트
+    private final PieceStore store;      // 말 상태 저장소 (게임 전체 공유)
+    private final int index;             // 저장소에서의 플레이어 번호
+    private final List<Piece> pieces;    // 소유한 말 (뷰)
 
+    /** 혼자 쓰는 저장소를 가진 플레이어 */
     public Player(int id, String name, int pieceCount) {
+        this(id, name, new PieceStore(1, pieceCount), 0);
+    }
+
+    /** 게임 저장소의 index번 플레이어 */
+    Player(int id, String name, PieceStore store, int index) {
         this.id = id;
         this.color = getColorName(id);
-        this.pieces = new ArrayList<>();
-        for (int i = 0; i < pieceCount; i++) {
-            pieces.add(new Piece(i, this));
+        this.store = store;
+        this.index = index;
+        List<Piece> list = new ArrayList<>();
+        for (int i = 0; i < store.getPieceCount(); i++) {
+            list.add(new Piece(i, this));
         }
+        this.pieces = Collections.unmodifiableList(list);
     }
 
     private String getColorName(int id) {
@@ -31,4 +44,10 @@ public class Player {
     public int getId() { return id; }
     public String getColor() { return color; }
     public List<Piece> getPieces() { return pieces; }
-}
\ No newline at end of file
+    /** 말 상태 변경 횟수 */
+    public int getModCount() { return store.getModCount(index); }
+    /** 말 상태 저장소 */
+    public PieceStore getStore() { return store; }
+    /** 저장소에서의 플레이어 번호 */
+    public int getIndex() { return index; }
+}
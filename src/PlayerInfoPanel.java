@@ -0,0 +1,106 @@
+import javax.swing.*;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+
+/**
+ * 정보 패널의 플레이어 한 명 칸 (한 번 만들어 두고 계속 재사용).
+ * 새 스냅샷이 오면 값이 바뀐 라벨/막대만 그 자리에서 고친다.
+ * 스냅샷은 말 상태가 바뀌지 않은 플레이어의 PlayerSnapshot 객체를 그대로 공유하므로,
+ * 같은 객체가 다시 오면 말 관련 라벨은 비교도 하지 않고 넘어간다.
+ * EDT에서만 사용한다.
+ */
+public class PlayerInfoPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final int playerId;
+    private final String color;
+    private final int pieceCount;
+    private final TitledBorder border;
+    private final Color defaultTitleColor;
+    private final JLabel waitingLabel;
+    private final JLabel finishedLabel;
+    private final JProgressBar winBar;
+
+    // 마지막으로 표시한 값 (처음에는 어떤 값과도 다르게)
+    private GameSnapshot.PlayerSnapshot shown;
+    private int shownWaiting = -1;
+    private int shownFinished = -1;
+    private int shownPercent = -1;
+    private boolean shownCurrent;
+
+    /**
+     * @param icon       플레이어 말 이미지
+     * @param pieceCount 플레이어당 말 개수 (완주 표시용)
+     */
+    public PlayerInfoPanel(GameSnapshot.PlayerSnapshot player, Icon icon, int pieceCount) {
+        this.playerId = player.getId();
+        this.color = player.getColor();
+        this.pieceCount = pieceCount;
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        // 플레이어 ID와 색상을 제목으로 사용
+        border = BorderFactory.createTitledBorder("Player " + playerId + " (" + color + ")");
+        defaultTitleColor = border.getTitleColor();
+        setBorder(border);
+        setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        JLabel iconLabel = new JLabel(icon);
+        iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        add(iconLabel);
+        add(Box.createRigidArea(new Dimension(0, 5)));
+
+        waitingLabel = new JLabel();
+        waitingLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        add(waitingLabel);
+
+        finishedLabel = new JLabel();
+        finishedLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        add(finishedLabel);
+
+        winBar = new JProgressBar(0, 100);
+        winBar.setStringPainted(true);
+        winBar.setAlignmentX(Component.CENTER_ALIGNMENT);
+        add(winBar);
+    }
+
+    public int getPlayerId() { return playerId; }
+    public String getColor() { return color; }
+
+    /**
+     * 바뀐 값만 화면에 반영
+     * @param current 현재 턴 플레이어인지 (제목 색으로 표시)
+     * @param percent 예상 승률 (0~100)
+     * @return 하나라도 바뀌었으면 true
+     */
+    public boolean update(GameSnapshot.PlayerSnapshot player, boolean current, int percent) {
+        boolean changed = false;
+        if (player != shown) {
+            shown = player;
+            int waiting = player.waitingCount();
+            if (waiting != shownWaiting) {
+                shownWaiting = waiting;
+                waitingLabel.setText("대기 중인 말: " + waiting);
+                changed = true;
+            }
+            int finished = player.finishedCount();
+            if (finished != shownFinished) {
+                shownFinished = finished;
+                finishedLabel.setText("완주한 말: " + finished + " / " + pieceCount); // 전체 말 개수 함께 표시
+                changed = true;
+            }
+        }
+        if (percent != shownPercent) {
+            shownPercent = percent;
+            winBar.setValue(percent);
+            winBar.setString("예상 승률 " + percent + "%");
+            changed = true;
+        }
+        if (current != shownCurrent) {
+            shownCurrent = current;
+            // 테두리 제목은 컴포넌트가 아니므로 색만 바꾸고 이 칸만 다시 그림
+            border.setTitleColor(current ? Color.BLUE : defaultTitleColor);
+            repaint();
+            changed = true;
+        }
+        return changed;
+    }
+}
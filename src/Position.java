@@ -0,0 +1,272 @@
+import java.util.Arrays;
+
+/**
+ * 탐색/시뮬레이션용 압축 게임 위치.
+ * 말마다 노드 번호 하나(WAITING = 대기, BoardGraph.FINISH = 완주)만 저장하고
+ * GameState와 같은 이동/잡기/업기 규칙을 로그 출력 없이 적용한다.
+ * 플레이어별 판 위/완주 말 비트마스크를 이동할 때 함께 갱신하므로
+ * 승리, 판 위 말 여부, 대기 말 수 조회는 말을 훑지 않고 상수 시간에 답한다.
+ * 규칙(RuleSet)은 이동 표(board)와 생성 시 받아 둔 업기 제한으로 반영된다.
+ */
+public final class Position {
+    public static final int WAITING = -1;   // 판에 올라가지 않은 말
+    public static final int DEPLOY = -1;    // 이동 선택지: 새 말 꺼내기
+
+    private final BoardGraph board;
+    private final RuleSet rules;
+    private final int playerCount;
+    private final int pieceCount;
+    private final int[] nodes;              // [플레이어 * pieceCount + 말] -> 노드
+    private final int allPieces;            // 말 전체 비트마스크
+    private final int[] onBoard;            // [플레이어] 판 위 말 비트마스크 (노드 >= 0)
+    private final int[] finished;           // [플레이어] 완주한 말 비트마스크
+    private final int stackLimit;           // 한 칸에 업을 수 있는 최대 말 수
+    private final boolean stackLimited;     // stackLimit이 말 개수보다 작은지 (아니면 확인 생략)
+    private int current;                    // 현재 턴 플레이어
+
+    public Position(BoardGraph board, int playerCount, int pieceCount) {
+        this(board, playerCount, pieceCount, RuleSet.standard());
+    }
+
+    /** @param board 규칙을 적용해 컴파일한 윷판 (RuleSet.compile) */
+    public Position(BoardGraph board, int playerCount, int pieceCount, RuleSet rules) {
+        this.board = board;
+        this.rules = rules;
+        this.playerCount = playerCount;
+        this.pieceCount = pieceCount;
+        this.nodes = new int[playerCount * pieceCount];
+        Arrays.fill(nodes, WAITING);
+        this.allPieces = (int) ((1L << pieceCount) - 1);
+        this.onBoard = new int[playerCount];
+        this.finished = new int[playerCount];
+        this.stackLimit = rules.stackLimit(pieceCount);
+        this.stackLimited = stackLimit < pieceCount;
+    }
+
+    private Position(Position other) {
+        this.board = other.board;
+        this.rules = other.rules;
+        this.playerCount = other.playerCount;
+        this.pieceCount = other.pieceCount;
+        this.nodes = other.nodes.clone();
+        this.allPieces = other.allPieces;
+        this.onBoard = other.onBoard.clone();
+        this.finished = other.finished.clone();
+        this.stackLimit = other.stackLimit;
+        this.stackLimited = other.stackLimited;
+        this.current = other.current;
+    }
+
+    /** GameState의 현재 말 배치로부터 생성 */
+    public static Position of(GameState state) {
+        BoardGraph board = state.getBoard();
+        java.util.List<Player> players = state.getPlayers();
+        int pieces = players.get(0).getPieces().size();
+        Position pos = new Position(board, players.size(), pieces, state.getRules());
+        for (int pl = 0; pl < players.size(); pl++) {
+            for (Piece p : players.get(pl).getPieces()) {
+                int node;
+                if (p.isFinished()) node = BoardGraph.FINISH;
+                else if (p.getPathIndex() < 0) node = WAITING;
+                else node = board.nodeOf(p.getPathIndex(), p.getStepIndex());
+                pos.setNode(pl, p.getId(), node);
+            }
+        }
+        pos.current = players.indexOf(state.getCurrentPlayer());
+        return pos;
+    }
+
+    /** 불변 스냅샷의 말 배치로부터 생성 (기본 규칙) */
+    public static Position of(GameSnapshot snapshot, BoardGraph board) {
+        return of(snapshot, board, RuleSet.standard());
+    }
+
+    /** 불변 스냅샷의 말 배치로부터 생성 */
+    public static Position of(GameSnapshot snapshot, BoardGraph board, RuleSet rules) {
+        java.util.List<GameSnapshot.PlayerSnapshot> players = snapshot.getPlayers();
+        int pieces = players.get(0).getPieceCount();
+        Position pos = new Position(board, players.size(), pieces, rules);
+        for (int pl = 0; pl < players.size(); pl++) {
+            GameSnapshot.PlayerSnapshot p = players.get(pl);
+            for (int i = 0; i < pieces; i++) {
+                int node;
+                if (p.isFinished(i)) node = BoardGraph.FINISH;
+                else if (p.getPathIndex(i) < 0) node = WAITING;
+                else node = board.nodeOf(p.getPathIndex(i), p.getStepIndex(i));
+                pos.setNode(pl, i, node);
+            }
+        }
+        pos.current = snapshot.getCurrentPlayer();
+        return pos;
+    }
+
+    public Position copy() { return new Position(this); }
+
+    public BoardGraph getBoard() { return board; }
+    /** 생성 시 받은 규칙 (봇/평가 함수가 던지기 분포를 맞추는 데 사용) */
+    public RuleSet getRules() { return rules; }
+    public int getPlayerCount() { return playerCount; }
+    public int getPieceCount() { return pieceCount; }
+    public int getCurrent() { return current; }
+    public void setCurrent(int current) { this.current = current; }
+    /** 다음 플레이어에게 턴 넘김 */
+    public void nextTurn() { current = (current + 1) % playerCount; }
+
+    /** 말 위치 (노드 번호, WAITING, FINISH) */
+    public int nodeOf(int player, int piece) { return nodes[player * pieceCount + piece]; }
+    public void setNode(int player, int piece, int node) {
+        nodes[player * pieceCount + piece] = node;
+        int bit = 1 << piece;
+        if (node >= 0) onBoard[player] |= bit;
+        else onBoard[player] &= ~bit;
+        if (node == BoardGraph.FINISH) finished[player] |= bit;
+        else finished[player] &= ~bit;
+    }
+
+    /** 판 위에 말이 하나라도 있는지 (빽도 턴 넘김 판정) */
+    public boolean hasPieceOnBoard(int player) { return onBoard[player] != 0; }
+
+    /** 대기 중인 말 개수 */
+    public int waitingCount(int player) { return Integer.bitCount(allPieces & ~(onBoard[player] | finished[player])); }
+
+    /** 모든 말이 완주했는지 */
+    public boolean isWinner(int player) { return finished[player] == allPieces; }
+
+    /** 판 위 말 비트마스크 (비트 = 말 번호) */
+    public int onBoardMask(int player) { return onBoard[player]; }
+    /** 완주한 말 비트마스크 */
+    public int finishedMask(int player) { return finished[player]; }
+
+    /**
+     * 현재 플레이어가 윷 결과로 둘 수 있는 이동 목록.
+     * 판 위 말 묶음의 노드(업힌 말은 한 번만)와, 대기 말이 있으면 DEPLOY를 담는다.
+     * 빽도인데 판 위에 말이 없으면 빈 배열(턴 넘김).
+     * 업기 제한이 있는 규칙이면 제한을 넘는 이동은 뺀다.
+     */
+    public int[] legalMoves(Yut.Result result) {
+        if (result == Yut.Result.빽도 && !hasPieceOnBoard(current)) return new int[0];
+        int[] moves = new int[pieceCount + 1];
+        int count = 0;
+        boolean waiting = false;
+        for (int i = current * pieceCount, end = i + pieceCount; i < end; i++) {
+            int n = nodes[i];
+            if (n == WAITING) { waiting = true; continue; }
+            if (n < 0) continue;
+            boolean seen = false;
+            for (int k = 0; k < count; k++) if (moves[k] == n) { seen = true; break; }
+            if (!seen) moves[count++] = n;
+        }
+        if (waiting) moves[count++] = DEPLOY;
+        if (stackLimited) count = removeOverStacked(moves, count, result);
+        return Arrays.copyOf(moves, count);
+    }
+
+    /** 도착 칸의 내 말과 합쳐 업기 제한을 넘는 이동을 뺀 개수 */
+    private int removeOverStacked(int[] moves, int count, Yut.Result result) {
+        int kept = 0;
+        for (int k = 0; k < count; k++) {
+            int from = moves[k] == DEPLOY ? board.startNode() : moves[k];
+            int dest = board.move(from, result);
+            int stack = ownAt(from) + (moves[k] == DEPLOY ? 1 : 0);
+            if (dest >= 0 && dest != from) stack += ownAt(dest);
+            if (dest < 0 || stack <= stackLimit) moves[kept++] = moves[k];
+        }
+        return kept;
+    }
+
+    /** 현재 플레이어의 말 중 node에 있는 말 수 */
+    private int ownAt(int node) {
+        int n = 0;
+        for (int m = onBoard[current]; m != 0; m &= m - 1) {
+            if (nodes[current * pieceCount + Integer.numberOfTrailingZeros(m)] == node) n++;
+        }
+        return n;
+    }
+
+    /**
+     * 현재 플레이어의 이동 적용 (턴은 넘기지 않음).
+     * @param from 출발 노드 또는 DEPLOY
+     * @return 잡은 상대 말 개수
+     */
+    public int apply(int from, Yut.Result result) {
+        int base = current * pieceCount;
+        if (from == DEPLOY) {
+            int waiting = allPieces & ~(onBoard[current] | finished[current]);
+            int piece = Integer.numberOfTrailingZeros(waiting);
+            nodes[base + piece] = board.startNode();
+            onBoard[current] |= 1 << piece;
+            from = board.startNode();
+        }
+        int dest = board.move(from, result);
+        for (int m = onBoard[current]; m != 0; m &= m - 1) {
+            int piece = Integer.numberOfTrailingZeros(m);
+            if (nodes[base + piece] == from) nodes[base + piece] = dest;
+        }
+        if (dest < 0) {
+            // 완주: 출발 칸에 있던 말 묶음을 판 위에서 완주로 옮김
+            int moved = 0;
+            for (int m = onBoard[current]; m != 0; m &= m - 1) {
+                int piece = Integer.numberOfTrailingZeros(m);
+                if (nodes[base + piece] == BoardGraph.FINISH) moved |= 1 << piece;
+            }
+            onBoard[current] &= ~moved;
+            finished[current] |= moved;
+            return 0;
+        }
+
+        int captured = 0;
+        for (int pl = 0; pl < playerCount; pl++) {
+            if (pl == current) continue;
+            int b = pl * pieceCount;
+            for (int m = onBoard[pl]; m != 0; m &= m - 1) {
+                int piece = Integer.numberOfTrailingZeros(m);
+                if (nodes[b + piece] == dest) {
+                    nodes[b + piece] = WAITING;
+                    onBoard[pl] &= ~(1 << piece);
+                    captured++;
+                }
+            }
+        }
+        return captured;
+    }
+
+    /**
+     * 64비트 위치 해시.
+     * (플레이어, 노드)별 난수 키를 더하므로 같은 칸에 업힌 말의 순서와 무관하고,
+     * 말 하나를 옮길 때 키 두 개만 빼고 더하면 갱신할 수 있다.
+     */
+    public long hash() {
+        long h = mix(0x7A3Cl + current);
+        for (int pl = 0; pl < playerCount; pl++) {
+            for (int i = pl * pieceCount, end = i + pieceCount; i < end; i++) {
+                h += key(pl, nodes[i]);
+            }
+        }
+        return h;
+    }
+
+    /** (플레이어, 노드) 키 */
+    static long key(int player, int node) {
+        return mix(((long) player << 32) ^ (node + 2));
+    }
+
+    /** SplitMix64 섞기 함수 */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Position)) return false;
+        Position other = (Position) o;
+        return board == other.board && current == other.current && Arrays.equals(nodes, other.nodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(nodes) + current;
+    }
+}
@@ -0,0 +1,274 @@
+import java.util.Arrays;
+
+/**
+ * 위치 <-> 번호 완전 대응 (perfect ranking/unranking). 캐시, 승률표, 방문 집합 같은 빽빽한 표의 주소로 쓴다.
+ *
+ * 말은 플레이어 안에서 구별하지 않으므로(업힌 말 = 같은 칸의 같은 말 여러 개) 한 플레이어의 상태는
+ * 대기 말 수 w, 완주 말 수 f, 판 위 말 b개가 차지한 서로 다른 칸 k개의 집합, 그 k칸에 b개를 나눈 방법(합성)이다.
+ * 다른 플레이어의 말과 같은 칸에 있을 수 없으므로(잡힘) 플레이어 순서대로 아직 비어 있는 칸 중에서 집합을 고른다.
+ * 그래서 번호는 "앞 플레이어들이 쓴 칸 수 U"에 따라 크기가 달라지는 블록을 차례로 더한 값이며,
+ * count[i][U](플레이어 i부터 끝까지의 경우 수)와 모양(w, b, k)별 누적 표를 미리 만들어 두면
+ * 번호 매기기는 말 수에 비례하는 덧셈/곱셈과 조합 표 조회뿐이다.
+ *
+ * 번호 = (말 배치 번호) * 플레이어 수 + 현재 플레이어. 0 ~ size()-1이 빈틈없이 쓰인다.
+ * 업기 제한을 넘는 배치와 여러 명이 모두 완주한 배치도 Position으로 나타낼 수 있으므로 번호가 있다.
+ * 전체 위치 수가 long 범위를 넘는 설정(예: 4명 5말 사각형 판)은 만들 수 없다 (fits로 미리 확인).
+ */
+public final class PositionIndex {
+    private final BoardGraph board;
+    private final int nodeCount;
+    private final int playerCount;
+    private final int pieceCount;
+    private final int words;                // 사용 칸 비트마스크의 long 개수
+    private final long[][] choose;          // C(n, k), n <= 노드 수, k <= 말 수
+    private final int[][] shapeBase;        // [b][k] -> 첫 모양 번호 (여기에 w를 더함)
+    private final int shapeCount;
+    private final int[] shapeBoard;         // [모양] -> b
+    private final int[] shapeCells;         // [모양] -> k
+    private final long[][] count;           // [플레이어 i][U] -> 플레이어 i..끝의 배치 수
+    private final long[][][] offset;        // [플레이어 i][U][모양] -> 블록 시작 (길이 모양 수 + 1)
+    private final long size;
+
+    public PositionIndex(BoardGraph board, int playerCount, int pieceCount) {
+        if (playerCount < 1 || pieceCount < 1 || pieceCount > PieceStore.MAX_PIECES) {
+            throw new IllegalArgumentException("플레이어/말 수가 잘못되었습니다: " + playerCount + "명, " + pieceCount + "말");
+        }
+        this.board = board;
+        this.nodeCount = board.getNodeCount();
+        this.playerCount = playerCount;
+        this.pieceCount = pieceCount;
+        this.words = (nodeCount + 63) >>> 6;
+
+        this.choose = new long[nodeCount + 1][pieceCount + 1];
+        for (int n = 0; n <= nodeCount; n++) {
+            choose[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, pieceCount); k++) {
+                choose[n][k] = choose[n - 1][k - 1] + (k <= n - 1 ? choose[n - 1][k] : 0);
+            }
+        }
+
+        // 모양 순서: b(판 위 말 수), k(차지한 칸 수), w(대기 말 수)
+        this.shapeBase = new int[pieceCount + 1][pieceCount + 1];
+        int shapes = 0;
+        for (int b = 0; b <= pieceCount; b++) {
+            for (int k = b == 0 ? 0 : 1; k <= b; k++) {
+                shapeBase[b][k] = shapes;
+                shapes += pieceCount - b + 1;
+            }
+        }
+        this.shapeCount = shapes;
+        this.shapeBoard = new int[shapes];
+        this.shapeCells = new int[shapes];
+        for (int b = 0; b <= pieceCount; b++) {
+            for (int k = b == 0 ? 0 : 1; k <= b; k++) {
+                for (int w = 0; w <= pieceCount - b; w++) {
+                    shapeBoard[shapeBase[b][k] + w] = b;
+                    shapeCells[shapeBase[b][k] + w] = k;
+                }
+            }
+        }
+
+        this.count = new long[playerCount + 1][nodeCount + 1];
+        this.offset = new long[playerCount][nodeCount + 1][];
+        Arrays.fill(count[playerCount], 1);
+        try {
+            for (int i = playerCount - 1; i >= 0; i--) {
+                for (int used = 0; used <= nodeCount; used++) {
+                    long[] off = new long[shapes + 1];
+                    long total = 0;
+                    for (int s = 0; s < shapes; s++) {
+                        off[s] = total;
+                        total = Math.addExact(total, blockSize(i, used, s));
+                    }
+                    off[shapes] = total;
+                    offset[i][used] = off;
+                    count[i][used] = total;
+                }
+            }
+            this.size = Math.multiplyExact(count[0][0], playerCount);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("위치 수가 long 범위를 넘습니다: " + playerCount + "명, "
+                    + pieceCount + "말, 노드 " + nodeCount + "개");
+        }
+    }
+
+    /** 플레이어 i의 모양 s 블록 크기: 칸 집합 수 * 합성 수 * 뒤 플레이어들의 배치 수 */
+    private long blockSize(int i, int used, int s) {
+        int b = shapeBoard[s], k = shapeCells[s];
+        if (used + k > nodeCount) return 0;
+        long local = Math.multiplyExact(choose[nodeCount - used][k], compositions(b, k));
+        return Math.multiplyExact(local, count[i + 1][used + k]);
+    }
+
+    /** b개를 k칸에 (각 칸 1개 이상) 나누는 방법 수 C(b-1, k-1) */
+    private long compositions(int b, int k) {
+        return b == 0 ? 1 : choose[b - 1][k - 1];
+    }
+
+    /** 번호 범위를 long으로 나타낼 수 있는 설정인지 */
+    public static boolean fits(BoardGraph board, int playerCount, int pieceCount) {
+        try {
+            new PositionIndex(board, playerCount, pieceCount);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** 전체 위치 수 */
+    public long size() { return size; }
+    public BoardGraph getBoard() { return board; }
+    public int getPlayerCount() { return playerCount; }
+    public int getPieceCount() { return pieceCount; }
+
+    /**
+     * 위치 -> 번호
+     * @throws IllegalArgumentException 판/인원이 다르거나, 다른 플레이어의 말이 같은 칸에 있을 때
+     */
+    public long rank(Position pos) {
+        if (pos.getBoard() != board || pos.getPlayerCount() != playerCount || pos.getPieceCount() != pieceCount) {
+            throw new IllegalArgumentException("위치의 판 또는 인원이 번호 체계와 다릅니다");
+        }
+        long[] usedMask = new long[words];
+        int[] cells = new int[pieceCount];      // 판 위 말 노드 (정렬)
+        long r = 0;
+        int used = 0;
+        for (int i = 0; i < playerCount; i++) {
+            int b = 0;
+            int onBoard = pos.onBoardMask(i);
+            for (int m = onBoard; m != 0; m &= m - 1) {
+                int node = pos.nodeOf(i, Integer.numberOfTrailingZeros(m));
+                int j = b++;
+                while (j > 0 && cells[j - 1] > node) { cells[j] = cells[j - 1]; j--; }   // 삽입 정렬 (말 수가 작음)
+                cells[j] = node;
+            }
+            int w = pos.waitingCount(i);
+
+            // 칸 집합(빈 칸 중 상대 번호, 조합 수 체계)과 합성(칸 경계 위치, 조합 수 체계)
+            long setRank = 0, compRank = 0;
+            int k = 0;
+            for (int j = 0; j < b; j++) {
+                int node = cells[j];
+                if (j > 0 && node == cells[j - 1]) continue;
+                if ((usedMask[node >>> 6] & (1L << node)) != 0) {
+                    throw new IllegalArgumentException("다른 플레이어의 말과 같은 칸에 있습니다: 노드 " + node);
+                }
+                if (k > 0) compRank += choose[j - 1][k];        // 앞 칸이 j개에서 끝남 -> 경계 j-1
+                setRank += choose[node - usedBelow(usedMask, node)][k + 1];
+                k++;
+            }
+            for (int j = 0; j < b; j++) {
+                int node = cells[j];
+                usedMask[node >>> 6] |= 1L << node;
+            }
+
+            int s = shapeBase[b][k] + w;
+            long local = setRank * compositions(b, k) + compRank;
+            r += offset[i][used][s] + local * count[i + 1][used + k];
+            used += k;
+        }
+        return r * playerCount + pos.getCurrent();
+    }
+
+    /** node보다 작은 번호의 사용 칸 수 */
+    private int usedBelow(long[] usedMask, int node) {
+        int n = 0, word = node >>> 6;
+        for (int x = 0; x < word; x++) n += Long.bitCount(usedMask[x]);
+        return n + Long.bitCount(usedMask[word] & ((1L << node) - 1));
+    }
+
+    /** x의 n번째(0부터) 1 비트 위치 */
+    private static int select(long x, int n) {
+        int pos = 0;
+        for (int width = 32; width > 0; width >>>= 1) {
+            int low = Long.bitCount(x & ((1L << width) - 1));
+            if (n >= low) {
+                n -= low;
+                x >>>= width;
+                pos += width;
+            }
+        }
+        return pos;
+    }
+
+    /** 번호 -> 새 위치 */
+    public Position unrank(long index) {
+        Position pos = new Position(board, playerCount, pieceCount);
+        unrank(index, pos);
+        return pos;
+    }
+
+    /**
+     * 번호 -> 위치를 into에 덮어쓴다 (할당 없이 재사용할 때).
+     * 판 위 말은 노드 순서대로 앞 번호 말에, 그다음 대기 말, 완주 말 순서로 배정한다.
+     */
+    public void unrank(long index, Position into) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("위치 번호 범위 밖: " + index);
+        if (into.getBoard() != board || into.getPlayerCount() != playerCount || into.getPieceCount() != pieceCount) {
+            throw new IllegalArgumentException("위치의 판 또는 인원이 번호 체계와 다릅니다");
+        }
+        long r = index / playerCount;
+        into.setCurrent((int) (index - r * playerCount));
+        long[] usedMask = new long[words];
+        int[] cells = new int[pieceCount];      // 고른 칸 (상대 번호 -> 노드)
+        int used = 0;
+        for (int i = 0; i < playerCount; i++) {
+            // 모양: offset[s] <= r 인 가장 큰 s (크기 0인 모양은 다음 모양과 시작이 같아 건너뛰어진다)
+            long[] off = offset[i][used];
+            int lo = 0, hi = shapeCount - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (off[mid] <= r) lo = mid;
+                else hi = mid - 1;
+            }
+            int s = lo;
+            int b = shapeBoard[s], k = shapeCells[s], w = s - shapeBase[b][k];
+            long rest = count[i + 1][used + k];
+            long inBlock = r - off[s];
+            long local = inBlock / rest;            // 나눗셈은 한 번만 하고 나머지는 곱셈으로
+            r = inBlock - local * rest;
+            long comps = compositions(b, k);
+            long setRank = local / comps, compRank = local - setRank * comps;
+
+            // 칸 집합: 큰 쪽부터 C(c, j+1) <= setRank 인 가장 큰 c (이진 탐색)
+            for (int j = k - 1, top = nodeCount - used - 1; j >= 0; j--) {
+                int c = j;
+                while (c < top) {
+                    int mid = (c + top + 1) >>> 1;
+                    if (choose[mid][j + 1] <= setRank) c = mid;
+                    else top = mid - 1;
+                }
+                setRank -= choose[c][j + 1];
+                cells[j] = c;
+                top = c - 1;
+            }
+            // 상대 번호 -> 노드: 빈 칸 비트를 워드 단위로 세어 건너뛰고 워드 안에서 고름
+            for (int j = 0, word = 0, before = 0; j < k; j++) {
+                long free = ~usedMask[word];
+                while (cells[j] - before >= Long.bitCount(free)) {
+                    before += Long.bitCount(free);
+                    free = ~usedMask[++word];
+                }
+                cells[j] = (word << 6) + select(free, cells[j] - before);
+            }
+            for (int j = 0; j < k; j++) usedMask[cells[j] >>> 6] |= 1L << cells[j];
+
+            // 합성: 경계 k-1개를 b-1자리에서 고른 조합을 큰 쪽부터 복원해 칸마다 말 수를 정함
+            int piece = 0, end = b;
+            for (int j = k - 1; j >= 0; j--) {
+                int start = 0;
+                if (j > 0) {
+                    int c = j - 1;
+                    while (c + 1 < end - 1 && choose[c + 1][j] <= compRank) c++;
+                    compRank -= choose[c][j];
+                    start = c + 1;
+                }
+                for (int x = start; x < end; x++) into.setNode(i, piece++, cells[j]);
+                end = start;
+            }
+            for (int x = 0; x < w; x++) into.setNode(i, piece++, Position.WAITING);
+            while (piece < pieceCount) into.setNode(i, piece++, BoardGraph.FINISH);
+            used += k;
+        }
+    }
+}
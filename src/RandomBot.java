@@ -0,0 +1,27 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 둘 수 있는 이동 중 하나를 무작위로 고르는 봇 (시뮬레이션 기준선)
+ */
+public class RandomBot implements Bot {
+    private final Random random;
+
+    public RandomBot(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public String getName() { return "random"; }
+
+    @Override
+    public Move choose(Position pos, List<Yut.Result> pending) {
+        while (true) {
+            int index = random.nextInt(pending.size());
+            int[] moves = pos.legalMoves(pending.get(index));
+            if (moves.length > 0) {
+                return new Move(index, moves[random.nextInt(moves.length)]);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 다시 보기 재생기: 재생 스레드 하나가 GameReplay.Cursor를 소유하고, 재생/일시정지/속도/이동 요청을 받아 처리한다.
+ *
+ * 재생은 TICK_MILLIS마다 (속도 × BASE_RATE × 경과 시간)만큼 명령을 적용하고, 틱마다 마지막 상태의 스냅샷 하나만 내보낸다.
+ * 빠른 속도에서는 틱 사이의 중간 상태를 그리지 않고 건너뛰며, 받는 쪽(FrameCoalescer)도 그리기 전에 온
+ * 스냅샷을 최신 하나로 합치므로 그리기가 밀려 쌓이지 않는다.
+ * 이동 요청도 마지막 것 하나만 처리한다 (슬라이더를 끄는 동안 몰린 요청은 합쳐짐).
+ */
+public final class ReplayPlayer implements AutoCloseable {
+    public static final double MAX_SPEED = 100;
+    /** 1배속에서 초당 적용하는 명령 수 (사람이 둘 때의 대략적인 빠르기) */
+    public static final double BASE_RATE = 2.0;
+    static final long TICK_MILLIS = 16;
+
+    private final GameReplay replay;
+    private final GameReplay.Cursor cursor;                   // 재생 스레드 전용
+    private final Consumer<GameSnapshot> listener;
+    private final ScheduledExecutorService executor;
+    private final AtomicInteger pendingSeek = new AtomicInteger(-1);
+    private volatile double speed = 1;
+    private volatile boolean playing;
+    private volatile int position;                            // 마지막으로 내보낸 위치
+    private volatile GameSnapshot lastFrame;                  // 마지막으로 내보낸 스냅샷
+    private long frameVersion;                                // 재생 스레드 전용
+    private long lastTickNanos;
+    private double carry;                                     // 아직 적용하지 않은 명령 몫 (0 이상 1 미만)
+
+    /** @param listener 재생 스레드에서 호출됨 (막히지 않아야 함, 보통 FrameCoalescer::submit) */
+    public ReplayPlayer(GameReplay replay, Consumer<GameSnapshot> listener) {
+        this.replay = replay;
+        this.cursor = replay.cursor();
+        this.listener = listener;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replay");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** 재생 스레드 시작: 처음 위치를 내보내고 틱을 돌린다 (화면이 준비된 뒤 호출) */
+    public void start() {
+        executor.execute(this::publish);
+        executor.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public GameReplay getReplay() { return replay; }
+    /** 마지막으로 내보낸 위치 (적용한 명령 수) */
+    public int getPosition() { return position; }
+    public int getTurn() { return replay.turnOf(position); }
+    /** 마지막으로 내보낸 스냅샷 (start 전이면 null) */
+    public GameSnapshot getSnapshot() { return lastFrame; }
+    public double getSpeed() { return speed; }
+    public boolean isPlaying() { return playing; }
+
+    public void play() {
+        executor.execute(() -> {
+            if (cursor.isAtEnd()) seekNow(0);                  // 끝에서 누르면 처음부터
+            lastTickNanos = System.nanoTime();
+            carry = 0;
+            playing = true;
+        });
+    }
+
+    public void pause() {
+        playing = false;
+    }
+
+    /** 재생 속도 (0 초과 MAX_SPEED 이하 배속) */
+    public void setSpeed(double speed) {
+        if (!(speed > 0 && speed <= MAX_SPEED)) throw new IllegalArgumentException("재생 속도 범위 밖: " + speed);
+        this.speed = speed;
+    }
+
+    /** 위치로 이동 (재생 중이면 그 위치부터 계속 재생) */
+    public void seek(int target) {
+        if (target < 0 || target > replay.size()) {
+            throw new IndexOutOfBoundsException("위치 범위 밖: " + target + " / " + replay.size());
+        }
+        if (pendingSeek.getAndSet(target) < 0) executor.execute(this::applySeek);
+    }
+
+    /** 턴 시작 위치로 이동 */
+    public void seekTurn(int turn) {
+        seek(replay.turnStart(Math.max(0, Math.min(turn, replay.turnCount() - 1))));
+    }
+
+    private void applySeek() {
+        int target = pendingSeek.getAndSet(-1);
+        if (target >= 0) seekNow(target);
+    }
+
+    private void seekNow(int target) {
+        cursor.seek(target);
+        carry = 0;
+        publish();
+    }
+
+    private void tick() {
+        if (!playing) return;
+        long now = System.nanoTime();
+        carry += speed * BASE_RATE * (now - lastTickNanos) / 1e9;
+        lastTickNanos = now;
+        int steps = (int) carry;
+        carry -= steps;
+        boolean moved = false;
+        try {
+            while (steps-- > 0 && cursor.step()) moved = true;
+        } catch (RuntimeException e) {                        // 틱 작업이 예외로 멈추지 않도록
+            System.err.println("다시 보기 재생 오류 (위치 " + cursor.getPosition() + "): " + e);
+            playing = false;
+        }
+        if (cursor.isAtEnd()) playing = false;
+        if (moved) publish();
+    }
+
+    private void publish() {
+        GameSnapshot frame = cursor.frame(++frameVersion);
+        position = cursor.getPosition();
+        lastFrame = frame;
+        listener.accept(frame);
+    }
+
+    @Override
+    public void close() {
+        playing = false;
+        executor.shutdownNow();
+    }
+}
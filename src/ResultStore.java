@@ -0,0 +1,282 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 게임 결과 열(column) 저장소. 대량 시뮬레이션의 게임별 결과를 힙 밖(메모리 매핑 파일)에 쌓는다.
+ *
+ * 게임 한 판 = 행 하나: 설정(판 종류, 인원, 말 수를 묶은 1바이트), 승자 자리(1바이트, 제한 턴 초과는 0xFF),
+ * 턴 수(2바이트), 잡은 말 수(2바이트). 파일 하나(조각)는 CHUNK_ROWS행이며 열마다 연속해서 둔다:
+ * [헤더 16바이트][설정 × R][승자 × R][턴 × R][잡기 × R]. 작업 스레드마다 Writer를 따로 두어
+ * 자기 조각 파일에만 덧붙이므로 잠금이 없고, 행 수는 덧붙일 때마다 헤더에 적어 중간에 멈춰도 읽을 수 있다.
+ *
+ * 읽기는 조각을 읽기 전용으로 매핑해 열을 훑는다. 힙에는 조각 목록만 남으므로 행 수와 관계없이 GC 부담이 없다.
+ * 자리별 승수 집계는 설정 열과 승자 열을 8바이트씩 읽어 SWAR(한 long 안의 바이트 8개를 한 번에 비교)로 센다.
+ */
+public final class ResultStore {
+    public static final int CHUNK_ROWS = 1 << 22;
+    public static final int NO_WINNER = 0xFF;
+    static final String SUFFIX = ".yrs";
+    private static final int MAGIC = 0x59525331;            // "YRS1"
+    private static final int HEADER_BYTES = 16;             // magic, 용량, 행 수, 예비
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long ONES = 0x0101010101010101L;
+
+    /** 조각 하나의 열 위치 */
+    private static final class Chunk {
+        final ByteBuffer buffer;
+        final int rows;
+        final int capacity;
+
+        Chunk(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.capacity = buffer.getInt(4);
+            this.rows = buffer.getInt(8);
+        }
+
+        int configAt(int row) { return HEADER_BYTES + row; }
+        int winnerAt(int row) { return HEADER_BYTES + capacity + row; }
+        int turnsAt(int row) { return HEADER_BYTES + 2 * capacity + 2 * row; }
+        int capturesAt(int row) { return HEADER_BYTES + 4 * capacity + 2 * row; }
+    }
+
+    private final List<Chunk> chunks;
+    private final long rows;
+
+    private ResultStore(List<Chunk> chunks) {
+        this.chunks = chunks;
+        long n = 0;
+        for (Chunk c : chunks) n += c.rows;
+        this.rows = n;
+    }
+
+    /** 설정 코드: 판 종류(3비트) | 말 수(3비트) | 인원-2(2비트) */
+    public static int configCode(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+        if (playerCount < 2 || playerCount > 5 || pieceCount < 0 || pieceCount > 7) {
+            throw new IllegalArgumentException("저장할 수 없는 설정: " + playerCount + "명, " + pieceCount + "말");
+        }
+        return boardType.ordinal() << 5 | pieceCount << 2 | (playerCount - 2);
+    }
+
+    private static long bytes(int capacity) {
+        return HEADER_BYTES + 6L * capacity;
+    }
+
+    // --- 쓰기 ---
+
+    /** 작업 스레드 하나의 덧붙이기 전용 기록기. 게임 이벤트를 받아 게임이 끝날 때 한 행을 쓴다. */
+    public static final class Writer implements GameEventSink, Closeable {
+        private final Path dir;
+        private final int worker;
+        private final int capacity;
+        private int sequence;
+        private FileChannel channel;
+        private MappedByteBuffer buffer;
+        private int row;
+        private int config;
+        private int captures;
+
+        private Writer(Path dir, int worker, int capacity) throws IOException {
+            this.dir = dir;
+            this.worker = worker;
+            this.capacity = capacity;
+            Files.createDirectories(dir);
+            nextChunk();
+        }
+
+        /** 행 하나 덧붙이기 */
+        public void append(int configCode, int winner, int turns, int captured) throws IOException {
+            if (row == capacity) nextChunk();
+            buffer.put(HEADER_BYTES + row, (byte) configCode);
+            buffer.put(HEADER_BYTES + capacity + row, (byte) (winner < 0 ? NO_WINNER : winner));
+            buffer.putShort(HEADER_BYTES + 2 * capacity + 2 * row, (short) Math.min(turns, 0xFFFF));
+            buffer.putShort(HEADER_BYTES + 4 * capacity + 2 * row, (short) Math.min(captured, 0xFFFF));
+            buffer.putInt(8, ++row);
+        }
+
+        private void nextChunk() throws IOException {
+            closeChunk();
+            Path file;
+            do {
+                file = dir.resolve(String.format("w%03d-%06d%s", worker, sequence++, SUFFIX));
+            } while (Files.exists(file));                   // 같은 디렉터리에 이어 쓰기
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes(capacity));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, capacity);
+            buffer.putInt(8, 0);
+            row = 0;
+        }
+
+        private void closeChunk() throws IOException {
+            if (channel == null) return;
+            buffer.force();
+            channel.close();
+            channel = null;
+            buffer = null;
+        }
+
+        @Override
+        public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+            config = configCode(boardType, playerCount, pieceCount);
+            captures = 0;
+        }
+
+        @Override public void thrown(int player, Yut.Result result) { }
+
+        @Override
+        public void moved(int player, Yut.Result result, int from, int to, int captured) {
+            captures += captured;
+        }
+
+        @Override public void turnEnded(int player) { }
+
+        @Override
+        public void gameEnded(int winner, int turns) {
+            try {
+                append(config, winner, turns, captures);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeChunk();
+        }
+    }
+
+    /** dir에 worker 번호의 조각 파일로 쓰는 기록기 */
+    public static Writer writer(Path dir, int worker) throws IOException {
+        return new Writer(dir, worker, CHUNK_ROWS);
+    }
+
+    /** 조각 크기를 정한 기록기 (테스트용) */
+    static Writer writer(Path dir, int worker, int chunkRows) throws IOException {
+        return new Writer(dir, worker, chunkRows);
+    }
+
+    // --- 읽기 ---
+
+    /** 디렉터리의 모든 조각을 읽기 전용으로 매핑 */
+    public static ResultStore open(Path dir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path p : stream) files.add(p);
+        }
+        files.sort(null);
+        List<Chunk> chunks = new ArrayList<>();
+        for (Path file : files) {
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                buf.order(ByteOrder.LITTLE_ENDIAN);
+                if (buf.getInt(0) != MAGIC || ch.size() < bytes(buf.getInt(4))) {
+                    throw new IOException("결과 조각 파일이 아닙니다: " + file);
+                }
+                chunks.add(new Chunk(buf));
+            }
+        }
+        return new ResultStore(chunks);
+    }
+
+    /** 전체 행(게임) 수 */
+    public long rows() { return rows; }
+
+    /**
+     * 설정별 자리별 승수
+     * @return [자리] 이긴 게임 수, 마지막 칸은 그 설정의 전체 게임 수 (제한 턴 초과 포함)
+     */
+    public long[] winsBySeat(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+        int code = configCode(boardType, playerCount, pieceCount);
+        return IntStream.range(0, chunks.size()).parallel()
+                .mapToObj(i -> countWins(chunks.get(i), code, playerCount))
+                .reduce(new long[playerCount + 1], ResultStore::add);
+    }
+
+    /** 설정별 자리별 승률 (게임이 없으면 모두 0) */
+    public double[] winRateBySeat(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+        long[] wins = winsBySeat(boardType, playerCount, pieceCount);
+        double[] rate = new double[playerCount];
+        long games = wins[playerCount];
+        for (int s = 0; s < playerCount; s++) rate[s] = games == 0 ? 0 : wins[s] / (double) games;
+        return rate;
+    }
+
+    /** 설정별 평균 턴 수 (게임이 없으면 0) */
+    public double meanTurns(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+        return meanOf(configCode(boardType, playerCount, pieceCount), true);
+    }
+
+    /** 설정별 게임당 평균 잡은 말 수 (게임이 없으면 0) */
+    public double meanCaptures(PlayConfig.BoardType boardType, int playerCount, int pieceCount) {
+        return meanOf(configCode(boardType, playerCount, pieceCount), false);
+    }
+
+    /** 설정이 code인 행의 턴 열 또는 잡기 열 평균 */
+    private double meanOf(int code, boolean turns) {
+        long games = 0, sum = 0;
+        for (Chunk c : chunks) {
+            ByteBuffer buf = c.buffer;
+            int cfg = c.configAt(0), value = turns ? c.turnsAt(0) : c.capturesAt(0);
+            for (int r = 0; r < c.rows; r++, cfg++, value += 2) {
+                if (buf.get(cfg) == (byte) code) {
+                    games++;
+                    sum += buf.getShort(value) & 0xFFFF;
+                }
+            }
+        }
+        return games == 0 ? 0 : sum / (double) games;
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+        for (int i = 0; i < a.length; i++) sum[i] = a[i] + b[i];
+        return sum;
+    }
+
+    /** 조각 하나의 자리별 승수 (8행씩 SWAR, 나머지는 한 행씩) */
+    private static long[] countWins(Chunk c, int code, int playerCount) {
+        ByteBuffer buf = c.buffer;
+        long[] wins = new long[playerCount + 1];
+        long codeBytes = (code & 0xFF) * ONES;
+        long[] seatBytes = new long[playerCount];
+        for (int s = 0; s < playerCount; s++) seatBytes[s] = s * ONES;
+        int cfg = c.configAt(0), win = c.winnerAt(0);
+        int words = c.rows >>> 3;
+        for (int w = 0; w < words; w++, cfg += 8, win += 8) {
+            long match = zeroBytes(buf.getLong(cfg) ^ codeBytes);
+            if (match == 0) continue;
+            wins[playerCount] += Long.bitCount(match);
+            long winners = buf.getLong(win);
+            for (int s = 0; s < playerCount; s++) {
+                wins[s] += Long.bitCount(match & zeroBytes(winners ^ seatBytes[s]));
+            }
+        }
+        for (int r = words << 3; r < c.rows; r++, cfg++, win++) {
+            if (buf.get(cfg) != (byte) code) continue;
+            wins[playerCount]++;
+            int seat = buf.get(win) & 0xFF;
+            if (seat < playerCount) wins[seat]++;
+        }
+        return wins;
+    }
+
+    /** 0인 바이트마다 그 바이트의 최상위 비트만 켠 값 (자리올림이 번지지 않는 정확한 판정) */
+    private static long zeroBytes(long x) {
+        long y = (x & LOW7) + LOW7;
+        return ~(y | x | LOW7);
+    }
+}
@@ -0,0 +1,170 @@
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 집마다 다른 윷놀이 규칙 묶음 (불변). PlayConfig로 지정한다.
+ * 게임을 만들 때 한 번 컴파일해 두므로 이동마다 규칙을 확인하는 분기가 없다:
+ * - 1번 칸 빽도 완주 여부: compile()이 윷판의 빽도 간선을 바꾼 이동 표를 만든다
+ * - 말 없을 때 빽도, 잡으면 한 번 더, 업기 제한: GameState/Position/GameSimulator가 생성 시 상수로 받아 둔다
+ * - 낙, 윷가락 모델: throwRandom()이 던지기 단계에서 처리한다 (ThrowModel의 별칭 표로 상수 시간)
+ * standard()는 이 프로젝트의 기존 규칙과 같다.
+ */
+public final class RuleSet {
+    /** 판 위에 말이 없는데 빽도가 나온 경우 */
+    public enum BackdoWithoutPieces {
+        PASS_TURN,  // 턴이 바로 넘어간다 (모아 둔 결과도 버림)
+        DISCARD     // 빽도만 버리고, 모아 둔 결과나 남은 던지기가 있으면 계속
+    }
+
+    private static final RuleSet STANDARD = new RuleSet(true, BackdoWithoutPieces.PASS_TURN, true, 0, 0,
+            ThrowModel.standard());
+
+    private final boolean backdoFinishes;
+    private final BackdoWithoutPieces backdoWithoutPieces;
+    private final boolean captureExtraThrow;
+    private final int maxStack;                 // 0이면 제한 없음
+    private final double nakProbability;
+    private final ThrowModel throwModel;
+    private final Map<BoardGraph, BoardGraph> compiled = new IdentityHashMap<>();  // 기본 판 -> 규칙 적용 판
+
+    private RuleSet(boolean backdoFinishes, BackdoWithoutPieces backdoWithoutPieces, boolean captureExtraThrow,
+                    int maxStack, double nakProbability, ThrowModel throwModel) {
+        if (maxStack < 0 || maxStack > PieceStore.MAX_PIECES) {
+            throw new IllegalArgumentException("업기 제한은 0(제한 없음)~" + PieceStore.MAX_PIECES + " 사이여야 합니다: " + maxStack);
+        }
+        if (!(nakProbability >= 0 && nakProbability < 1)) {
+            throw new IllegalArgumentException("낙 확률은 0 이상 1 미만이어야 합니다: " + nakProbability);
+        }
+        this.backdoFinishes = backdoFinishes;
+        this.backdoWithoutPieces = backdoWithoutPieces;
+        this.captureExtraThrow = captureExtraThrow;
+        this.maxStack = maxStack;
+        this.nakProbability = nakProbability;
+        this.throwModel = throwModel;
+    }
+
+    /** 기본 규칙 */
+    public static RuleSet standard() { return STANDARD; }
+
+    /** 1번 칸에서 빽도가 나오면 완주하는지 (false면 출발 칸으로 돌아감) */
+    public RuleSet withBackdoFinishes(boolean value) {
+        return new RuleSet(value, backdoWithoutPieces, captureExtraThrow, maxStack, nakProbability, throwModel);
+    }
+
+    public RuleSet withBackdoWithoutPieces(BackdoWithoutPieces value) {
+        return new RuleSet(backdoFinishes, value, captureExtraThrow, maxStack, nakProbability, throwModel);
+    }
+
+    /** 상대 말을 잡으면 한 번 더 던지는지 */
+    public RuleSet withCaptureExtraThrow(boolean value) {
+        return new RuleSet(backdoFinishes, backdoWithoutPieces, value, maxStack, nakProbability, throwModel);
+    }
+
+    /** 한 칸에 업을 수 있는 최대 말 수 (0이면 제한 없음) */
+    public RuleSet withMaxStack(int value) {
+        return new RuleSet(backdoFinishes, backdoWithoutPieces, captureExtraThrow, value, nakProbability, throwModel);
+    }
+
+    /** 던진 윷이 판 밖으로 나가(낙) 그 던지기가 무효가 될 확률 */
+    public RuleSet withNakProbability(double value) {
+        return new RuleSet(backdoFinishes, backdoWithoutPieces, captureExtraThrow, maxStack, value, throwModel);
+    }
+
+    /** 윷가락 모델 (가락별 평평한 면 확률, 빽도 표시 가락) */
+    public RuleSet withThrowModel(ThrowModel value) {
+        return new RuleSet(backdoFinishes, backdoWithoutPieces, captureExtraThrow, maxStack, nakProbability, value);
+    }
+
+    public boolean isBackdoFinishes() { return backdoFinishes; }
+    public BackdoWithoutPieces getBackdoWithoutPieces() { return backdoWithoutPieces; }
+    public boolean isCaptureExtraThrow() { return captureExtraThrow; }
+    public int getMaxStack() { return maxStack; }
+    public double getNakProbability() { return nakProbability; }
+    public ThrowModel getThrowModel() { return throwModel; }
+
+    // --- 컴파일 ---
+
+    /**
+     * 규칙을 적용한 윷판 (이동 표 포함). 기본 규칙과 같으면 base를 그대로 돌려준다.
+     * 같은 base에 대해서는 한 번만 만든다.
+     */
+    public synchronized BoardGraph compile(BoardGraph base) {
+        if (backdoFinishes) return base;
+        return compiled.computeIfAbsent(base, b -> {
+            int stepOne = b.nodeOf(0, 1);
+            if (stepOne < 0 || b.backOf(stepOne) != BoardGraph.FINISH) return b;
+            return b.withBack(stepOne, b.startNode());
+        });
+    }
+
+    /** 빽도로 말 없이 턴을 넘기는지 (모아 둔 결과와 관계없이) */
+    public boolean passTurnOnBackdo() { return backdoWithoutPieces == BackdoWithoutPieces.PASS_TURN; }
+
+    /** 잡았을 때 더해지는 던지기 횟수 */
+    public int captureBonus() { return captureExtraThrow ? 1 : 0; }
+
+    /** 말 개수에 맞춘 업기 제한 (제한 없으면 pieceCount) */
+    public int stackLimit(int pieceCount) {
+        return maxStack == 0 ? pieceCount : Math.min(maxStack, pieceCount);
+    }
+
+    // --- 던지기 ---
+
+    /** 규칙을 적용한 무작위 던지기 (낙이면 null) */
+    public Yut.Result throwRandom() {
+        return throwRandom(ThreadLocalRandom.current());
+    }
+
+    /**
+     * 주어진 난수 생성기로 던지기 (낙이면 null).
+     * 낙이 없고 기본 윷가락 모델이면 Yut.throwRandom(random)과 같은 결과 열을 만든다.
+     */
+    public Yut.Result throwRandom(Random random) {
+        if (nakProbability > 0 && random.nextDouble() < nakProbability) return null;
+        return throwModel.sample(random);
+    }
+
+    // --- 저장 ---
+
+    /** 세션 스냅샷용 규칙 플래그와 업기 제한 (낙 확률과 윷가락 모델은 따로 저장) */
+    public int encodeFlags() {
+        return (backdoFinishes ? 1 : 0)
+                | backdoWithoutPieces.ordinal() << 1
+                | (captureExtraThrow ? 1 : 0) << 3
+                | maxStack << 4;
+    }
+
+    /** encodeFlags(), 낙 확률, 윷가락 모델로부터 복원 */
+    public static RuleSet decode(int flags, double nakProbability, ThrowModel throwModel) {
+        return new RuleSet((flags & 1) != 0,
+                BackdoWithoutPieces.values()[(flags >>> 1) & 3],
+                (flags & 8) != 0,
+                (flags >>> 4) & 0xFF,
+                nakProbability,
+                throwModel);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof RuleSet)) return false;
+        RuleSet other = (RuleSet) o;
+        return backdoFinishes == other.backdoFinishes && backdoWithoutPieces == other.backdoWithoutPieces
+                && captureExtraThrow == other.captureExtraThrow && maxStack == other.maxStack
+                && Double.compare(nakProbability, other.nakProbability) == 0
+                && throwModel.equals(other.throwModel);
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * encodeFlags() + Double.hashCode(nakProbability)) * 31 + throwModel.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSet[빽도 완주=" + backdoFinishes + ", 말 없을 때 빽도=" + backdoWithoutPieces
+                + ", 잡으면 한 번 더=" + captureExtraThrow + ", 업기 제한=" + (maxStack == 0 ? "없음" : maxStack)
+                + ", 낙=" + nakProbability + ", " + throwModel + "]";
+    }
+}
@@ -0,0 +1,416 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+/**
+ * 게임 세션 저장소: 테이블마다 압축 스냅샷(<id>.snap)과 그 이후 명령의 선행 기록 로그(<id>.wal).
+ *
+ * - 명령 처리 스레드는 기록을 큐에 넣기만 한다. 디스크 쓰기와 fsync는 기록 스레드가
+ *   FLUSH_INTERVAL마다 모아서(그룹 커밋) 하므로 이동 처리 경로에 디스크 대기가 없다.
+ *   대신 마지막 FLUSH_INTERVAL 동안의 명령은 장애 시 잃을 수 있다 (flush()로 기다릴 수 있음).
+ * - 로그가 SNAPSHOT_EVERY개 쌓이면 기록 스레드가 새 스냅샷을 임시 파일에 쓰고 fsync 후
+ *   원자적으로 교체한 다음 로그를 비운다.
+ * - 시작 시 recoverAll로 모든 테이블을 병렬로 복구한다 (스냅샷 적재 + 로그 재생).
+ *
+ * 기본 판 종류와 규칙(RuleSet)만 저장한다 (사용자 정의 판 그래프는 저장하지 않음).
+ * 이전 형식 스냅샷은 없는 부분을 기본값으로 채워 복구한다 (YSS1: 기본 규칙, YSS2: 기본 윷가락 모델).
+ */
+public class SessionStore implements AutoCloseable {
+    private static final int SNAPSHOT_MAGIC = 0x59535333;        // "YSS3" (규칙 + 윷가락 모델)
+    private static final int SNAPSHOT_MAGIC_V2 = 0x59535332;     // "YSS2" (규칙, 기본 윷가락 모델)
+    private static final int SNAPSHOT_MAGIC_V1 = 0x59535331;     // "YSS1" (규칙 없음)
+    private static final int RECORD_SIZE = 16;                   // long 버전, int 명령, int CRC
+    private static final int SNAPSHOT_EVERY = 64;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private final Path dir;
+    private final ConcurrentLinkedQueue<Record> queue = new ConcurrentLinkedQueue<>();
+    private final Set<Journal> journals = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Thread writer;
+    private final AtomicLong appended = new AtomicLong();
+    private final Object durableLock = new Object();
+    private long durable;                                       // fsync까지 끝난 기록 수 (durableLock)
+    private volatile long fsyncs;                               // 기록 스레드만 증가
+    private volatile long snapshots;
+    private volatile boolean closed;
+
+    private static final class Record {
+        final Journal journal;
+        final int command;
+        final GameSnapshot after;
+
+        Record(Journal journal, int command, GameSnapshot after) {
+            this.journal = journal;
+            this.command = command;
+            this.after = after;
+        }
+    }
+
+    /** 테이블 하나의 기록 (append는 명령 처리 스레드, 나머지는 기록 스레드 전용) */
+    public final class Journal {
+        private final String id;
+        private final PlayConfig config;
+        private final FileChannel wal;
+        private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * SNAPSHOT_EVERY);
+        private int sinceSnapshot;                              // 마지막 스냅샷 이후 로그 레코드 수
+        private GameSnapshot latest;
+        private boolean dirty;
+
+        private Journal(String id, PlayConfig config, FileChannel wal, int sinceSnapshot) {
+            this.id = id;
+            this.config = config;
+            this.wal = wal;
+            this.sinceSnapshot = sinceSnapshot;
+        }
+
+        public String getId() { return id; }
+
+        /** 명령 기록 요청 (막히지 않음) */
+        public void append(int command, GameSnapshot after) {
+            queue.add(new Record(this, command, after));
+            appended.incrementAndGet();
+        }
+
+        /** 기록 스레드: 레코드를 버퍼에 쌓는다 */
+        private void stage(Record r) throws IOException {
+            if (!buffer.hasRemaining()) writeBuffer();
+            CRC32 crc = new CRC32();
+            int start = buffer.position();
+            buffer.putLong(r.after.getVersion());
+            buffer.putInt(r.command);
+            crc.update(buffer.array(), start, 12);
+            buffer.putInt((int) crc.getValue());
+            latest = r.after;
+            sinceSnapshot++;
+            dirty = true;
+        }
+
+        private void writeBuffer() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) wal.write(buffer);
+            buffer.clear();
+        }
+
+        /** 기록 스레드: 스냅샷 교체 또는 로그 쓰기 후 fsync */
+        private void commit() throws IOException {
+            if (sinceSnapshot >= SNAPSHOT_EVERY) {
+                buffer.clear();                                 // 스냅샷에 포함되므로 로그는 버림
+                writeSnapshot(id, config, latest);
+                wal.truncate(0);
+                wal.force(false);
+                sinceSnapshot = 0;
+                snapshots++;
+            } else {
+                writeBuffer();
+                wal.force(false);
+            }
+            fsyncs++;
+            dirty = false;
+        }
+    }
+
+    /** 복구된 세션 */
+    public static final class Session {
+        private final String id;
+        private final PlayConfig config;
+        private final GameController controller;
+        private final int replayed;
+
+        Session(String id, PlayConfig config, GameController controller, int replayed) {
+            this.id = id;
+            this.config = config;
+            this.controller = controller;
+            this.replayed = replayed;
+        }
+
+        public String getId() { return id; }
+        public PlayConfig getConfig() { return config; }
+        /** 화면 없는 컨트롤러 (기록이 다시 연결되어 있음) */
+        public GameController getController() { return controller; }
+        /** 재생한 로그 레코드 수 */
+        public int getReplayed() { return replayed; }
+    }
+
+    public SessionStore(Path dir) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.writer = new Thread(this::writeLoop, "session-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 새 테이블 기록 시작: 현재 상태를 스냅샷으로 저장(fsync)하고 컨트롤러에 기록을 연결한다.
+     * 컨트롤러에 명령을 넣기 전에 호출한다.
+     */
+    public Journal open(String id, PlayConfig config, GameController controller) throws IOException {
+        checkId(id);
+        writeSnapshot(id, config, controller.getSnapshot());
+        FileChannel wal = FileChannel.open(walPath(id), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Journal journal = new Journal(id, config, wal, 0);
+        journals.add(journal);
+        controller.setJournal(journal);
+        return journal;
+    }
+
+    /** 테이블 기록 삭제 (게임 종료 후) */
+    public void delete(Journal journal) throws IOException {
+        flush();
+        journals.remove(journal);
+        journal.wal.close();
+        Files.deleteIfExists(walPath(journal.id));
+        Files.deleteIfExists(snapshotPath(journal.id));
+    }
+
+    /** 지금까지 append된 기록이 모두 fsync될 때까지 대기 */
+    public void flush() {
+        long target = appended.get();
+        LockSupport.unpark(writer);
+        synchronized (durableLock) {
+            while (durable < target && writer.isAlive()) {
+                try {
+                    durableLock.wait(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Journal> dirty = new ArrayList<>();
+        while (true) {
+            boolean stopping = closed;
+            long processed = 0;
+            Record r;
+            while ((r = queue.poll()) != null) {
+                try {
+                    if (!r.journal.dirty) dirty.add(r.journal);
+                    r.journal.stage(r);
+                } catch (IOException e) {
+                    System.err.println("세션 로그 쓰기 실패 (" + r.journal.id + "): " + e.getMessage());
+                }
+                processed++;
+            }
+            for (Journal j : dirty) {
+                try {
+                    j.commit();
+                } catch (IOException e) {
+                    System.err.println("세션 로그 fsync 실패 (" + j.id + "): " + e.getMessage());
+                    j.dirty = false;
+                }
+            }
+            dirty.clear();
+            if (processed > 0) {
+                synchronized (durableLock) {
+                    durable += processed;
+                    durableLock.notifyAll();
+                }
+            }
+            if (stopping && queue.isEmpty()) return;
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+        }
+    }
+
+    // --- 복구 ---
+
+    /**
+     * 저장된 모든 테이블을 병렬로 복구한다. 복구된 세션은 다시 이 저장소에 기록된다.
+     * @param threads 복구 스레드 수
+     */
+    public List<Session> recoverAll(int threads) throws IOException, InterruptedException {
+        List<String> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.snap")) {
+            for (Path p : files) {
+                String name = p.getFileName().toString();
+                ids.add(name.substring(0, name.length() - ".snap".length()));
+            }
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Session>> futures = new ArrayList<>();
+            for (String id : ids) futures.add(pool.submit(() -> recover(id)));
+            List<Session> sessions = new ArrayList<>();
+            for (Future<Session> f : futures) {
+                try {
+                    sessions.add(f.get());
+                } catch (java.util.concurrent.ExecutionException e) {
+                    System.err.println("세션 복구 실패: " + e.getCause());
+                }
+            }
+            return sessions;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** 테이블 하나 복구: 스냅샷 적재 후 스냅샷 이후의 로그 재생 */
+    private Session recover(String id) throws IOException {
+        ByteBuffer snap = ByteBuffer.wrap(Files.readAllBytes(snapshotPath(id)));
+        CRC32 crc = new CRC32();
+        crc.update(snap.array(), 0, snap.limit() - 4);
+        int magic = snap.getInt();
+        if ((magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_MAGIC_V2 && magic != SNAPSHOT_MAGIC_V1) || snap.getInt(snap.limit() - 4) != (int) crc.getValue()) {
+            throw new IOException("손상된 스냅샷: " + id);
+        }
+        long snapshotVersion = snap.getLong();
+        PlayConfig.BoardType type = PlayConfig.BoardType.values()[snap.get()];
+        int playerCount = snap.get();
+        int pieceCount = snap.get();
+        PlayConfig config = new PlayConfig(playerCount, pieceCount, type);
+        if (magic != SNAPSHOT_MAGIC_V1) {
+            int ruleFlags = snap.getInt();
+            double nak = snap.getDouble();
+            ThrowModel model = ThrowModel.standard();
+            if (magic == SNAPSHOT_MAGIC) {
+                double[] flat = new double[ThrowModel.STICKS];
+                for (int i = 0; i < flat.length; i++) flat[i] = snap.getDouble();
+                model = new ThrowModel(flat, snap.get());
+            }
+            config.setRuleSet(RuleSet.decode(ruleFlags, nak, model));
+        }
+        GameState state = new GameState(config, GameState.defaultPlayerNames(playerCount));
+
+        int current = snap.get();
+        GameState.phase phase = GameState.phase.values()[snap.get()];
+        int throwCount = snap.get();
+        int winner = snap.get() - 1;
+        GameState.TurnEvent turnEvent = GameState.TurnEvent.values()[snap.get()];
+        List<Yut.Result> pending = new ArrayList<>();
+        for (int i = snap.get(); i > 0; i--) pending.add(Yut.Result.values()[snap.get()]);
+        for (Player player : state.getPlayers()) {
+            for (Piece p : player.getPieces()) {
+                p.setPathIndex(snap.get() - 1);
+                p.setStepIndex(snap.get() - 1);
+                int flags = snap.get();
+                p.setFinished((flags & 1) != 0);
+                p.setGrouped((flags & 2) != 0);
+            }
+        }
+        state.restore(current, phase, throwCount, pending, turnEvent, winner);
+
+        GameController controller = new GameController(state, snapshotVersion, GameView.HEADLESS);
+        int replayed = 0, records = 0;
+        long walSize = 0;
+        Path walPath = walPath(id);
+        if (Files.exists(walPath)) {
+            ByteBuffer wal = ByteBuffer.wrap(Files.readAllBytes(walPath));
+            while (wal.remaining() >= RECORD_SIZE) {
+                int start = wal.position();
+                long version = wal.getLong();
+                int command = wal.getInt();
+                crc.reset();
+                crc.update(wal.array(), start, 12);
+                if (wal.getInt() != (int) crc.getValue()) break;   // 끊긴 마지막 레코드
+                records++;
+                walSize = wal.position();
+                if (version <= snapshotVersion) continue;          // 스냅샷 교체 후 로그를 비우기 전에 멈춘 경우
+                controller.replay(command);
+                replayed++;
+            }
+        }
+
+        FileChannel channel = FileChannel.open(walPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(walSize);                                  // 끊긴 꼬리 제거
+        channel.position(walSize);
+        Journal journal = new Journal(id, config, channel, records);
+        journal.latest = controller.getSnapshot();
+        journals.add(journal);
+        controller.setJournal(journal);
+        return new Session(id, config, controller, replayed);
+    }
+
+    // --- 스냅샷 파일 ---
+
+    private void writeSnapshot(String id, PlayConfig config, GameSnapshot s) throws IOException {
+        ByteBuffer buf = encodeSnapshot(config, s);
+        Path tmp = dir.resolve(id + ".snap.tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(false);
+        }
+        Files.move(tmp, snapshotPath(id), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static ByteBuffer encodeSnapshot(PlayConfig config, GameSnapshot s) {
+        List<GameSnapshot.PlayerSnapshot> players = s.getPlayers();
+        int pieces = config.getPieceCount();
+        ByteBuffer buf = ByteBuffer.allocate(4 + 8 + 3 + 12 + 8 * ThrowModel.STICKS + 1 + 6 + s.getPendingThrows().size() + players.size() * pieces * 3 + 4);
+        buf.putInt(SNAPSHOT_MAGIC);
+        buf.putLong(s.getVersion());
+        buf.put((byte) config.getBoardType().ordinal());
+        buf.put((byte) players.size());
+        buf.put((byte) pieces);
+        buf.putInt(config.getRuleSet().encodeFlags());
+        buf.putDouble(config.getRuleSet().getNakProbability());
+        ThrowModel model = config.getRuleSet().getThrowModel();
+        for (int i = 0; i < ThrowModel.STICKS; i++) buf.putDouble(model.getFlatProbability(i));
+        buf.put((byte) model.getMarkedStick());
+        buf.put((byte) s.getCurrentPlayer());
+        buf.put((byte) s.getPhase().ordinal());
+        buf.put((byte) s.getThrowCount());
+        buf.put((byte) (s.getWinner() + 1));
+        buf.put((byte) s.getLastTurnEvent().ordinal());
+        buf.put((byte) s.getPendingThrows().size());
+        for (Yut.Result r : s.getPendingThrows()) buf.put((byte) r.ordinal());
+        for (GameSnapshot.PlayerSnapshot p : players) {
+            for (int i = 0; i < pieces; i++) {
+                buf.put((byte) (p.getPathIndex(i) + 1));
+                buf.put((byte) (p.getStepIndex(i) + 1));
+                buf.put((byte) ((p.isFinished(i) ? 1 : 0) | (p.isGrouped(i) ? 2 : 0)));
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, buf.position());
+        buf.putInt((int) crc.getValue());
+        buf.flip();
+        return buf;
+    }
+
+    private Path snapshotPath(String id) { return dir.resolve(id + ".snap"); }
+    private Path walPath(String id) { return dir.resolve(id + ".wal"); }
+
+    private static void checkId(String id) {
+        if (!id.matches("[A-Za-z0-9_-]+")) throw new IllegalArgumentException("테이블 ID는 영문/숫자/_/-만 사용: " + id);
+    }
+
+    /** fsync 횟수 (진단용) */
+    public long getFsyncCount() { return fsyncs; }
+    public long getSnapshotCount() { return snapshots; }
+
+    /** 남은 기록을 모두 쓰고 닫는다 */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (journals) {
+            for (Journal j : journals) j.wal.close();
+            journals.clear();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관전자 배포 허브.
+ * GameController가 공개하는 스냅샷을 여러 관전자에게 나눠 보낸다.
+ *
+ * - 게임 스레드는 최신 스냅샷 참조를 바꾸고 배포 스레드를 깨우기만 하므로 절대 막히지 않는다.
+ * - 관전자마다 "최신 값 한 칸"만 두어, 느린 관전자는 중간 상태를 건너뛰고 가장 최근 상태만 받는다.
+ *   따라서 메모리 사용은 관전자 수에 비례하고 게임 진행 속도와는 무관하다.
+ * - 한 관전자의 전달은 한 번에 한 스레드에서만, 버전 순서대로 일어난다.
+ *   구독 시 넣는 첫 값과 배포 스레드가 넣는 값이 엇갈려도 칸에는 더 새 버전이 남고,
+ *   이미 전달한 버전 이하의 값은 보내지 않는다.
+ */
+public class SpectatorHub implements AutoCloseable {
+
+    /** 관전자 콜백 (전달 스레드에서 호출, 오래 막히지 않아야 한다) */
+    public interface Spectator {
+        void onSnapshot(GameSnapshot snapshot);
+    }
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<GameSnapshot> latest = new AtomicReference<>();
+    private final ExecutorService workers;
+    private final Thread dispatcher;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private volatile GameSnapshot lastPublished;
+    private volatile boolean closed;
+
+    /** 관전자 한 명의 구독 */
+    public final class Subscription {
+        private final Spectator spectator;
+        private final AtomicReference<GameSnapshot> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private long deliveredVersion = -1;     // 마지막으로 전달한 버전 (scheduled를 잡은 전달 스레드 전용)
+        private volatile boolean cancelled;
+
+        private Subscription(Spectator spectator) {
+            this.spectator = spectator;
+        }
+
+        /** 최신 값 칸에 넣고, 전달 작업이 없으면 예약 (배포 스레드, 구독 시에는 구독한 스레드에서 호출) */
+        private void offer(GameSnapshot snapshot) {
+            // 아직 못 받은 값은 덮어쓰되, 칸에 이미 더 새 버전이 있으면 그 값을 남긴다
+            GameSnapshot previous = pending.getAndAccumulate(snapshot,
+                    (old, next) -> old != null && old.getVersion() > next.getVersion() ? old : next);
+            if (previous != null) conflated.increment();
+            schedule();
+        }
+
+        private void schedule() {
+            if (!cancelled && scheduled.compareAndSet(false, true)) workers.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                GameSnapshot snapshot;
+                while (!cancelled && (snapshot = pending.getAndSet(null)) != null) {
+                    if (snapshot.getVersion() <= deliveredVersion) continue;   // 늦게 도착한 이전 상태
+                    deliveredVersion = snapshot.getVersion();
+                    spectator.onSnapshot(snapshot);
+                    delivered.increment();
+                }
+            } catch (RuntimeException e) {
+                System.err.println("관전자 전달 실패, 구독 해제: " + e);
+                cancel();
+            } finally {
+                scheduled.set(false);
+            }
+            if (pending.get() != null) schedule();   // 플래그를 내리는 사이 들어온 값
+        }
+
+        /** 구독 해제 */
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+    }
+
+    /** 컨트롤러의 스냅샷을 구독하는 허브 생성 */
+    public SpectatorHub(GameController controller) {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        controller.addSnapshotListener(this::publish);
+        publish(controller.getSnapshot());
+    }
+
+    /** @param deliveryThreads 관전자 전달 스레드 수 */
+    public SpectatorHub(int deliveryThreads) {
+        this.workers = Executors.newFixedThreadPool(deliveryThreads, r -> {
+            Thread t = new Thread(r, "spectator-delivery");
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, "spectator-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /** 관전자 등록, 공개된 스냅샷이 있으면 곧바로 하나 받는다 */
+    public Subscription subscribe(Spectator spectator) {
+        Subscription s = new Subscription(spectator);
+        subscriptions.add(s);
+        GameSnapshot current = lastPublished;
+        if (current != null) s.offer(current);
+        return s;
+    }
+
+    /** 새 스냅샷 공개 (게임 스레드에서 호출, 막히지 않음) */
+    public void publish(GameSnapshot snapshot) {
+        lastPublished = snapshot;
+        if (latest.getAndSet(snapshot) != null) conflated.increment();
+        LockSupport.unpark(dispatcher);
+    }
+
+    private void dispatchLoop() {
+        while (!closed) {
+            GameSnapshot snapshot = latest.getAndSet(null);
+            if (snapshot == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            for (Subscription s : subscriptions) s.offer(snapshot);
+        }
+    }
+
+    public int getSubscriberCount() { return subscriptions.size(); }
+    /** 관전자에게 전달된 스냅샷 수 (전체 합) */
+    public long getDelivered() { return delivered.sum(); }
+    /** 건너뛴(최신 값으로 덮어쓴) 스냅샷 수 */
+    public long getConflated() { return conflated.sum(); }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(dispatcher);
+        for (Subscription s : subscriptions) s.cancel();
+        workers.shutdownNow();
+    }
+}
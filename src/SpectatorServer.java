@@ -0,0 +1,220 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 관전자용 TCP 서버 (루프백 전용).
+ * 접속 하나가 SpectatorHub 구독 하나이며, 스냅샷을 길이 접두 이진 프레임으로 보낸다.
+ *
+ * - 프레임은 스냅샷마다 한 번만 인코딩하고 모든 접속이 같은 버퍼를 공유한다.
+ * - 소켓 쓰기는 논블로킹이다. 소켓 버퍼가 차서 다 못 쓴 접속은 남은 프레임만 들고 있고,
+ *   그 사이 들어온 스냅샷은 최신 것 하나만 보관했다가 쓰기가 가능해지면 보낸다.
+ *
+ * 프레임: int 길이, long 버전, byte 현재 플레이어, byte 단계(0=던지기, 1=이동), byte 남은 던지기,
+ *        byte 승자(+1), byte 남은 윷 결과 수, 결과 ordinal..., byte 플레이어 수, byte 말 수,
+ *        말마다 byte 경로(+1), byte 단계(+1), byte 상태(1=완주)
+ */
+public class SpectatorServer implements AutoCloseable {
+    private final SpectatorHub hub;
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread ioThread;
+    private final Queue<Connection> writeInterest = new ConcurrentLinkedQueue<>();
+    private volatile Frame frame;                  // 마지막으로 인코딩한 프레임
+
+    /** 인코딩된 스냅샷 */
+    private static final class Frame {
+        final GameSnapshot snapshot;
+        final ByteBuffer bytes;
+
+        Frame(GameSnapshot snapshot, ByteBuffer bytes) {
+            this.snapshot = snapshot;
+            this.bytes = bytes;
+        }
+    }
+
+    /** @param port 0이면 임의 포트 */
+    public SpectatorServer(SpectatorHub hub, int port) throws IOException {
+        this.hub = hub;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        this.ioThread = new Thread(this::ioLoop, "spectator-io");
+        this.ioThread.setDaemon(true);
+        this.ioThread.start();
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    private void ioLoop() {
+        ByteBuffer discard = ByteBuffer.allocate(256);
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                Connection c;
+                while ((c = writeInterest.poll()) != null) c.enableWrite();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection conn = (Connection) key.attachment();
+                    if (key.isReadable()) {
+                        discard.clear();
+                        try {
+                            if (((SocketChannel) key.channel()).read(discard) < 0) conn.close();
+                        } catch (IOException e) {
+                            conn.close();
+                        }
+                    }
+                    if (key.isValid() && key.isWritable()) conn.onWritable();
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            // 서버 종료
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection conn = new Connection(channel);
+            conn.key = channel.register(selector, SelectionKey.OP_READ, conn);
+            conn.subscription = hub.subscribe(conn);
+        }
+    }
+
+    /** 스냅샷 프레임 (같은 스냅샷이면 캐시된 버퍼 공유) */
+    private ByteBuffer encode(GameSnapshot snapshot) {
+        Frame f = frame;
+        if (f == null || f.snapshot != snapshot) {
+            f = new Frame(snapshot, encodeFrame(snapshot));
+            frame = f;
+        }
+        return f.bytes.duplicate();
+    }
+
+    static ByteBuffer encodeFrame(GameSnapshot s) {
+        List<GameSnapshot.PlayerSnapshot> players = s.getPlayers();
+        int pieces = players.get(0).getPieceCount();
+        int size = 4 + 8 + 5 + s.getPendingThrows().size() + 2 + players.size() * pieces * 3;
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.putInt(size - 4);
+        buf.putLong(s.getVersion());
+        buf.put((byte) s.getCurrentPlayer());
+        buf.put((byte) s.getPhase().ordinal());
+        buf.put((byte) s.getThrowCount());
+        buf.put((byte) (s.getWinner() + 1));
+        buf.put((byte) s.getPendingThrows().size());
+        for (Yut.Result r : s.getPendingThrows()) buf.put((byte) r.ordinal());
+        buf.put((byte) players.size());
+        buf.put((byte) pieces);
+        for (GameSnapshot.PlayerSnapshot p : players) {
+            for (int i = 0; i < pieces; i++) {
+                buf.put((byte) (p.getPathIndex(i) + 1));
+                buf.put((byte) (p.getStepIndex(i) + 1));
+                buf.put((byte) (p.isFinished(i) ? 1 : 0));
+            }
+        }
+        buf.flip();
+        return buf.asReadOnlyBuffer();
+    }
+
+    /** 접속 하나 */
+    private final class Connection implements SpectatorHub.Spectator {
+        private final SocketChannel channel;
+        private SelectionKey key;
+        private SpectatorHub.Subscription subscription;
+        private ByteBuffer inFlight;               // 다 못 쓴 프레임
+        private GameSnapshot waiting;              // 쓰기 대기 중 들어온 최신 스냅샷
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /** 전달 스레드에서 호출 */
+        @Override
+        public synchronized void onSnapshot(GameSnapshot snapshot) {
+            if (inFlight != null) {
+                waiting = snapshot;                // 소켓이 밀려 있으면 최신 것만 보관
+                return;
+            }
+            send(encode(snapshot));
+        }
+
+        private void send(ByteBuffer bytes) {
+            try {
+                channel.write(bytes);
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            if (bytes.hasRemaining()) {
+                inFlight = bytes;
+                writeInterest.add(this);
+                selector.wakeup();
+            }
+        }
+
+        /** 입출력 스레드에서 호출 */
+        void enableWrite() {
+            if (key.isValid()) key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+
+        /** 입출력 스레드에서 호출 */
+        synchronized void onWritable() {
+            if (inFlight != null) {
+                try {
+                    channel.write(inFlight);
+                } catch (IOException e) {
+                    close();
+                    return;
+                }
+                if (inFlight.hasRemaining()) return;
+                inFlight = null;
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            if (waiting != null) {
+                GameSnapshot next = waiting;
+                waiting = null;
+                send(encode(next));
+            }
+        }
+
+        void close() {
+            if (subscription != null) subscription.cancel();
+            if (key != null) key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // 이미 닫힘
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) ((Connection) key.attachment()).close();
+        }
+        selector.close();
+        server.close();
+    }
+}
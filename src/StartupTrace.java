@@ -0,0 +1,48 @@
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시작 시간 측정: JVM 프로세스 시작부터 각 단계(설정 화면 표시, 게임 화면 첫 입력 가능 프레임)까지의 시간.
+ * 결과는 표준 출력에 남기고, 첫 입력 가능 프레임 시간은 GameMetrics(JMX, 텍스트 엔드포인트)에도 기록한다.
+ *
+ * 시스템 속성 yut.startupTraining=true 이면 AppCDS 학습 실행으로 본다:
+ * 설정 화면이 기본 설정으로 바로 게임을 시작하고, 게임 화면의 첫 프레임을 그린 뒤 종료한다
+ * (-XX:ArchiveClassesAtExit 가 종료 시점에 그때까지 읽은 클래스를 보관 파일로 남긴다).
+ */
+public final class StartupTrace {
+    public static final String TRAINING_PROPERTY = "yut.startupTraining";
+    private static final long ORIGIN_MILLIS = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElseGet(System::currentTimeMillis);              // 시작 시각을 알 수 없으면 이 클래스를 읽은 시각
+    private static final AtomicBoolean FIRST_FRAME = new AtomicBoolean();
+
+    private StartupTrace() { }
+
+    /** AppCDS 학습 실행 여부 */
+    public static boolean isTraining() {
+        return Boolean.getBoolean(TRAINING_PROPERTY);
+    }
+
+    /** JVM 시작부터 지금까지 (밀리초) */
+    public static long sinceLaunchMillis() {
+        return System.currentTimeMillis() - ORIGIN_MILLIS;
+    }
+
+    /** 단계 도달 시간 출력 */
+    public static void mark(String phase) {
+        System.out.println("[시작] " + phase + ": " + sinceLaunchMillis() + " ms");
+    }
+
+    /**
+     * 게임 화면의 첫 입력 가능 프레임 (프로세스에서 처음 한 번만 기록, EDT에서 호출)
+     * @return 처음 기록했으면 true
+     */
+    public static boolean firstInteractiveFrame(GameMetrics metrics) {
+        if (!FIRST_FRAME.compareAndSet(false, true)) return false;
+        long millis = sinceLaunchMillis();
+        metrics.recordFirstFrame(millis);
+        mark("첫 입력 가능 프레임");
+        if (isTraining()) System.exit(0);
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 대량 게임 통계 집계.
+ * 작업 스레드마다 GameStatistics 누산기를 따로 두고 이벤트를 흘려보낸 뒤, 끝에서 한 번 합친다.
+ * 입력은 새로 시뮬레이션한 게임 또는 GameEventLog로 저장된 기록 파일이다.
+ */
+public class StatisticsPipeline {
+
+    /**
+     * 무작위 봇끼리 games판을 시뮬레이션해 집계
+     * @param configs 게임 번호 순서대로 돌아가며 사용할 설정
+     */
+    public static GameStatistics simulate(long games, int threads, List<PlayConfig> configs, long seed)
+            throws Exception {
+        List<GameSimulator> simulators = new ArrayList<>();
+        for (PlayConfig c : configs) simulators.add(new GameSimulator(c));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<GameStatistics>> parts = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                final int worker = w;
+                parts.add(pool.submit(() -> {
+                    GameStatistics stats = new GameStatistics();
+                    Random random = new Random(seed + worker);
+                    Bot bot = new RandomBot(random);
+                    Bot[] bots = {bot, bot, bot, bot};
+                    for (long g = worker; g < games; g += threads) {
+                        simulators.get((int) (g % simulators.size())).play(bots, random, stats);
+                    }
+                    return stats;
+                }));
+            }
+            return mergeAll(parts);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 무작위 봇끼리 games판을 시뮬레이션해 게임별 결과를 ResultStore 디렉터리에 쌓는다
+     * (작업 스레드마다 자기 조각 파일에 덧붙임)
+     */
+    public static void record(long games, int threads, List<PlayConfig> configs, long seed, Path dir)
+            throws Exception {
+        List<GameSimulator> simulators = new ArrayList<>();
+        for (PlayConfig c : configs) simulators.add(new GameSimulator(c));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> parts = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                final int worker = w;
+                parts.add(pool.submit(() -> {
+                    Random random = new Random(seed + worker);
+                    Bot bot = new RandomBot(random);
+                    Bot[] bots = {bot, bot, bot, bot};
+                    try (ResultStore.Writer writer = ResultStore.writer(dir, worker)) {
+                        for (long g = worker; g < games; g += threads) {
+                            simulators.get((int) (g % simulators.size())).play(bots, random, writer);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> part : parts) part.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** 저장된 기록 파일들을 스레드별로 나눠 읽어 집계 */
+    public static GameStatistics analyze(List<Path> archives, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<GameStatistics>> parts = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                final int worker = w;
+                parts.add(pool.submit(() -> {
+                    GameStatistics stats = new GameStatistics();
+                    for (int i = worker; i < archives.size(); i += threads) {
+                        try (InputStream in = Files.newInputStream(archives.get(i))) {
+                            GameEventLog.replay(in, stats);
+                        }
+                    }
+                    return stats;
+                }));
+            }
+            return mergeAll(parts);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static GameStatistics mergeAll(List<Future<GameStatistics>> parts) throws Exception {
+        GameStatistics total = new GameStatistics();
+        for (Future<GameStatistics> part : parts) total.merge(part.get());
+        return total;
+    }
+
+    /** prefix.csv, prefix.json 보고서 저장 */
+    public static void writeReports(GameStatistics stats, String prefix) throws IOException {
+        try (Writer out = Files.newBufferedWriter(Paths.get(prefix + ".csv"), StandardCharsets.UTF_8)) {
+            stats.writeCsv(out);
+        }
+        try (Writer out = Files.newBufferedWriter(Paths.get(prefix + ".json"), StandardCharsets.UTF_8)) {
+            stats.writeJson(out);
+        }
+    }
+
+    /**
+     * 사용법:
+     *   java StatisticsPipeline simulate <게임 수> <스레드 수> <보고서 접두어>
+     *   java StatisticsPipeline analyze <보고서 접두어> <기록 파일>...
+     *   java StatisticsPipeline record <게임 수> <스레드 수> <결과 디렉터리>
+     *   java StatisticsPipeline winrate <결과 디렉터리> <판 종류> <인원> <말 수>
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        if (args[0].equals("record")) {
+            long games = Long.parseLong(args[1]);
+            List<PlayConfig> configs = new ArrayList<>();
+            for (PlayConfig.BoardType type : PlayConfig.BoardType.values()) {
+                for (int pieces = 2; pieces <= 5; pieces++) configs.add(new PlayConfig(2, pieces, type));
+            }
+            record(games, Integer.parseInt(args[2]), configs, System.nanoTime(), Paths.get(args[3]));
+            System.out.printf("게임 %d판 기록, %.1f초\n", games, (System.nanoTime() - start) / 1e9);
+            return;
+        }
+        if (args[0].equals("winrate")) {
+            ResultStore store = ResultStore.open(Paths.get(args[1]));
+            PlayConfig.BoardType type = PlayConfig.BoardType.valueOf(args[2]);
+            int players = Integer.parseInt(args[3]), pieces = Integer.parseInt(args[4]);
+            long[] wins = store.winsBySeat(type, players, pieces);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            for (int s = 0; s < players; s++) {
+                System.out.printf("자리 %d: %d승 (%.2f%%)\n", s, wins[s], 100.0 * wins[s] / Math.max(1, wins[players]));
+            }
+            System.out.printf("전체 %d행 중 %d판, %.2f초 (초당 %.0f행)\n",
+                    store.rows(), wins[players], seconds, store.rows() / seconds);
+            return;
+        }
+        GameStatistics stats;
+        String prefix;
+        if (args[0].equals("simulate")) {
+            long games = Long.parseLong(args[1]);
+            threads = Integer.parseInt(args[2]);
+            prefix = args[3];
+            List<PlayConfig> configs = new ArrayList<>();
+            for (PlayConfig.BoardType type : PlayConfig.BoardType.values()) {
+                for (int pieces = 2; pieces <= 5; pieces++) configs.add(new PlayConfig(2, pieces, type));
+            }
+            stats = simulate(games, threads, configs, System.nanoTime());
+        } else {
+            prefix = args[1];
+            List<Path> files = new ArrayList<>();
+            for (int i = 2; i < args.length; i++) files.add(Paths.get(args[i]));
+            stats = analyze(files, threads);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        writeReports(stats, prefix);
+        System.out.printf("게임 %d판, 이동 %d회, %.1f초 (초당 이동 %.0f회)\n",
+                stats.getGames(), stats.getMoves(), seconds, stats.getMoves() / seconds);
+    }
+}
@@ -0,0 +1,218 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 윷가락 네 개의 던지기 모델 (불변).
+ * 가락마다 평평한 면이 나올 확률을 따로 두고, 한 가락(표시 가락)에 빽도 표시가 있다:
+ * 평평한 면이 표시 가락 하나뿐이면 빽도, 다른 가락 하나뿐이면 도.
+ *
+ * 16가지 앞뒤 조합을 모두 더해 결과 분포를 정확히 계산하고, 그 분포를 별칭(alias) 표로 만들어 둔다.
+ * 던지기 한 번은 난수 하나와 배열 조회 두 번이며, 가락별 확률이 어떻든 표 크기는 결과 수(6)로 같다.
+ * standard()는 기존 분포(모든 가락 평평 0.6, 도 네 번 중 한 번 빽도)와 같다.
+ */
+public final class ThrowModel {
+    public static final int STICKS = 4;
+    public static final double STANDARD_FLAT = 0.6;   // 기본 가락의 평평한 면 확률
+    private static final Yut.Result[] RESULTS = Yut.Result.values();
+    private static final ThrowModel STANDARD = new ThrowModel(
+            new double[] {STANDARD_FLAT, STANDARD_FLAT, STANDARD_FLAT, STANDARD_FLAT}, 0);
+
+    private final double[] flat;            // [가락] 평평한 면 확률
+    private final int markedStick;          // 빽도 표시 가락 (-1이면 빽도 없음)
+    private final double[] probability;     // [결과 ordinal] 정확한 확률
+    private final double[] accept;          // 별칭 표: 칸 i를 그대로 쓸 확률
+    private final int[] alias;              // 별칭 표: 아니면 쓸 결과
+
+    /**
+     * @param flatProbabilities 가락별 평평한 면 확률 (4개)
+     * @param markedStick       빽도 표시 가락 번호 (-1이면 표시 없음)
+     */
+    public ThrowModel(double[] flatProbabilities, int markedStick) {
+        if (flatProbabilities.length != STICKS) {
+            throw new IllegalArgumentException("윷가락은 " + STICKS + "개여야 합니다: " + flatProbabilities.length);
+        }
+        for (double p : flatProbabilities) {
+            if (!(p >= 0 && p <= 1)) throw new IllegalArgumentException("확률은 0~1 사이여야 합니다: " + p);
+        }
+        if (markedStick < -1 || markedStick >= STICKS) {
+            throw new IllegalArgumentException("표시 가락 번호가 잘못되었습니다: " + markedStick);
+        }
+        this.flat = flatProbabilities.clone();
+        this.markedStick = markedStick;
+        this.probability = distribution(flat, markedStick);
+        this.accept = new double[RESULTS.length];
+        this.alias = new int[RESULTS.length];
+        buildAliasTable(probability, accept, alias);
+    }
+
+    /** 기본 모델 */
+    public static ThrowModel standard() { return STANDARD; }
+
+    public double getFlatProbability(int stick) { return flat[stick]; }
+    public int getMarkedStick() { return markedStick; }
+
+    /** 결과가 나올 확률 */
+    public double probability(Yut.Result result) { return probability[result.ordinal()]; }
+
+    /** 결과 분포 ([결과 ordinal]) */
+    public double[] distribution() { return probability.clone(); }
+
+    /** 한 번 던지기 (상수 시간) */
+    public Yut.Result sample(Random random) {
+        double u = random.nextDouble() * RESULTS.length;
+        int i = (int) u;
+        return RESULTS[u - i < accept[i] ? i : alias[i]];
+    }
+
+    /** 가락 앞뒤 조합 16가지를 모두 더한 정확한 결과 분포 */
+    static double[] distribution(double[] flat, int markedStick) {
+        double[] dist = new double[RESULTS.length];
+        for (int mask = 0; mask < 1 << STICKS; mask++) {   // 비트 = 평평한 면이 나온 가락
+            double p = 1;
+            for (int s = 0; s < STICKS; s++) p *= (mask & (1 << s)) != 0 ? flat[s] : 1 - flat[s];
+            dist[resultOf(mask, markedStick).ordinal()] += p;
+        }
+        return dist;
+    }
+
+    /** 평평한 면이 나온 가락 비트마스크 -> 결과 */
+    private static Yut.Result resultOf(int flatMask, int markedStick) {
+        switch (Integer.bitCount(flatMask)) {
+            case 0: return Yut.Result.모;      // 모두 둥근 면
+            case 4: return Yut.Result.윷;      // 모두 평평 면
+            case 3: return Yut.Result.걸;
+            case 2: return Yut.Result.개;
+            default: return flatMask == 1 << markedStick ? Yut.Result.빽도 : Yut.Result.도;
+        }
+    }
+
+    /** Vose 별칭 표 구성 */
+    private static void buildAliasTable(double[] prob, double[] accept, int[] alias) {
+        int n = prob.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n], large = new int[n];
+        int ns = 0, nl = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = prob[i] * n;
+            if (scaled[i] < 1) small[ns++] = i;
+            else large[nl++] = i;
+        }
+        while (ns > 0 && nl > 0) {
+            int s = small[--ns], l = large[--nl];
+            accept[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] -= 1 - scaled[s];
+            if (scaled[l] < 1) small[ns++] = l;
+            else large[nl++] = l;
+        }
+        // 남은 칸은 반올림 오차만 있으므로 그대로 사용
+        while (nl > 0) { int l = large[--nl]; accept[l] = 1; alias[l] = l; }
+        while (ns > 0) { int s = small[--ns]; accept[s] = 1; alias[s] = s; }
+    }
+
+    // --- 보정 ---
+
+    /**
+     * 결과별 관측 횟수로 가락별 평평한 면 확률을 최대 우도로 맞춘다.
+     * 각 결과 확률은 가락 하나의 확률에 대해 일차식이므로 가락 하나씩 바꾸는 로그 우도는 오목하고,
+     * 가락마다 황금 분할 탐색을 번갈아 반복한다. 표시 없는 가락끼리는 서로 바꿔도 분포가 같으므로
+     * 가락 번호의 순서는 의미가 없다.
+     * @param counts      [결과 ordinal] 관측 횟수
+     * @param markedStick 빽도 표시 가락 번호
+     */
+    public static ThrowModel fit(long[] counts, int markedStick) {
+        double[] flat = new double[STICKS];
+        Arrays.fill(flat, STANDARD_FLAT);
+        double previous = logLikelihood(counts, flat, markedStick);
+        for (int sweep = 0; sweep < 200; sweep++) {
+            for (int s = 0; s < STICKS; s++) flat[s] = maximizeStick(counts, flat, markedStick, s);
+            double current = logLikelihood(counts, flat, markedStick);
+            if (current - previous < 1e-12 * Math.max(1, Math.abs(current))) break;
+            previous = current;
+        }
+        return new ThrowModel(flat, markedStick);
+    }
+
+    /** 다른 가락을 고정하고 가락 s의 확률만 황금 분할 탐색 */
+    private static double maximizeStick(long[] counts, double[] flat, int markedStick, int s) {
+        final double ratio = (Math.sqrt(5) - 1) / 2;
+        double lo = 1e-9, hi = 1 - 1e-9;
+        double[] trial = flat.clone();
+        for (int i = 0; i < 100 && hi - lo > 1e-12; i++) {
+            double a = hi - ratio * (hi - lo), b = lo + ratio * (hi - lo);
+            trial[s] = a;
+            double fa = logLikelihood(counts, trial, markedStick);
+            trial[s] = b;
+            double fb = logLikelihood(counts, trial, markedStick);
+            if (fa < fb) lo = a;
+            else hi = b;
+        }
+        return (lo + hi) / 2;
+    }
+
+    /** 관측 횟수의 로그 우도 */
+    static double logLikelihood(long[] counts, double[] flat, int markedStick) {
+        double[] dist = distribution(flat, markedStick);
+        double ll = 0;
+        for (int r = 0; r < dist.length; r++) {
+            if (counts[r] > 0) ll += counts[r] * Math.log(Math.max(dist[r], 1e-300));
+        }
+        return ll;
+    }
+
+    /** 게임 기록(GameEventLog)의 던지기 결과를 세어 counts에 더한다 */
+    public static void countThrows(InputStream in, long[] counts) throws IOException {
+        GameEventLog.replay(in, new GameEventSink() {
+            @Override public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) { }
+            @Override public void thrown(int player, Yut.Result result) { counts[result.ordinal()]++; }
+            @Override public void moved(int player, Yut.Result result, int from, int to, int captured) { }
+            @Override public void turnEnded(int player) { }
+            @Override public void gameEnded(int winner, int turns) { }
+        });
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ThrowModel)) return false;
+        ThrowModel other = (ThrowModel) o;
+        return markedStick == other.markedStick && Arrays.equals(flat, other.flat);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(flat) + markedStick;
+    }
+
+    @Override
+    public String toString() {
+        return "ThrowModel[평평 확률=" + Arrays.toString(flat) + ", 빽도 표시 가락=" + markedStick + "]";
+    }
+
+    /**
+     * 던지기 기록으로 모델 보정.
+     * 사용법: java ThrowModel <빽도 표시 가락 번호> <기록 파일>...
+     */
+    public static void main(String[] args) throws IOException {
+        int marked = Integer.parseInt(args[0]);
+        long[] counts = new long[RESULTS.length];
+        for (int i = 1; i < args.length; i++) {
+            try (InputStream in = Files.newInputStream(Paths.get(args[i]))) {
+                countThrows(in, counts);
+            }
+        }
+        long total = Arrays.stream(counts).sum();
+        if (total == 0) {
+            System.out.println("던지기 기록이 없습니다.");
+            return;
+        }
+        ThrowModel model = fit(counts, marked);
+        System.out.println("던지기 " + total + "회 -> " + model);
+        for (Yut.Result r : RESULTS) {
+            System.out.printf("%s: 관측 %.4f, 모델 %.4f%n", r, counts[r.ordinal()] / (double) total, model.probability(r));
+        }
+    }
+}
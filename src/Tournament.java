@@ -0,0 +1,401 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 봇 리그전.
+ * 봇 쌍 x 자리 순서 x 판 종류 x 말 개수(2~5)의 모든 조합을 2인 게임으로 치르고,
+ * Bradley-Terry 최대우도로 Elo 점수와 부트스트랩 95% 신뢰구간을 계산한다.
+ *
+ * - 게임 하나가 작업 하나이며, 고정 크기 스레드 풀(CPU를 쓰는 봇) 또는
+ *   가상 스레드(JDK 21 이상에서만 사용 가능)에서 실행된다.
+ * - 봇 한 수가 제한 시간을 넘기면 그 게임은 시간패로 처리된다 (멈춘 봇도 제한 시간에 끊는다).
+ * - 끝난 게임은 체크포인트 파일에 한 줄씩 추가되어, 다시 실행하면 남은 게임만 진행한다.
+ *   파일 첫 줄에 일정(봇 목록, 조합당 게임 수, 말 개수 범위, 시드)을 적어 두고, 다른 일정으로는 이어 가지 않는다.
+ */
+public class Tournament {
+    private static final int MIN_PIECES = 2;
+    private static final int MAX_PIECES = 5;
+    private static final int BOOTSTRAP_SAMPLES = 200;
+    private static final String CHECKPOINT_HEADER = "# tournament ";
+
+    // 게임 결과 (자리 0 기준)
+    private static final byte PENDING = -1;
+    private static final byte SEAT0_WIN = 0;
+    private static final byte SEAT1_WIN = 1;
+    private static final byte DRAW = 2;
+
+    /** 게임마다 새 봇을 만드는 팩토리 (봇은 스레드 안전하지 않아도 된다) */
+    public interface BotFactory {
+        Bot create(Random random);
+    }
+
+    private final List<String> names = new ArrayList<>();
+    private final List<BotFactory> factories = new ArrayList<>();
+    private final int gamesPerCell;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean virtualThreads;
+    private long moveLimitNanos;
+    private Path checkpoint;
+    private long seed = 20240501L;
+
+    // 일정: 게임 번호 -> 봇/자리/판/말 개수
+    private int[] seat0Bot, seat1Bot, boardType, pieceCount;
+    private byte[] outcome;
+    private boolean[] forfeit;
+
+    private final AtomicLong moves = new AtomicLong();
+    private final AtomicLong cpuNanos = new AtomicLong();
+    private BufferedWriter checkpointOut;
+
+    /** @param gamesPerCell 조합(봇 쌍, 자리 순서, 판, 말 개수)마다 치를 게임 수 */
+    public Tournament(int gamesPerCell) {
+        this.gamesPerCell = gamesPerCell;
+    }
+
+    public void addBot(String name, BotFactory factory) {
+        names.add(name);
+        factories.add(factory);
+    }
+
+    public void setThreads(int threads) { this.threads = threads; }
+    /** 가상 스레드 사용 (JDK 21 미만이면 고정 스레드 풀로 대체) */
+    public void setVirtualThreads(boolean virtualThreads) { this.virtualThreads = virtualThreads; }
+    /** 봇 한 수의 제한 시간 (0이면 제한 없음) */
+    public void setMoveLimit(long time, TimeUnit unit) { this.moveLimitNanos = unit.toNanos(time); }
+    public void setCheckpoint(Path checkpoint) { this.checkpoint = checkpoint; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    /** 모든 게임 진행 후 결과 보고서 반환 */
+    public Report run() throws Exception {
+        schedule();
+        int resumed = loadCheckpoint();
+        if (checkpoint != null) {
+            boolean fresh = !Files.exists(checkpoint) || Files.size(checkpoint) == 0;
+            checkpointOut = Files.newBufferedWriter(checkpoint, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (fresh) {
+                checkpointOut.write(scheduleHeader() + "\n");
+                checkpointOut.flush();
+            }
+        }
+
+        PlayConfig.BoardType[] types = PlayConfig.BoardType.values();
+        GameSimulator[][] simulators = new GameSimulator[types.length][MAX_PIECES + 1];
+        for (PlayConfig.BoardType type : types) {
+            for (int pc = MIN_PIECES; pc <= MAX_PIECES; pc++) {
+                simulators[type.ordinal()][pc] = new GameSimulator(new PlayConfig(2, pc, type));
+            }
+        }
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        boolean cpuTimed = threadBean.isCurrentThreadCpuTimeSupported();
+        long start = System.nanoTime();
+        ExecutorService executor = newExecutor();
+        try {
+            for (int id = 0; id < outcome.length; id++) {
+                if (outcome[id] != PENDING) continue;
+                final int game = id;
+                executor.execute(() -> {
+                    long cpuStart = cpuTimed ? threadBean.getCurrentThreadCpuTime() : 0;
+                    playGame(game, simulators[boardType[game]][pieceCount[game]]);
+                    if (cpuTimed) cpuNanos.addAndGet(threadBean.getCurrentThreadCpuTime() - cpuStart);
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            if (checkpointOut != null) checkpointOut.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Report(outcome.length - resumed, seconds, cpuTimed ? cpuNanos.get() / 1e9 : Double.NaN);
+    }
+
+    private ExecutorService newExecutor() {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.out.println("가상 스레드를 사용할 수 없어 고정 스레드 풀로 진행합니다.");
+            }
+        }
+        return Executors.newFixedThreadPool(threads);
+    }
+
+    /** 게임 번호 순서로 전체 일정 생성 (체크포인트와 재현성을 위해 항상 같은 순서) */
+    private void schedule() {
+        int bots = names.size();
+        int types = PlayConfig.BoardType.values().length;
+        int total = bots * (bots - 1) * types * (MAX_PIECES - MIN_PIECES + 1) * gamesPerCell;
+        seat0Bot = new int[total];
+        seat1Bot = new int[total];
+        boardType = new int[total];
+        pieceCount = new int[total];
+        outcome = new byte[total];
+        forfeit = new boolean[total];
+        Arrays.fill(outcome, PENDING);
+
+        int id = 0;
+        for (int a = 0; a < bots; a++) {
+            for (int b = 0; b < bots; b++) {
+                if (a == b) continue;   // (a, b)와 (b, a)로 자리 순서를 바꿔 둔다
+                for (int t = 0; t < types; t++) {
+                    for (int pc = MIN_PIECES; pc <= MAX_PIECES; pc++) {
+                        for (int g = 0; g < gamesPerCell; g++) {
+                            seat0Bot[id] = a;
+                            seat1Bot[id] = b;
+                            boardType[id] = t;
+                            pieceCount[id] = pc;
+                            id++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void playGame(int id, GameSimulator simulator) {
+        Random random = new Random(seed * 0x9E3779B97F4A7C15L + id);
+        Bot[] bots = {
+                factories.get(seat0Bot[id]).create(random),
+                factories.get(seat1Bot[id]).create(random)
+        };
+        long[] moveCount = new long[1];
+        GameEventSink counter = new GameEventSink() {
+            @Override public void gameStarted(PlayConfig.BoardType type, int players, int pieces) { }
+            @Override public void thrown(int player, Yut.Result result) { }
+            @Override public void moved(int player, Yut.Result result, int from, int to, int captured) { moveCount[0]++; }
+            @Override public void turnEnded(int player) { }
+            @Override public void gameEnded(int winner, int turns) { }
+        };
+
+        byte result;
+        boolean timedOut = false;
+        try {
+            int winner = simulator.play(bots, random, counter, moveLimitNanos);
+            result = winner < 0 ? DRAW : (byte) winner;
+        } catch (GameSimulator.TimeForfeitException e) {
+            result = e.getPlayer() == 0 ? SEAT1_WIN : SEAT0_WIN;
+            timedOut = true;
+        }
+        moves.addAndGet(moveCount[0]);
+        forfeit[id] = timedOut;
+        outcome[id] = result;
+        writeCheckpoint(id, result, timedOut);
+    }
+
+    /** 체크포인트 한 줄: 게임 번호, 결과, 시간패 여부 */
+    private synchronized void writeCheckpoint(int id, byte result, boolean timedOut) {
+        if (checkpointOut == null) return;
+        try {
+            checkpointOut.write(id + " " + result + " " + (timedOut ? 1 : 0) + "\n");
+            checkpointOut.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("체크포인트 쓰기 실패", e);
+        }
+    }
+
+    /** 체크포인트 첫 줄: 게임 번호가 가리키는 일정을 정하는 값 */
+    private String scheduleHeader() {
+        return CHECKPOINT_HEADER + "bots=" + String.join(",", names) + " gamesPerCell=" + gamesPerCell
+                + " boards=" + PlayConfig.BoardType.values().length + " pieces=" + MIN_PIECES + "-" + MAX_PIECES
+                + " seed=" + seed;
+    }
+
+    /**
+     * 체크포인트에서 끝난 게임 결과 복원, 복원한 게임 수 반환
+     * @throws IOException 체크포인트의 일정이 현재 설정과 다를 때 (게임 번호가 다른 게임을 가리키게 됨)
+     */
+    private int loadCheckpoint() throws IOException {
+        if (checkpoint == null || !Files.exists(checkpoint) || Files.size(checkpoint) == 0) return 0;
+        int restored = 0;
+        try (BufferedReader in = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+            String line = in.readLine();
+            if (!scheduleHeader().equals(line)) {
+                throw new IOException("체크포인트의 일정이 현재 설정과 다릅니다: " + checkpoint
+                        + "\n  파일: " + line + "\n  현재: " + scheduleHeader());
+            }
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length != 3) continue;   // 중단 시 잘린 마지막 줄
+                int id = Integer.parseInt(parts[0]);
+                if (id >= outcome.length || outcome[id] != PENDING) continue;
+                outcome[id] = Byte.parseByte(parts[1]);
+                forfeit[id] = parts[2].equals("1");
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    // --- Elo ---
+
+    /** 게임 목록(인덱스)으로 봇별 Elo 계산 (평균 0 기준) */
+    private double[] elo(int[] games) {
+        int bots = names.size();
+        double[] wins = new double[bots];
+        double[][] played = new double[bots][bots];
+        // 모든 쌍에 가상의 무승부 한 판을 더해 전승/전패 봇도 유한한 값이 나오게 한다
+        for (int a = 0; a < bots; a++) {
+            wins[a] += 0.5 * (bots - 1);
+            for (int b = 0; b < bots; b++) if (a != b) played[a][b] += 0.5;
+        }
+        for (int id : games) {
+            int a = seat0Bot[id], b = seat1Bot[id];
+            played[a][b]++;
+            played[b][a]++;
+            if (outcome[id] == SEAT0_WIN) wins[a]++;
+            else if (outcome[id] == SEAT1_WIN) wins[b]++;
+            else { wins[a] += 0.5; wins[b] += 0.5; }
+        }
+
+        return bradleyTerry(wins, played);
+    }
+
+    /**
+     * Bradley-Terry 최대우도 강도를 MM 반복으로 구해 Elo 척도(400 log10, 평균 0)로 돌려준다.
+     * @param wins   [봇] 승점 (무승부는 0.5)
+     * @param played [봇][상대] 맞붙은 게임 수
+     */
+    static double[] bradleyTerry(double[] wins, double[][] played) {
+        int bots = wins.length;
+        double[] gamma = new double[bots];
+        Arrays.fill(gamma, 1);
+        for (int iter = 0; iter < 500; iter++) {
+            double change = 0;
+            for (int a = 0; a < bots; a++) {
+                double denom = 0;
+                for (int b = 0; b < bots; b++) {
+                    if (a != b) denom += played[a][b] / (gamma[a] + gamma[b]);
+                }
+                double next = wins[a] / denom;
+                change = Math.max(change, Math.abs(next - gamma[a]) / gamma[a]);
+                gamma[a] = next;
+            }
+            if (change < 1e-9) break;
+        }
+
+        double[] rating = new double[bots];
+        double mean = 0;
+        for (int a = 0; a < bots; a++) {
+            rating[a] = 400 * Math.log10(gamma[a]);
+            mean += rating[a] / bots;
+        }
+        for (int a = 0; a < bots; a++) rating[a] -= mean;
+        return rating;
+    }
+
+    /** 리그전 결과 */
+    public class Report {
+        private final int playedGames;
+        private final double seconds;
+        private final double cpuSeconds;
+        private final double[] rating;
+        private final double[] low;
+        private final double[] high;
+
+        Report(int playedGames, double seconds, double cpuSeconds) {
+            this.playedGames = playedGames;
+            this.seconds = seconds;
+            this.cpuSeconds = cpuSeconds;
+
+            int[] all = new int[outcome.length];
+            for (int i = 0; i < all.length; i++) all[i] = i;
+            this.rating = elo(all);
+
+            // 부트스트랩: 게임을 복원 추출해 Elo를 다시 구하고 2.5%, 97.5% 분위를 취한다
+            int bots = names.size();
+            double[][] samples = new double[bots][BOOTSTRAP_SAMPLES];
+            Random random = new Random(seed);
+            int[] resample = new int[all.length];
+            for (int s = 0; s < BOOTSTRAP_SAMPLES; s++) {
+                for (int i = 0; i < resample.length; i++) resample[i] = random.nextInt(all.length);
+                double[] r = elo(resample);
+                for (int a = 0; a < bots; a++) samples[a][s] = r[a];
+            }
+            this.low = new double[bots];
+            this.high = new double[bots];
+            for (int a = 0; a < bots; a++) {
+                Arrays.sort(samples[a]);
+                low[a] = samples[a][(int) (BOOTSTRAP_SAMPLES * 0.025)];
+                high[a] = samples[a][(int) (BOOTSTRAP_SAMPLES * 0.975) - 1];
+            }
+        }
+
+        /** 이번 실행에서 진행한 게임 수 (체크포인트에서 복원한 게임 제외) */
+        public int getPlayedGames() { return playedGames; }
+        public int getTotalGames() { return outcome.length; }
+        public int getForfeits() {
+            int n = 0;
+            for (boolean f : forfeit) if (f) n++;
+            return n;
+        }
+        public double getRating(int bot) { return rating[bot]; }
+        public double getLow(int bot) { return low[bot]; }
+        public double getHigh(int bot) { return high[bot]; }
+
+        /** 순위표와 처리량 출력 */
+        public void print() {
+            int bots = names.size();
+            double[] score = new double[bots];
+            int[] games = new int[bots];
+            int forfeits = getForfeits();
+            for (int id = 0; id < outcome.length; id++) {
+                int a = seat0Bot[id], b = seat1Bot[id];
+                games[a]++;
+                games[b]++;
+                if (outcome[id] == SEAT0_WIN) score[a]++;
+                else if (outcome[id] == SEAT1_WIN) score[b]++;
+                else { score[a] += 0.5; score[b] += 0.5; }
+            }
+            Integer[] order = new Integer[bots];
+            for (int a = 0; a < bots; a++) order[a] = a;
+            Arrays.sort(order, (x, y) -> Double.compare(rating[y], rating[x]));
+
+            System.out.printf("%-12s %7s %17s %7s %7s%n", "봇", "Elo", "95% 구간", "게임", "득점률");
+            for (int a : order) {
+                System.out.printf("%-12s %+7.1f [%+7.1f, %+7.1f] %7d %6.1f%%%n",
+                        names.get(a), rating[a], low[a], high[a], games[a], 100 * score[a] / games[a]);
+            }
+            int cores = Runtime.getRuntime().availableProcessors();
+            System.out.printf("이번 실행 %d판 (전체 %d판, 시간패 %d), %.1f초, 초당 %.0f판, 초당 이동 %.0f회%n",
+                    playedGames, outcome.length, forfeits, seconds, playedGames / seconds, moves.get() / seconds);
+            if (!Double.isNaN(cpuSeconds)) {
+                System.out.printf("CPU 사용률 %.0f%% (게임 CPU 시간 %.1f초 / 벽시계 %.1f초 x 코어 %d)%n",
+                        100 * cpuSeconds / (seconds * cores), cpuSeconds, seconds, cores);
+            }
+        }
+    }
+
+    /**
+     * 사용법: java Tournament <조합당 게임 수> <스레드 수|virtual> <수당 제한 ms> [체크포인트 파일]
+     */
+    public static void main(String[] args) throws Exception {
+        Tournament tournament = new Tournament(Integer.parseInt(args[0]));
+        if (args[1].equals("virtual")) tournament.setVirtualThreads(true);
+        else tournament.setThreads(Integer.parseInt(args[1]));
+        tournament.setMoveLimit(Long.parseLong(args[2]), TimeUnit.MILLISECONDS);
+        if (args.length > 3) tournament.setCheckpoint(Paths.get(args[3]));
+
+        tournament.addBot("random", RandomBot::new);
+        tournament.addBot("greedy", random -> new GreedyBot());
+        tournament.addBot("evaluator", random -> new EvaluatorBot());
+        tournament.addBot("planner", random -> new PlannerBot());
+        tournament.run().print();
+    }
+}
@@ -0,0 +1,174 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 탐색 스레드들이 함께 쓰는 고정 크기 전치표 (잠금 없음).
+ * 키는 64비트 위치 해시(Position.hash(), GameState는 Position.of(state).hash())이다.
+ *
+ * 항목 하나는 long 두 개 (키 ^ 값, 값)이고, 네 항목(64바이트)을 한 버킷으로 묶어 버킷 안에서만 찾는다.
+ * 두 long을 따로 쓰므로 다른 스레드가 같은 칸을 동시에 쓰면 짝이 섞일 수 있지만,
+ * 읽을 때 (첫 long ^ 둘째 long) == 키 인지 확인하므로 섞인 항목은 없는 것으로 보인다 (XOR 검증).
+ * 각 long은 opaque 접근이라 32비트 JVM에서도 반쪽만 쓰인 값은 읽지 않는다.
+ *
+ * 값(64비트): 점수 float(0~31), 깊이(32~39), 세대(40~47), 최선 수(48~62, +1 저장), 유효 비트(63).
+ * 교체: 같은 키면 더 깊거나 이전 세대일 때만 덮어쓰고, 빈 칸이 없으면
+ * (깊이 - 8 * 세대 차이)가 가장 작은 항목을 밀어낸다. 탐색을 새로 시작할 때 newSearch()로 세대를 올린다.
+ */
+public final class TranspositionTable {
+    public static final int MAX_DEPTH = 255;
+    public static final int NO_MOVE = -1;
+    public static final int MAX_MOVE = (1 << 15) - 2;
+    private static final int BUCKET_ENTRIES = 4;
+    private static final int ENTRY_BYTES = 16;
+    private static final long VALID = 1L << 63;
+
+    private final AtomicLongArray slots;        // [항목 * 2] = 키 ^ 값, [항목 * 2 + 1] = 값
+    private final long bucketMask;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();    // 다른 키의 항목을 밀어낸 저장
+    private final LongAdder rejected = new LongAdder();        // 같은 키의 더 깊은 항목이 있어 버린 저장
+    private final LongAdder contended = new LongAdder();       // 읽는 도중 다른 스레드가 항목을 바꾼 경우
+
+    /** @param memoryBytes 메모리 예산 (버킷 크기의 2의 거듭제곱 배로 내림, 최소 한 버킷) */
+    public TranspositionTable(long memoryBytes) {
+        long buckets = Long.highestOneBit(Math.max(1, memoryBytes / (BUCKET_ENTRIES * ENTRY_BYTES)));
+        long longs = buckets * BUCKET_ENTRIES * 2;
+        if (longs > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("전치표 메모리 예산이 너무 큽니다: " + memoryBytes);
+        }
+        this.slots = new AtomicLongArray((int) longs);
+        this.bucketMask = buckets - 1;
+    }
+
+    // --- 값 묶기 ---
+
+    /**
+     * 저장할 값 묶기 (세대는 store가 채운다)
+     * @param depth 0 ~ MAX_DEPTH
+     * @param move  NO_MOVE 또는 0 ~ MAX_MOVE
+     */
+    public static long pack(float score, int depth, int move) {
+        if (depth < 0 || depth > MAX_DEPTH) throw new IllegalArgumentException("깊이 범위 밖: " + depth);
+        if (move < NO_MOVE || move > MAX_MOVE) throw new IllegalArgumentException("수 번호 범위 밖: " + move);
+        return VALID | (long) (move + 1) << 48 | (long) depth << 32 | (Float.floatToRawIntBits(score) & 0xFFFFFFFFL);
+    }
+
+    public static float score(long entry) { return Float.intBitsToFloat((int) entry); }
+    public static int depth(long entry) { return (int) (entry >>> 32) & 0xFF; }
+    public static int move(long entry) { return ((int) (entry >>> 48) & 0x7FFF) - 1; }
+    static int age(long entry) { return (int) (entry >>> 40) & 0xFF; }
+
+    // --- 조회와 저장 ---
+
+    /** 키의 항목 (없으면 0, 있으면 score/depth/move로 푼다) */
+    public long probe(long key) {
+        probes.increment();
+        int base = bucketOf(key);
+        for (int i = base, end = base + BUCKET_ENTRIES * 2; i < end; i += 2) {
+            long data = slots.getOpaque(i + 1);
+            if (data == 0) continue;
+            if ((slots.getOpaque(i) ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+            if (slots.getOpaque(i + 1) != data) contended.increment();
+        }
+        return 0;
+    }
+
+    /** 항목 저장 (pack으로 만든 값) */
+    public void store(long key, long packed) {
+        stores.increment();
+        int gen = generation;
+        long data = packed & ~(0xFFL << 40) | (long) gen << 40;
+        int base = bucketOf(key);
+        int victim = -1;
+        int victimValue = Integer.MAX_VALUE;
+        for (int i = base, end = base + BUCKET_ENTRIES * 2; i < end; i += 2) {
+            long old = slots.getOpaque(i + 1);
+            if (old == 0) {                                             // 빈 칸
+                if (victimValue > Integer.MIN_VALUE) {
+                    victim = i;
+                    victimValue = Integer.MIN_VALUE;
+                }
+                continue;
+            }
+            if ((slots.getOpaque(i) ^ old) == key) {                   // 같은 키
+                if (depth(data) < depth(old) && age(old) == gen) {
+                    rejected.increment();
+                    return;
+                }
+                write(i, key, data);
+                return;
+            }
+            int value = depth(old) - 8 * ((gen - age(old)) & 0xFF);
+            if (value < victimValue) {
+                victim = i;
+                victimValue = value;
+            }
+        }
+        if (victimValue > Integer.MIN_VALUE) replacements.increment();
+        write(victim, key, data);
+    }
+
+    private void write(int i, long key, long data) {
+        slots.setOpaque(i, key ^ data);
+        slots.setOpaque(i + 1, data);
+    }
+
+    private int bucketOf(long key) {
+        // 위치 해시의 위쪽 비트로 버킷을 고른다 (아래쪽 비트는 키 검증에 그대로 쓰임)
+        return (int) ((key >>> 20 ^ key) & bucketMask) * BUCKET_ENTRIES * 2;
+    }
+
+    /** 새 탐색 시작: 이전 탐색의 항목을 먼저 밀어내도록 세대를 올린다 */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    /** 모든 항목 비우기 (탐색 스레드가 없을 때 호출) */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) slots.setOpaque(i, 0);
+    }
+
+    // --- 지표 ---
+
+    /** 항목 수 */
+    public long capacity() { return (bucketMask + 1) * BUCKET_ENTRIES; }
+    /** 실제 사용 메모리 (바이트) */
+    public long getMemoryBytes() { return capacity() * ENTRY_BYTES; }
+    public long getProbes() { return probes.sum(); }
+    public long getHits() { return hits.sum(); }
+    public long getStores() { return stores.sum(); }
+    public long getReplacements() { return replacements.sum(); }
+    public long getRejectedStores() { return rejected.sum(); }
+    /** 항목을 읽는 도중 다른 스레드의 저장과 겹친 횟수 (경합 지표) */
+    public long getContendedReads() { return contended.sum(); }
+
+    /** 적중률 (조회가 없으면 0) */
+    public double getHitRate() {
+        long p = getProbes();
+        return p == 0 ? 0 : getHits() / (double) p;
+    }
+
+    /** 현재 세대로 채워진 항목 비율 (앞쪽 최대 1000버킷 표본) */
+    public double getOccupancy() {
+        int sampled = (int) Math.min(bucketMask + 1, 1000) * BUCKET_ENTRIES;
+        int used = 0;
+        for (int e = 0; e < sampled; e++) {
+            long data = slots.getOpaque(e * 2 + 1);
+            if (data != 0 && age(data) == generation) used++;
+        }
+        return used / (double) sampled;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TranspositionTable[항목 %d, 조회 %d, 적중률 %.1f%%, 저장 %d, 교체 %d, 경합 %d]",
+                capacity(), getProbes(), 100 * getHitRate(), getStores(), getReplacements(), getContendedReads());
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 한 턴 던지기 단계의 결과 묶음 분포 (불변).
+ * 한 턴은 윷/모가 이어지는 동안 계속 던지고 도/개/걸/빽도(또는 낙)에서 끝나므로,
+ * 윷 a번, 모 b번 뒤 끝 결과 t가 나오는 묶음의 확률은 C(a+b, a) * P(윷)^a * P(모)^b * P(t)로 닫힌 식이다.
+ * 던지는 순서는 TurnPlanner가 묶음만 보므로 합쳐 두며, 이어 던질 확률의 거듭제곱이 epsilon 아래로
+ * 떨어지면 나머지는 잘라 낸다 (getTruncatedMass).
+ *
+ * 기대값 탐색은 던지기 하나씩(결과 5~6가지, 윷/모마다 다시 분기) 대신 이 묶음들로 한 번에 분기한다.
+ * 이어 던지기 n번의 순서 2^n가지가 n+1가지 묶음으로 줄어든다.
+ * 잡기로 얻는 추가 던지기와 말이 없을 때의 빽도 처리는 위치에 따라 다르므로 포함하지 않는다.
+ * 같은 모델, 낙 확률, epsilon에 대해서는 한 번만 계산한다.
+ */
+public final class TurnOutcomes {
+    public static final double DEFAULT_EPSILON = 1e-9;
+    public static final int MAX_THROWS = 15;            // 묶음 키가 결과별 4비트이므로 한 턴 최대 던지기 수
+    private static final Yut.Result[] RESULTS = Yut.Result.values();
+    private static final Map<List<Object>, TurnOutcomes> CACHE = new ConcurrentHashMap<>();
+
+    /** 결과 묶음 하나와 그 확률 (불변) */
+    public static final class Outcome {
+        private final int[] counts;
+        private final double probability;
+        private final List<Yut.Result> results;
+
+        Outcome(int[] counts, double probability) {
+            this.counts = counts;
+            this.probability = probability;
+            List<Yut.Result> list = new ArrayList<>();
+            for (Yut.Result r : RESULTS) {
+                for (int i = 0; i < counts[r.ordinal()]; i++) list.add(r);
+            }
+            this.results = Collections.unmodifiableList(list);
+        }
+
+        public double getProbability() { return probability; }
+        public int getCount(Yut.Result result) { return counts[result.ordinal()]; }
+        /** 묶음의 결과들 (결과 순서대로, 낙으로 끝난 턴은 윷/모만, 첫 던지기가 낙이면 빈 목록) */
+        public List<Yut.Result> getResults() { return results; }
+        /** 묶음 키: 결과별 개수를 4비트씩 묶은 값 */
+        public long key() { return pack(counts); }
+
+        @Override
+        public String toString() {
+            return results + "=" + probability;
+        }
+    }
+
+    private final List<Outcome> outcomes;
+    private final Map<Long, Outcome> byKey;
+    private final double truncatedMass;
+
+    private TurnOutcomes(ThrowModel model, double nakProbability, double epsilon) {
+        double keep = 1 - nakProbability;
+        double yut = keep * model.probability(Yut.Result.윷);
+        double mo = keep * model.probability(Yut.Result.모);
+        double extend = yut + mo;
+
+        List<Outcome> list = new ArrayList<>();
+        double remaining = 1;               // 이어 던지기를 n번 이상 할 확률 = extend^n
+        for (int n = 0; n < MAX_THROWS && remaining >= epsilon; n++) {
+            for (int a = 0; a <= n; a++) {
+                double chain = binomial(n, a) * Math.pow(yut, a) * Math.pow(mo, n - a);
+                if (chain == 0) continue;
+                int[] base = new int[RESULTS.length];
+                base[Yut.Result.윷.ordinal()] = a;
+                base[Yut.Result.모.ordinal()] = n - a;
+                if (nakProbability > 0) list.add(new Outcome(base, chain * nakProbability));
+                for (Yut.Result end : RESULTS) {
+                    if (end == Yut.Result.윷 || end == Yut.Result.모) continue;
+                    double p = keep * model.probability(end);
+                    if (p == 0) continue;
+                    int[] counts = base.clone();
+                    counts[end.ordinal()]++;
+                    list.add(new Outcome(counts, chain * p));
+                }
+            }
+            remaining *= extend;
+        }
+        // 끝 결과로 끝나는 묶음과 낙으로 끝나는 묶음은 겹치지 않으므로 합칠 필요가 없다
+        list.sort((x, y) -> Double.compare(y.probability, x.probability));
+        this.outcomes = Collections.unmodifiableList(list);
+        this.byKey = new HashMap<>();
+        for (Outcome o : list) byKey.put(o.key(), o);
+        this.truncatedMass = remaining;
+    }
+
+    /** 규칙의 윷가락 모델과 낙 확률에 대한 분포 (기본 epsilon) */
+    public static TurnOutcomes of(RuleSet rules) {
+        return of(rules.getThrowModel(), rules.getNakProbability(), DEFAULT_EPSILON);
+    }
+
+    /**
+     * @param nakProbability 던지기가 낙으로 무효가 될 확률
+     * @param epsilon        이어 던질 확률이 이 값보다 작아지면 더 긴 턴은 잘라 낸다
+     */
+    public static TurnOutcomes of(ThrowModel model, double nakProbability, double epsilon) {
+        if (!(nakProbability >= 0 && nakProbability < 1)) {
+            throw new IllegalArgumentException("낙 확률은 0 이상 1 미만이어야 합니다: " + nakProbability);
+        }
+        if (!(epsilon > 0)) throw new IllegalArgumentException("epsilon은 0보다 커야 합니다: " + epsilon);
+        return CACHE.computeIfAbsent(Arrays.asList(model, nakProbability, epsilon),
+                k -> new TurnOutcomes(model, nakProbability, epsilon));
+    }
+
+    /** 결과 묶음들 (확률 큰 순서) */
+    public List<Outcome> getOutcomes() { return outcomes; }
+
+    /** 잘라 낸 긴 턴들의 확률 합 (나머지 묶음 확률 합 = 1 - 이 값) */
+    public double getTruncatedMass() { return truncatedMass; }
+
+    /** 결과 묶음의 확률 (순서 무관, 잘라 냈거나 나올 수 없으면 0) */
+    public double probability(List<Yut.Result> results) {
+        int[] counts = new int[RESULTS.length];
+        for (Yut.Result r : results) counts[r.ordinal()]++;
+        Outcome o = byKey.get(pack(counts));
+        return o == null ? 0 : o.probability;
+    }
+
+    /** 묶음별 값의 기대값 (잘라 낸 확률만큼은 남은 묶음 위에서 다시 정규화) */
+    public double expectation(ToDoubleFunction<Outcome> value) {
+        double sum = 0;
+        for (Outcome o : outcomes) sum += o.probability * value.applyAsDouble(o);
+        return sum / (1 - truncatedMass);
+    }
+
+    private static long pack(int[] counts) {
+        long packed = 0;
+        for (int c : counts) packed = (packed << 4) | Math.min(c, 15);
+        return packed;
+    }
+
+    private static double binomial(int n, int k) {
+        double c = 1;
+        for (int i = 1; i <= k; i++) c = c * (n - k + i) / i;
+        return c;
+    }
+}
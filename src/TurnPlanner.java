@@ -0,0 +1,211 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 한 턴의 남은 윷 결과를 어떤 순서로 어느 말에 쓸지 정하는 계획기.
+ * 결과를 쓰는 모든 순서와 말 배정을 끝까지 탐색하고, 턴이 끝난 위치를 평가 함수로 점수 매겨
+ * 가장 좋은 이동 순서 전체를 돌려준다.
+ *
+ * 같은 상태를 여러 번 탐색하지 않도록 줄인다:
+ * - 전치: (위치 해시, 남은 결과 묶음)이 같으면 이전 결과를 재사용 (순서만 다른 이동열은 한 번만 평가)
+ * - 같은 결과(예: 윷 두 번)는 한 번만 시도
+ * - 업힌 말 묶음과 대기 말 꺼내기는 Position.legalMoves가 이미 한 선택지로 합쳐 준다
+ * 잡기로 얻는 추가 던지기는 아직 모르는 결과이므로 계획에 넣지 않는다 (평가 함수가 위치로 반영).
+ * 제한 시간이 있는 호출(MoveHintEngine)을 위해 앞의 몇 단계까지만 보거나 도중에 멈출 수 있다.
+ */
+public class TurnPlanner {
+    private static final Yut.Result[] RESULTS = Yut.Result.values();
+
+    /** 턴이 끝난 위치의 점수 (클수록 player에게 좋음) */
+    public interface Evaluator {
+        double score(Position pos, int player);
+    }
+
+    /** 분석 모델 승률 평가 함수 (기본 규칙) */
+    public static Evaluator analytic(BoardGraph board) {
+        return analytic(board, RuleSet.standard());
+    }
+
+    /** 분석 모델 승률 평가 함수 (규칙의 던지기 분포 사용) */
+    public static Evaluator analytic(BoardGraph board, RuleSet rules) {
+        WinProbabilityEvaluator evaluator = new WinProbabilityEvaluator(board, rules);
+        return (pos, player) -> evaluator.analytic(pos)[player];
+    }
+
+    /** 계획의 한 단계 (불변) */
+    public static final class Step {
+        private final Yut.Result result;
+        private final int from;
+        private final int to;
+
+        Step(Yut.Result result, int from, int to) {
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        public Yut.Result getResult() { return result; }
+        /** 출발 노드 또는 Position.DEPLOY */
+        public int getFrom() { return from; }
+        /** 도착 노드 또는 BoardGraph.FINISH */
+        public int getTo() { return to; }
+
+        @Override
+        public String toString() {
+            return result + ":" + (from == Position.DEPLOY ? "new" : String.valueOf(from)) + "->" + to;
+        }
+    }
+
+    /** 탐색 결과 */
+    public static final class Plan {
+        private final List<Step> steps;
+        private final double score;
+        private final int positions;
+
+        Plan(List<Step> steps, double score, int positions) {
+            this.steps = Collections.unmodifiableList(steps);
+            this.score = score;
+            this.positions = positions;
+        }
+
+        /** 이동 순서 (둘 수 있는 이동이 없으면 빈 목록) */
+        public List<Step> getSteps() { return steps; }
+        /** 계획대로 둔 뒤 위치의 점수 */
+        public double getScore() { return score; }
+        /** 탐색한 서로 다른 (위치, 남은 결과) 수 */
+        public int getPositions() { return positions; }
+
+        /** 첫 단계를 남은 결과 목록 기준 Bot.Move로 (둘 수 있는 이동이 없으면 null) */
+        public Bot.Move firstMove(List<Yut.Result> pending) {
+            if (steps.isEmpty()) return null;
+            Step first = steps.get(0);
+            return new Bot.Move(pending.indexOf(first.getResult()), first.getFrom());
+        }
+    }
+
+    /** 전치표 항목: 이 상태에서의 최고 점수와 그때의 다음 단계 (끝이면 null) */
+    private static final class Entry {
+        final double score;
+        final Step best;
+
+        Entry(double score, Step best) {
+            this.score = score;
+            this.best = best;
+        }
+    }
+
+    /** 한 번의 탐색에서 중단 여부 확인 (확인 간격 조절용 노드 수 포함) */
+    private static final class Budget {
+        final BooleanSupplier stop;
+        int nodes;
+        boolean stopped;
+
+        Budget(BooleanSupplier stop) {
+            this.stop = stop;
+        }
+
+        boolean exhausted() {
+            if (!stopped && (++nodes & 63) == 0 && stop.getAsBoolean()) stopped = true;
+            return stopped;
+        }
+    }
+
+    private final Evaluator evaluator;
+
+    public TurnPlanner(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * 현재 플레이어(pos.getCurrent())의 최선 계획
+     * @param pending 남은 윷 결과 (순서 무관)
+     */
+    public Plan plan(Position pos, List<Yut.Result> pending) {
+        return plan(pos, pending, pending.size(), () -> false);
+    }
+
+    /**
+     * 앞의 maxSteps 단계까지만 탐색한 계획 (그 뒤에 남는 결과는 쓰지 않은 채로 평가)
+     * @param stop 탐색 도중 가끔 확인하며, true를 돌려주면 중단
+     * @return 중단되면 null
+     */
+    public Plan plan(Position pos, List<Yut.Result> pending, int maxSteps, BooleanSupplier stop) {
+        int[] counts = new int[RESULTS.length];
+        for (Yut.Result r : pending) counts[r.ordinal()]++;
+        Map<Long, Entry> table = new HashMap<>();
+        int player = pos.getCurrent();
+        // 쓴 결과 수는 남은 결과 묶음으로 정해지므로 깊이 제한이 있어도 같은 키를 그대로 쓴다
+        Entry root = search(pos.copy(), counts, maxSteps, player, table, new Budget(stop));
+        if (root == null) return null;
+
+        // 전치표를 따라가며 이동 순서 복원
+        List<Step> steps = new ArrayList<>();
+        Position cursor = pos.copy();
+        Entry entry = root;
+        while (entry.best != null) {
+            Step step = entry.best;
+            steps.add(step);
+            cursor.apply(step.getFrom(), step.getResult());
+            counts[step.getResult().ordinal()]--;
+            entry = table.get(key(cursor, counts));
+        }
+        return new Plan(steps, root.score, table.size());
+    }
+
+    /**
+     * 던지기 전 위치에서 현재 플레이어의 기대 점수 (턴 단위 기대값 노드).
+     * 던지기 하나씩 분기하지 않고 한 턴 결과 묶음마다 최선 계획 점수를 구해 확률로 평균한다.
+     * 묶음이 길수록 계획 탐색이 커지므로 outcomes의 epsilon으로 길이를 조절한다.
+     */
+    public double expectedScore(Position pos, TurnOutcomes outcomes) {
+        return outcomes.expectation(o -> plan(pos, o.getResults()).getScore());
+    }
+
+    /** @return 중단되면 null */
+    private Entry search(Position pos, int[] counts, int depth, int player, Map<Long, Entry> table, Budget budget) {
+        if (budget.exhausted()) return null;
+        long key = key(pos, counts);
+        Entry cached = table.get(key);
+        if (cached != null) return cached;
+
+        Entry result = null;
+        if (depth > 0 && !pos.isWinner(player)) {
+            double bestScore = Double.NEGATIVE_INFINITY;
+            Step bestStep = null;
+            for (Yut.Result r : RESULTS) {
+                if (counts[r.ordinal()] == 0) continue;     // 같은 결과는 한 번만
+                for (int from : pos.legalMoves(r)) {
+                    Position next = pos.copy();
+                    next.apply(from, r);
+                    counts[r.ordinal()]--;
+                    Entry child = search(next, counts, depth - 1, player, table, budget);
+                    counts[r.ordinal()]++;
+                    if (child == null) return null;
+                    double score = child.score;
+                    if (score > bestScore) {
+                        bestScore = score;
+                        BoardGraph board = pos.getBoard();
+                        int to = board.move(from == Position.DEPLOY ? board.startNode() : from, r);
+                        bestStep = new Step(r, from, to);
+                    }
+                }
+            }
+            if (bestStep != null) result = new Entry(bestScore, bestStep);
+        }
+        // 이겼거나 남은 결과를 하나도 쓸 수 없거나 깊이 제한에 닿으면 턴 끝
+        if (result == null) result = new Entry(evaluator.score(pos, player), null);
+        table.put(key, result);
+        return result;
+    }
+
+    /** (위치, 남은 결과 묶음) 키: 결과별 개수를 4비트씩 묶어 위치 해시와 섞는다 */
+    private static long key(Position pos, int[] counts) {
+        long packed = 0;
+        for (int c : counts) packed = (packed << 4) | Math.min(c, 15);
+        return pos.hash() ^ (packed * 0x9E3779B97F4A7C15L);
+    }
+}
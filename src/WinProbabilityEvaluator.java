@@ -0,0 +1,274 @@
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 게임 위치에서 각 플레이어의 승률을 추정하는 클래스.
+ * 1) 분석 모델: 완주까지 남은 칸 수(지름길 고려), 업힌 말, 다음 던지기에 잡힐 확률로
+ *    플레이어별 "남은 턴 수"를 구하고 softmax로 승률로 바꾼다. (2인 종반은 승률표 우선)
+ * 2) 선택적 몬테카를로 보정: 백그라운드 스레드에서 플레이아웃을 돌려 캐시 값을 갱신한다.
+ * 결과는 위치 해시로 캐시되며, 캐시 적중 시 해시 계산과 배열 조회만 한다.
+ * 던지기 분포(윷가락 모델, 낙)와 잡으면 한 번 더 규칙은 게임의 RuleSet에서 받는다.
+ * 승률표는 기본 규칙으로 만든 것이므로 기본 규칙 게임에서만 조회한다.
+ */
+public class WinProbabilityEvaluator {
+    private static final int CACHE_SIZE = 1 << 16;   // 캐시 칸 수 (2의 거듭제곱)
+    private static final int PLAYOUTS = 400;         // 보정 1회당 플레이아웃 수
+    private static final int PRIOR_WEIGHT = 50;      // 분석 모델 값의 가중치 (플레이아웃 수 환산)
+    private static final int MAX_PENDING = 64;       // 대기 중인 보정 작업 상한
+    private static final int MAX_PLAYOUT_TURNS = 1000;
+
+    private final BoardGraph board;
+    private final RuleSet rules;
+    private final EndgameTablebase tablebase;        // null이면 사용 안 함
+    private final ExecutorService refiner;           // null이면 보정 안 함
+    private final double[] prob = new double[Yut.Result.values().length];   // 한 번 던질 때 (낙 제외분)
+    private final double stepsPerTurn;               // 턴당 평균 전진 칸 수
+    private final AtomicReferenceArray<Entry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private volatile Runnable refinementListener;
+
+    /** 캐시 항목 (불변) */
+    private static final class Entry {
+        final long hash;
+        final double[] probs;
+        final boolean refined;
+
+        Entry(long hash, double[] probs, boolean refined) {
+            this.hash = hash;
+            this.probs = probs;
+            this.refined = refined;
+        }
+    }
+
+    /** 분석 모델만 사용 (기본 규칙) */
+    public WinProbabilityEvaluator(BoardGraph board) {
+        this(board, RuleSet.standard());
+    }
+
+    /** 분석 모델만 사용 */
+    public WinProbabilityEvaluator(BoardGraph board, RuleSet rules) {
+        this(board, rules, null, false);
+    }
+
+    /** 기본 규칙 */
+    public WinProbabilityEvaluator(BoardGraph board, EndgameTablebase tablebase, boolean refine) {
+        this(board, RuleSet.standard(), tablebase, refine);
+    }
+
+    /**
+     * @param board     규칙을 적용해 컴파일한 윷판 (RuleSet.compile)
+     * @param tablebase 2인 종반 승률표 (없으면 null, 기본 규칙이 아니면 쓰지 않음)
+     * @param refine    백그라운드 몬테카를로 보정 사용 여부
+     */
+    public WinProbabilityEvaluator(BoardGraph board, RuleSet rules, EndgameTablebase tablebase, boolean refine) {
+        this.board = board;
+        this.rules = rules;
+        this.tablebase = RuleSet.standard().equals(rules) ? tablebase : null;
+        this.refiner = refine ? Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "win-probability-refiner");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }) : null;
+
+        double steps = 0, extra = 0;
+        ThrowModel model = rules.getThrowModel();
+        for (Yut.Result r : Yut.Result.values()) {
+            prob[r.ordinal()] = (1 - rules.getNakProbability()) * model.probability(r);
+            steps += prob[r.ordinal()] * BoardGraph.stepsOf(r);
+            if (r == Yut.Result.윷 || r == Yut.Result.모) extra += prob[r.ordinal()];
+        }
+        this.stepsPerTurn = steps / (1 - extra);
+    }
+
+    /** 보정 결과가 캐시에 반영될 때 호출할 콜백 (보정 스레드에서 호출됨) */
+    public void setRefinementListener(Runnable listener) { this.refinementListener = listener; }
+
+    /** 플레이어별 승률 (GameState 순서) */
+    public double[] evaluate(GameState state) {
+        return evaluate(Position.of(state));
+    }
+
+    /** 플레이어별 승률 (스냅샷 순서) */
+    public double[] evaluate(GameSnapshot snapshot) {
+        return evaluate(Position.of(snapshot, board, rules));
+    }
+
+    /** 플레이어별 승률 (합계 1) */
+    public double[] evaluate(Position pos) {
+        long hash = pos.hash();
+        int slot = (int) (hash ^ (hash >>> 32)) & (CACHE_SIZE - 1);
+        Entry entry = cache.get(slot);
+        if (entry != null && entry.hash == hash) {
+            return entry.probs.clone();
+        }
+
+        double[] probs = analytic(pos);
+        cache.set(slot, new Entry(hash, probs, false));
+        // close() 뒤에도 EDT에 남아 있던 그리기 작업이 부를 수 있으므로 닫혔으면 보정하지 않는다
+        if (refiner != null && !refiner.isShutdown() && pending.size() < MAX_PENDING && pending.add(hash)) {
+            Position snapshot = pos.copy();
+            try {
+                refiner.execute(() -> refine(snapshot, hash, slot, probs));
+            } catch (RejectedExecutionException e) {
+                pending.remove(hash);       // 확인 직후 닫힘: 분석 모델 값만 돌려준다
+            }
+        }
+        return probs.clone();
+    }
+
+    /** 분석 모델 승률 */
+    double[] analytic(Position pos) {
+        int players = pos.getPlayerCount();
+        double[] result = new double[players];
+        for (int pl = 0; pl < players; pl++) {
+            if (pos.isWinner(pl)) {
+                result[pl] = 1;
+                return result;
+            }
+        }
+        if (tablebase != null && players == 2) {
+            double p = tablebase.probe(pos);
+            if (!Double.isNaN(p)) {
+                result[pos.getCurrent()] = p;
+                result[1 - pos.getCurrent()] = 1 - p;
+                return result;
+            }
+        }
+
+        double[] turns = new double[players];
+        double meanTurns = 0;
+        for (int pl = 0; pl < players; pl++) {
+            turns[pl] = remainingSteps(pos, pl) / stepsPerTurn;
+            if (pl == pos.getCurrent()) turns[pl] -= 0.5;   // 먼저 던지는 이점
+            meanTurns += turns[pl] / players;
+        }
+        // 남은 턴이 많을수록 불확실성이 커지므로 온도를 높인다
+        double temperature = 2 + Math.sqrt(Math.max(0, meanTurns));
+        double sum = 0;
+        for (int pl = 0; pl < players; pl++) {
+            result[pl] = Math.exp(-(turns[pl] - meanTurns) / temperature);
+            sum += result[pl];
+        }
+        for (int pl = 0; pl < players; pl++) result[pl] /= sum;
+        return result;
+    }
+
+    /** 남은 칸 수 + 잡힐 위험에 따른 기대 손실 칸 수 */
+    private double remainingSteps(Position pos, int player) {
+        int start = board.startNode();
+        int startDistance = board.distanceToGoal(start);
+        double total = 0;
+        int[] seen = new int[pos.getPieceCount()];
+        int stacks = 0;
+        for (int i = 0; i < pos.getPieceCount(); i++) {
+            int node = pos.nodeOf(player, i);
+            if (node == Position.WAITING) {
+                total += startDistance;
+                continue;
+            }
+            if (node < 0) continue;
+            boolean counted = false;
+            for (int k = 0; k < stacks; k++) if (seen[k] == node) { counted = true; break; }
+            if (counted) continue;   // 업힌 말은 함께 움직이므로 한 번만 센다
+            seen[stacks++] = node;
+
+            int stackSize = 0;
+            for (int j = 0; j < pos.getPieceCount(); j++) if (pos.nodeOf(player, j) == node) stackSize++;
+            total += board.distanceToGoal(node);
+            double progress = startDistance - board.distanceToGoal(node);
+            total += hitProbability(pos, player, node) * progress * stackSize;
+        }
+        return total;
+    }
+
+    /** 상대가 다음 한 번의 던지기로 node에 도착할 확률 */
+    private double hitProbability(Position pos, int victim, int node) {
+        double hit = 0;
+        for (Yut.Result r : Yut.Result.values()) {
+            boolean reaches = false;
+            for (int pl = 0; pl < pos.getPlayerCount() && !reaches; pl++) {
+                if (pl == victim) continue;
+                for (int i = 0; i < pos.getPieceCount(); i++) {
+                    int from = pos.nodeOf(pl, i);
+                    if (from == Position.WAITING) from = board.startNode();
+                    else if (from < 0) continue;
+                    if (board.move(from, r) == node) { reaches = true; break; }
+                }
+            }
+            if (reaches) hit += prob[r.ordinal()];
+        }
+        return hit;
+    }
+
+    /** 백그라운드 몬테카를로 보정 */
+    private void refine(Position pos, long hash, int slot, double[] prior) {
+        try {
+            Random random = ThreadLocalRandom.current();
+            double[] wins = new double[pos.getPlayerCount()];
+            for (int i = 0; i < PLAYOUTS; i++) {
+                int winner = playout(pos.copy(), random);
+                if (winner >= 0) wins[winner]++;
+            }
+            double[] blended = new double[wins.length];
+            for (int pl = 0; pl < wins.length; pl++) {
+                blended[pl] = (prior[pl] * PRIOR_WEIGHT + wins[pl]) / (PRIOR_WEIGHT + PLAYOUTS);
+            }
+            cache.set(slot, new Entry(hash, blended, true));
+            Runnable listener = refinementListener;
+            if (listener != null) listener.run();
+        } finally {
+            pending.remove(hash);
+        }
+    }
+
+    /** 탐욕 정책으로 끝까지 진행, 승자 반환 (제한 턴 초과 시 -1) */
+    int playout(Position pos, Random random) {
+        for (int turn = 0; turn < MAX_PLAYOUT_TURNS; turn++) {
+            Yut.Result r = rules.throwRandom(random);
+            if (r == null) {                         // 낙
+                pos.nextTurn();
+                continue;
+            }
+            int[] moves = pos.legalMoves(r);
+            if (moves.length == 0) {
+                pos.nextTurn();
+                continue;
+            }
+            int player = pos.getCurrent();
+            int captured = pos.apply(greedyMove(pos, moves, r), r);
+            if (pos.isWinner(player)) return player;
+            boolean again = r == Yut.Result.윷 || r == Yut.Result.모 || (captured > 0 && rules.isCaptureExtraThrow());
+            if (!again) pos.nextTurn();
+        }
+        return -1;
+    }
+
+    /** 남은 칸 수를 가장 줄이거나 상대를 잡는 이동 */
+    private int greedyMove(Position pos, int[] moves, Yut.Result r) {
+        int player = pos.getCurrent();
+        int best = moves[0];
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int from : moves) {
+            Position after = pos.copy();
+            int captured = after.apply(from, r);
+            double score = 30 * captured - remainingSteps(after, player);
+            if (score > bestScore) {
+                bestScore = score;
+                best = from;
+            }
+        }
+        return best;
+    }
+
+    /** 보정 스레드 종료 (이후 evaluate는 보정 없이 분석 모델 값만 돌려준다) */
+    public void close() {
+        if (refiner != null) refiner.shutdownNow();
+    }
+}
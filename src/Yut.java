@@ -4,33 +4,26 @@ public class Yut {
     public enum Result {빽도, 도, 개, 걸, 윷, 모}
 
     private static final Random random = new Random();
-    private static final float PROB_FLAT = 0.6f;  // 평평한 면 확률
 
     /**
-     * 네 개의 윷가락을 던져 실제 윷놀이 분포로 결과를 반환
+     * 네 개의 윷가락을 던져 실제 윷놀이 분포로 결과를 반환 (기본 던지기 모델)
      */
     public static Result throwRandom() {
-        int sum = 0;
-        // 평평한 면은 1, 둥근 면은 0으로 간주
-        for (int i = 0; i < 4; i++) {
-            if (random.nextFloat() <= PROB_FLAT) {
-                sum += 1;  // 평평
-            }
-        }
-        switch (sum) {
-            case 0: return Result.모;       // 모두 둥근 면
-            case 4: return Result.윷;      // 모두 평평 면
-            case 3: return Result.걸;     // 3개 평평
-            case 2: return Result.개;      // 2개 평평
-            case 1:
-                if(random.nextFloat() <= 0.25f){
-                    return Result.빽도;  //4분의 1 확률로 빽도
-                }
-                return Result.도;
-            default:
-                // 예외 상황 방어
-                return Result.빽도;
-        }
+        return throwRandom(random);
+    }
+
+    /**
+     * 주어진 난수 생성기로 윷을 던짐 (시뮬레이션 스레드별 생성기 사용)
+     */
+    public static Result throwRandom(Random random) {
+        return ThrowModel.standard().sample(random);
+    }
+
+    /**
+     * throwRandom과 같은 분포에서 결과가 나올 확률
+     */
+    public static double probability(Result result) {
+        return ThrowModel.standard().probability(result);
     }
 
     /**
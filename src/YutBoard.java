@@ -3,11 +3,17 @@ import java.awt.*;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.image.BufferedImage;
-import java.net.URL;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -15,7 +21,9 @@ import java.util.stream.Collectors;
  * 실제 픽셀 좌표 배치를 분리하여 구현한 Yut Nori 보드.
  */
 public class YutBoard extends JFrame implements GameView {
-    private static final String IMG_ROOT = "img/"; // 이미지 기본 경로
+    private static final String IMG_ROOT = IconCache.IMG_ROOT; // 이미지 기본 경로
+    private static final Color HINT_FROM_COLOR = new Color(255, 140, 0);  // 힌트: 움직일 말
+    private static final Color HINT_TO_COLOR = new Color(0, 160, 0);      // 힌트: 도착 칸
 
     private final PlayConfig config;
     private final GameController controller;
@@ -24,62 +32,92 @@ public class YutBoard extends JFrame implements GameView {
     private final JPanel pieceActionPanel;      // '새 말 꺼내기' 버튼 등이 위치할 패널 (기존 piecePanel에서 이름 변경 및 역할 명확화)
     private final JLabel statusLabel;
     private final JPanel infoPanel;
+    private final List<PlayerInfoPanel> playerInfos = new ArrayList<>(); // 정보 패널의 플레이어 칸 (EDT 전용)
 
     private List<Point>[] pathPoints;           // 각 경로(path)의 UI 좌표 리스트
     private JButton[][] panButtons;             // 윷판의 각 위치를 나타내는 버튼 배열
+    private boolean geometryDirty = true;       // 패널 크기가 바뀌어 다음 그리기 때 칸 배치를 다시 계산해야 함 (EDT 전용)
+    private boolean firstFrameShown = false;    // 첫 프레임을 그렸는지 (EDT 전용)
     private final int buttonSize = 30;          // 윷판 위 말/칸 버튼 크기
     private boolean canMove = false;            // 윷 던진 후 true가 되어 말 선택 가능
 
     private JButton rndBtn;                     // 랜덤 윷 던지기 버튼
     private JButton specBtn;                    // 지정 윷 던지기 버튼
     private JComboBox<Yut.Result> yutComboBox;  // 지정 윷 선택 콤보박스
+    private JCheckBox hintCheckBox;             // 이동 힌트 표시 여부
+    private JButton newPieceBtn;                // 현재 표시 중인 '새 말 꺼내기' 버튼 (힌트 강조용)
+
+    // YutBoard 내에서 칸 배치와 꼭짓점/중앙 노드 정보를 사용하기 위해 윷판 그래프를 가짐
+    private final BoardGraph boardGraph;
+    private final WinProbabilityEvaluator winEvaluator; // 플레이어별 예상 승률 계산
+    private final MoveHintEngine hintEngine;            // 추천 이동 계산 (백그라운드)
+    private MoveHintEngine.Hint shownHint;              // 화면에 강조 중인 힌트 (EDT에서만 접근)
+    private final FrameCoalescer frames;                // 스냅샷 -> EDT 그리기 (몰리면 최신 하나만)
+    private final Consumer<GameSnapshot> frameListener; // 컨트롤러에 등록한 스냅샷 리스너
+    private final ReplayPlayer replay;                  // 다시 보기 모드면 재생기, 게임 모드면 null
+    private GameRecord.Writer recordWriter;             // 게임 기록 파일 (yut.replayDir가 있을 때만)
+    private JSlider replaySlider;                       // 다시 보기: 턴 위치
+    private JLabel replayTurnLabel;                     // 다시 보기: "턴 t / T"
+    private JButton replayPlayBtn;                      // 다시 보기: 재생/일시정지
+    private boolean updatingReplaySlider = false;       // 화면 갱신으로 슬라이더를 옮기는 중 (EDT 전용)
 
-    // YutBoard 내에서 PathConfig 정보를 사용하기 위해 해당 보드 타입에 맞는 PathConfig 인스턴스를 가짐
-    private final PathConfig pathConfigInstance;
 
-
-    @SuppressWarnings("unchecked")
     public YutBoard(PlayConfig config, List<String> playerNames) {
-        super("윷놀이 게임");
+        this(config, playerNames, null);
+    }
+
+    /** 다시 보기 화면: 기록된 게임을 입력 없이 재생한다 (턴 이동, 재생 속도 조절) */
+    public YutBoard(GameReplay replay) {
+        this(replay.getRecord().getConfig(), replay.getPlayerNames(), replay);
+    }
+
+    private YutBoard(PlayConfig config, List<String> playerNames, GameReplay replayIndex) {
+        super(replayIndex == null ? "윷놀이 게임" : "윷놀이 다시 보기");
         this.config = config;
-        // 현재 보드 타입에 맞는 PathConfig 인스턴스 생성
-        this.pathConfigInstance = new PathConfig(config.getBoardType());
+        // 현재 설정에 맞는 윷판 그래프
+        this.boardGraph = config.getBoardGraph();
+        // 다시 보기에서는 컨트롤러를 시작하지 않고 지표용으로만 둔다 (상태는 재생기가 내보내는 스냅샷)
         this.controller = new GameController(config, playerNames, this);
+        this.frames = new FrameCoalescer(this::render, controller.getMetrics());
+        this.frameListener = frames::submit;
+        this.replay = replayIndex == null ? null : new ReplayPlayer(replayIndex, frames::submit);
+        // 예상 승률: 분석 모델 값을 바로 표시하고, 백그라운드 보정이 끝나면 정보 패널만 다시 그림
+        this.winEvaluator = new WinProbabilityEvaluator(boardGraph, config.getRuleSet(), null, true);
+        this.winEvaluator.setRefinementListener(() ->
+                SwingUtilities.invokeLater(() -> updateInfoPanel(currentSnapshot())));
+        this.hintEngine = new MoveHintEngine(boardGraph, config.getRuleSet());
 
 
         setLayout(new BorderLayout());
 
         // --- 중앙 보드 패널 ---
         boardPanel = new JPanel(null) { // null 레이아웃 사용, 직접 좌표 배치
-            private Image bg = null;
-            { // 인스턴스 초기화 블록에서 이미지 로드 시도
-                ImageIcon icon = loadIcon(IMG_ROOT + "background.png");
-                if (icon != null && icon.getImage() != null) {
-                    bg = icon.getImage();
-                } else {
-                    System.err.println("배경 이미지 로드 실패: " + IMG_ROOT + "background.png");
-                }
-            }
+            private boolean bgRequested = false;
             @Override protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
+                // 배경은 기다리지 않음: 아직 읽는 중이면 단색으로 그리고, 다 읽히면 다시 그림
+                ImageIcon bg = IconCache.getNow(IconCache.BACKGROUND);
+                if (bg == null && !bgRequested) {
+                    bgRequested = true;
+                    IconCache.request(IconCache.BACKGROUND).thenAccept(icon -> {
+                        if (icon != null) repaint();
+                        else System.err.println("배경 이미지 로드 실패: " + IconCache.BACKGROUND);
+                    });
+                }
                 if (bg != null) {
-                    g.drawImage(bg, 0, 0, getWidth(), getHeight(), this);
-                } else { // 이미지가 없을 경우 단색 배경
+                    g.drawImage(bg.getImage(), 0, 0, getWidth(), getHeight(), this);
+                } else { // 이미지가 없거나 아직 읽는 중일 경우 단색 배경
                     g.setColor(new Color(210, 180, 140));
                     g.fillRect(0, 0, getWidth(), getHeight());
                 }
             }
         };
         boardPanel.setPreferredSize(new Dimension(600, 600));
-        // 창 크기 변경 시 보드 UI 다시 그리기
+        // 창 크기 변경 시 칸 배치는 다음 그리기 때 한 번만 다시 계산 (연속된 크기 변경은 프레임 하나로 합쳐짐)
         boardPanel.addComponentListener(new ComponentAdapter() {
             @Override public void componentResized(ComponentEvent e) {
-                boardPanel.removeAll(); // 기존 버튼 제거 후 다시 초기화
-                initBoardGeometry();    // 보드 기하학적 구조 계산
-                initBoardUI();          // 보드 UI 요소(버튼) 생성 및 배치
-                updateBoard(controller.getState()); // 현재 게임 상태로 보드 다시 그리기
-                boardPanel.revalidate();
-                boardPanel.repaint();
+                geometryDirty = true;
+                updateBoard(currentSnapshot()); // 현재 게임 상태로 보드 다시 그리기
             }
         });
         add(boardPanel, BorderLayout.CENTER);
@@ -112,7 +150,12 @@ public class YutBoard extends JFrame implements GameView {
         topPanel.add(rndBtn);
         topPanel.add(yutComboBox);
         topPanel.add(specBtn);
-        add(topPanel, BorderLayout.NORTH);
+        // 이동 힌트: 켜면 말을 옮길 차례마다 추천 말과 도착 칸을 강조
+        hintCheckBox = new JCheckBox("힌트");
+        hintCheckBox.addActionListener(e -> updateBoard(currentSnapshot()));
+        topPanel.add(hintCheckBox);
+        // 다시 보기에서는 던지기 대신 재생 조작 패널
+        add(replay != null ? createReplayPanel() : topPanel, BorderLayout.NORTH);
 
         enableYutButtons(false); // 초기 버튼 상태 (게임 시작 전 비활성화)
 
@@ -121,18 +164,97 @@ public class YutBoard extends JFrame implements GameView {
         setLocationRelativeTo(null); // 화면 중앙에 배치
         setVisible(true);
 
+        if (replay != null) {
+            replay.start(); // 처음 위치부터 그림 (재생은 사용자가 시작)
+            return;
+        }
+        startRecording();
+        // 규칙 처리와 로그 출력은 게임 스레드에서, EDT는 입력 전달과 그리기만 한다.
+        // 명령마다 공개되는 스냅샷을 그리므로 별도의 갱신 요청 없이도 화면이 최신 상태를 따라간다.
+        controller.addSnapshotListener(frameListener);
+        controller.startGameThread();
         // 컨트롤러를 통해 게임 시작 (UI가 준비된 후 호출)
         controller.startGame(); // -> GameState 초기화 및 updateBoard 호출 유도
     }
 
+    /** 지금 화면에 그릴 상태 (다시 보기면 재생기의 마지막 스냅샷) */
+    private GameSnapshot currentSnapshot() {
+        GameSnapshot shown = replay != null ? replay.getSnapshot() : null;
+        return shown != null ? shown : controller.getSnapshot();
+    }
+
+    /** 시스템 속성 yut.replayDir가 있으면 이 게임의 명령을 그 디렉터리의 기록 파일로 남김 (다시 보기용) */
+    private void startRecording() {
+        String dir = System.getProperty(GameRecord.DIR_PROPERTY);
+        if (dir == null) return;
+        try {
+            Path folder = Files.createDirectories(Paths.get(dir));
+            String name = "game-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"));
+            recordWriter = GameRecord.writer(folder.resolve(name + GameRecord.SUFFIX), config);
+            controller.addCommandListener(recordWriter);
+        } catch (IOException e) {
+            System.err.println("게임 기록 파일을 만들지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    /** 다시 보기 조작 패널: 재생/일시정지, 턴 슬라이더, 재생 속도 */
+    private JPanel createReplayPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        GameReplay index = replay.getReplay();
+        replayPlayBtn = new JButton("재생");
+        replayPlayBtn.addActionListener(e -> {
+            boolean play = !replay.isPlaying();
+            if (play) replay.play(); else replay.pause();
+            replayPlayBtn.setText(play ? "일시정지" : "재생");
+        });
+        JButton prevBtn = new JButton("◀ 턴");
+        prevBtn.addActionListener(e -> replay.seekTurn(replay.getTurn() - 1));
+        JButton nextBtn = new JButton("턴 ▶");
+        nextBtn.addActionListener(e -> replay.seekTurn(replay.getTurn() + 1));
+
+        replaySlider = new JSlider(0, Math.max(0, index.turnCount() - 1), 0);
+        replaySlider.setPreferredSize(new Dimension(260, replaySlider.getPreferredSize().height));
+        // 끄는 동안에도 바로 이동 (이동 요청은 재생기가 마지막 하나로 합침)
+        replaySlider.addChangeListener(e -> {
+            if (!updatingReplaySlider) replay.seekTurn(replaySlider.getValue());
+        });
+        replayTurnLabel = new JLabel();
+
+        JComboBox<String> speedBox = new JComboBox<>(new String[] {"1×", "2×", "5×", "10×", "25×", "50×", "100×"});
+        speedBox.addActionListener(e -> {
+            String label = (String) speedBox.getSelectedItem();
+            replay.setSpeed(Double.parseDouble(label.substring(0, label.length() - 1)));
+        });
+
+        panel.add(replayPlayBtn);
+        panel.add(prevBtn);
+        panel.add(replaySlider);
+        panel.add(nextBtn);
+        panel.add(replayTurnLabel);
+        panel.add(new JLabel("속도:"));
+        panel.add(speedBox);
+        return panel;
+    }
+
+    /** 다시 보기: 입력은 막고 재생 위치를 조작 패널에 표시 (EDT 전용) */
+    private void updateReplayControls() {
+        enableYutButtons(false);
+        newPieceBtn.setEnabled(false);
+        canMove = false;
+        int turn = replay.getTurn();
+        updatingReplaySlider = true;
+        if (!replaySlider.getValueIsAdjusting()) replaySlider.setValue(turn);
+        updatingReplaySlider = false;
+        replayTurnLabel.setText("턴 " + (turn + 1) + " / " + replay.getReplay().turnCount());
+        replayPlayBtn.setText(replay.isPlaying() ? "일시정지" : "재생");
+    }
+
     /**
      * 보드상의 논리적 좌표(pathPoints)를 현재 패널 크기에 맞춰 계산합니다.
+     * 칸 배치는 BoardGraph 정의의 좌표(중앙 기준, 짧은 변 비율)를 패널 크기로 환산한 것입니다.
      */
     @SuppressWarnings("unchecked")
     private void initBoardGeometry() {
-        PlayConfig.BoardType boardType = config.getBoardType();
-        int sides; // 보드의 변의 수
-
         double w = boardPanel.getWidth();
         double h = boardPanel.getHeight();
         if (w == 0 || h == 0) {
@@ -147,140 +269,18 @@ public class YutBoard extends JFrame implements GameView {
 
         double centerX = w / 2.0;
         double centerY = h / 2.0;
-        Point centerPoint = new Point((int) centerX, (int) centerY);
+        double scale = Math.min(w, h);
 
-        List<Point> outerPath = new ArrayList<>();
         // pathPoints[0]은 외곽 경로, pathPoints[1]부터 지름길
-        // 지름길 개수는 PathConfig의 branchCount - 1 (0번 인덱스는 출발점 자체를 의미)
-        int numberOfShortcuts = this.pathConfigInstance.getBranchCount() - 1;
-        this.pathPoints = new List[1 + numberOfShortcuts];
-
-
-        if (boardType == PlayConfig.BoardType.SQUARE) {
-            sides = 4;
-            double mainRadius = Math.min(w, h) * 0.4; // 사각형 모양 조정을 위한 반지름
-
-            // 1. 외곽 경로 (20개 지점) - 시계방향, 출발점(우하단)부터
-            Point v0 = new Point((int)(centerX + mainRadius), (int)(centerY + mainRadius)); // 0 (우하단, 출발)
-            Point v1 = new Point((int)(centerX + mainRadius), (int)(centerY - mainRadius)); // 5 (우상단)
-            Point v2 = new Point((int)(centerX - mainRadius), (int)(centerY - mainRadius)); // 10 (좌상단)
-            Point v3 = new Point((int)(centerX - mainRadius), (int)(centerY + mainRadius)); // 15 (좌하단)
-
-            outerPath.add(v0); // 0
-            for (int i = 1; i <= 4; i++) outerPath.add(interpolate(v0, v1, i / 5.0)); // 1-4
-            outerPath.add(v1); // 5
-            for (int i = 1; i <= 4; i++) outerPath.add(interpolate(v1, v2, i / 5.0)); // 6-9
-            outerPath.add(v2); // 10
-            for (int i = 1; i <= 4; i++) outerPath.add(interpolate(v2, v3, i / 5.0)); // 11-14
-            outerPath.add(v3); // 15
-            for (int i = 1; i <= 4; i++) outerPath.add(interpolate(v3, v0, i / 5.0)); // 16-19
-
-            this.pathPoints[0] = outerPath;
-
-            // 지름길 1: 5번(우상단) -> 중앙 -> 15번(좌하단)
-            // PathConfig에서 첫 번째 실제 지름길(인덱스 1)은 5번에서 분기
-            List<Point> shortcutPath_5_to_15 = new ArrayList<>();
-            shortcutPath_5_to_15.add(interpolate(v1, centerPoint, 0.33));
-            shortcutPath_5_to_15.add(interpolate(v1, centerPoint, 0.66));
-            shortcutPath_5_to_15.add(centerPoint);
-            shortcutPath_5_to_15.add(interpolate(centerPoint, v3, 0.33));
-            shortcutPath_5_to_15.add(interpolate(centerPoint, v3, 0.66));
-            this.pathPoints[1] = shortcutPath_5_to_15; // PathConfig의 지름길 인덱스 1에 해당
-
-            // 지름길 2: 10번(좌상단) -> 중앙 -> 0번(우하단/출발점)
-            // PathConfig에서 두 번째 실제 지름길(인덱스 2)은 10번에서 분기
-            List<Point> shortcutPath_10_to_0 = new ArrayList<>();
-            shortcutPath_10_to_0.add(interpolate(v2, centerPoint, 0.33));
-            shortcutPath_10_to_0.add(interpolate(v2, centerPoint, 0.66));
-            shortcutPath_10_to_0.add(centerPoint);
-            shortcutPath_10_to_0.add(interpolate(centerPoint, v0, 0.33));
-            shortcutPath_10_to_0.add(interpolate(centerPoint, v0, 0.66));
-            this.pathPoints[2] = shortcutPath_10_to_0; // PathConfig의 지름길 인덱스 2에 해당
-
-        } else { // 오각형, 육각형
-            sides = (boardType == PlayConfig.BoardType.PENTAGON) ? 5 : 6;
-            double radius = Math.min(w, h) * 0.35;
-            double angleOffsetRadians = (sides == 5) ? -Math.PI / 2 : ( (sides == 6) ? 0 : -Math.PI/4 ); // 기본값은 사각형 오프셋
-
-            Point[] vertices = new Point[sides];
-            for (int i = 0; i < sides; i++) {
-                double angle = 2 * Math.PI * i / sides + angleOffsetRadians;
-                int x = (int) (centerX + radius * Math.cos(angle));
-                int y = (int) (centerY + radius * Math.sin(angle));
-                vertices[i] = new Point(x, y);
-            }
-
-            // 외곽 경로 계산
-            int startVertexIndex = switch (sides) {
-                case 4 -> 1; // 사각형은 위에서 이미 처리됨
-                case 5 -> 2;
-                case 6 -> 1;
-                default -> 0;
-            };
-
-            for (int i = 0; i < sides; i++) {
-                int currentVertexIdx = (startVertexIndex - i + sides) % sides;
-                int nextVertexIdx = (startVertexIndex - i - 1 + sides) % sides;
-                Point pA = vertices[currentVertexIdx];
-                Point pB = vertices[nextVertexIdx];
-                for (int k = 0; k < 5; k++) {
-                    outerPath.add(interpolate(pA, pB, k / 5.0));
-                }
-            }
-            this.pathPoints[0] = outerPath;
-
-            // 지름길 생성
-            for (int scIndex = 0; scIndex < numberOfShortcuts; scIndex++) {
-                // PathConfig의 branchPoint는 0(출발점), 5(첫번째모서리), 10(두번째모서리) ... 이런식
-                // 실제 지름길은 5, 10, ... 에서 시작하므로, PathConfig의 지름길 인덱스는 1부터 시작
-                int branchOuterStep = this.pathConfigInstance.getBranchPoint(scIndex + 1);
-                // outerPath에서 해당 인덱스가 유효한지 확인
-                if (branchOuterStep >= outerPath.size()) {
-                    System.err.println("Error in initBoardGeometry: branchOuterStep " + branchOuterStep + " is out of bounds for outerPath size " + outerPath.size());
-                    continue; // 이 지름길은 생성할 수 없음
-                }
-                Point shortcutStartPoint = outerPath.get(branchOuterStep);
-
-                // 지름길의 끝점은 해당 지름길이 PathConfig에 정의된 exitOffset을 따름
-                int exitOuterStepForThisSC = this.pathConfigInstance.getExitOffset(scIndex + 1);
-                Point actualShortcutEndTarget; // 시각적 목표 지점
-
-                if (exitOuterStepForThisSC > outerPath.size()) {
-                    // exitOuterStepForThisSC 값이 outerPath.size()보다 큰 경우 (배열 범위를 벗어남)
-                    System.err.println("Critical Error in initBoardGeometry: exitOuterStepForThisSC " + exitOuterStepForThisSC +
-                            " is strictly greater than outerPath size " + outerPath.size() + ". Skipping this shortcut.");
-                    continue; // 이 지름길은 생성할 수 없음
-                } else if (exitOuterStepForThisSC == outerPath.size()) {
-                    // exitOuterStepForThisSC 값이 outerPath.size()와 같은 경우 (예: outerLength와 같음)
-                    // 이는 논리적으로 "완주"를 의미할 수 있으며, 시각적으로는 출발/도착점(인덱스 0)을 향하도록 처리
-                    System.out.println("Info in initBoardGeometry: exitOuterStepForThisSC " + exitOuterStepForThisSC +
-                            " equals outerPath size " + outerPath.size() +
-                            ". Visually targeting outerPath.get(0) for shortcut exit.");
-                    if (outerPath.isEmpty()) { // 예외적인 경우 방어
-                        System.err.println("Error: outerPath is empty when trying to handle exitOuterStepForThisSC == outerPath.size(). Skipping shortcut.");
-                        continue;
-                    }
-                    actualShortcutEndTarget = outerPath.get(0); // 출발/도착점을 시각적 목표로 설정
-                } else {
-                    // exitOuterStepForThisSC < outerPath.size() 인 경우 (유효한 인덱스)
-                    actualShortcutEndTarget = outerPath.get(exitOuterStepForThisSC);
-                }
-
-                List<Point> shortcutPath = new ArrayList<>();
-                // 지름길은 5개의 점으로 구성: 시작점쪽 2개, 중앙 1개, 끝점쪽 2개
-                shortcutPath.add(interpolate(shortcutStartPoint, centerPoint, 0.33));
-                shortcutPath.add(interpolate(shortcutStartPoint, centerPoint, 0.66));
-                shortcutPath.add(centerPoint); // 중앙점
-                shortcutPath.add(interpolate(centerPoint, actualShortcutEndTarget, 0.33));
-                shortcutPath.add(interpolate(centerPoint, actualShortcutEndTarget, 0.66));
-
-                if (this.pathPoints.length > scIndex + 1) { // 배열 범위 확인
-                    this.pathPoints[scIndex + 1] = shortcutPath;
-                } else {
-                    System.err.println("Error in initBoardGeometry: scIndex+1 " + (scIndex+1) +
-                            " is out of bounds for pathPoints length " + this.pathPoints.length);
-                }
+        this.pathPoints = new List[boardGraph.getPathCount()];
+        for (int path = 0; path < boardGraph.getPathCount(); path++) {
+            List<Point> points = new ArrayList<>();
+            for (int step = 0; step < boardGraph.getPathLength(path); step++) {
+                int node = boardGraph.nodeOf(path, step);
+                points.add(new Point((int) (centerX + boardGraph.layoutX(node) * scale),
+                        (int) (centerY + boardGraph.layoutY(node) * scale)));
             }
+            this.pathPoints[path] = points;
         }
     }
 
@@ -310,9 +310,9 @@ public class YutBoard extends JFrame implements GameView {
                 // 출발/도착점 (외곽 경로의 0번 인덱스)
                 boolean isStartFinishPoint = isOuterPath && stepIdx == 0;
                 // 꼭짓점 (외곽 경로의 각 변이 시작되는 지점, 출발/도착점 제외)
-                boolean isVertex = isOuterPath && (stepIdx % 5 == 0) && !isStartFinishPoint;
-                // 중앙 노드 (지름길의 중앙, pathConfigInstance.getMergeStep() 인덱스에 해당)
-                boolean isCenterNode = !isOuterPath && (stepIdx == this.pathConfigInstance.getMergeStep());
+                boolean isVertex = boardGraph.isCorner(boardGraph.nodeOf(pathIdx, stepIdx));
+                // 중앙 노드 (지름길이 합류하는 지점)
+                boolean isCenterNode = boardGraph.isCenter(boardGraph.nodeOf(pathIdx, stepIdx));
 
                 if (isStartFinishPoint) {
                     iconName = "startcircle.jpg";
@@ -328,25 +328,15 @@ public class YutBoard extends JFrame implements GameView {
                 final int fPathIdx = pathIdx;
                 final int fStepIdx = stepIdx;
                 btn.addActionListener(e -> {
+                    if (replay != null) return; // 다시 보기에서는 입력 없음
                     if (!canMove) {
                         statusLabel.setText("먼저 윷을 던져주세요!");
                         return;
                     }
-                    GameState currentState = controller.getState(); // 항상 최신 상태 참조
-                    if (currentState.getLastThrow() != null && currentState.getLastThrow().size() > 1) {
-                        Object[] yutOptions = currentState.getLastThrow().stream()
-                                .map(Yut.Result::toString).toArray();
-                        int choice = JOptionPane.showOptionDialog(this,
-                                "어떤 윷으로 이동하시겠습니까?", "이동할 윷 선택",
-                                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
-                                null, yutOptions, yutOptions[0]);
-                        if (choice == JOptionPane.CLOSED_OPTION) return; // 사용자가 창을 닫은 경우
-                        currentState.setSelect(choice); // GameState에 선택된 윷 결과 인덱스 저장
-                    } else if (currentState.getLastThrow() != null && currentState.getLastThrow().size() == 1){
-                        currentState.setSelect(0); // 결과가 하나면 자동 선택 (인덱스 0)
-                    }
-                    // GameController의 기존 메소드명 사용
-                    controller.onSelectPiece(fPathIdx, fStepIdx);
+                    int choice = chooseResult("어떤 윷으로 이동하시겠습니까?", "이동할 윷 선택");
+                    if (choice < 0) return; // 사용자가 창을 닫은 경우
+                    // 선택한 윷 결과와 이동을 한 명령으로 전달
+                    controller.onSelectPiece(fPathIdx, fStepIdx, choice);
                 });
                 boardPanel.add(btn);
                 panButtons[pathIdx][stepIdx] = btn;
@@ -356,203 +346,283 @@ public class YutBoard extends JFrame implements GameView {
         boardPanel.repaint();
     }
 
+    /** 스냅샷 그리기 요청 (어느 스레드에서든 호출 가능, 몰린 요청은 최신 하나로 합쳐 EDT에서 그림) */
     @Override
-    public void updateBoard(GameState state) {
-        SwingUtilities.invokeLater(() -> {
-            if (panButtons == null || pathPoints == null) { // UI가 아직 준비되지 않았다면
-                if(boardPanel.getWidth() > 0 && boardPanel.getHeight() > 0 && (pathPoints == null || panButtons == null) ) {
-                    // 창은 그려졌는데, 내부 요소들이 초기화 안된 경우 시도
-                    initBoardGeometry();
-                    initBoardUI();
-                }
-                if (panButtons == null) { // 그래도 null이면 진행 불가
-                    System.err.println("updateBoard: panButtons is null, cannot update.");
-                    return;
-                }
-            }
+    public void updateBoard(GameSnapshot snapshot) {
+        frames.submit(snapshot);
+    }
 
-            pieceActionPanel.removeAll(); // 하단 패널의 기존 버튼들 제거
-            JButton newPieceBtn = new JButton("새 말 꺼내기");
-            newPieceBtn.addActionListener(e -> {
-                GameState currentState = controller.getState(); // 최신 상태 가져오기
-                if (currentState.getLastThrow() != null && currentState.getLastThrow().size() > 1) {
-                    Object[] yutOptions = currentState.getLastThrow().stream().map(Yut.Result::toString).toArray();
-                    int choice = JOptionPane.showOptionDialog(this,
-                            "어떤 윷으로 새 말을 이동하시겠습니까?", "새 말 이동 윷 선택",
-                            JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
-                            null, yutOptions, yutOptions[0]);
-                    if (choice == JOptionPane.CLOSED_OPTION) return;
-                    currentState.setSelect(choice);
-                } else if (currentState.getLastThrow() != null && currentState.getLastThrow().size() == 1){
-                    currentState.setSelect(0);
-                }
-                controller.deployNewPiece();
-            });
-            pieceActionPanel.add(newPieceBtn);
-
-            // 모든 칸의 버튼을 기본 아이콘으로 초기화하고 활성화 상태 설정
-            for (int pIdx = 0; pIdx < panButtons.length; pIdx++) {
-                if (panButtons[pIdx] == null) continue;
-                for (int sIdx = 0; sIdx < panButtons[pIdx].length; sIdx++) {
-                    if (panButtons[pIdx][sIdx] == null) continue; // 해당 버튼이 생성되지 않았으면 건너뜀
-
-                    String baseIconName;
-                    boolean isOuterPath = (pIdx == 0);
-                    boolean isStartFinishPoint = isOuterPath && sIdx == 0;
-                    boolean isVertex = isOuterPath && (sIdx % 5 == 0) && !isStartFinishPoint;
-                    boolean isCenterNode = !isOuterPath && (sIdx == this.pathConfigInstance.getMergeStep());
-
-                    if (isStartFinishPoint) {
-                        baseIconName = "startcircle.jpg";
-                    } else if (isVertex || isCenterNode) {
-                        baseIconName = "bigcircle.jpg";
-                    } else {
-                        baseIconName = "circle.jpg";
-                    }
-                    panButtons[pIdx][sIdx].setIcon(loadIcon(IMG_ROOT + baseIconName));
-                    // 말 선택 가능 상태(canMove)에 따라 버튼 활성화
-                    // 추가적으로, 해당 위치에 현재 플레이어의 말이 있거나, 새 말을 놓을 수 있는 출발점인 경우 등
-                    // 더 구체적인 활성화 조건은 GameController 또는 GameState에서 판단 정보를 받아올 수 있음
-                }
+    /** 보드/상태/정보 패널 그리기 (EDT 전용, FrameCoalescer가 호출) */
+    private void render(GameSnapshot snapshot) {
+        if (geometryDirty && boardPanel.getWidth() > 0 && boardPanel.getHeight() > 0) {
+            // 칸 배치는 패널 크기가 정해진 뒤 처음 그릴 때 계산 (생성자에서 미리 하지 않음)
+            initBoardGeometry();    // 보드 기하학적 구조 계산
+            initBoardUI();          // 보드 UI 요소(버튼) 생성 및 배치
+            geometryDirty = false;
+        }
+        if (panButtons == null || pathPoints == null) { // UI가 아직 준비되지 않았다면
+            if (panButtons == null) { // 그래도 null이면 진행 불가
+                System.err.println("updateBoard: panButtons is null, cannot update.");
+                return;
             }
+        }
+
+        pieceActionPanel.removeAll(); // 하단 패널의 기존 버튼들 제거
+        JButton newPieceBtn = new JButton("새 말 꺼내기");
+        this.newPieceBtn = newPieceBtn;
+        shownHint = null;
+        newPieceBtn.addActionListener(e -> {
+            int choice = chooseResult("어떤 윷으로 새 말을 이동하시겠습니까?", "새 말 이동 윷 선택");
+            if (choice < 0) return;
+            controller.deployNewPiece(choice);
+        });
+        pieceActionPanel.add(newPieceBtn);
 
-            // 각 플레이어의 말들을 보드에 표시 (업힌 말 고려)
-            // 위치별 말 스택 수 계산 (같은 플레이어의 말만)
-            Map<String, Map<Player, Integer>> pieceStackCounts = new HashMap<>();
-            for (Player player : state.getPlayers()) {
-                for (Piece piece : player.getPieces()) {
-                    if (piece.isFinished() || piece.getPathIndex() < 0 || piece.getStepIndex() < 0) continue;
-                    String locationKey = piece.getPathIndex() + "-" + piece.getStepIndex();
-                    pieceStackCounts.computeIfAbsent(locationKey, k -> new HashMap<>())
-                            .merge(player, 1, Integer::sum); // 해당 위치, 해당 플레이어의 말 개수 +1
+        // 모든 칸의 버튼을 기본 아이콘으로 초기화하고 활성화 상태 설정
+        for (int pIdx = 0; pIdx < panButtons.length; pIdx++) {
+            if (panButtons[pIdx] == null) continue;
+            for (int sIdx = 0; sIdx < panButtons[pIdx].length; sIdx++) {
+                if (panButtons[pIdx][sIdx] == null) continue; // 해당 버튼이 생성되지 않았으면 건너뜀
+
+                String baseIconName;
+                boolean isOuterPath = (pIdx == 0);
+                boolean isStartFinishPoint = isOuterPath && sIdx == 0;
+                boolean isVertex = boardGraph.isCorner(boardGraph.nodeOf(pIdx, sIdx));
+                boolean isCenterNode = boardGraph.isCenter(boardGraph.nodeOf(pIdx, sIdx));
+
+                if (isStartFinishPoint) {
+                    baseIconName = "startcircle.jpg";
+                } else if (isVertex || isCenterNode) {
+                    baseIconName = "bigcircle.jpg";
+                } else {
+                    baseIconName = "circle.jpg";
                 }
+                panButtons[pIdx][sIdx].setIcon(loadIcon(IMG_ROOT + baseIconName));
+                panButtons[pIdx][sIdx].setBorderPainted(false); // 이전 힌트 강조 제거
+                // 말 선택 가능 상태(canMove)에 따라 버튼 활성화
+                // 추가적으로, 해당 위치에 현재 플레이어의 말이 있거나, 새 말을 놓을 수 있는 출발점인 경우 등
+                // 더 구체적인 활성화 조건은 GameController 또는 GameState에서 판단 정보를 받아올 수 있음
             }
+        }
 
-            for (Player player : state.getPlayers()) {
-                for (Piece piece : player.getPieces()) {
-                    if (piece.isFinished() || piece.getPathIndex() < 0 || piece.getStepIndex() < 0) continue;
-
-                    // panButtons 배열 범위 체크
-                    if (piece.getPathIndex() >= panButtons.length || panButtons[piece.getPathIndex()] == null ||
-                            piece.getStepIndex() >= panButtons[piece.getPathIndex()].length ||
-                            panButtons[piece.getPathIndex()][piece.getStepIndex()] == null) {
-                        System.err.printf("잘못된 말 위치 참조: Player %d, Piece %d, Path %d, Step %d\n",
-                                player.getId(), piece.getId(), piece.getPathIndex(), piece.getStepIndex());
-                        continue;
-                    }
+        // 각 플레이어의 말들을 보드에 표시 (업힌 말 고려)
+        // 위치별 말 스택 수 계산 (같은 플레이어의 말만)
+        Map<String, Map<Integer, Integer>> pieceStackCounts = new HashMap<>();
+        for (GameSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+            for (int i = 0; i < player.getPieceCount(); i++) {
+                if (!player.isOnBoard(i)) continue;
+                String locationKey = player.getPathIndex(i) + "-" + player.getStepIndex(i);
+                pieceStackCounts.computeIfAbsent(locationKey, k -> new HashMap<>())
+                        .merge(player.getId(), 1, Integer::sum); // 해당 위치, 해당 플레이어의 말 개수 +1
+            }
+        }
 
-                    String locationKey = piece.getPathIndex() + "-" + piece.getStepIndex();
-                    int displayStack = pieceStackCounts.getOrDefault(locationKey, new HashMap<>())
-                            .getOrDefault(player, 1);
-
-                    displayStack = Math.min(displayStack, 5); // 이미지 파일은 5스택까지만 있다고 가정
-                    if (displayStack <= 0) displayStack = 1; // 최소 1개
-
-                    // 말 이미지 파일명 결정 로직
-                    String iconFileName;
-                    boolean isOuterPath = (piece.getPathIndex() == 0);
-                    // 출발/도착점은 꼭짓점 정의에서 제외됨 (isVertex 조건 참고)
-                    boolean isStartFinishPoint = isOuterPath && (piece.getStepIndex() == 0);
-                    // 꼭짓점: 외곽 경로이면서, 5의 배수 번째 스텝이고, 출발/도착점이 아닌 경우
-                    boolean isVertex = isOuterPath && (piece.getStepIndex() % 5 == 0) && !isStartFinishPoint;
-                    // 중앙 노드: 외곽 경로가 아니면서, 해당 지름길의 중앙 스텝인 경우
-                    boolean isCenterNode = !isOuterPath && (piece.getStepIndex() == 2);
-
-                    if (isVertex || isCenterNode) {
-                        // 꼭짓점 또는 중앙일 경우 "big" 이미지를 사용 (예: "bigblue1.jpg")
-                        iconFileName = "big" + player.getColor() + displayStack + ".jpg";
-                        System.out.println(iconFileName);
-                    } else {
-                        // 일반적인 경우 (예: "blue1.jpg")
-                        iconFileName = player.getColor() + displayStack + ".jpg";
-                    }
+        for (GameSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+            for (int i = 0; i < player.getPieceCount(); i++) {
+                if (!player.isOnBoard(i)) continue;
+                int pathIdx = player.getPathIndex(i);
+                int stepIdx = player.getStepIndex(i);
+
+                // panButtons 배열 범위 체크
+                if (pathIdx >= panButtons.length || panButtons[pathIdx] == null ||
+                        stepIdx >= panButtons[pathIdx].length ||
+                        panButtons[pathIdx][stepIdx] == null) {
+                    System.err.printf("잘못된 말 위치 참조: Player %d, Piece %d, Path %d, Step %d\n",
+                            player.getId(), i, pathIdx, stepIdx);
+                    continue;
+                }
 
-                    // for 중앙 노드에서 말이 사라지는 버그
-                    ImageIcon pieceIcon = loadIcon(IMG_ROOT + iconFileName);
-                    JButton targetButton = panButtons[piece.getPathIndex()][piece.getStepIndex()];
-                    targetButton.setIcon(pieceIcon);
-                    if (isCenterNode) {
-                        System.out.println("Bringing central button to front.");
-                        boardPanel.setComponentZOrder(targetButton, 0); // 0이 가장 위
-                    }
+                String locationKey = pathIdx + "-" + stepIdx;
+                int displayStack = pieceStackCounts.getOrDefault(locationKey, new HashMap<>())
+                        .getOrDefault(player.getId(), 1);
+
+                displayStack = Math.min(displayStack, 5); // 이미지 파일은 5스택까지만 있다고 가정
+                if (displayStack <= 0) displayStack = 1; // 최소 1개
+
+                // 말 이미지 파일명 결정 로직
+                String iconFileName;
+                // 꼭짓점: 외곽 경로의 꼭짓점이고, 출발/도착점이 아닌 경우
+                int pieceNode = boardGraph.nodeOf(pathIdx, stepIdx);
+                boolean isVertex = boardGraph.isCorner(pieceNode);
+                // 중앙 노드: 지름길이 합류하는 지점인 경우
+                boolean isCenterNode = boardGraph.isCenter(pieceNode);
+
+                if (isVertex || isCenterNode) {
+                    // 꼭짓점 또는 중앙일 경우 "big" 이미지를 사용 (예: "bigblue1.jpg")
+                    iconFileName = "big" + player.getColor() + displayStack + ".jpg";
+                    System.out.println(iconFileName);
+                } else {
+                    // 일반적인 경우 (예: "blue1.jpg")
+                    iconFileName = player.getColor() + displayStack + ".jpg";
                 }
-            }
 
-            // GameState의 phase enum 케이싱
-            if (state.getPhase() == GameState.phase.THROW) {
-                // 1. 기본 메시지를 변수에 먼저 저장
-                String baseMessage = "Player " + state.getCurrentPlayer().getId() + ": 윷을 던지세요. (남은 횟수: " + state.getThrowCount() + ")";
-
-                // 2. 조건에 따라 앞에 붙일 추가 안내 메시지를 설정
-                String prefix = "";
-                Yut.Result lastThrownResult = state.getLastThrow().isEmpty() ? null : state.getLastThrow().get(state.getLastThrow().size() - 1);
-
-                if (state.getLastTurnEvent() == GameState.TurnEvent.BAEKDO_TURN_PASS) {
-                    prefix = "'빽도'가 나왔지만 움직일 말이 없어 턴이 넘어갑니다.\n";
-                } else if (state.getLastTurnEvent() == GameState.TurnEvent.YUT_OR_MO_THROWN && lastThrownResult != null) {
-                    prefix = "'" + lastThrownResult.toString() + "'이(가) 나와 한 번 더 던지세요!\n";
-                } else if (state.getLastTurnEvent() == GameState.TurnEvent.CAPTURE_OCCURRED) {
-                    prefix = "상대 말을 잡았습니다! 한 번 더 던지세요.\n";
+                // for 중앙 노드에서 말이 사라지는 버그
+                ImageIcon pieceIcon = loadIcon(IMG_ROOT + iconFileName);
+                JButton targetButton = panButtons[pathIdx][stepIdx];
+                targetButton.setIcon(pieceIcon);
+                if (isCenterNode) {
+                    System.out.println("Bringing central button to front.");
+                    boardPanel.setComponentZOrder(targetButton, 0); // 0이 가장 위
                 }
+            }
+        }
 
-                // 3. 최종적으로 조합된 메시지를 statusLabel에 한 번만 설정
-                statusLabel.setText("<html>" + prefix.replace("\n", "<br>") + baseMessage + "</html>");
-
-                enableYutButtons(true);
-                newPieceBtn.setEnabled(false); // 윷 던지기 페이즈에는 새 말 꺼내기 비활성화
-                canMove = false; // 아직 말 선택 불가
-            } else if (state.getPhase() == GameState.phase.MOVE) {
-                String yutResultsStr = state.getLastThrow().stream()
-                        .map(Yut.Result::toString).collect(Collectors.joining(", "));
-                statusLabel.setText("Player " + state.getCurrentPlayer().getId() + ": 말을 선택하세요. (결과: " + yutResultsStr + ")");
-                enableYutButtons(false);
-                // 새 말 꺼내기 버튼은 윷 던지기 결과가 있을 때만 활성화
-                newPieceBtn.setEnabled(state.getLastThrow() != null && !state.getLastThrow().isEmpty());
-                canMove = true; // 말 선택 가능
+        GameSnapshot.PlayerSnapshot currentPlayer = snapshot.getPlayers().get(snapshot.getCurrentPlayer());
+        // GameState의 phase enum 케이싱
+        if (snapshot.getPhase() == GameState.phase.THROW) {
+            // 1. 기본 메시지를 변수에 먼저 저장
+            String baseMessage = "Player " + currentPlayer.getId() + ": 윷을 던지세요. (남은 횟수: " + snapshot.getThrowCount() + ")";
+
+            // 2. 조건에 따라 앞에 붙일 추가 안내 메시지를 설정
+            String prefix = "";
+            Yut.Result lastThrownResult = snapshot.getPendingThrows().isEmpty() ? null : snapshot.getPendingThrows().get(snapshot.getPendingThrows().size() - 1);
+
+            if (snapshot.getLastTurnEvent() == GameState.TurnEvent.BAEKDO_TURN_PASS) {
+                prefix = "'빽도'가 나왔지만 움직일 말이 없어 턴이 넘어갑니다.\n";
+            } else if (snapshot.getLastTurnEvent() == GameState.TurnEvent.YUT_OR_MO_THROWN && lastThrownResult != null) {
+                prefix = "'" + lastThrownResult.toString() + "'이(가) 나와 한 번 더 던지세요!\n";
+            } else if (snapshot.getLastTurnEvent() == GameState.TurnEvent.CAPTURE_OCCURRED) {
+                prefix = "상대 말을 잡았습니다! 한 번 더 던지세요.\n";
+            } else if (snapshot.getLastTurnEvent() == GameState.TurnEvent.NAK_THROWN) {
+                prefix = "'낙'이 나와 이번 던지기는 무효입니다.\n";
             }
 
-            // GameState에 getWinner()가 있고, winner가 null이 아니면 게임 종료 처리
-            if (state.isGameOver() && state.getWinner() != null) {
-                statusLabel.setText("Player " + state.getWinner().getId() + " ("+ state.getWinner().getColor()+")"+" 승리! 게임 종료.");
-                enableYutButtons(false);
-                newPieceBtn.setEnabled(false); // 새 말 꺼내기 버튼 비활성화 확인
-                canMove = false;
+            // 3. 최종적으로 조합된 메시지를 statusLabel에 한 번만 설정
+            statusLabel.setText("<html>" + prefix.replace("\n", "<br>") + baseMessage + "</html>");
+
+            enableYutButtons(true);
+            newPieceBtn.setEnabled(false); // 윷 던지기 페이즈에는 새 말 꺼내기 비활성화
+            canMove = false; // 아직 말 선택 불가
+        } else if (snapshot.getPhase() == GameState.phase.MOVE) {
+            String yutResultsStr = snapshot.getPendingThrows().stream()
+                    .map(Yut.Result::toString).collect(Collectors.joining(", "));
+            statusLabel.setText("Player " + currentPlayer.getId() + ": 말을 선택하세요. (결과: " + yutResultsStr + ")");
+            enableYutButtons(false);
+            // 새 말 꺼내기 버튼은 윷 던지기 결과가 있을 때만 활성화
+            newPieceBtn.setEnabled(!snapshot.getPendingThrows().isEmpty());
+            canMove = true; // 말 선택 가능
+        }
+
+        // GameState에 getWinner()가 있고, winner가 null이 아니면 게임 종료 처리
+        if (snapshot.isGameOver()) {
+            GameSnapshot.PlayerSnapshot winner = snapshot.getPlayers().get(snapshot.getWinner());
+            statusLabel.setText("Player " + winner.getId() + " ("+ winner.getColor()+")"+" 승리! 게임 종료.");
+            enableYutButtons(false);
+            newPieceBtn.setEnabled(false); // 새 말 꺼내기 버튼 비활성화 확인
+            canMove = false;
 
-                // pieceActionPanel에 기존 버튼이 있다면 제거 (예: "새 말 꺼내기")
-                pieceActionPanel.removeAll();
+            // pieceActionPanel에 기존 버튼이 있다면 제거 (예: "새 말 꺼내기")
+            pieceActionPanel.removeAll();
 
-                JButton restartButton = new JButton("게임 재시작");
-                restartButton.addActionListener(e -> controller.restartGame());
-                pieceActionPanel.add(restartButton);
+            JButton restartButton = new JButton("게임 재시작");
+            restartButton.addActionListener(e -> controller.restartGame());
+            pieceActionPanel.add(restartButton);
 
-                JButton exitButton = new JButton("게임 종료");
-                exitButton.addActionListener(e -> System.exit(0)); // 게임 창만 닫기
-                pieceActionPanel.add(exitButton);
+            JButton exitButton = new JButton("게임 종료");
+            exitButton.addActionListener(e -> System.exit(0)); // 게임 창만 닫기
+            pieceActionPanel.add(exitButton);
 
+            pieceActionPanel.revalidate();
+            pieceActionPanel.repaint();
+        } else {
+            // 게임 종료 상태가 아닐 경우 "새 말 꺼내기" 버튼 등이 다시 표시되도록 처리
+            // 예를 들어, newPieceBtn이 제거되었거나 현재 보이지 않는 경우 다시 추가
+            if (pieceActionPanel.getComponentCount() == 0 && snapshot.getPhase() == GameState.phase.MOVE) {
+                newPieceBtn.setEnabled(!snapshot.getPendingThrows().isEmpty());
+                pieceActionPanel.add(newPieceBtn);
                 pieceActionPanel.revalidate();
                 pieceActionPanel.repaint();
-            } else {
-                // 게임 종료 상태가 아닐 경우 "새 말 꺼내기" 버튼 등이 다시 표시되도록 처리
-                // 예를 들어, newPieceBtn이 제거되었거나 현재 보이지 않는 경우 다시 추가
-                if (pieceActionPanel.getComponentCount() == 0 && state.getPhase() == GameState.phase.MOVE) {
-                    newPieceBtn.setEnabled(state.getLastThrow() != null && !state.getLastThrow().isEmpty());
-                    pieceActionPanel.add(newPieceBtn);
-                    pieceActionPanel.revalidate();
-                    pieceActionPanel.repaint();
-                }
             }
+        }
 
-            updateInfoPanel(state); // 플레이어 정보 패널 업데이트
+        if (replay != null) updateReplayControls();
 
-            boardPanel.revalidate(); boardPanel.repaint();
-            pieceActionPanel.revalidate(); pieceActionPanel.repaint();
-            // infoPanel도 내용 변경 시 revalidate/repaint 필요 (updateInfoPanel 내부에서 처리)
-        });
+        updateInfoPanel(snapshot); // 플레이어 정보 패널 업데이트
+
+        // 힌트 모드면 이 스냅샷 기준으로 다시 계산 (진행 중인 이전 계산은 취소됨)
+        if (hintCheckBox.isSelected()) {
+            hintEngine.request(snapshot, hint -> SwingUtilities.invokeLater(() -> showHint(hint)));
+        } else {
+            hintEngine.cancel();
+        }
+
+        boardPanel.revalidate(); boardPanel.repaint();
+        pieceActionPanel.revalidate(); pieceActionPanel.repaint();
+        // infoPanel은 바뀐 라벨만 스스로 다시 그림 (updateInfoPanel 참고)
+
+        if (!firstFrameShown) {
+            firstFrameShown = true;
+            // 위 repaint 요청 뒤에 예약되므로 첫 프레임이 실제로 그려진 다음 실행됨
+            SwingUtilities.invokeLater(() -> {
+                StartupTrace.firstInteractiveFrame(controller.getMetrics());
+                // 진행 지표를 JMX(yut:type=GameMetrics)로 노출 (JMX 초기화가 무거워 첫 화면 뒤로 미룸)
+                controller.getMetrics().registerMBean("board");
+            });
+        }
     }
 
-    /** 플레이어 정보 패널(우측)을 현재 게임 상태에 따라 업데이트 */
-    private void updateInfoPanel(GameState state) {
-        infoPanel.removeAll(); // 기존 정보 제거
+    /** 추천 이동 강조: 출발 칸(또는 '새 말 꺼내기' 버튼)과 도착 칸 (EDT에서 호출) */
+    private void showHint(MoveHintEngine.Hint hint) {
+        // 계산하는 사이 상태가 바뀌었거나 힌트를 끈 경우 버림
+        if (!hintCheckBox.isSelected() || hint.getVersion() != currentSnapshot().getVersion()) return;
+        if (panButtons == null) return;
+        shownHint = hint;
+        if (hint.isDeploy()) {
+            newPieceBtn.setBorder(BorderFactory.createLineBorder(HINT_FROM_COLOR, 3));
+        } else {
+            highlightNode(hint.getFrom(), HINT_FROM_COLOR);
+        }
+        if (hint.getTo() >= 0) highlightNode(hint.getTo(), HINT_TO_COLOR);
+
+        String where = hint.isDeploy() ? "새 말" : "(" + boardGraph.pathOf(hint.getFrom()) + "," + boardGraph.stepOf(hint.getFrom()) + ") 말";
+        String dest = hint.getTo() == BoardGraph.FINISH ? "완주"
+                : "(" + boardGraph.pathOf(hint.getTo()) + "," + boardGraph.stepOf(hint.getTo()) + ")";
+        statusLabel.setText(statusLabel.getText() + "  [힌트: '" + hint.getResult() + "'(으)로 " + where + " → " + dest
+                + ", 예상 승률 " + Math.round(hint.getScore() * 100) + "%]");
+    }
+
+    /** 노드에 해당하는 윷판 버튼 테두리 강조 */
+    private void highlightNode(int node, Color color) {
+        int path = boardGraph.pathOf(node);
+        int step = boardGraph.stepOf(node);
+        if (path >= panButtons.length || panButtons[path] == null || step >= panButtons[path].length) return;
+        JButton btn = panButtons[path][step];
+        if (btn == null) return;
+        btn.setBorder(BorderFactory.createLineBorder(color, 3));
+        btn.setBorderPainted(true);
+    }
+
+    /**
+     * 플레이어 정보 패널(우측)을 현재 게임 상태에 따라 업데이트.
+     * 플레이어 칸은 처음(또는 플레이어 구성이 바뀌었을 때)만 만들고, 이후에는 바뀐 값만 고친다.
+     */
+    private void updateInfoPanel(GameSnapshot snapshot) {
+        List<GameSnapshot.PlayerSnapshot> players = snapshot.getPlayers();
+        if (!infoPanelMatches(players)) buildInfoPanel(players);
+
+        double[] winProbabilities = winEvaluator.evaluate(snapshot); // 캐시 적중 시 즉시 반환
+        for (int i = 0; i < players.size(); i++) {
+            int percent = (int) Math.round(winProbabilities[i] * 100);
+            // 현재 턴 플레이어 표시 (테두리 제목 색상 변경)
+            boolean current = i == snapshot.getCurrentPlayer() && !snapshot.isGameOver();
+            playerInfos.get(i).update(players.get(i), current, percent);
+        }
+    }
+
+    /** 정보 패널의 플레이어 칸이 스냅샷의 플레이어 구성과 같은지 */
+    private boolean infoPanelMatches(List<GameSnapshot.PlayerSnapshot> players) {
+        if (playerInfos.size() != players.size()) return false;
+        for (int i = 0; i < players.size(); i++) {
+            PlayerInfoPanel info = playerInfos.get(i);
+            if (info.getPlayerId() != players.get(i).getId() || !info.getColor().equals(players.get(i).getColor())) return false;
+        }
+        return true;
+    }
+
+    /** 정보 패널 구성 요소 생성 (플레이어 구성이 바뀔 때만) */
+    private void buildInfoPanel(List<GameSnapshot.PlayerSnapshot> players) {
+        infoPanel.removeAll();
+        playerInfos.clear();
 
         JLabel titleLabel = new JLabel("플레이어 정보");
         titleLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
@@ -560,41 +630,13 @@ public class YutBoard extends JFrame implements GameView {
         infoPanel.add(titleLabel);
         infoPanel.add(Box.createRigidArea(new Dimension(0, 10))); // 간격
 
-        for (Player player : state.getPlayers()) {
-            JPanel playerBox = new JPanel();
-            playerBox.setLayout(new BoxLayout(playerBox, BoxLayout.Y_AXIS));
-            // 플레이어 ID와 색상을 제목으로 사용
-            playerBox.setBorder(BorderFactory.createTitledBorder("Player " + player.getId() + " (" + player.getColor() + ")"));
-            playerBox.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-            // 현재 턴 플레이어 표시 (테두리 제목 색상 변경)
-            if (player == state.getCurrentPlayer() && !(state.isGameOver() && state.getWinner() != null) ) {
-                ((javax.swing.border.TitledBorder)playerBox.getBorder()).setTitleColor(Color.BLUE);
-            }
-
-
-            // 1. 플레이어가 사용하는 말 이미지
+        for (GameSnapshot.PlayerSnapshot player : players) {
             ImageIcon playerIcon = loadIcon(IMG_ROOT + player.getColor() + ".jpg"); // 예: blue.jpg
-            JLabel iconLabel = new JLabel(playerIcon != null ? playerIcon : createPlaceholderIcon(Color.LIGHT_GRAY, 20,20)); // null 방지
-            iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            playerBox.add(iconLabel);
-            playerBox.add(Box.createRigidArea(new Dimension(0, 5)));
-
-            // 2. 남은 말 개수 (윷판에 아직 올라가지 않은 말)
-            long piecesNotYetOnBoard = player.getPieces().stream()
-                    .filter(p -> p.getPathIndex() == -1 && !p.isFinished())
-                    .count();
-            JLabel remainingPiecesLabel = new JLabel("대기 중인 말: " + piecesNotYetOnBoard);
-            remainingPiecesLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            playerBox.add(remainingPiecesLabel);
-
-            // 3. 점수 (완주한 말 개수)
-            long score = player.getPieces().stream().filter(Piece::isFinished).count();
-            JLabel scoreLabel = new JLabel("완주한 말: " + score + " / " + config.getPieceCount()); // 전체 말 개수 함께 표시
-            scoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            playerBox.add(scoreLabel);
-
-            infoPanel.add(playerBox);
+            PlayerInfoPanel info = new PlayerInfoPanel(player,
+                    playerIcon != null ? playerIcon : createPlaceholderIcon(Color.LIGHT_GRAY, 20, 20), // null 방지
+                    config.getPieceCount());
+            playerInfos.add(info);
+            infoPanel.add(info);
             infoPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         }
         infoPanel.revalidate();
@@ -604,10 +646,8 @@ public class YutBoard extends JFrame implements GameView {
 
     @Override
     public void showThrowResult(Yut.Result result) { // GameView 인터페이스와 시그니처 일치
-        SwingUtilities.invokeLater(() -> {
-            System.out.println("윷 던짐 결과 (View): " + result);
-            updateBoard(controller.getState()); // 상태 변경에 따른 전체 UI 업데이트
-        });
+        // 게임 스레드에서 호출됨: 로그만 남기고, 화면은 명령 처리 후 공개되는 스냅샷으로 그린다
+        System.out.println("윷 던짐 결과 (View): " + result);
     }
 
     @Override
@@ -616,13 +656,26 @@ public class YutBoard extends JFrame implements GameView {
             JOptionPane.showMessageDialog(this,
                     "Player " + winner.getId() + " (" + winner.getColor() + ") 님 승리!",
                     "게임 종료", JOptionPane.INFORMATION_MESSAGE);
-            // GameState에 winner 정보가 설정된 후 updateBoard가 호출되어 UI 최종 정리
-            updateBoard(controller.getState());
+            // 최종 화면은 명령 처리 후 공개되는 스냅샷으로 그려짐
         });
     }
 
     @Override
     public void closeGameView() {
+        controller.removeSnapshotListener(frameListener);
+        controller.stopGameThread();
+        if (replay != null) replay.close();
+        if (recordWriter != null) {
+            controller.removeCommandListener(recordWriter);
+            try {
+                recordWriter.close();
+            } catch (IOException e) {
+                System.err.println("게임 기록 파일 닫기 실패: " + e.getMessage());
+            }
+        }
+        winEvaluator.close();
+        hintEngine.close();
+        controller.getMetrics().close();
         this.dispose();
     }
 
@@ -632,14 +685,30 @@ public class YutBoard extends JFrame implements GameView {
         SwingUtilities.invokeLater(FirstPage::new);
     }
 
+    /**
+     * 남은 윷 결과가 여러 개면 사용할 결과를 묻는다 (스냅샷 기준)
+     * @return 결과 인덱스, 사용자가 창을 닫으면 -1
+     */
+    private int chooseResult(String message, String title) {
+        List<Yut.Result> pending = currentSnapshot().getPendingThrows();
+        if (pending.size() <= 1) return 0; // 결과가 하나면 자동 선택 (인덱스 0)
+        Object[] yutOptions = pending.stream().map(Yut.Result::toString).toArray();
+        // 힌트가 표시 중이면 추천 결과를 기본 선택으로
+        int preferred = shownHint != null && shownHint.getResultIndex() < yutOptions.length ? shownHint.getResultIndex() : 0;
+        int choice = JOptionPane.showOptionDialog(this, message, title,
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
+                null, yutOptions, yutOptions[preferred]);
+        return choice == JOptionPane.CLOSED_OPTION ? -1 : choice;
+    }
+
     /** 이미지 리소스 로드 헬퍼 (null 반환 가능성 처리) */
     private ImageIcon loadIcon(String path) {
-        URL url = getClass().getClassLoader().getResource(path);
-        if (url == null) {
+        ImageIcon icon = IconCache.get(path); // 설정 화면에서 미리 읽어 둔 이미지 (없으면 여기서 읽음)
+        if (icon == null) {
             System.err.println("아이콘 파일 누락 또는 경로 문제: " + path);
             return createPlaceholderIcon(Color.GRAY, buttonSize, buttonSize);
         }
-        return new ImageIcon(url);
+        return icon;
     }
 
     /** 플레이스홀더 아이콘 생성 (이미지 로드 실패 시) */
@@ -678,11 +747,6 @@ public class YutBoard extends JFrame implements GameView {
         return btn;
     }
 
-    /** 두 점 사이를 t 비율로 내분하는 점을 반환 */
-    private Point interpolate(Point p1, Point p2, double t) {
-        return new Point((int) (p1.x * (1 - t) + p2.x * t), (int) (p1.y * (1 - t) + p2.y * t));
-    }
-
     /** 윷 던지기 관련 버튼 활성화/비활성화 */
     private void enableYutButtons(boolean enable) {
         rndBtn.setEnabled(enable);
@@ -0,0 +1,79 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoardGraph 정의 파일 해석과 컴파일된 이동 표를 검증하는 테스트 클래스.
+ */
+public class BoardGraphTest {
+
+    @Test
+    @DisplayName("사각형 판: 분기점 출발 시 지름길 진입, 중앙 도착 시 합류")
+    void squareBranchAndMergeTest() {
+        BoardGraph g = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        int corner = g.nodeOf(0, 5);
+
+        // 외곽 5번 칸에서 '걸'이면 지름길 1의 중앙(2번 칸)에 멈추고 지름길 2로 합류
+        int dest = g.move(corner, Yut.Result.걸);
+        assertEquals(2, g.pathOf(dest));
+        assertEquals(2, g.stepOf(dest));
+
+        // 외곽 3번 칸에서 '개'면 분기점(5번 칸)에 멈춤
+        assertEquals(corner, g.move(g.nodeOf(0, 3), Yut.Result.개));
+    }
+
+    @Test
+    @DisplayName("빽도: 1번 칸에서 완주, 지름길 첫 칸에서 분기점 복귀")
+    void backDoTest() {
+        BoardGraph g = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        assertEquals(BoardGraph.FINISH, g.move(g.nodeOf(0, 1), Yut.Result.빽도));
+        assertEquals(g.nodeOf(0, 10), g.move(g.nodeOf(2, 0), Yut.Result.빽도));
+        assertEquals(g.nodeOf(0, 0), g.move(g.nodeOf(0, 0), Yut.Result.빽도));
+    }
+
+    @Test
+    @DisplayName("팔각형 판: 외곽 40칸, 지름길 6개, 마지막 지름길로 완주")
+    void octagonTest() {
+        BoardGraph g = BoardGraph.forType(PlayConfig.BoardType.OCTAGON);
+        assertEquals(40, g.getPathLength(0));
+        assertEquals(7, g.getPathCount());
+        // 지름길 6의 마지막 칸에서 '도'면 완주
+        assertEquals(BoardGraph.FINISH, g.move(g.nodeOf(6, 4), Yut.Result.도));
+        // 지름길 1의 마지막 칸에서 '도'면 외곽 35번 칸으로 탈출
+        assertEquals(g.nodeOf(0, 35), g.move(g.nodeOf(1, 4), Yut.Result.도));
+    }
+
+    @Test
+    @DisplayName("정의 파일 해석: 사용자 정의 판으로 게임 진행")
+    void customDefinitionTest() {
+        BoardGraph g = BoardGraph.parse(
+                "name 삼각 # 주석\n" +
+                "path 0 15\n" +
+                "path 1 5\n" +
+                "link 0:14 goal\n" +
+                "back 0:1 goal\n" +
+                "branch 0:5 1:0\n" +
+                "link 1:4 goal\n" +
+                "polygon 3 0.4 90 0\n");
+        assertEquals(g.nodeOf(1, 0), g.branchTarget(g.nodeOf(0, 5)));
+        assertEquals(g.nodeOf(0, 5), g.backOf(g.nodeOf(1, 0)));
+
+        PlayConfig config = new PlayConfig(2, 2, PlayConfig.BoardType.SQUARE);
+        config.setCustomBoard(g);
+        GameState state = new GameState(config, List.of("Player1", "Player2"));
+        Piece piece = state.getPlayers().get(0).getPieces().get(0);
+        piece.setPathIndex(0);
+        piece.setStepIndex(13);
+        state.applyThrow(Yut.Result.개);
+        state.movePiece(piece.getId());
+        assertTrue(piece.isFinished(), "외곽 15칸 판에서 13번 칸 + '개'는 완주");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 지시어는 예외")
+    void invalidDefinitionTest() {
+        assertThrows(IllegalArgumentException.class, () -> BoardGraph.parse("path 0 20\nfoo 1\n"));
+        assertThrows(IllegalArgumentException.class, () -> BoardGraph.parse("path 0 20\nlink 0:30 goal\n"));
+    }
+}
@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2인 종반 승률표(EndgameTablebase)의 위치 번호와 값을 검증하는 테스트 클래스.
+ * 값은 같은 모델의 깊이 제한 전수 탐색이 주는 승률 하한/상한 안에 있어야 한다.
+ */
+public class EndgameTablebaseTest {
+    private static final double TOLERANCE = 1e-3;     // 수렴 기준 + 2바이트 양자화 오차보다 넉넉히
+
+    @Test
+    @DisplayName("N=1 승률표: 같은 칸을 나눈 위치는 빠지고, 모든 값이 전수 탐색의 승률 구간 안에 있음")
+    void smallTableTest() throws Exception {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        Path file = Files.createTempFile("yut-tablebase", ".ytb");
+        try {
+            EndgameTablebase tb = EndgameTablebase.generate(board, 1, file);
+            int n = board.getNodeCount();
+            // 한쪽 상태: 완주, 대기, 노드 n개. 두 말이 같은 노드인 n가지를 빼고, 던질 플레이어 2가지
+            assertEquals(2L * ((n + 2) * (n + 2) - n), tb.size());
+
+            Position pos = new Position(board, 2, 1);
+            int[] cells = new int[n + 2];
+            for (int c = 0; c < cells.length; c++) cells[c] = c < n ? c : c == n ? Position.WAITING : BoardGraph.FINISH;
+            int checked = 0, tight = 0;
+            for (int a : cells) {
+                for (int b : cells) {
+                    pos.setNode(0, 0, a);
+                    pos.setNode(1, 0, b);
+                    if (a >= 0 && a == b) {
+                        assertTrue(Double.isNaN(tb.probe(pos)), "같은 칸의 두 말은 표에 없음");
+                        continue;
+                    }
+                    double v = tb.probe(pos);
+                    if (pos.isWinner(0)) assertEquals(1.0, v, 0.0);
+                    else if (pos.isWinner(1)) assertEquals(0.0, v, 0.0);
+                    double[] bound = search(pos, 0, 3);
+                    assertTrue(v >= bound[0] - TOLERANCE && v <= bound[1] + TOLERANCE,
+                            a + " vs " + b + ": " + v + " not in [" + bound[0] + ", " + bound[1] + "]");
+                    if (bound[1] - bound[0] < 0.05) tight++;
+                    checked++;
+                }
+            }
+            assertEquals(tb.size() / 2, checked);
+            assertTrue(tight > 0, "좁은 구간으로 확인한 위치가 있어야 함");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("결승점 근처 위치: 깊게 탐색한 좁은 구간과 맞고, 말이 더 많은 게임 위치도 남은 말 기준으로 조회")
+    void nearGoalTest() throws Exception {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        Path file = Files.createTempFile("yut-tablebase", ".ytb");
+        try {
+            EndgameTablebase tb = EndgameTablebase.generate(board, 1, file);
+            int nearGoal = board.nodeOf(0, 19);            // 외곽 마지막 칸: 빽도 말고는 모두 완주
+            Position pos = new Position(board, 2, 1);
+            pos.setNode(0, 0, nearGoal);
+            pos.setNode(1, 0, Position.WAITING);
+
+            double[] bound = search(pos, 0, 6);
+            assertTrue(bound[1] - bound[0] < 0.01, "구간 폭 " + (bound[1] - bound[0]));
+            double v = tb.probe(pos);
+            assertTrue(v > 0.8, "결승점 앞 말이 이길 확률 " + v);
+            assertTrue(v >= bound[0] - TOLERANCE && v <= bound[1] + TOLERANCE);
+
+            pos.setCurrent(1);                              // 상대가 먼저 던지면 더 낮음
+            double other = tb.probe(pos);
+            assertTrue(other < 1 - v + 0.2 && other > 0);
+
+            Position game = new Position(board, 2, 4);      // 4말 게임에서 각자 3말 완주
+            for (int i = 0; i < 3; i++) {
+                game.setNode(0, i, BoardGraph.FINISH);
+                game.setNode(1, i + 1, BoardGraph.FINISH);
+            }
+            game.setNode(0, 3, nearGoal);
+            game.setNode(1, 0, Position.WAITING);
+            assertEquals(v, tb.probe(game), 0.0);
+            game.setNode(0, 2, Position.WAITING);           // 남은 말 2개: 표 범위 밖
+            assertTrue(Double.isNaN(tb.probe(game)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 승률표와 같은 모델의 깊이 제한 전수 탐색 (던질 플레이어 mover의 승률 [하한, 상한]).
+     * 깊이가 다 되면 모르는 값으로 보고 [0, 1]을 돌려준다.
+     */
+    private static double[] search(Position pos, int mover, int depth) {
+        if (pos.isWinner(mover)) return new double[]{1, 1};
+        if (pos.isWinner(1 - mover)) return new double[]{0, 0};
+        if (depth == 0) return new double[]{0, 1};
+        double lo = 0, hi = 0;
+        for (Yut.Result r : Yut.Result.values()) {
+            double p = Yut.probability(r);
+            if (p == 0) continue;
+            pos.setCurrent(mover);
+            int[] moves = pos.legalMoves(r);
+            double bestLo, bestHi;
+            if (moves.length == 0) {
+                double[] v = search(pos, 1 - mover, depth - 1);
+                bestLo = 1 - v[1];
+                bestHi = 1 - v[0];
+            } else {
+                bestLo = 0;
+                bestHi = 0;
+                for (int from : moves) {
+                    Position after = pos.copy();
+                    after.setCurrent(mover);
+                    int captured = after.apply(from, r);
+                    double vLo, vHi;
+                    if (after.isWinner(mover)) {
+                        vLo = vHi = 1;
+                    } else if (captured > 0 || r == Yut.Result.윷 || r == Yut.Result.모) {
+                        double[] v = search(after, mover, depth - 1);
+                        vLo = v[0];
+                        vHi = v[1];
+                    } else {
+                        double[] v = search(after, 1 - mover, depth - 1);
+                        vLo = 1 - v[1];
+                        vHi = 1 - v[0];
+                    }
+                    bestLo = Math.max(bestLo, vLo);
+                    bestHi = Math.max(bestHi, vHi);
+                }
+            }
+            lo += p * bestLo;
+            hi += p * bestHi;
+        }
+        return new double[]{lo, hi};
+    }
+}
@@ -0,0 +1,177 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameController 명령 큐(단일 작성자)와 스냅샷 공개를 검증하는 테스트 클래스.
+ */
+public class GameControllerTest {
+
+    /** 화면 없는 GameView */
+    private static class StubView implements GameView {
+        final AtomicInteger updates = new AtomicInteger();
+        @Override public void updateBoard(GameSnapshot snapshot) { updates.incrementAndGet(); }
+        @Override public void showThrowResult(Yut.Result result) { updates.incrementAndGet(); }
+        @Override public void showWinner(Player winner) { updates.incrementAndGet(); }
+        @Override public void closeGameView() { }
+        @Override public void showInitialSetup() { }
+    }
+
+    @Test
+    @DisplayName("명령 큐: 윷 결과 선택과 이동이 한 명령으로 처리되고 스냅샷에 반영")
+    void selectAndMoveTest() {
+        GameController controller = new GameController(
+                new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B"), new StubView());
+        controller.onThrowSpecified(Yut.Result.윷);
+        controller.onThrowSpecified(Yut.Result.개);
+        GameSnapshot before = controller.getSnapshot();
+        assertEquals(List.of(Yut.Result.윷, Yut.Result.개), before.getPendingThrows());
+
+        controller.deployNewPiece(1); // '개'로 새 말 꺼내기
+        GameSnapshot after = controller.getSnapshot();
+        assertEquals(List.of(Yut.Result.윷), after.getPendingThrows());
+        assertEquals(0, after.getPlayers().get(0).getPathIndex(0));
+        assertEquals(2, after.getPlayers().get(0).getStepIndex(0));
+        // 이전 스냅샷은 바뀌지 않음
+        assertEquals(-1, before.getPlayers().get(0).getPathIndex(0));
+        assertTrue(after.getVersion() > before.getVersion());
+    }
+
+    @Test
+    @DisplayName("스냅샷 구조 공유: 바뀌지 않은 플레이어와 윷 결과 목록은 이전 객체 재사용")
+    void structuralSharingTest() {
+        GameState state = new GameState(new PlayConfig(3, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B", "C"));
+        GameSnapshot first = GameSnapshot.of(state, 0);
+        state.applyThrow(Yut.Result.걸);
+        Piece piece = state.getPlayers().get(0).getPieces().get(0);
+        piece.setPathIndex(0);
+        piece.setStepIndex(0);
+        state.movePiece(piece.getId());
+
+        GameSnapshot second = GameSnapshot.of(state, 1, first);
+        assertNotSame(first.getPlayers().get(0), second.getPlayers().get(0));
+        assertSame(first.getPlayers().get(1), second.getPlayers().get(1));
+        assertSame(first.getPlayers().get(2), second.getPlayers().get(2));
+        assertEquals(3, second.getPlayers().get(0).getStepIndex(0));
+
+        GameSnapshot third = GameSnapshot.of(state, 2, second);
+        assertSame(second.getPlayers(), third.getPlayers());
+        assertSame(second.getPendingThrows(), third.getPendingThrows());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 명령을 넣어도 모든 명령이 한 번씩 처리")
+    void concurrentSubmitTest() throws Exception {
+        GameController controller = new GameController(
+                new PlayConfig(4, 5, PlayConfig.BoardType.HEXAGON), List.of("A", "B", "C", "D"), new StubView());
+        int threads = 4, perThread = 2000;
+        List<Thread> workers = new ArrayList<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                long seen = 0;
+                for (int i = 0; i < perThread; i++) {
+                    if (i % 2 == 0) controller.onThrowRandom();
+                    else controller.deployNewPiece(0);
+                    long v = controller.getSnapshot().getVersion();
+                    if (v < seen) failures.incrementAndGet(); // 스냅샷 버전은 뒤로 가지 않음
+                    seen = v;
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) worker.join();
+
+        assertEquals(0, failures.get());
+        assertEquals(threads * perThread, controller.getSnapshot().getVersion());
+    }
+
+    @Test
+    @DisplayName("게임 스레드: 제출한 스레드는 막히지 않고, 명령은 모두 게임 스레드에서 순서대로 처리")
+    void gameThreadTest() throws InterruptedException {
+        GameController controller = new GameController(
+                new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B"), new StubView());
+        List<String> threadNames = new java.util.concurrent.CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        int commands = 200;
+        controller.addSnapshotListener(s -> {
+            threadNames.add(Thread.currentThread().getName());
+            if (s.getVersion() == commands) done.countDown();
+        });
+        controller.startGameThread();
+        for (int i = 0; i < commands; i++) {
+            if (i % 2 == 0) controller.onThrowRandom();
+            else controller.deployNewPiece(0);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        controller.stopGameThread();
+
+        assertEquals(commands, threadNames.size());
+        for (String name : threadNames) assertEquals("game-logic", name);
+        assertEquals(commands, controller.getMetrics().getCommandLatencyHistogram().getCount());
+
+        // 종료 후에는 다시 제출한 스레드가 직접 처리
+        controller.onThrowRandom();
+        assertEquals((long) commands + 1, controller.getSnapshot().getVersion());
+    }
+
+    @Test
+    @DisplayName("버전은 게임 명령 수: 화면 갱신이나 기록 연결 같은 명령은 버전을 올리지 않음")
+    void versionCountsGameCommandsTest() {
+        GameController controller = new GameController(
+                new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B"), new StubView());
+        controller.startGame();
+        controller.setJournal(null);
+        assertEquals(0, controller.getSnapshot().getVersion());
+        controller.onThrowSpecified(Yut.Result.걸);
+        controller.startGame();
+        controller.deployNewPiece(0);
+        assertEquals(2, controller.getSnapshot().getVersion());
+    }
+
+    @Test
+    @DisplayName("명령 안에서 제출: 큐에 여유가 있으면 뒤이어 처리, 가득 차 있으면 멈추지 않고 실패")
+    void reentrantSubmitTest() throws InterruptedException {
+        for (boolean gameThread : new boolean[] {false, true}) {
+            GameController controller = new GameController(
+                    new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B"), new StubView());
+            AtomicInteger failures = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(1);
+            controller.addCommandListener(command -> {
+                if (GameCommand.typeOf(command) != GameCommand.THROW) return;
+                try {
+                    // 리스너는 명령을 처리하는 스레드에서 불린다: 큐를 넘치게 채운다
+                    for (int i = 0; i < 2000; i++) controller.deployNewPiece(0);
+                } catch (IllegalStateException e) {
+                    failures.incrementAndGet();
+                }
+                done.countDown();
+            });
+            if (gameThread) controller.startGameThread();
+            controller.onThrowSpecified(Yut.Result.도);
+            assertTrue(done.await(5, TimeUnit.SECONDS), gameThread ? "게임 스레드" : "제출 스레드");
+            controller.stopGameThread();
+
+            assertEquals(1, failures.get());
+            // 던지기 1개 + 큐에 들어간 이동 명령 (큐 용량만큼)
+            assertEquals(1 + 1024, controller.getSnapshot().getVersion());
+        }
+    }
+
+    @Test
+    @DisplayName("링 버퍼: 가득 차면 offer 실패, 꺼낸 순서는 넣은 순서")
+    void ringBufferTest() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < buffer.capacity(); i++) assertTrue(buffer.offer(i));
+        assertFalse(buffer.offer(99));
+        for (int i = 0; i < buffer.capacity(); i++) assertEquals(Integer.valueOf(i), buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.awt.EventQueue;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 지표 레지스트리(GameMetrics)의 카운터, 히스토그램 연결, 텍스트 출력, reset을 검증하는 테스트 클래스.
+ */
+public class GameMetricsTest {
+
+    @Test
+    @DisplayName("카운터와 히스토그램이 기록한 만큼 늘고, dump에 나오며, reset으로 비워짐")
+    void countersTest() {
+        GameMetrics metrics = new GameMetrics();
+        for (int i = 0; i < 3; i++) metrics.recordThrow();
+        metrics.recordMove(1_000);
+        metrics.recordMove(3_000);
+        metrics.recordCapture(2);
+        metrics.recordTurnChange();
+        metrics.recordViewRequest();
+        metrics.recordViewRequest();
+        metrics.recordViewUpdate(50_000);
+        metrics.recordCommandLatency(20_000);
+        metrics.recordFrame(0);
+        metrics.recordFrame(4);
+        metrics.recordFirstFrame(850);
+
+        assertEquals(3, metrics.getThrows());
+        assertEquals(2, metrics.getMoves());
+        assertEquals(2, metrics.getCaptures());
+        assertEquals(1, metrics.getTurnChanges());
+        assertEquals(2, metrics.getViewRequests());
+        assertEquals(1, metrics.getViewUpdates());
+        assertEquals(2, metrics.getFrames());
+        assertEquals(4, metrics.getCoalescedFrames());
+        assertEquals(850, metrics.getFirstFrameMillis());
+        assertEquals(2, metrics.getMovePieceHistogram().getCount());
+        assertTrue(Math.abs(metrics.getMovePieceP50Nanos() - 1_000) <= 1_000 / 16);
+        assertTrue(Math.abs(metrics.getMovePieceP99Nanos() - 3_000) <= 3_000 / 16);
+        assertTrue(Math.abs(metrics.getViewUpdateP99Nanos() - 50_000) <= 50_000 / 16);
+        assertTrue(Math.abs(metrics.getCommandLatencyP50Nanos() - 20_000) <= 20_000 / 16);
+
+        String dump = metrics.dump();
+        assertTrue(dump.contains("yut_throws_total 3\n"));
+        assertTrue(dump.contains("yut_captures_total 2\n"));
+        assertTrue(dump.contains("yut_view_requests_total 2\n"));
+        assertTrue(dump.contains("yut_view_update_nanos_count 1\n"));
+        assertTrue(dump.contains("yut_coalesced_frames_total 4\n"));
+        assertTrue(dump.contains("yut_first_frame_millis 850\n"));
+        assertTrue(dump.contains("yut_move_piece_nanos_count 2\n"));
+        assertTrue(dump.contains("yut_move_piece_nanos{quantile=\"0.5\"} " + metrics.getMovePieceP50Nanos() + "\n"));
+
+        metrics.reset();
+        assertEquals(0, metrics.getThrows());
+        assertEquals(0, metrics.getMoves());
+        assertEquals(0, metrics.getViewRequests());
+        assertEquals(0, metrics.getCoalescedFrames());
+        assertEquals(0, metrics.getMovePieceHistogram().getCount());
+        assertEquals(0, metrics.getCommandLatencyP99Nanos());
+        assertEquals(850, metrics.getFirstFrameMillis(), "시작 시간은 한 번만 기록되는 값이라 reset하지 않음");
+    }
+
+    @Test
+    @DisplayName("화면 갱신: 게임 스레드는 요청 수만 세고, 그리기 시간은 EDT에서 그린 만큼 잼")
+    void viewUpdateTimingTest() throws Exception {
+        GameMetrics metrics = new GameMetrics();
+        long renderNanos = 2_000_000;
+        FrameCoalescer frames = new FrameCoalescer(snapshot -> {
+            long until = System.nanoTime() + renderNanos;
+            while (System.nanoTime() < until) Thread.onSpinWait();
+        }, metrics);
+        GameState state = new GameState(new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B"));
+        frames.submit(GameSnapshot.of(state, 0));
+        EventQueue.invokeAndWait(() -> { });
+
+        assertEquals(1, metrics.getViewUpdates());
+        assertEquals(1, metrics.getFrames());
+        assertTrue(metrics.getViewUpdateP50Nanos() >= renderNanos - renderNanos / 16,
+                "그리기 시간 " + metrics.getViewUpdateP50Nanos() + "ns");
+        assertEquals(0, metrics.getViewRequests());
+    }
+}
@@ -0,0 +1,159 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 기록(GameRecord), 다시 보기 색인(GameReplay)과 재생기(ReplayPlayer)를 검증하는 테스트 클래스.
+ */
+public class GameReplayTest {
+
+    /** 게임이 끝나거나 명령 count개가 될 때까지 무작위로 진행 */
+    static void play(GameController controller, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            GameSnapshot s = controller.getSnapshot();
+            if (s.isGameOver()) return;
+            if (s.getPhase() == GameState.phase.THROW) {
+                controller.onThrowSpecified(Yut.throwRandom(random));
+            } else if (random.nextInt(3) == 0) {
+                controller.deployNewPiece(random.nextInt(s.getPendingThrows().size()));
+            } else {
+                GameSnapshot.PlayerSnapshot p = s.getPlayers().get(s.getCurrentPlayer());
+                int piece = random.nextInt(p.getPieceCount());
+                controller.onSelectPiece(p.getPathIndex(piece), p.getStepIndex(piece),
+                        random.nextInt(s.getPendingThrows().size()));
+            }
+        }
+    }
+
+    /** 무작위 게임을 진행하며 명령을 기록 (snapshots[i] = 명령 i개 적용 후 상태) */
+    static GameRecord record(PlayConfig config, long seed, int count, List<GameSnapshot> snapshots) {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= config.getPlayerCount(); i++) names.add("Player" + i);
+        GameController controller = new GameController(config, names, GameView.HEADLESS);
+        List<Integer> commands = new ArrayList<>();
+        if (snapshots != null) snapshots.add(controller.getSnapshot());
+        controller.addCommandListener(command -> {
+            commands.add(command);
+            if (snapshots != null) snapshots.add(controller.getSnapshot());
+        });
+        play(controller, new Random(seed), count);
+        return new GameRecord(config, commands.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /** 버전을 뺀 상태 비교용 인코딩 */
+    private static byte[] encode(PlayConfig config, GameSnapshot s) {
+        byte[] bytes = SessionStore.encodeSnapshot(config, s).array();
+        return Arrays.copyOfRange(bytes, 12, bytes.length - 4);
+    }
+
+    @Test
+    @DisplayName("기록 파일: 게임 중 명령마다 덧붙인 파일과 전체 저장 파일이 같은 기록으로 읽힘")
+    void recordFileTest() throws IOException {
+        Path dir = Files.createTempDirectory("yut-replays");
+        try {
+            PlayConfig config = new PlayConfig(3, 4, PlayConfig.BoardType.HEXAGON);
+            config.setRuleSet(RuleSet.standard().withNakProbability(0.05));
+            GameController controller = new GameController(config, List.of("A", "B", "C"), GameView.HEADLESS);
+            Path live = dir.resolve("live" + GameRecord.SUFFIX);
+            try (GameRecord.Writer writer = GameRecord.writer(live, config)) {
+                controller.addCommandListener(writer);
+                play(controller, new Random(50), 300);
+            }
+            GameRecord read = GameRecord.read(live);
+            assertEquals(controller.getSnapshot().getVersion(), read.size());
+            assertEquals(config.getRuleSet(), read.getConfig().getRuleSet());
+            assertEquals(PlayConfig.BoardType.HEXAGON, read.getConfig().getBoardType());
+            assertEquals(3, read.getConfig().getPlayerCount());
+            assertEquals(4, read.getConfig().getPieceCount());
+
+            Path copy = dir.resolve("copy" + GameRecord.SUFFIX);
+            read.write(copy);
+            assertArrayEquals(Files.readAllBytes(live), Files.readAllBytes(copy));
+            Path other = Files.write(dir.resolve("other" + GameRecord.SUFFIX), new byte[64]);
+            assertThrows(IOException.class, () -> GameRecord.read(other));
+        } finally {
+            TestFiles.deleteTree(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("이동: 임의 순서로 어느 위치에 가도 처음부터 재생한 상태와 같고, 턴 시작 위치에서 차례가 바뀜")
+    void seekTest() {
+        PlayConfig config = new PlayConfig(4, 5, PlayConfig.BoardType.OCTAGON);
+        List<GameSnapshot> expected = new ArrayList<>();
+        GameRecord record = record(config, 51, 3000, expected);
+        GameReplay replay = new GameReplay(record);
+        assertTrue(record.size() > 10 * GameReplay.KEYFRAME_INTERVAL);
+
+        GameReplay.Cursor cursor = replay.cursor();
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            int target = random.nextInt(record.size() + 1);
+            cursor.seek(target);
+            assertEquals(target, cursor.getPosition());
+            assertArrayEquals(encode(config, expected.get(target)), encode(config, cursor.getSnapshot()), "위치 " + target);
+        }
+        cursor.seek(0);
+        while (cursor.step()) {
+            assertArrayEquals(encode(config, expected.get(cursor.getPosition())), encode(config, cursor.getSnapshot()));
+        }
+
+        assertEquals(0, replay.turnStart(0));
+        for (int t = 1; t < replay.turnCount(); t++) {
+            int start = replay.turnStart(t);
+            assertNotEquals(expected.get(start - 1).getCurrentPlayer(), expected.get(start).getCurrentPlayer());
+            assertEquals(t, replay.turnOf(start));
+            assertEquals(t - 1, replay.turnOf(start - 1));
+            cursor.seekTurn(t);
+            assertEquals(t, cursor.getTurn());
+        }
+    }
+
+    @Test
+    @DisplayName("재생기: 100배속은 중간 화면을 건너뛰며 끝까지 가고, 화면 버전은 뒤로 이동해도 계속 늘어남")
+    void playerTest() throws InterruptedException {
+        PlayConfig config = new PlayConfig(2, 2, PlayConfig.BoardType.SQUARE);
+        GameRecord record = record(config, 52, 2000, null);
+        GameReplay replay = new GameReplay(record);
+        AtomicInteger frames = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        long[] lastVersion = {0};
+        CountDownLatch ended = new CountDownLatch(1);
+        ReplayPlayer[] holder = new ReplayPlayer[1];
+        ReplayPlayer player = new ReplayPlayer(replay, frame -> {      // 재생 스레드에서 호출
+            frames.incrementAndGet();
+            if (frame.getVersion() <= lastVersion[0]) outOfOrder.incrementAndGet();
+            lastVersion[0] = frame.getVersion();
+            if (holder[0] != null && holder[0].getPosition() == record.size()) ended.countDown();
+        });
+        holder[0] = player;
+        try {
+            player.start();
+            player.setSpeed(ReplayPlayer.MAX_SPEED);
+            player.play();
+            assertTrue(ended.await((long) (record.size() / (ReplayPlayer.MAX_SPEED * ReplayPlayer.BASE_RATE)) + 5, TimeUnit.SECONDS));
+            assertTrue(frames.get() < record.size(), "틱마다 한 화면: " + frames.get() + " / " + record.size());
+            assertFalse(player.isPlaying());
+            assertTrue(player.getSnapshot().isGameOver());
+
+            player.seekTurn(1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (player.getPosition() != replay.turnStart(1) && System.nanoTime() < deadline) Thread.sleep(1);
+            assertEquals(1, player.getTurn());
+            assertEquals(0, outOfOrder.get());
+            assertThrows(IllegalArgumentException.class, () -> player.setSpeed(ReplayPlayer.MAX_SPEED + 1));
+        } finally {
+            player.close();
+        }
+    }
+}
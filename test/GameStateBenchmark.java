@@ -0,0 +1,92 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GameState 규칙 처리 처리량 측정 (말 저장 구조 비교용).
+ * 무작위 게임을 GameState로 끝까지 진행하며 초당 이동 수를 재고,
+ * 이동마다 모든 플레이어의 상태 조회(완주 여부, 판 위 말 확인, 대기 말 수)를
+ * Piece 뷰를 훑는 방식과 PieceStore 배열을 직접 읽는 방식으로 각각 잰다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다: java -cp out GameStateBenchmark [게임 수=20000]
+ */
+public class GameStateBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // GameState 이동 로그 숨김
+        PlayConfig config = new PlayConfig(4, 5, PlayConfig.BoardType.SQUARE);
+        List<String> names = List.of("A", "B", "C", "D");
+
+        long sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Random random = new Random(round);
+            long moves = 0;
+            long viewNanos = 0, storeNanos = 0;
+            long start = System.nanoTime();
+            for (int g = 0; g < games; g++) {
+                GameState state = new GameState(config, names);
+                for (int step = 0; step < 2000 && state.getWinner() == null; step++) {
+                    if (state.getPhase() == GameState.phase.THROW) {
+                        state.applyThrow(Yut.throwRandom(random));
+                        continue;
+                    }
+                    moveRandomPiece(state, random);
+                    moves++;
+                    // 정보 패널/빽도 규칙/승리 판정이 이동마다 읽는 값
+                    long t0 = System.nanoTime();
+                    for (Player p : state.getPlayers()) sink += queryViews(p);
+                    long t1 = System.nanoTime();
+                    PieceStore store = state.getPieceStore();
+                    for (int p = 0; p < store.getPlayerCount(); p++) sink += queryStore(store, p);
+                    long t2 = System.nanoTime();
+                    viewNanos += t1 - t0;
+                    storeNanos += t2 - t1;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            console.printf("round %d: %d moves, %.0f moves/s, %.0f ns/move | 상태 조회 Piece 뷰 %.0f ns, 배열 %.0f ns%n",
+                    round, moves, moves / seconds, seconds * 1e9 / moves,
+                    viewNanos / (double) moves, storeNanos / (double) moves);
+        }
+        if (sink == 42) console.println();
+    }
+
+    /** 현재 플레이어의 말 하나(대기 말 포함)를 무작위로 골라 이동 */
+    private static void moveRandomPiece(GameState state, Random random) {
+        List<Piece> pieces = state.getCurrentPlayer().getPieces();
+        state.setSelect(random.nextInt(state.getLastThrow().size()));
+        for (int tries = 0; tries < 20; tries++) {
+            Piece p = pieces.get(random.nextInt(pieces.size()));
+            if (p.isFinished()) continue;
+            if (p.getPathIndex() == -1) {
+                p.setPathIndex(0);
+                p.setStepIndex(0);
+            }
+            state.movePiece(p.getId());
+            return;
+        }
+        state.getLastThrow().clear();
+        state.nextTurn();
+    }
+
+    /** Piece 객체를 하나씩 훑는 조회 */
+    private static int queryViews(Player player) {
+        int waiting = 0;
+        boolean onBoard = false, allFinished = true;
+        for (Piece p : player.getPieces()) {
+            if (!p.isFinished() && p.getPathIndex() == -1) waiting++;
+            if (!p.isFinished() && p.getPathIndex() != -1) onBoard = true;
+            if (!p.isFinished()) allFinished = false;
+        }
+        return waiting + (onBoard ? 8 : 0) + (allFinished ? 16 : 0);
+    }
+
+    /** 저장소 배열/비트마스크를 읽는 조회 */
+    private static int queryStore(PieceStore store, int player) {
+        return store.waitingCount(player) + (store.hasPieceOnBoard(player) ? 8 : 0)
+                + (store.allFinished(player) ? 16 : 0);
+    }
+}
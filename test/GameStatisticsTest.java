@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 이벤트 집계(GameStatistics)와 합치기, CSV/JSON 보고서를 검증하는 테스트 클래스.
+ */
+public class GameStatisticsTest {
+    private static final PlayConfig.BoardType SQUARE = PlayConfig.BoardType.SQUARE;
+    private static final BoardGraph BOARD = BoardGraph.forType(SQUARE);
+
+    @Test
+    @DisplayName("이벤트 집계: 게임 길이, 잡기, 지름길, 빽도 완주, 인원별 첫 플레이어 승률")
+    void aggregateTest() {
+        GameStatistics stats = new GameStatistics();
+        playAll(stats, 0, 4);
+
+        assertEquals(4, stats.getGames());
+        assertEquals(5, stats.getMoves());
+        assertEquals((30 + 40 + 50 + 512 - 1) / 4.0, stats.meanTurns(), 1e-9);   // 마지막 판은 가장 큰 칸으로
+        assertEquals(2 / 4.0, stats.meanCaptures(), 1e-9);
+        assertEquals(1, stats.getBackDoFinishes());
+        assertEquals(1, stats.shortcutEntries(SQUARE, branch()));
+
+        assertEquals(0.0, stats.firstPlayerWinRate(SQUARE, 2, 4), 0.0);
+        assertEquals(-0.5, stats.firstPlayerAdvantage(SQUARE, 2, 4), 1e-12);
+        assertEquals(1.0, stats.firstPlayerWinRate(SQUARE, 3, 4), 0.0);
+        assertEquals(1.0 - 1.0 / 3, stats.firstPlayerAdvantage(SQUARE, 3, 4), 1e-12);
+        assertTrue(Double.isNaN(stats.firstPlayerWinRate(SQUARE, 4, 4)), "4인 게임은 없음");
+        // 말 수가 많은 설정은 마지막 칸에 함께 센다 (배열 밖으로 나가지 않음)
+        assertEquals(1.0, stats.firstPlayerWinRate(SQUARE, 2, 7), 0.0);
+        assertEquals(1.0, stats.firstPlayerWinRate(SQUARE, 2, 5), 0.0);
+        assertEquals(1, stats.finishedGames(SQUARE, 2, 9));
+        assertEquals(0, stats.finishedGames(PlayConfig.BoardType.PENTAGON, 2, 4));
+    }
+
+    @Test
+    @DisplayName("나누어 집계한 뒤 합친 결과는 한 번에 집계한 결과와 같음")
+    void mergeTest() throws IOException {
+        GameStatistics whole = new GameStatistics();
+        playAll(whole, 0, 4);
+        GameStatistics first = new GameStatistics();
+        GameStatistics second = new GameStatistics();
+        playAll(first, 0, 2);
+        playAll(second, 2, 4);
+        first.merge(second);
+
+        assertEquals(whole.getGames(), first.getGames());
+        assertEquals(whole.meanTurns(), first.meanTurns(), 0.0);
+        assertEquals(csv(whole), csv(first));
+        assertEquals(json(whole), json(first));
+    }
+
+    @Test
+    @DisplayName("CSV는 인원:말 수 키로 원자료를, JSON은 승률과 1/인원 기준값, 이점을 씀")
+    void reportTest() throws IOException {
+        GameStatistics stats = new GameStatistics();
+        playAll(stats, 0, 4);
+
+        String csv = csv(stats);
+        assertTrue(csv.startsWith("metric,board,key,value\n"));
+        assertTrue(csv.contains("games,,,4\n"));
+        assertTrue(csv.contains("unfinished_games,,,1\n"));
+        assertTrue(csv.contains("game_length_turns,,30,1\n"));
+        assertTrue(csv.contains("captures_per_game,,2,1\n"));
+        assertTrue(csv.contains("shortcut_entries,SQUARE," + BOARD.pathOf(branch()) + ":" + BOARD.stepOf(branch()) + ",1\n"));
+        assertTrue(csv.contains("first_player_games,SQUARE,2:4,1\n"));
+        assertTrue(csv.contains("first_player_wins,SQUARE,2:4,0\n"));
+        assertTrue(csv.contains("first_player_games,SQUARE,3:4,1\n"));
+        assertTrue(csv.contains("first_player_wins,SQUARE,3:4,1\n"));
+        assertTrue(csv.contains("first_player_games,SQUARE,2:5,1\n"));
+        assertTrue(csv.contains("backdo_finishes,,,1\n"));
+        assertTrue(csv.contains("backdo_finisher_wins,,,1\n"));
+        for (String line : csv.split("\n")) assertEquals(4, line.split(",", -1).length, line);
+
+        String json = json(stats);
+        assertTrue(json.contains("\"games\": 4,"));
+        assertTrue(json.contains("\"2:4\": {\"games\": 1, \"winRate\": 0.0000, \"baseline\": 0.5000, \"advantage\": -0.5000}"), json);
+        assertTrue(json.contains("\"3:4\": {\"games\": 1, \"winRate\": 1.0000, \"baseline\": 0.3333, \"advantage\": 0.6667}"), json);
+        assertTrue(json.contains("\"finisherWinRate\": 1.0000"));
+        assertEquals(count(json, '{'), count(json, '}'));
+    }
+
+    /** 정해 둔 네 게임 중 [from, to) 번째를 흘려보낸다 */
+    private static void playAll(GameStatistics stats, int from, int to) {
+        for (int g = from; g < to; g++) {
+            switch (g) {
+                case 0:     // 2인 4말: 잡기 2개, 지름길 진입, 1번 칸 빽도 완주한 플레이어 1 승리
+                    stats.gameStarted(SQUARE, 2, 4);
+                    stats.moved(0, Yut.Result.개, Position.DEPLOY, BOARD.nodeOf(0, 2), 0);
+                    stats.moved(1, Yut.Result.개, Position.DEPLOY, BOARD.nodeOf(0, 2), 2);
+                    int branch = branch();
+                    stats.moved(0, Yut.Result.도, branch, BOARD.move(branch, Yut.Result.도), 0);
+                    stats.moved(1, Yut.Result.빽도, BOARD.nodeOf(0, 1), BoardGraph.FINISH, 0);
+                    stats.gameEnded(1, 30);
+                    break;
+                case 1:     // 3인 4말: 첫 플레이어 승리
+                    stats.gameStarted(SQUARE, 3, 4);
+                    stats.moved(0, Yut.Result.모, Position.DEPLOY, BOARD.nodeOf(0, 5), 0);
+                    stats.gameEnded(0, 40);
+                    break;
+                case 2:     // 말 수 7 (통계 칸보다 큼): 첫 플레이어 승리
+                    stats.gameStarted(SQUARE, 2, 7);
+                    stats.gameEnded(0, 50);
+                    break;
+                default:    // 턴 제한으로 끝나지 않은 게임
+                    stats.gameStarted(SQUARE, 4, 4);
+                    stats.gameEnded(-1, 10_000);
+                    break;
+            }
+        }
+    }
+
+    /** 지름길이 있는 첫 분기점 */
+    private static int branch() {
+        for (int node = 0; node < BOARD.getNodeCount(); node++) {
+            if (BOARD.isBranch(node) && BOARD.pathOf(BOARD.move(node, Yut.Result.도)) != 0) return node;
+        }
+        throw new AssertionError("분기점 없음");
+    }
+
+    private static String csv(GameStatistics stats) throws IOException {
+        StringWriter out = new StringWriter();
+        stats.writeCsv(out);
+        return out.toString();
+    }
+
+    private static String json(GameStatistics stats) throws IOException {
+        StringWriter out = new StringWriter();
+        stats.writeJson(out);
+        return out.toString();
+    }
+
+    private static int count(String s, char c) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) if (s.charAt(i) == c) n++;
+        return n;
+    }
+}
@@ -0,0 +1,30 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import javax.swing.ImageIcon;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 화면 이미지 캐시(IconCache)의 미리 읽기와 공유를 검증하는 테스트 클래스.
+ */
+public class IconCacheTest {
+
+    @Test
+    @DisplayName("미리 읽기: 게임 화면 이미지가 모두 읽히고, 같은 경로는 같은 아이콘을 돌려줌")
+    void preloadTest() {
+        IconCache.preloadAsync();
+        for (String path : IconCache.boardImages()) {
+            ImageIcon icon = IconCache.request(path).join();
+            assertNotNull(icon, path);
+            assertTrue(icon.getIconWidth() > 0, path);
+            assertSame(icon, IconCache.get(path));
+            assertSame(icon, IconCache.getNow(path));
+        }
+    }
+
+    @Test
+    @DisplayName("없는 이미지: 기다려 읽든 백그라운드로 읽든 예외 없이 null")
+    void missingTest() {
+        assertNull(IconCache.get(IconCache.IMG_ROOT + "no-such-image.jpg"));
+        assertNull(IconCache.request(IconCache.IMG_ROOT + "no-such-image2.jpg").join());
+    }
+}
@@ -0,0 +1,190 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 정보 패널 갱신 비용 측정: 이동마다 패널을 통째로 다시 만드는 방식(이전)과
+ * 플레이어 칸(PlayerInfoPanel)을 재사용해 바뀐 값만 고치는 방식(이후) 비교.
+ * 무작위 게임의 이동마다 공개되는 스냅샷으로 패널을 갱신하고, 갱신 + 레이아웃(validate) 시간과
+ * 그리기 시간을 잰다. 그리기는 Swing RepaintManager처럼 다시 그려야 하는 영역만 그린다:
+ * 이전 방식은 패널 전체, 이후 방식은 값이 바뀐 플레이어 칸만.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다:
+ *   java -Djava.awt.headless=true -cp out InfoPanelBenchmark [게임 수=200]
+ */
+public class InfoPanelBenchmark {
+    private static final int ROUNDS = 4;
+    private static final PlayConfig CONFIG = new PlayConfig(4, 5, PlayConfig.BoardType.SQUARE);
+    private static final Icon ICON = new ImageIcon(new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB));
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // GameState 이동 로그 숨김
+        List<GameSnapshot> snapshots = record(games);
+        WinProbabilityEvaluator evaluator = new WinProbabilityEvaluator(CONFIG.getBoardGraph());
+        List<double[]> win = new ArrayList<>();
+        for (GameSnapshot s : snapshots) win.add(evaluator.analytic(Position.of(s, CONFIG.getBoardGraph())));
+        BufferedImage canvas = new BufferedImage(220, 600, BufferedImage.TYPE_INT_RGB);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (boolean retained : new boolean[] {false, true}) {
+                JPanel panel = new JPanel();
+                panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+                panel.setSize(220, 600);
+                List<PlayerInfoPanel> infos = new ArrayList<>();
+                long updateNanos = 0, paintNanos = 0, created = 0, paintedCells = 0;
+                for (int i = 0; i < snapshots.size(); i++) {
+                    GameSnapshot snapshot = snapshots.get(i);
+                    long t0 = System.nanoTime();
+                    int before = countComponents(panel);
+                    List<Component> dirty = retained
+                            ? updateRetained(panel, infos, snapshot, win.get(i))
+                            : List.of(rebuild(panel, snapshot, win.get(i)));
+                    panel.validate();
+                    long t1 = System.nanoTime();
+                    Graphics2D g = canvas.createGraphics();
+                    for (Component c : dirty) {
+                        Graphics cg = g.create(c.getX(), c.getY(), c.getWidth(), c.getHeight());
+                        c.paint(cg);
+                        cg.dispose();
+                    }
+                    g.dispose();
+                    long t2 = System.nanoTime();
+                    if (!retained || i == 0) created += countComponents(panel) - (retained ? before : 0);
+                    paintedCells += dirty.size();
+                    updateNanos += t1 - t0;
+                    paintNanos += t2 - t1;
+                }
+                int n = snapshots.size();
+                console.printf("round %d %-24s 갱신+레이아웃 %7.1f us, 그리기 %7.1f us, 합계 %7.1f us /이동"
+                                + " | 만든 컴포넌트 %d개, 다시 그린 영역 %.2f개/이동%n",
+                        round, retained ? "이후: 바뀐 값만 고침" : "이전: 패널 다시 만들기",
+                        updateNanos / 1e3 / n, paintNanos / 1e3 / n, (updateNanos + paintNanos) / 1e3 / n,
+                        created, paintedCells / (double) n);
+            }
+        }
+    }
+
+    /** 이후 방식: YutBoard.updateInfoPanel과 같은 갱신, 바뀐 플레이어 칸 목록 반환 */
+    private static List<Component> updateRetained(JPanel panel, List<PlayerInfoPanel> infos,
+                                                  GameSnapshot snapshot, double[] win) {
+        List<GameSnapshot.PlayerSnapshot> players = snapshot.getPlayers();
+        if (infos.size() != players.size()) {
+            panel.removeAll();
+            infos.clear();
+            panel.add(new JLabel("플레이어 정보"));
+            panel.add(Box.createRigidArea(new Dimension(0, 10)));
+            for (GameSnapshot.PlayerSnapshot player : players) {
+                PlayerInfoPanel info = new PlayerInfoPanel(player, ICON, CONFIG.getPieceCount());
+                infos.add(info);
+                panel.add(info);
+                panel.add(Box.createRigidArea(new Dimension(0, 10)));
+            }
+            panel.validate();
+            List<Component> all = new ArrayList<>();
+            all.add(panel);
+            for (int i = 0; i < players.size(); i++) {
+                infos.get(i).update(players.get(i), i == snapshot.getCurrentPlayer(), (int) Math.round(win[i] * 100));
+            }
+            return all;
+        }
+        List<Component> dirty = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            boolean current = i == snapshot.getCurrentPlayer() && !snapshot.isGameOver();
+            if (infos.get(i).update(players.get(i), current, (int) Math.round(win[i] * 100))) dirty.add(infos.get(i));
+        }
+        return dirty;
+    }
+
+    /** 이전 방식: 예전 YutBoard.updateInfoPanel처럼 모든 구성 요소를 다시 만든다 */
+    private static Component rebuild(JPanel panel, GameSnapshot snapshot, double[] win) {
+        panel.removeAll();
+        JLabel titleLabel = new JLabel("플레이어 정보");
+        titleLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
+        titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createRigidArea(new Dimension(0, 10)));
+        for (GameSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+            JPanel playerBox = new JPanel();
+            playerBox.setLayout(new BoxLayout(playerBox, BoxLayout.Y_AXIS));
+            playerBox.setBorder(BorderFactory.createTitledBorder("Player " + player.getId() + " (" + player.getColor() + ")"));
+            playerBox.setAlignmentX(Component.LEFT_ALIGNMENT);
+            if (player.getId() == snapshot.getCurrentPlayer() && !snapshot.isGameOver()) {
+                ((javax.swing.border.TitledBorder) playerBox.getBorder()).setTitleColor(Color.BLUE);
+            }
+            JLabel iconLabel = new JLabel(ICON);
+            iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            playerBox.add(iconLabel);
+            playerBox.add(Box.createRigidArea(new Dimension(0, 5)));
+            JLabel remainingPiecesLabel = new JLabel("대기 중인 말: " + player.waitingCount());
+            remainingPiecesLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            playerBox.add(remainingPiecesLabel);
+            JLabel scoreLabel = new JLabel("완주한 말: " + player.finishedCount() + " / " + CONFIG.getPieceCount());
+            scoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            playerBox.add(scoreLabel);
+            int percent = (int) Math.round(win[snapshot.getPlayers().indexOf(player)] * 100);
+            JProgressBar winBar = new JProgressBar(0, 100);
+            winBar.setValue(percent);
+            winBar.setString("예상 승률 " + percent + "%");
+            winBar.setStringPainted(true);
+            winBar.setAlignmentX(Component.CENTER_ALIGNMENT);
+            playerBox.add(winBar);
+            panel.add(playerBox);
+            panel.add(Box.createRigidArea(new Dimension(0, 10)));
+        }
+        return panel;
+    }
+
+    private static int countComponents(Container c) {
+        int n = c.getComponentCount();
+        for (Component child : c.getComponents()) {
+            if (child instanceof Container) n += countComponents((Container) child);
+        }
+        return n;
+    }
+
+    /** 무작위 게임을 진행하며 이동마다 스냅샷 기록 (GameController처럼 이전 스냅샷과 공유) */
+    private static List<GameSnapshot> record(int games) {
+        List<String> names = List.of("A", "B", "C", "D");
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        Random random = new Random(1);
+        for (int g = 0; g < games; g++) {
+            GameState state = new GameState(CONFIG, names);
+            GameSnapshot previous = null;
+            long version = 0;
+            for (int step = 0; step < 2000 && state.getWinner() == null; step++) {
+                if (state.getPhase() == GameState.phase.THROW) {
+                    state.applyThrow(Yut.throwRandom(random));
+                } else {
+                    moveRandomPiece(state, random);
+                }
+                previous = GameSnapshot.of(state, ++version, previous);
+                snapshots.add(previous);
+            }
+        }
+        return snapshots;
+    }
+
+    /** 현재 플레이어의 말 하나(대기 말 포함)를 무작위로 골라 이동 */
+    private static void moveRandomPiece(GameState state, Random random) {
+        List<Piece> pieces = state.getCurrentPlayer().getPieces();
+        state.setSelect(random.nextInt(state.getLastThrow().size()));
+        for (int tries = 0; tries < 20; tries++) {
+            Piece p = pieces.get(random.nextInt(pieces.size()));
+            if (p.isFinished()) continue;
+            if (p.getPathIndex() == -1) {
+                p.setPathIndex(0);
+                p.setStepIndex(0);
+            }
+            state.movePiece(p.getId());
+            return;
+        }
+        state.getLastThrow().clear();
+        state.nextTurn();
+    }
+}
@@ -0,0 +1,138 @@
+import javax.swing.SwingUtilities;
+import java.awt.EventQueue;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 입력 지연 측정: 게임 로직을 EDT에서 처리할 때(이전)와 게임 스레드 + 그리기 합치기(이후) 비교.
+ * 일정 간격으로 EDT에 "클릭"을 넣고, 클릭이 EDT에서 처리되기 시작할 때까지의 대기 시간(입력 지연)과
+ * 명령 제출부터 처리 완료까지의 시간(GameMetrics 명령 지연)을 잰다.
+ * 느린 로그 출력(줄마다 LOG_DELAY)과 느린 그리기(RENDER_COST)를 흉내 낸다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다:
+ *   java -Djava.awt.headless=true -cp out InputLatencyBenchmark [클릭 수=400] [클릭 간격 ms=2]
+ */
+public class InputLatencyBenchmark {
+    private static final long LOG_DELAY = TimeUnit.MICROSECONDS.toNanos(300);
+    private static final long RENDER_COST = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * 그리기 비용만 있는 화면.
+     * 이전 방식은 YutBoard의 예전 동작처럼 갱신/던지기 결과마다 invokeLater로 그리고 로그도 EDT에서 남긴다.
+     * 이후 방식은 명령마다 공개되는 스냅샷을 FrameCoalescer로 합쳐 그리고, 로그는 호출한(게임) 스레드에서 남긴다.
+     */
+    private static final class BenchView implements GameView {
+        private final FrameCoalescer frames;   // null이면 이전 방식
+        long rendered;                         // EDT 전용
+
+        BenchView(boolean coalesce, GameMetrics metrics) {
+            this.frames = coalesce ? new FrameCoalescer(s -> render(), metrics) : null;
+        }
+
+        @Override
+        public void updateBoard(GameSnapshot snapshot) {
+            if (frames != null) frames.submit(snapshot);
+            else SwingUtilities.invokeLater(this::render);
+        }
+
+        @Override
+        public void showThrowResult(Yut.Result result) {
+            if (frames != null) {
+                System.out.println("윷 던짐 결과 (View): " + result);
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                System.out.println("윷 던짐 결과 (View): " + result);
+                render();
+            });
+        }
+
+        @Override public void showWinner(Player winner) { }
+        @Override public void closeGameView() { }
+        @Override public void showInitialSetup() { }
+
+        private void render() {
+            rendered++;
+            long end = System.nanoTime() + RENDER_COST;
+            while (System.nanoTime() < end) Thread.onSpinWait();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clicks = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        long interval = TimeUnit.MILLISECONDS.toNanos(args.length > 1 ? Integer.parseInt(args[1]) : 2);
+        PrintStream console = System.out;
+        // 느린 로그 출력: 줄마다 LOG_DELAY 지연
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override public void write(int b) { if (b == '\n') LockSupport.parkNanos(LOG_DELAY); }
+        }, true));
+
+        for (boolean gameThread : new boolean[] {false, true, false, true}) {
+            Result r = run(gameThread, clicks, interval);
+            console.printf("%-28s 입력 지연 p50 %6.2f ms, p99 %6.2f ms, 최대 %6.2f ms | 명령 지연 p50 %6.2f ms, p99 %6.2f ms"
+                            + " | 명령 %d개, 그리기 %d회%n",
+                    gameThread ? "이후: 게임 스레드 + 합치기" : "이전: EDT에서 처리",
+                    ms(r.input.percentile(0.5)), ms(r.input.percentile(0.99)), ms(r.input.getMax()),
+                    ms(r.metrics.getCommandLatencyP50Nanos()), ms(r.metrics.getCommandLatencyP99Nanos()),
+                    r.commands, r.frames);
+        }
+        System.exit(0);
+    }
+
+    private static final class Result {
+        final LatencyHistogram input = new LatencyHistogram();
+        GameMetrics metrics;
+        long commands;
+        long frames;
+    }
+
+    private static Result run(boolean gameThread, int clicks, long interval)
+            throws InterruptedException, InvocationTargetException {
+        Result result = new Result();
+        BenchView[] viewRef = new BenchView[1];
+        GameView view = new GameView() {   // 컨트롤러 생성 후 지표를 연결하기 위한 위임
+            @Override public void updateBoard(GameSnapshot s) { viewRef[0].updateBoard(s); }
+            @Override public void showThrowResult(Yut.Result r) { viewRef[0].showThrowResult(r); }
+            @Override public void showWinner(Player w) { }
+            @Override public void closeGameView() { }
+            @Override public void showInitialSetup() { }
+        };
+        GameController controller = new GameController(
+                new PlayConfig(4, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B", "C", "D"), view);
+        BenchView bench = new BenchView(gameThread, controller.getMetrics());
+        viewRef[0] = bench;
+        if (gameThread) {
+            controller.addSnapshotListener(bench::updateBoard);
+            controller.startGameThread();
+        }
+        controller.startGame();
+
+        long next = System.nanoTime();
+        for (int i = 0; i < clicks; i++) {
+            next += interval;
+            LockSupport.parkNanos(next - System.nanoTime());
+            long posted = System.nanoTime();
+            EventQueue.invokeLater(() -> {
+                result.input.record(System.nanoTime() - posted);
+                GameSnapshot s = controller.getSnapshot();     // 봇처럼 현재 단계에 맞는 입력
+                if (s.isGameOver()) return;
+                if (s.getPhase() == GameState.phase.THROW) controller.onThrowRandom();
+                else controller.deployNewPiece(0);
+            });
+        }
+        EventQueue.invokeAndWait(() -> { });    // 남은 클릭 처리
+        controller.stopGameThread();
+        EventQueue.invokeAndWait(() -> { });    // 남은 그리기
+        result.metrics = controller.getMetrics();
+        result.commands = controller.getSnapshot().getVersion();
+        result.frames = bench.rendered;
+        return result;
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * 계측 오버헤드 측정 (JFR 녹화를 끈 상태).
+ * 같은 작업(이동 표 조회)을 계측 없이 / JFR 이벤트만 / JFR 이벤트 + 지표 기록과 함께 반복해
+ * 한 번당 추가 비용을 비교한다. 단위 테스트 실행에서는 제외되며 직접 실행한다:
+ *   java -cp out InstrumentationBenchmark
+ */
+public class InstrumentationBenchmark {
+    private static final int ITERATIONS = 5_000_000;
+    private static final int ROUNDS = 7;
+    private static int sink;
+
+    public static void main(String[] args) {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        Yut.Result[] results = Yut.Result.values();
+        GameMetrics metrics = new GameMetrics();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += board.move(i % board.getNodeCount(), results[i % results.length]);
+            }
+            long t1 = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                GameFlightEvents.Move event = new GameFlightEvents.Move();
+                event.player = i & 3;
+                event.begin();
+                sink += board.move(i % board.getNodeCount(), results[i % results.length]);
+                event.commit();
+            }
+            long t2 = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                GameFlightEvents.Move event = new GameFlightEvents.Move();
+                event.player = i & 3;
+                event.begin();
+                long start = System.nanoTime();
+                sink += board.move(i % board.getNodeCount(), results[i % results.length]);
+                metrics.recordMove(System.nanoTime() - start);
+                event.commit();
+            }
+            long t3 = System.nanoTime();
+            System.out.printf("round %d: base %.2f ns, +jfr %.2f ns, +jfr+metrics %.2f ns%n", round,
+                    (t1 - t0) / (double) ITERATIONS, (t2 - t1) / (double) ITERATIONS, (t3 - t2) / (double) ITERATIONS);
+        }
+        System.out.println(sink == 42 ? "" : "done");
+    }
+}
@@ -0,0 +1,69 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로그-선형 지연 시간 히스토그램(LatencyHistogram)의 버킷 계산과 분위값 오차를 검증하는 테스트 클래스.
+ */
+public class LatencyHistogramTest {
+    private static final double RELATIVE_ERROR = 1.0 / 16;
+
+    @Test
+    @DisplayName("버킷: 16 미만은 정확하고, 대표값은 값 이하이며 상대 오차 1/16 안, 순서를 지킴")
+    void bucketTest() {
+        for (long v = 0; v < 16; v++) assertEquals(v, LatencyHistogram.valueOf(LatencyHistogram.indexOf(v)));
+        Random random = new Random(31);
+        int previous = -1;
+        for (long v = 0; v < 100_000; v += 1 + v / 50) {
+            int index = LatencyHistogram.indexOf(v);
+            assertTrue(index >= previous, "값이 커지면 버킷도 커짐: " + v);
+            previous = index;
+        }
+        for (int i = 0; i < 10_000; i++) {
+            long v = random.nextLong() >>> (1 + random.nextInt(63));
+            long lower = LatencyHistogram.valueOf(LatencyHistogram.indexOf(v));
+            assertTrue(lower <= v && v - lower <= v * RELATIVE_ERROR, v + " -> " + lower);
+        }
+        long max = Long.MAX_VALUE;
+        assertTrue(LatencyHistogram.valueOf(LatencyHistogram.indexOf(max)) <= max);
+    }
+
+    @Test
+    @DisplayName("알려진 값을 기록하면 개수, 분위값(상대 오차 1/16 안), 최댓값이 맞고 reset으로 비워짐")
+    void percentileTest() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.percentile(0.5));
+        assertEquals(0, h.getMax());
+
+        long[] values = new long[10_000];
+        Random random = new Random(16);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * Math.log(5e7));   // 1 ns ~ 50 ms 로그 균등
+            h.record(values[i]);
+        }
+        h.record(-5);                                           // 음수는 0
+        long[] sorted = Arrays.copyOf(values, values.length + 1);
+        Arrays.sort(sorted);
+
+        assertEquals(values.length + 1, h.getCount());
+        for (double q : new double[] {0.01, 0.1, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+            long exact = sorted[(int) Math.ceil(q * sorted.length) - 1];
+            long p = h.percentile(q);
+            assertTrue(p <= exact && exact - p <= exact * RELATIVE_ERROR, "q=" + q + " " + p + " vs " + exact);
+        }
+        assertEquals(0, h.percentile(0));
+        long max = sorted[sorted.length - 1];
+        assertTrue(h.getMax() <= max && max - h.getMax() <= max * RELATIVE_ERROR);
+        assertEquals(h.percentile(1.0), h.getMax());
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMax());
+        h.record(1000);
+        assertEquals(1, h.getCount());
+        assertTrue(Math.abs(h.percentile(0.5) - 1000) <= 1000 * RELATIVE_ERROR);
+    }
+}
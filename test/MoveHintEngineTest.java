@@ -0,0 +1,102 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MoveHintEngine 추천/제한 시간/취소를 검증하는 테스트 클래스.
+ */
+public class MoveHintEngineTest {
+    private static final BoardGraph BOARD = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+
+    @Test
+    @DisplayName("잡을 수 있으면 잡는 이동을 추천")
+    void prefersCaptureTest() {
+        Position pos = new Position(BOARD, 2, 2);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 2));
+        pos.setNode(0, 1, BOARD.nodeOf(0, 11));
+        pos.setNode(1, 0, BOARD.nodeOf(0, 4));   // '개'로 잡을 수 있는 상대 말
+        pos.setNode(1, 1, BOARD.nodeOf(0, 9));
+        MoveHintEngine engine = new MoveHintEngine(BOARD);
+        MoveHintEngine.Hint hint = engine.search(pos, List.of(Yut.Result.개), 0, Long.MAX_VALUE, () -> false);
+        assertNotNull(hint);
+        assertEquals(BOARD.nodeOf(0, 2), hint.getFrom());
+        assertEquals(BOARD.nodeOf(0, 4), hint.getTo());
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("시간 제한이 없으면 TurnPlanner의 전체 계획과 같은 첫 이동과 점수")
+    void matchesTurnPlannerTest() {
+        Position pos = new Position(BOARD, 2, 4);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 3));
+        pos.setNode(1, 0, BOARD.nodeOf(0, 6));
+        pos.setNode(1, 1, BOARD.nodeOf(0, 8));
+        List<Yut.Result> pending = List.of(Yut.Result.윷, Yut.Result.개, Yut.Result.빽도);
+        MoveHintEngine engine = new MoveHintEngine(BOARD);
+        MoveHintEngine.Hint hint = engine.search(pos, pending, 0, Long.MAX_VALUE, () -> false);
+        TurnPlanner.Plan plan = new TurnPlanner(TurnPlanner.analytic(BOARD)).plan(pos, pending);
+        assertNotNull(hint);
+        assertEquals(pending.size(), hint.getDepth());
+        assertEquals(plan.getScore(), hint.getScore(), 1e-12);
+        assertEquals(plan.firstMove(pending).getResultIndex(), hint.getResultIndex());
+        assertEquals(plan.firstMove(pending).getFrom(), hint.getFrom());
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("결과가 많아도 제한 시간 안에 답하고, 추천은 둘 수 있는 이동")
+    void deadlineTest() {
+        Position pos = new Position(BOARD, 4, 4);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 3));
+        pos.setNode(0, 1, BOARD.nodeOf(0, 7));
+        List<Yut.Result> pending = List.of(Yut.Result.모, Yut.Result.윷, Yut.Result.모, Yut.Result.윷,
+                Yut.Result.걸, Yut.Result.개, Yut.Result.도);
+        MoveHintEngine engine = new MoveHintEngine(BOARD);
+        long start = System.nanoTime();
+        MoveHintEngine.Hint hint = engine.search(pos, pending, 0, start + TimeUnit.MILLISECONDS.toNanos(50), () -> false);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertNotNull(hint);
+        assertTrue(elapsedMillis < 100, "탐색 시간 " + elapsedMillis + "ms");
+        int[] legal = pos.legalMoves(pending.get(hint.getResultIndex()));
+        boolean found = false;
+        for (int from : legal) found |= from == hint.getFrom();
+        assertTrue(found);
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("새 요청이 오면 대기 중이던 이전 요청은 계산도 전달도 되지 않음")
+    void staleRequestTest() throws InterruptedException {
+        GameState state = new GameState(new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE), List.of("A", "B"));
+        state.applyThrow(Yut.Result.윷);
+        state.applyThrow(Yut.Result.개);
+        GameSnapshot first = GameSnapshot.of(state, 1);
+        GameSnapshot second = GameSnapshot.of(state, 2, first);
+        GameSnapshot third = GameSnapshot.of(state, 3, second);
+
+        MoveHintEngine engine = new MoveHintEngine(BOARD);
+        CountDownLatch firstDelivered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger staleAnswers = new AtomicInteger();
+        AtomicReference<MoveHintEngine.Hint> answer = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        // 첫 요청의 콜백에서 힌트 스레드를 잡아 두고, 그동안 두 요청을 연달아 보낸다
+        engine.request(first, hint -> {
+            firstDelivered.countDown();
+            try { release.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        });
+        assertTrue(firstDelivered.await(1, TimeUnit.SECONDS));
+        engine.request(second, hint -> staleAnswers.incrementAndGet());
+        engine.request(third, hint -> { answer.set(hint); done.countDown(); });
+        release.countDown();
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(0, staleAnswers.get());
+        assertEquals(3L, answer.get().getVersion());
+        engine.close();
+    }
+}
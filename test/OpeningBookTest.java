@@ -0,0 +1,86 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 정석(OpeningBook) 만들기/조회와 PlannerBot 연동을 검증하는 테스트 클래스.
+ */
+public class OpeningBookTest {
+    private static final List<PlayConfig> CONFIGS = List.of(
+            new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE),
+            new PlayConfig(3, 2, PlayConfig.BoardType.PENTAGON));
+
+    @Test
+    @DisplayName("정석 수는 같은 위치에서 TurnPlanner가 고르는 첫 수와 같고, 다른 판/없는 위치는 찾지 않음")
+    void lookupTest() throws Exception {
+        Path file = Files.createTempFile("yut-book", ".book");
+        try {
+            int count = OpeningBook.build(CONFIGS, 2, 1e-3, file);
+            OpeningBook book = OpeningBook.open(file);
+            assertEquals(count, book.size());
+            assertTrue(count > 0);
+
+            BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+            TurnPlanner planner = new TurnPlanner(TurnPlanner.analytic(board));
+            Position start = new Position(board, 2, 4);
+            List<Yut.Result> pending = List.of(Yut.Result.개, Yut.Result.윷);
+            Bot.Move move = book.lookup(start, pending);
+            Bot.Move expected = planner.plan(start, pending).firstMove(pending);
+            assertNotNull(move);
+            assertEquals(expected.getResultIndex(), move.getResultIndex());
+            assertEquals(expected.getFrom(), move.getFrom());
+
+            Position far = start.copy();
+            far.setNode(0, 0, board.nodeOf(0, 17));
+            far.setNode(1, 2, board.nodeOf(0, 9));
+            assertNull(book.lookup(far, pending), "정석 밖 위치");
+            Position otherPieces = new Position(board, 2, 5);
+            assertNull(book.lookup(otherPieces, pending), "만들지 않은 설정");
+            BoardGraph variant = RuleSet.standard().withBackdoFinishes(false).compile(board);
+            assertNull(book.lookup(new Position(variant, 2, 4), pending), "규칙을 바꾼 판");
+            assertNull(OpeningBook.empty().lookup(start, pending));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("정석을 쓰는 PlannerBot은 정석 없이 탐색하는 PlannerBot과 같은 게임을 둠")
+    void sameGameTest() throws Exception {
+        Path file = Files.createTempFile("yut-book", ".book");
+        try {
+            OpeningBook.build(CONFIGS, 3, 1e-4, file);
+            OpeningBook book = OpeningBook.open(file);
+            for (PlayConfig config : CONFIGS) {
+                for (int seed = 0; seed < 5; seed++) {
+                    assertEquals(play(config, OpeningBook.empty(), seed), play(config, book, seed),
+                            config.getBoardType() + " " + seed);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** 모든 자리에 PlannerBot을 두고 한 게임을 진행한 이동 기록 */
+    private static List<String> play(PlayConfig config, OpeningBook book, int seed) {
+        List<String> moves = new ArrayList<>();
+        Bot bot = new PlannerBot(book);
+        Bot[] bots = {bot, bot, bot, bot};
+        new GameSimulator(config).play(bots, new Random(seed), new GameEventSink() {
+            @Override public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) { }
+            @Override public void thrown(int player, Yut.Result result) { }
+            @Override public void moved(int player, Yut.Result result, int from, int to, int captured) {
+                moves.add(player + ":" + result + ":" + from + "->" + to);
+            }
+            @Override public void turnEnded(int player) { }
+            @Override public void gameEnded(int winner, int turns) { moves.add("winner " + winner); }
+        });
+        return moves;
+    }
+}
@@ -0,0 +1,47 @@
+import java.util.Random;
+
+/**
+ * 위치 번호 매기기(rank)와 복원(unrank)의 위치당 소요 시간 측정.
+ * 판 종류마다 long 범위에 들어가는 가장 큰 2인/3인 설정에서 무작위 위치로 잰다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다: java -cp out PositionIndexBenchmark
+ */
+public class PositionIndexBenchmark {
+    private static final int POSITIONS = 4096;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        for (PlayConfig.BoardType type : PlayConfig.BoardType.values()) {
+            BoardGraph board = BoardGraph.forType(type);
+            for (int players = 2; players <= 3; players++) {
+                int pieces = 5;
+                while (!PositionIndex.fits(board, players, pieces)) pieces--;
+                PositionIndex index = new PositionIndex(board, players, pieces);
+                Random random = new Random(players);
+                Position[] positions = new Position[POSITIONS];
+                long[] ranks = new long[POSITIONS];
+                for (int i = 0; i < POSITIONS; i++) {
+                    positions[i] = PositionIndexTest.randomPosition(board, players, pieces, random);
+                }
+                Position into = new Position(board, players, pieces);
+                long sink = 0, rankNanos = 0, unrankNanos = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long t0 = System.nanoTime();
+                    for (int i = 0; i < POSITIONS; i++) ranks[i] = index.rank(positions[i]);
+                    long t1 = System.nanoTime();
+                    for (int i = 0; i < POSITIONS; i++) {
+                        index.unrank(ranks[i], into);
+                        sink += into.getCurrent();
+                    }
+                    long t2 = System.nanoTime();
+                    if (round >= ROUNDS / 2) {          // 앞 절반은 워밍업
+                        rankNanos += t1 - t0;
+                        unrankNanos += t2 - t1;
+                    }
+                }
+                double n = (double) POSITIONS * (ROUNDS - ROUNDS / 2);
+                System.out.printf("%s %d명 %d말 (위치 %,d개): rank %.0f ns, unrank %.0f ns (%d)%n",
+                        type, players, pieces, index.size(), rankNanos / n, unrankNanos / n, sink & 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 위치 번호 매기기(PositionIndex)의 완전 대응을 검증하는 테스트 클래스.
+ */
+public class PositionIndexTest {
+
+    @Test
+    @DisplayName("작은 설정 전수 검사: 가능한 모든 배치가 서로 다른 번호를 받고 번호 범위를 빈틈없이 채움")
+    void exhaustiveTest() {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        PositionIndex index = new PositionIndex(board, 2, 2);
+        int n = board.getNodeCount();
+        BitSet seen = new BitSet();
+        int[] place = new int[4];
+        Position pos = new Position(board, 2, 2);
+        int cells = n + 2;                      // 노드 + 대기 + 완주
+        for (int code = 0; code < cells * cells * cells * cells; code++) {
+            for (int c = code, i = 0; i < 4; i++, c /= cells) place[i] = c % cells - 2;  // -2 완주, -1 대기
+            if (overlaps(place)) continue;
+            for (int i = 0; i < 4; i++) pos.setNode(i / 2, i % 2, place[i]);
+            for (int cur = 0; cur < 2; cur++) {
+                pos.setCurrent(cur);
+                long r = index.rank(pos);
+                assertTrue(r >= 0 && r < index.size());
+                seen.set((int) r);
+                assertEquals(canonical(pos), canonical(index.unrank(r)));
+            }
+        }
+        assertEquals(index.size(), seen.cardinality());
+        assertEquals(index.size(), seen.length());
+    }
+
+    /** 서로 다른 플레이어의 말이 같은 노드에 있는지 (플레이어당 말 2개) */
+    private static boolean overlaps(int[] place) {
+        for (int a = 0; a < 2; a++) {
+            for (int b = 2; b < 4; b++) {
+                if (place[a] >= 0 && place[a] == place[b]) return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    @DisplayName("모든 판/인원/말 수: 무작위 번호와 무작위 위치가 왕복하고, long을 넘는 설정은 거부")
+    void roundTripTest() {
+        Random random = new Random(45);
+        int checked = 0;
+        for (PlayConfig.BoardType type : PlayConfig.BoardType.values()) {
+            BoardGraph board = BoardGraph.forType(type);
+            for (int players = 2; players <= 4; players++) {
+                for (int pieces = 2; pieces <= 5; pieces++) {
+                    if (!PositionIndex.fits(board, players, pieces)) {
+                        int p = players, pc = pieces;
+                        assertThrows(IllegalArgumentException.class, () -> new PositionIndex(board, p, pc));
+                        continue;
+                    }
+                    PositionIndex index = new PositionIndex(board, players, pieces);
+                    Position into = new Position(board, players, pieces);
+                    for (int t = 0; t < 2_000; t++) {
+                        long r = Math.floorMod(random.nextLong(), index.size());
+                        index.unrank(r, into);
+                        assertEquals(r, index.rank(into), type + " " + players + "명 " + pieces + "말");
+
+                        Position pos = randomPosition(board, players, pieces, random);
+                        assertEquals(canonical(pos), canonical(index.unrank(index.rank(pos))));
+                    }
+                    assertEquals(index.size() - 1, index.rank(index.unrank(index.size() - 1)));
+                    checked++;
+                }
+            }
+        }
+        assertTrue(PositionIndex.fits(BoardGraph.forType(PlayConfig.BoardType.SQUARE), 4, 4));
+        assertFalse(PositionIndex.fits(BoardGraph.forType(PlayConfig.BoardType.SQUARE), 4, 5));
+        assertTrue(checked >= 40, "검사한 설정 수 " + checked);
+    }
+
+    @Test
+    @DisplayName("다른 플레이어의 말이 같은 칸에 있는 위치와 범위 밖 번호는 거부")
+    void invalidTest() {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.PENTAGON);
+        PositionIndex index = new PositionIndex(board, 2, 3);
+        Position pos = new Position(board, 2, 3);
+        pos.setNode(0, 0, board.nodeOf(0, 4));
+        pos.setNode(1, 2, board.nodeOf(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> index.rank(pos));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.unrank(index.size()));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.rank(new Position(BoardGraph.forType(PlayConfig.BoardType.SQUARE), 2, 3)));
+    }
+
+    /** 다른 플레이어와 겹치지 않는 무작위 배치 */
+    static Position randomPosition(BoardGraph board, int players, int pieces, Random random) {
+        Position pos = new Position(board, players, pieces);
+        int[] owner = new int[board.getNodeCount()];
+        Arrays.fill(owner, -1);
+        for (int pl = 0; pl < players; pl++) {
+            for (int pc = 0; pc < pieces; pc++) {
+                int node;
+                do {
+                    int c = random.nextInt(8);
+                    node = c == 0 ? Position.WAITING : c == 1 ? BoardGraph.FINISH
+                            : random.nextInt(board.getNodeCount());
+                } while (node >= 0 && owner[node] >= 0 && owner[node] != pl);
+                if (node >= 0) owner[node] = pl;
+                pos.setNode(pl, pc, node);
+            }
+        }
+        pos.setCurrent(random.nextInt(players));
+        return pos;
+    }
+
+    /** 플레이어 안에서 말 번호를 무시한 표현 */
+    private static String canonical(Position pos) {
+        StringBuilder sb = new StringBuilder().append(pos.getCurrent());
+        for (int pl = 0; pl < pos.getPlayerCount(); pl++) {
+            int[] nodes = new int[pos.getPieceCount()];
+            for (int pc = 0; pc < nodes.length; pc++) nodes[pc] = pos.nodeOf(pl, pc);
+            Arrays.sort(nodes);
+            sb.append('|').append(Arrays.toString(nodes));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,79 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 세션 저장/복구 시간 측정.
+ * 테이블 N개를 만들어 무작위 명령을 진행하며 기록한 뒤, 새 저장소로 전체 테이블을 병렬 복구한다.
+ * 명령당 기록 비용(명령 처리 스레드 기준), fsync 횟수, 복구 시간을 출력한다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다:
+ *   java -cp out RecoveryBenchmark [테이블 수=10000] [테이블당 명령 수=150] [복구 스레드 수=코어 수]
+ */
+public class RecoveryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tables = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int commands = args.length > 1 ? Integer.parseInt(args[1]) : 150;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 이동 로그 숨김
+
+        Path dir = Files.createTempDirectory("yut-recovery");
+        PlayConfig config = new PlayConfig(4, 4, PlayConfig.BoardType.SQUARE);
+        List<String> names = List.of("A", "B", "C", "D");
+
+        long openStart = System.nanoTime();
+        List<GameController> controllers = new ArrayList<>();
+        SessionStore store = new SessionStore(dir);
+        for (int t = 0; t < tables; t++) {
+            GameController c = new GameController(config, names, GameView.HEADLESS);
+            store.open("t" + t, config, c);
+            controllers.add(c);
+        }
+        double openSeconds = (System.nanoTime() - openStart) / 1e9;
+
+        // 테이블을 번갈아 가며 명령 진행 (서버에서 여러 테이블이 동시에 진행되는 상황)
+        Random random = new Random(1);
+        long played = 0;
+        long playStart = System.nanoTime();
+        for (int i = 0; i < commands; i++) {
+            for (GameController c : controllers) {
+                GameSnapshot s = c.getSnapshot();
+                if (s.isGameOver()) continue;
+                if (s.getPhase() == GameState.phase.THROW) c.onThrowRandom();
+                else c.deployNewPiece(random.nextInt(s.getPendingThrows().size()));
+                played++;
+            }
+        }
+        double playSeconds = (System.nanoTime() - playStart) / 1e9;
+        store.flush();
+        double flushSeconds = (System.nanoTime() - playStart) / 1e9;
+        long fsyncs = store.getFsyncCount();
+        long snapshots = store.getSnapshotCount();
+        store.close();
+
+        console.printf("테이블 %d개 생성(초기 스냅샷) %.2f초%n", tables, openSeconds);
+        console.printf("명령 %d회: 처리 %.2f초 (%.2f us/명령, 기록 대기 없음), 모두 fsync까지 %.2f초%n",
+                played, playSeconds, playSeconds * 1e6 / played, flushSeconds);
+        console.printf("fsync %d회 (명령 %.1f개당 1회), 스냅샷 교체 %d회%n", fsyncs, played / (double) fsyncs, snapshots);
+
+        long recoverStart = System.nanoTime();
+        SessionStore recovered = new SessionStore(dir);
+        List<SessionStore.Session> sessions = recovered.recoverAll(threads);
+        double recoverSeconds = (System.nanoTime() - recoverStart) / 1e9;
+        long replayed = 0;
+        for (SessionStore.Session s : sessions) replayed += s.getReplayed();
+        console.printf("복구: 테이블 %d개, 로그 재생 %d회, 스레드 %d개, %.2f초 (테이블당 %.0f us)%n",
+                sessions.size(), replayed, threads, recoverSeconds, recoverSeconds * 1e6 / sessions.size());
+        recovered.close();
+
+        try (var files = Files.list(dir)) {
+            files.forEach(p -> p.toFile().delete());
+        }
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,75 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 다시 보기 이동 시간 측정.
+ * 무작위로 진행한 긴 게임(기본 500턴)을 기록하고, 색인(GameReplay) 생성 시간과
+ * 임의 턴으로의 이동(키프레임 복원 + 앞으로 재생) 시간 분포를 출력한다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다:
+ *   java -cp out ReplaySeekBenchmark [최소 턴 수=500] [이동 횟수=20000]
+ */
+public class ReplaySeekBenchmark {
+
+    public static void main(String[] args) {
+        int minTurns = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int seeks = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 이동 로그 숨김
+
+        // 빽도로 완주하지 않는 규칙에서 빽도/도 위주로 던져 긴 게임을 만든다 (minTurns턴에 이르면 기록 종료)
+        PlayConfig config = new PlayConfig(4, 5, PlayConfig.BoardType.DODECAGON);
+        config.setRuleSet(RuleSet.standard().withBackdoFinishes(false));
+        GameRecord record = null;
+        for (long seed = 1; record == null; seed++) {
+            GameController controller = new GameController(config, List.of("A", "B", "C", "D"), GameView.HEADLESS);
+            List<Integer> commands = new ArrayList<>();
+            controller.addCommandListener(commands::add);
+            Random random = new Random(seed);
+            int turns = 1;
+            int current = 0;
+            while (!controller.getSnapshot().isGameOver() && turns < minTurns) {
+                GameSnapshot s = controller.getSnapshot();
+                if (s.getPhase() == GameState.phase.THROW) {
+                    int r = random.nextInt(10);
+                    controller.onThrowSpecified(r < 3 ? Yut.Result.빽도 : r < 9 ? Yut.Result.도 : Yut.Result.개);
+                } else if (random.nextInt(4) == 0) {
+                    controller.deployNewPiece(random.nextInt(s.getPendingThrows().size()));
+                } else {
+                    GameSnapshot.PlayerSnapshot p = s.getPlayers().get(s.getCurrentPlayer());
+                    int piece = random.nextInt(p.getPieceCount());
+                    controller.onSelectPiece(p.getPathIndex(piece), p.getStepIndex(piece),
+                            random.nextInt(s.getPendingThrows().size()));
+                }
+                if (controller.getSnapshot().getCurrentPlayer() != current) {
+                    current = controller.getSnapshot().getCurrentPlayer();
+                    turns++;
+                }
+            }
+            if (turns >= minTurns) record = new GameRecord(config, commands.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        long indexStart = System.nanoTime();
+        GameReplay replay = new GameReplay(record);
+        double indexMillis = (System.nanoTime() - indexStart) / 1e6;
+
+        GameReplay.Cursor cursor = replay.cursor();
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(2);
+        for (int i = 0; i < seeks; i++) {
+            int turn = random.nextInt(replay.turnCount());
+            long start = System.nanoTime();
+            cursor.seekTurn(turn);
+            cursor.frame(i);
+            histogram.record(System.nanoTime() - start);
+        }
+
+        System.setOut(console);
+        System.out.printf("게임: %d턴, 명령 %d개, 키프레임 간격 %d%n", replay.turnCount(), replay.size(), GameReplay.KEYFRAME_INTERVAL);
+        System.out.printf("색인 생성: %.1f ms%n", indexMillis);
+        System.out.printf("임의 턴 이동 %d회: p50 %.1f us, p99 %.1f us, 최대 %.1f us%n", seeks,
+                histogram.percentile(0.5) / 1e3, histogram.percentile(0.99) / 1e3, histogram.getMax() / 1e3);
+    }
+}
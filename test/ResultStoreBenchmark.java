@@ -0,0 +1,48 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * 결과 저장소 쓰기와 자리별 승률 집계의 초당 행 수 측정.
+ * 무작위 설정/승자로 채운 행을 임시 디렉터리에 쓰고, "오각형 4말 2인 자리별 승률" 집계를 반복한다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다: java -cp out ResultStoreBenchmark [행 수]
+ */
+public class ResultStoreBenchmark {
+    public static void main(String[] args) throws IOException {
+        long rows = args.length > 0 ? Long.parseLong(args[0]) : 200_000_000L;
+        Path dir = Files.createTempDirectory("yut-results-bench");
+        try {
+            PlayConfig.BoardType[] types = PlayConfig.BoardType.values();
+            SplittableRandom random = new SplittableRandom(47);
+            long t0 = System.nanoTime();
+            try (ResultStore.Writer writer = ResultStore.writer(dir, 0)) {
+                for (long r = 0; r < rows; r++) {
+                    int pieces = 2 + random.nextInt(4);
+                    writer.append(ResultStore.configCode(types[random.nextInt(types.length)], 2, pieces),
+                            random.nextInt(2), 10 + random.nextInt(200), random.nextInt(8));
+                }
+            }
+            double writeSeconds = (System.nanoTime() - t0) / 1e9;
+            System.out.printf("쓰기: %,d행, %.1f초 (초당 %,.0f행)%n", rows, writeSeconds, rows / writeSeconds);
+
+            ResultStore store = ResultStore.open(dir);
+            for (int round = 0; round < 5; round++) {
+                long t1 = System.nanoTime();
+                long[] wins = store.winsBySeat(PlayConfig.BoardType.PENTAGON, 2, 4);
+                long t2 = System.nanoTime();
+                double mean = store.meanTurns(PlayConfig.BoardType.PENTAGON, 2, 4);
+                long t3 = System.nanoTime();
+                System.out.printf("자리별 승수(SWAR) %.2f초 (초당 %,.0f행), 평균 턴(한 행씩) %.2f초 (초당 %,.0f행) [%d/%d, %.1f]%n",
+                        (t2 - t1) / 1e9, rows / ((t2 - t1) / 1e9), (t3 - t2) / 1e9, rows / ((t3 - t2) / 1e9),
+                        wins[0], wins[2], mean);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+}
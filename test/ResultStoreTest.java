@@ -0,0 +1,84 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 힙 밖 게임 결과 저장소(ResultStore)의 쓰기/집계를 검증하는 테스트 클래스.
+ */
+public class ResultStoreTest {
+
+    @Test
+    @DisplayName("여러 기록기, 여러 조각: 자리별 승수와 평균이 한 행씩 센 값과 같음 (8행 묶음 끝자리 포함)")
+    void aggregateTest() throws IOException {
+        Path dir = Files.createTempDirectory("yut-results");
+        try {
+            PlayConfig.BoardType[] types = PlayConfig.BoardType.values();
+            long[][] expectedWins = new long[types.length][5];  // 4명 5말 설정만 따로 셈: [판][자리, 전체]
+            long turnSum = 0, captureSum = 0;
+            Random random = new Random(47);
+            try (ResultStore.Writer a = ResultStore.writer(dir, 0, 1000);
+                 ResultStore.Writer b = ResultStore.writer(dir, 1, 777)) {
+                for (int g = 0; g < 5003; g++) {
+                    PlayConfig.BoardType type = types[random.nextInt(types.length)];
+                    int players = 2 + random.nextInt(3), pieces = 2 + random.nextInt(4);
+                    int winner = random.nextInt(10) == 0 ? -1 : random.nextInt(players);
+                    int turns = 1 + random.nextInt(2000), captures = random.nextInt(30);
+                    (g % 3 == 0 ? b : a).append(ResultStore.configCode(type, players, pieces), winner, turns, captures);
+                    if (players == 4 && pieces == 5) {
+                        expectedWins[type.ordinal()][4]++;
+                        if (winner >= 0) expectedWins[type.ordinal()][winner]++;
+                        if (type == PlayConfig.BoardType.PENTAGON) {
+                            turnSum += turns;
+                            captureSum += captures;
+                        }
+                    }
+                }
+            }
+
+            ResultStore store = ResultStore.open(dir);
+            assertEquals(5003L, store.rows());
+            for (PlayConfig.BoardType type : types) {
+                assertArrayEquals(expectedWins[type.ordinal()], store.winsBySeat(type, 4, 5), type.name());
+            }
+            long games = expectedWins[PlayConfig.BoardType.PENTAGON.ordinal()][4];
+            assertEquals(turnSum / (double) games, store.meanTurns(PlayConfig.BoardType.PENTAGON, 4, 5), 1e-9);
+            assertEquals(captureSum / (double) games, store.meanCaptures(PlayConfig.BoardType.PENTAGON, 4, 5), 1e-9);
+            double[] rate = store.winRateBySeat(PlayConfig.BoardType.PENTAGON, 4, 5);
+            assertEquals(expectedWins[PlayConfig.BoardType.PENTAGON.ordinal()][3] / (double) games, rate[3], 1e-12);
+            assertEquals(0.0, store.meanTurns(PlayConfig.BoardType.SQUARE, 2, 7), 0.0);   // 없는 설정
+        } finally {
+            TestFiles.deleteTree(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("시뮬레이션 기록: 게임마다 한 행, 닫기 전에도 지금까지 쓴 행을 읽을 수 있음")
+    void recordTest() throws Exception {
+        Path dir = Files.createTempDirectory("yut-results");
+        try {
+            List<PlayConfig> configs = List.of(new PlayConfig(2, 2, PlayConfig.BoardType.SQUARE),
+                    new PlayConfig(2, 3, PlayConfig.BoardType.HEXAGON));
+            StatisticsPipeline.record(300, 2, configs, 1, dir);
+            ResultStore store = ResultStore.open(dir);
+            assertEquals(300L, store.rows());
+            long[] wins = store.winsBySeat(PlayConfig.BoardType.HEXAGON, 2, 3);
+            assertEquals(150L, wins[2]);
+            assertEquals(150L, wins[0] + wins[1]);             // 2말 게임은 제한 턴 안에 끝남
+            assertTrue(store.meanTurns(PlayConfig.BoardType.SQUARE, 2, 2) > 1);
+
+            ResultStore.Writer open = ResultStore.writer(dir, 5);
+            GameSimulator simulator = new GameSimulator(configs.get(0));
+            Bot bot = new RandomBot(new Random(2));
+            for (int g = 0; g < 10; g++) simulator.play(new Bot[] {bot, bot}, new Random(g), open);
+            assertEquals(310L, ResultStore.open(dir).rows());
+            open.close();
+        } finally {
+            TestFiles.deleteTree(dir);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 규칙 변형(RuleSet)별 적합성 테스트.
+ * 변형마다 GameState의 동작을 확인하고, 같은 규칙에서 GameState와 GameSimulator(Position)가
+ * 같은 게임을 똑같이 진행하는지 비교한다.
+ */
+public class RuleSetTest {
+    private static final List<String> NAMES = List.of("A", "B");
+
+    private static GameState newState(RuleSet rules) {
+        PlayConfig config = new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE);
+        config.setRuleSet(rules);
+        return new GameState(config, NAMES);
+    }
+
+    private static void place(GameState state, int player, int piece, int path, int step) {
+        Piece p = state.getPlayers().get(player).getPieces().get(piece);
+        p.setPathIndex(path);
+        p.setStepIndex(step);
+    }
+
+    @Test
+    @DisplayName("기본 규칙: 윷판을 그대로 쓰고 저장 형식으로 되돌려도 같음")
+    void standardTest() {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        assertSame(board, RuleSet.standard().compile(board));
+        assertSame(board, new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE).getBoardGraph());
+        RuleSet variant = RuleSet.standard().withBackdoFinishes(false).withMaxStack(3).withNakProbability(0.05)
+                .withCaptureExtraThrow(false).withBackdoWithoutPieces(RuleSet.BackdoWithoutPieces.DISCARD);
+        assertEquals(variant, RuleSet.decode(variant.encodeFlags(), variant.getNakProbability(), variant.getThrowModel()));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.standard().withNakProbability(1));
+    }
+
+    @Test
+    @DisplayName("1번 칸 빽도: 완주하지 않는 규칙이면 이동 표가 출발 칸으로 보냄")
+    void backdoFinishTest() {
+        GameState state = newState(RuleSet.standard().withBackdoFinishes(false));
+        BoardGraph board = state.getBoard();
+        assertEquals(board.startNode(), board.move(board.nodeOf(0, 1), Yut.Result.빽도));
+        assertEquals(board.nodeOf(0, 2), board.move(board.nodeOf(0, 3), Yut.Result.빽도)); // 다른 칸은 그대로
+
+        place(state, 0, 0, 0, 1);
+        state.applyThrow(Yut.Result.빽도);
+        assertTrue(state.movePiece(0));
+        Piece piece = state.getPlayers().get(0).getPieces().get(0);
+        assertFalse(piece.isFinished());
+        assertEquals(0, piece.getPathIndex());
+        assertEquals(0, piece.getStepIndex());
+    }
+
+    @Test
+    @DisplayName("말 없을 때 빽도: 턴 넘김(모아 둔 결과 버림) / 빽도만 버림")
+    void backdoWithoutPiecesTest() {
+        GameState pass = newState(RuleSet.standard());
+        pass.applyThrow(Yut.Result.윷);
+        pass.applyThrow(Yut.Result.빽도);
+        assertEquals(GameState.TurnEvent.BAEKDO_TURN_PASS, pass.getLastTurnEvent());
+        assertSame(pass.getPlayers().get(1), pass.getCurrentPlayer());
+        assertTrue(pass.getLastThrow().isEmpty(), "모아 둔 '윷'이 다음 플레이어에게 넘어가지 않음");
+
+        GameState discard = newState(RuleSet.standard().withBackdoWithoutPieces(RuleSet.BackdoWithoutPieces.DISCARD));
+        discard.applyThrow(Yut.Result.윷);
+        discard.applyThrow(Yut.Result.빽도);
+        assertSame(discard.getPlayers().get(0), discard.getCurrentPlayer());
+        assertEquals(GameState.phase.MOVE, discard.getPhase());
+        assertEquals(List.of(Yut.Result.윷), discard.getLastThrow());
+
+        discard.nextTurn();
+        discard.getLastThrow().clear();
+        discard.applyThrow(Yut.Result.빽도); // 모아 둔 결과도 없으면 턴 넘김
+        assertSame(discard.getPlayers().get(0), discard.getCurrentPlayer());
+        assertEquals(GameState.TurnEvent.BAEKDO_TURN_PASS, discard.getLastTurnEvent());
+    }
+
+    @Test
+    @DisplayName("잡기: 한 번 더 던지지 않는 규칙이면 잡아도 턴이 넘어감")
+    void captureExtraThrowTest() {
+        for (boolean extra : new boolean[] {true, false}) {
+            GameState state = newState(RuleSet.standard().withCaptureExtraThrow(extra));
+            place(state, 1, 0, 0, 2);
+            place(state, 0, 0, 0, 0);
+            state.applyThrow(Yut.Result.개);
+            assertTrue(state.movePiece(0));
+            assertEquals(-1, state.getPlayers().get(1).getPieces().get(0).getPathIndex(), "잡기는 규칙과 관계없음");
+            assertSame(state.getPlayers().get(extra ? 0 : 1), state.getCurrentPlayer());
+            assertEquals(GameState.phase.THROW, state.getPhase());
+            assertEquals(extra ? GameState.TurnEvent.CAPTURE_OCCURRED : GameState.TurnEvent.NORMAL, state.getLastTurnEvent());
+        }
+    }
+
+    @Test
+    @DisplayName("업기 제한: 제한을 넘는 이동은 윷 결과를 쓰지 않고 거부, Position도 뺌")
+    void maxStackTest() {
+        GameState state = newState(RuleSet.standard().withMaxStack(2));
+        place(state, 0, 0, 0, 2);
+        place(state, 0, 1, 0, 2);
+        place(state, 0, 2, 0, 1);
+        state.applyThrow(Yut.Result.윷);
+        state.applyThrow(Yut.Result.도);
+        state.setSelect(1);
+        assertFalse(state.movePiece(2), "세 번째 말은 업을 수 없음");
+        assertEquals(List.of(Yut.Result.윷, Yut.Result.도), state.getLastThrow());
+        assertEquals(1, state.getPlayers().get(0).getPieces().get(2).getStepIndex());
+
+        Position pos = Position.of(state);
+        BoardGraph board = state.getBoard();
+        int[] moves = pos.legalMoves(Yut.Result.도);
+        for (int from : moves) assertNotEquals(board.nodeOf(0, 1), from);
+        assertEquals(2, moves.length);  // (0,2) 묶음과 새 말
+
+        state.setSelect(0);
+        assertTrue(state.movePiece(2), "다른 결과로는 이동 가능");
+        assertEquals(5, state.getPlayers().get(0).getPieces().get(2).getStepIndex());
+    }
+
+    @Test
+    @DisplayName("낙: 던질 기회만 쓰고 결과가 없으면 턴 넘김, 확률대로 나옴")
+    void nakTest() {
+        GameState state = newState(RuleSet.standard().withNakProbability(0.1));
+        state.applyNak();
+        assertEquals(GameState.TurnEvent.NAK_THROWN, state.getLastTurnEvent());
+        assertSame(state.getPlayers().get(1), state.getCurrentPlayer());
+
+        state.applyThrow(Yut.Result.모);
+        state.applyNak();
+        assertEquals(GameState.phase.MOVE, state.getPhase());
+        assertEquals(List.of(Yut.Result.모), state.getLastThrow());
+
+        Random random = new Random(3);
+        int naks = 0, n = 100_000;
+        for (int i = 0; i < n; i++) if (state.getRules().throwRandom(random) == null) naks++;
+        assertEquals(0.1, naks / (double) n, 0.005);
+
+        // 낙이 없는 규칙은 Yut.throwRandom과 같은 결과 열
+        Random a = new Random(9), b = new Random(9);
+        for (int i = 0; i < 1000; i++) assertEquals(Yut.throwRandom(a), RuleSet.standard().throwRandom(b));
+    }
+
+    @Test
+    @DisplayName("적합성: 규칙 변형마다 GameState와 GameSimulator가 같은 게임을 같은 결과로 진행")
+    void engineConformanceTest() {
+        RuleSet standard = RuleSet.standard();
+        List<RuleSet> variants = List.of(
+                standard,
+                standard.withBackdoFinishes(false),
+                standard.withBackdoWithoutPieces(RuleSet.BackdoWithoutPieces.DISCARD),
+                standard.withCaptureExtraThrow(false),
+                standard.withMaxStack(2),
+                standard.withNakProbability(0.15),
+                standard.withBackdoFinishes(false).withBackdoWithoutPieces(RuleSet.BackdoWithoutPieces.DISCARD)
+                        .withCaptureExtraThrow(false).withMaxStack(2).withNakProbability(0.15));
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // GameState 이동 로그 숨김
+        try {
+            for (RuleSet rules : variants) {
+                PlayConfig config = new PlayConfig(2, 4, PlayConfig.BoardType.SQUARE);
+                config.setRuleSet(rules);
+                GameSimulator simulator = new GameSimulator(config);
+                for (int game = 0; game < 20; game++) {
+                    Mirror mirror = new Mirror(new GameState(config, NAMES), new Random(game));
+                    int winner = simulator.play(new Bot[] {mirror, mirror}, new Random(1000 + game), mirror);
+                    GameState state = mirror.state;
+                    assertEquals(winner, state.getWinner() == null ? -1 : state.getPlayers().indexOf(state.getWinner()),
+                            rules + " 게임 " + game);
+                    assertTrue(mirror.moves > 0);
+                }
+            }
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    /**
+     * 시뮬레이터의 던지기/이동을 GameState에 그대로 적용하며, 봇이 호출될 때마다
+     * 두 엔진의 위치/차례/남은 결과가 같은지 확인한다. 이동은 둘 수 있는 것 중 무작위.
+     */
+    private static final class Mirror implements Bot, GameEventSink {
+        final GameState state;
+        final Random random;
+        int moves;
+
+        Mirror(GameState state, Random random) {
+            this.state = state;
+            this.random = random;
+        }
+
+        @Override public String getName() { return "mirror"; }
+        @Override public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) { }
+        @Override public void moved(int player, Yut.Result result, int from, int to, int captured) { }
+        @Override public void gameEnded(int winner, int turns) { }
+
+        @Override
+        public void thrown(int player, Yut.Result result) {
+            assertEquals(player, currentIndex());
+            assertEquals(GameState.phase.THROW, state.getPhase());
+            state.applyThrow(result);
+        }
+
+        @Override
+        public void nak(int player) {
+            assertEquals(player, currentIndex());
+            state.applyNak();
+        }
+
+        @Override
+        public void turnEnded(int player) {
+            if (state.getWinner() != null) return;
+            if (currentIndex() == player) {
+                // 남은 결과를 하나도 쓸 수 없어 시뮬레이터가 턴을 끝낸 경우 (화면에서는 플레이어가 넘김)
+                assertEquals(GameState.phase.MOVE, state.getPhase());
+                Position pos = Position.of(state);
+                for (Yut.Result r : state.getLastThrow()) assertEquals(0, pos.legalMoves(r).length);
+                state.getLastThrow().clear();
+                state.nextTurn();
+            }
+            assertEquals((player + 1) % 2, currentIndex());
+        }
+
+        @Override
+        public Move choose(Position pos, List<Yut.Result> pending) {
+            assertEquals(pos, Position.of(state), "말 배치/차례");
+            assertEquals(GameState.phase.MOVE, state.getPhase());
+            assertEquals(sorted(pending), sorted(state.getLastThrow()), "남은 결과");
+
+            List<Move> options = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                for (int from : pos.legalMoves(pending.get(i))) options.add(new Move(i, from));
+            }
+            Move move = options.get(random.nextInt(options.size()));
+            Yut.Result r = pending.get(move.getResultIndex());
+            state.setSelect(state.getLastThrow().indexOf(r));
+            assertTrue(state.movePiece(pieceFor(move.getFrom())), "시뮬레이터가 둔 이동은 GameState에서도 가능");
+            moves++;
+            return move;
+        }
+
+        /** 출발 노드의 말(또는 GameController처럼 꺼낸 대기 말) 번호 */
+        private int pieceFor(int from) {
+            BoardGraph board = state.getBoard();
+            for (Piece p : state.getCurrentPlayer().getPieces()) {
+                if (p.isFinished()) continue;
+                if (from == Position.DEPLOY && p.getPathIndex() == -1) {
+                    p.setPathIndex(0);
+                    p.setStepIndex(0);
+                    return p.getId();
+                }
+                if (from != Position.DEPLOY && board.nodeOf(p.getPathIndex(), p.getStepIndex()) == from) return p.getId();
+            }
+            throw new AssertionError("말 없음: " + from);
+        }
+
+        private int currentIndex() {
+            return state.getPlayers().indexOf(state.getCurrentPlayer());
+        }
+
+        private static List<Yut.Result> sorted(List<Yut.Result> results) {
+            List<Yut.Result> copy = new ArrayList<>(results);
+            Collections.sort(copy);
+            return copy;
+        }
+    }
+}
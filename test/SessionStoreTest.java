@@ -0,0 +1,108 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SessionStore 스냅샷 + 선행 기록 로그 저장과 복구를 검증하는 테스트 클래스.
+ */
+public class SessionStoreTest {
+
+    /** 무작위 명령 count개 진행 */
+    private static void play(GameController controller, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            GameSnapshot s = controller.getSnapshot();
+            if (s.isGameOver()) return;
+            if (s.getPhase() == GameState.phase.THROW) {
+                controller.onThrowSpecified(Yut.Result.values()[random.nextInt(Yut.Result.values().length)]);
+            } else if (random.nextBoolean()) {
+                controller.deployNewPiece(random.nextInt(s.getPendingThrows().size()));
+            } else {
+                GameSnapshot.PlayerSnapshot p = s.getPlayers().get(s.getCurrentPlayer());
+                int piece = random.nextInt(p.getPieceCount());
+                controller.onSelectPiece(p.getPathIndex(piece), p.getStepIndex(piece),
+                        random.nextInt(s.getPendingThrows().size()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("저장 후 복구한 상태가 원래 상태와 같음 (스냅샷 교체 포함)")
+    void recoverTest() throws Exception {
+        Path dir = Files.createTempDirectory("yut-sessions");
+        try {
+            PlayConfig config = new PlayConfig(3, 4, PlayConfig.BoardType.PENTAGON);
+            GameController[] controllers = new GameController[5];
+            try (SessionStore store = new SessionStore(dir)) {
+                for (int t = 0; t < controllers.length; t++) {
+                    controllers[t] = new GameController(config, List.of("A", "B", "C"), GameView.HEADLESS);
+                    store.open("table-" + t, config, controllers[t]);
+                    play(controllers[t], new Random(t), 30 + 60 * t);   // 일부 테이블은 스냅샷 교체 발생
+                }
+                store.flush();
+            }
+
+            try (SessionStore store = new SessionStore(dir)) {
+                List<SessionStore.Session> sessions = store.recoverAll(2);
+                assertEquals(controllers.length, sessions.size());
+                for (SessionStore.Session session : sessions) {
+                    int t = Integer.parseInt(session.getId().substring("table-".length()));
+                    assertTrue(Arrays.equals(
+                            SessionStore.encodeSnapshot(config, controllers[t].getSnapshot()).array(),
+                            withVersion(config, session.getController().getSnapshot(), controllers[t].getSnapshot())),
+                            "테이블 " + t);
+                }
+            }
+        } finally {
+            TestFiles.deleteTree(dir);
+        }
+    }
+
+    /** 버전만 원본과 맞춰 인코딩 (복구 후 버전 번호는 명령 수 기준으로 다시 매겨짐) */
+    private static byte[] withVersion(PlayConfig config, GameSnapshot recovered, GameSnapshot original) {
+        byte[] bytes = SessionStore.encodeSnapshot(config, recovered).array();
+        byte[] expected = SessionStore.encodeSnapshot(config, original).array();
+        System.arraycopy(expected, 4, bytes, 4, 8);
+        System.arraycopy(expected, bytes.length - 4, bytes, bytes.length - 4, 4);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("로그 끝의 끊긴 레코드는 무시하고 복구")
+    void tornTailTest() throws Exception {
+        Path dir = Files.createTempDirectory("yut-sessions");
+        try {
+            PlayConfig config = new PlayConfig(2, 2, PlayConfig.BoardType.SQUARE);
+            GameController controller = new GameController(config, List.of("A", "B"), GameView.HEADLESS);
+            try (SessionStore store = new SessionStore(dir)) {
+                store.open("t", config, controller);
+                play(controller, new Random(7), 20);
+                store.flush();
+            }
+            Files.write(dir.resolve("t.wal"), new byte[] {1, 2, 3, 4, 5, 6, 7}, StandardOpenOption.APPEND);
+
+            try (SessionStore store = new SessionStore(dir)) {
+                SessionStore.Session session = store.recoverAll(1).get(0);
+                GameSnapshot recovered = session.getController().getSnapshot();
+                GameSnapshot original = controller.getSnapshot();
+                assertEquals(original.getCurrentPlayer(), recovered.getCurrentPlayer());
+                assertEquals(original.getPendingThrows(), recovered.getPendingThrows());
+                for (int pl = 0; pl < 2; pl++) {
+                    for (int i = 0; i < 2; i++) {
+                        assertEquals(original.getPlayers().get(pl).getPathIndex(i), recovered.getPlayers().get(pl).getPathIndex(i));
+                        assertEquals(original.getPlayers().get(pl).getStepIndex(i), recovered.getPlayers().get(pl).getStepIndex(i));
+                    }
+                }
+                assertEquals(0, Files.size(dir.resolve("t.wal")) % 16, "끊긴 꼬리 제거");
+            }
+        } finally {
+            TestFiles.deleteTree(dir);
+        }
+    }
+}
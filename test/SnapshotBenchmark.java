@@ -0,0 +1,73 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 이동 한 번당 스냅샷 생성 비용 측정.
+ * 무작위 게임을 GameState로 진행하면서 이동마다 전체 복사(GameSnapshot.of(state, v))와
+ * 구조 공유(GameSnapshot.of(state, v, previous))의 소요 시간을 비교한다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다: java -cp out SnapshotBenchmark
+ */
+public class SnapshotBenchmark {
+    private static final int GAMES = 2000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // GameState 이동 로그 숨김
+        PlayConfig config = new PlayConfig(4, 5, PlayConfig.BoardType.SQUARE);
+        List<String> names = List.of("A", "B", "C", "D");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Random random = new Random(round);
+            long moves = 0, fullNanos = 0, sharedNanos = 0, sharedPlayers = 0;
+            for (int g = 0; g < GAMES; g++) {
+                GameState state = new GameState(config, names);
+                GameSnapshot previous = GameSnapshot.of(state, 0);
+                for (int step = 1; step < 400 && state.getWinner() == null; step++) {
+                    if (state.getPhase() == GameState.phase.THROW) {
+                        state.applyThrow(Yut.throwRandom(random));
+                        continue;
+                    }
+                    movePieceRandomly(state, random);
+                    moves++;
+
+                    long t0 = System.nanoTime();
+                    GameSnapshot full = GameSnapshot.of(state, step);
+                    long t1 = System.nanoTime();
+                    GameSnapshot shared = GameSnapshot.of(state, step, previous);
+                    long t2 = System.nanoTime();
+                    fullNanos += t1 - t0;
+                    sharedNanos += t2 - t1;
+                    for (int i = 0; i < names.size(); i++) {
+                        if (shared.getPlayers().get(i) == previous.getPlayers().get(i)) sharedPlayers++;
+                    }
+                    if (full.getVersion() != shared.getVersion()) throw new AssertionError();
+                    previous = shared;
+                }
+            }
+            console.printf("round %d: %d moves, full copy %.0f ns/move, shared %.0f ns/move, players reused %.0f%%%n",
+                    round, moves, fullNanos / (double) moves, sharedNanos / (double) moves,
+                    100.0 * sharedPlayers / (moves * names.size()));
+        }
+    }
+
+    /** 현재 플레이어의 말 하나(대기 말 포함)를 무작위로 골라 이동 */
+    private static void movePieceRandomly(GameState state, Random random) {
+        List<Piece> pieces = state.getCurrentPlayer().getPieces();
+        state.setSelect(random.nextInt(state.getLastThrow().size()));
+        for (int tries = 0; tries < 20; tries++) {
+            Piece p = pieces.get(random.nextInt(pieces.size()));
+            if (p.isFinished()) continue;
+            if (p.getPathIndex() == -1) {
+                p.setPathIndex(0);
+                p.setStepIndex(0);
+            }
+            state.movePiece(p.getId());
+            return;
+        }
+        state.nextTurn();
+        state.getLastThrow().clear();
+    }
+}
@@ -0,0 +1,117 @@
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 루프백 관전자 부하 측정.
+ * 게임 하나를 최대 속도로 진행하면서 관전자 N명을 SpectatorServer에 접속시켜
+ * 게임 명령 처리량, 관전자가 받은 프레임 수, 건너뛴 스냅샷 수, 힙 사용량을 출력한다.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다:
+ *   java -cp out SpectatorBenchmark [관전자 수=10000] [초=10]
+ * (관전자 1명당 파일 디스크립터 2개가 필요하므로 ulimit -n을 충분히 올린다)
+ */
+public class SpectatorBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int spectators = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        System.setOut(new java.io.PrintStream(java.io.OutputStream.nullOutputStream())); // 이동 로그 숨김
+        java.io.PrintStream console = System.err;
+
+        PlayConfig config = new PlayConfig(4, 5, PlayConfig.BoardType.SQUARE);
+        GameController controller = new GameController(config, List.of("A", "B", "C", "D"), GameView.HEADLESS);
+        SpectatorHub hub = new SpectatorHub(controller);
+        SpectatorServer server = new SpectatorServer(hub, 0);
+
+        // 관전자 접속 (한 스레드가 셀렉터로 모든 접속을 읽는다)
+        Selector clients = Selector.open();
+        AtomicLong frames = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        List<SocketChannel> channels = new ArrayList<>();
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        for (int i = 0; i < spectators; i++) {
+            SocketChannel ch = SocketChannel.open(address);
+            ch.configureBlocking(false);
+            ch.register(clients, SelectionKey.OP_READ, new int[] {0, 0});  // {읽은 길이 바이트 수, 길이/남은 본문}
+            channels.add(ch);
+        }
+        Thread reader = new Thread(() -> readLoop(clients, frames, bytes), "spectator-clients");
+        reader.setDaemon(true);
+        reader.start();
+        while (hub.getSubscriberCount() < spectators) Thread.sleep(10);
+        console.printf("관전자 %d명 접속%n", spectators);
+
+        System.gc();
+        Runtime rt = Runtime.getRuntime();
+        long heapBefore = rt.totalMemory() - rt.freeMemory();
+        long commands = 0;
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        long startNanos = System.nanoTime();
+        while (System.nanoTime() < end) {
+            controller.onThrowRandom();
+            controller.deployNewPiece(0);
+            controller.onSelectPiece(0, 1, 0);
+            commands += 3;
+            if (controller.getSnapshot().isGameOver()) {
+                controller = new GameController(config, List.of("A", "B", "C", "D"), GameView.HEADLESS);
+                controller.addSnapshotListener(hub::publish);
+            }
+        }
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+        Thread.sleep(500);   // 남은 프레임 수신
+        long heapAfter = rt.totalMemory() - rt.freeMemory();
+
+        console.printf("게임 명령 %.0f회/초 (관전자 처리로 막히지 않음)%n", commands / elapsed);
+        console.printf("관전자 전달 %d회 (%.0f회/초), 수신 프레임 %d개, %.1f MB%n",
+                hub.getDelivered(), hub.getDelivered() / elapsed, frames.get(), bytes.get() / 1e6);
+        console.printf("건너뛴 스냅샷 %d개, 관전자당 평균 수신 %.1f개%n",
+                hub.getConflated(), frames.get() / (double) spectators);
+        console.printf("힙 사용 %.1f MB -> %.1f MB%n", heapBefore / 1e6, heapAfter / 1e6);
+
+        server.close();
+        hub.close();
+        for (SocketChannel ch : channels) ch.close();
+        clients.close();
+    }
+
+    /** 길이 접두 프레임을 읽어 개수만 센다 */
+    private static void readLoop(Selector selector, AtomicLong frames, AtomicLong bytes) {
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    int[] state = (int[]) key.attachment();
+                    buf.clear();
+                    int n = ((SocketChannel) key.channel()).read(buf);
+                    if (n < 0) { key.cancel(); continue; }
+                    bytes.addAndGet(n);
+                    buf.flip();
+                    while (buf.hasRemaining()) {
+                        if (state[0] < 4) {   // 길이 4바이트 읽는 중
+                            state[1] = (state[1] << 8) | (buf.get() & 0xFF);
+                            state[0]++;
+                            continue;
+                        }
+                        int skip = Math.min(state[1], buf.remaining());
+                        buf.position(buf.position() + skip);
+                        state[1] -= skip;
+                        if (state[1] == 0) {
+                            frames.incrementAndGet();
+                            state[0] = 0;
+                        }
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (Exception e) {
+            // 종료
+        }
+    }
+}
@@ -0,0 +1,88 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpectatorHub 배포(최신 값 우선 병합)를 검증하는 테스트 클래스.
+ */
+public class SpectatorHubTest {
+
+    private static GameSnapshot snapshot(GameState state, long version) {
+        return GameSnapshot.of(state, version);
+    }
+
+    @Test
+    @DisplayName("느린 관전자는 중간 스냅샷을 건너뛰고 최신 스냅샷을 받음")
+    void slowSpectatorConflationTest() throws Exception {
+        GameState state = new GameState(new PlayConfig(2, 2, PlayConfig.BoardType.SQUARE), List.of("A", "B"));
+        try (SpectatorHub hub = new SpectatorHub(2)) {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            List<Long> slow = new CopyOnWriteArrayList<>();
+            List<Long> fast = new CopyOnWriteArrayList<>();
+            hub.subscribe(s -> {
+                slow.add(s.getVersion());
+                try {
+                    release.await(5, TimeUnit.SECONDS);   // 첫 전달에서 멈춰 있는 느린 관전자
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (s.getVersion() == 100) done.countDown();
+            });
+            hub.subscribe(s -> fast.add(s.getVersion()));
+
+            hub.publish(snapshot(state, 1));
+            while (slow.isEmpty()) Thread.sleep(1);
+            for (long v = 2; v <= 100; v++) hub.publish(snapshot(state, v));   // 게임 스레드는 막히지 않음
+            release.countDown();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1L, (long) slow.get(0));
+            assertEquals(100L, (long) slow.get(slow.size() - 1));
+            assertTrue(slow.size() < 100, "중간 스냅샷은 병합됨");
+            for (int i = 1; i < slow.size(); i++) assertTrue(slow.get(i) > slow.get(i - 1), "버전 순서 유지");
+            while (fast.isEmpty() || fast.get(fast.size() - 1) != 100L) Thread.sleep(1);
+            assertTrue(hub.getConflated() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("구독과 공개가 엇갈려도 관전자는 버전 순서대로 받고 마지막 스냅샷에서 멈춤")
+    void subscribeRaceTest() throws Exception {
+        GameState state = new GameState(new PlayConfig(2, 2, PlayConfig.BoardType.SQUARE), List.of("A", "B"));
+        try (SpectatorHub hub = new SpectatorHub(2)) {
+            hub.publish(snapshot(state, 0));
+            for (long v = 1; v <= 500; v++) {
+                GameSnapshot next = snapshot(state, v);
+                List<Long> received = new CopyOnWriteArrayList<>();
+                CountDownLatch start = new CountDownLatch(1);
+                Thread publisher = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    hub.publish(next);   // 게임의 마지막 이동처럼 뒤이은 공개가 없음
+                });
+                publisher.start();
+                start.countDown();
+                SpectatorHub.Subscription subscription = hub.subscribe(s -> received.add(s.getVersion()));
+                publisher.join();
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while ((received.isEmpty() || received.get(received.size() - 1) != v) && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+                assertEquals(v, (long) received.get(received.size() - 1), "최신 스냅샷을 받음");
+                for (int i = 1; i < received.size(); i++) {
+                    assertTrue(received.get(i) > received.get(i - 1), "버전 순서 유지: " + received);
+                }
+                subscription.cancel();
+            }
+        }
+    }
+}
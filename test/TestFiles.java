@@ -0,0 +1,19 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 테스트가 만든 임시 파일 정리 도우미.
+ */
+final class TestFiles {
+    private TestFiles() { }
+
+    /** 디렉터리와 그 안의 파일을 모두 삭제 (지우지 못한 파일은 무시) */
+    static void deleteTree(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
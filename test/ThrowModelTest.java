@@ -0,0 +1,88 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 윷가락 던지기 모델(ThrowModel)의 분포 계산, 표본 추출, 보정을 검증하는 테스트 클래스.
+ */
+public class ThrowModelTest {
+
+    @Test
+    @DisplayName("기본 모델: 기존 닫힌 식(평평 0.6, 도 중 1/4 빽도)과 같은 분포")
+    void standardDistributionTest() {
+        double f = ThrowModel.STANDARD_FLAT, r = 1 - f;
+        ThrowModel model = ThrowModel.standard();
+        assertEquals(r * r * r * r, model.probability(Yut.Result.모), 1e-15);
+        assertEquals(f * f * f * f, model.probability(Yut.Result.윷), 1e-15);
+        assertEquals(4 * f * f * f * r, model.probability(Yut.Result.걸), 1e-15);
+        assertEquals(6 * f * f * r * r, model.probability(Yut.Result.개), 1e-15);
+        assertEquals(4 * f * r * r * r * 0.75, model.probability(Yut.Result.도), 1e-15);
+        assertEquals(4 * f * r * r * r * 0.25, model.probability(Yut.Result.빽도), 1e-15);
+    }
+
+    @Test
+    @DisplayName("가락별 확률: 분포 합은 1, 표시 가락이 없으면 빽도 없음, 잘못된 값은 거부")
+    void customDistributionTest() {
+        ThrowModel model = new ThrowModel(new double[] {0.7, 0.5, 0.55, 0.62}, 2);
+        double sum = 0;
+        for (double p : model.distribution()) sum += p;
+        assertEquals(1, sum, 1e-12);
+        // 빽도 = 표시 가락(2번)만 평평
+        assertEquals(0.55 * 0.3 * 0.5 * 0.38, model.probability(Yut.Result.빽도), 1e-15);
+
+        ThrowModel unmarked = new ThrowModel(new double[] {0.6, 0.6, 0.6, 0.6}, -1);
+        assertEquals(0.0, unmarked.probability(Yut.Result.빽도), 0.0);
+        assertEquals(4 * 0.6 * 0.4 * 0.4 * 0.4, unmarked.probability(Yut.Result.도), 1e-15);
+
+        assertThrows(IllegalArgumentException.class, () -> new ThrowModel(new double[] {0.6, 0.6, 0.6}, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ThrowModel(new double[] {0.6, 0.6, 0.6, 1.2}, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ThrowModel(new double[] {0.6, 0.6, 0.6, 0.6}, 4));
+    }
+
+    @Test
+    @DisplayName("별칭 표 추출: 표본 빈도가 정확한 분포와 일치")
+    void samplingTest() {
+        ThrowModel model = new ThrowModel(new double[] {0.8, 0.45, 0.6, 0.3}, 1);
+        Random random = new Random(11);
+        int n = 1_000_000;
+        long[] counts = new long[Yut.Result.values().length];
+        for (int i = 0; i < n; i++) counts[model.sample(random).ordinal()]++;
+        for (Yut.Result r : Yut.Result.values()) {
+            double p = model.probability(r);
+            double sigma = Math.sqrt(p * (1 - p) / n);
+            assertEquals(p, counts[r.ordinal()] / (double) n, 5 * sigma + 1e-9, r.name());
+        }
+    }
+
+    @Test
+    @DisplayName("보정: 기록된 던지기로 맞춘 모델이 원래 분포와 표시 가락 확률을 되찾음")
+    void fitTest() throws IOException {
+        ThrowModel truth = new ThrowModel(new double[] {0.7, 0.5, 0.55, 0.62}, 0);
+        Random random = new Random(5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameEventLog.Writer writer = new GameEventLog.Writer(bytes)) {
+            writer.gameStarted(PlayConfig.BoardType.SQUARE, 2, 4);
+            for (int i = 0; i < 400_000; i++) writer.thrown(i & 1, truth.sample(random));
+            writer.gameEnded(0, 1);
+        }
+        long[] counts = new long[Yut.Result.values().length];
+        ThrowModel.countThrows(new ByteArrayInputStream(bytes.toByteArray()), counts);
+        long total = 0;
+        for (long c : counts) total += c;
+        assertEquals(400_000, total);
+
+        ThrowModel fitted = ThrowModel.fit(counts, 0);
+        for (Yut.Result r : Yut.Result.values()) {
+            assertEquals(truth.probability(r), fitted.probability(r), 0.003, r.name());
+        }
+        assertEquals(0.7, fitted.getFlatProbability(0), 0.02, "빽도 표시 가락");
+        assertTrue(ThrowModel.logLikelihood(counts, new double[] {0.7, 0.5, 0.55, 0.62}, 0)
+                <= ThrowModel.logLikelihood(counts, new double[] {
+                        fitted.getFlatProbability(0), fitted.getFlatProbability(1),
+                        fitted.getFlatProbability(2), fitted.getFlatProbability(3)}, 0) + 1e-6);
+    }
+}
@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 봇 리그전(Tournament)의 Elo 계산, 시간패, 체크포인트 이어 하기를 검증하는 테스트 클래스.
+ */
+public class TournamentTest {
+
+    @Test
+    @DisplayName("Bradley-Terry: 강도에 맞춘 기대 승점을 넣으면 그 강도의 Elo 차이를 되찾음")
+    void bradleyTerryTest() {
+        double[] wins = {3, 1};
+        double[][] played = {{0, 4}, {4, 0}};
+        double[] rating = Tournament.bradleyTerry(wins, played);
+        assertEquals(400 * Math.log10(3), rating[0] - rating[1], 1e-6);
+        assertEquals(0, rating[0] + rating[1], 1e-9);
+
+        double[] gamma = {1, 2, 8};
+        int n = 10;
+        double[] expected = new double[3];
+        double[][] games = new double[3][3];
+        for (int a = 0; a < 3; a++) {
+            for (int b = 0; b < 3; b++) {
+                if (a == b) continue;
+                games[a][b] = 2 * n;
+                expected[a] += 2 * n * gamma[a] / (gamma[a] + gamma[b]);
+            }
+        }
+        rating = Tournament.bradleyTerry(expected, games);
+        assertEquals(400 * Math.log10(2), rating[1] - rating[0], 1e-4);
+        assertEquals(400 * Math.log10(8), rating[2] - rating[0], 1e-4);
+    }
+
+    @Test
+    @DisplayName("인터럽트를 무시하고 멈춘 봇도 수당 제한 시간에 시간패하고, 리그전은 끝남")
+    void hungBotTest() throws Exception {
+        long hangMillis = 10_000;
+        Tournament tournament = new Tournament(1);
+        tournament.setThreads(4);
+        tournament.setMoveLimit(20, TimeUnit.MILLISECONDS);
+        tournament.addBot("random", RandomBot::new);
+        tournament.addBot("hung", random -> new Bot() {
+            @Override public String getName() { return "hung"; }
+            @Override public Move choose(Position pos, List<Yut.Result> pending) {
+                long until = System.currentTimeMillis() + hangMillis;
+                while (System.currentTimeMillis() < until) {
+                    try {
+                        Thread.sleep(until - System.currentTimeMillis());
+                    } catch (InterruptedException ignored) {
+                        // 인터럽트를 무시하는 봇
+                    }
+                }
+                return new Move(0, pos.legalMoves(pending.get(0))[0]);
+            }
+        });
+        long start = System.currentTimeMillis();
+        Tournament.Report report = tournament.run();
+        assertTrue(System.currentTimeMillis() - start < hangMillis / 2, "멈춘 봇을 기다리지 않음");
+
+        assertEquals(report.getTotalGames(), report.getForfeits());
+        assertTrue(report.getRating(0) > report.getRating(1));
+        for (int bot = 0; bot < 2; bot++) {
+            assertTrue(report.getLow(bot) <= report.getRating(bot) + 1e-9);
+            assertTrue(report.getRating(bot) <= report.getHigh(bot) + 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("체크포인트: 끊긴 곳부터 이어 한 결과가 한 번에 한 결과와 같고, 다른 일정의 파일은 거부")
+    void checkpointTest() throws Exception {
+        Path file = Files.createTempFile("yut-tournament", ".txt");
+        Path fresh = Files.createTempFile("yut-tournament", ".txt");
+        try {
+            Files.delete(file);
+            Tournament.Report full = newTournament(1, file).run();
+            assertEquals(full.getTotalGames(), full.getPlayedGames());
+
+            // 이미 다 끝난 리그전을 다시 실행하면 할 게임이 없음
+            Tournament.Report again = newTournament(1, file).run();
+            assertEquals(0, again.getPlayedGames());
+            assertEquals(full.getRating(0), again.getRating(0), 1e-9);
+
+            // 중간에 끊긴 파일 (헤더 + 앞의 절반 + 잘린 줄)
+            List<String> lines = Files.readAllLines(file);
+            int kept = 1 + (lines.size() - 1) / 2;
+            StringBuilder cut = new StringBuilder();
+            for (String line : lines.subList(0, kept)) cut.append(line).append('\n');
+            cut.append("3");
+            Files.writeString(fresh, cut.toString());
+            Tournament.Report resumed = newTournament(1, fresh).run();
+            assertEquals(full.getTotalGames() - (kept - 1), resumed.getPlayedGames());
+            for (int bot = 0; bot < 3; bot++) {
+                assertEquals(full.getRating(bot), resumed.getRating(bot), 1e-9);
+                assertEquals(full.getLow(bot), resumed.getLow(bot), 1e-9);
+            }
+
+            IOException e = assertThrows(IOException.class, () -> newTournament(2, file).run());
+            assertTrue(e.getMessage().contains("gamesPerCell=1"));
+            Tournament other = new Tournament(1);
+            other.setCheckpoint(file);
+            other.addBot("random", RandomBot::new);
+            other.addBot("greedy", random -> new GreedyBot());
+            assertThrows(IOException.class, other::run);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(fresh);
+        }
+    }
+
+    private static Tournament newTournament(int gamesPerCell, Path checkpoint) {
+        Tournament tournament = new Tournament(gamesPerCell);
+        tournament.setThreads(4);
+        tournament.setCheckpoint(checkpoint);
+        tournament.addBot("random", RandomBot::new);
+        tournament.addBot("greedy", random -> new GreedyBot());
+        tournament.addBot("evaluator", random -> new EvaluatorBot());
+        return tournament;
+    }
+}
@@ -0,0 +1,120 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 잠금 없는 전치표(TranspositionTable)의 저장/교체 규칙과 다중 스레드 일관성을 검증하는 테스트 클래스.
+ */
+public class TranspositionTableTest {
+
+    @Test
+    @DisplayName("값 묶기와 조회: 점수/깊이/최선 수가 그대로 돌아오고 없는 키는 0")
+    void packAndProbeTest() {
+        TranspositionTable table = new TranspositionTable(1 << 16);
+        assertEquals(4096, table.capacity());
+        assertEquals(1 << 16, table.getMemoryBytes());
+
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        Position pos = new Position(board, 2, 4);
+        pos.setNode(0, 1, board.nodeOf(0, 5));
+        table.store(pos.hash(), TranspositionTable.pack(-0.25f, 7, 1234));
+        table.store(~pos.hash(), TranspositionTable.pack(0.5f, 0, TranspositionTable.NO_MOVE));
+
+        long entry = table.probe(pos.hash());
+        assertNotEquals(0L, entry);
+        assertEquals(-0.25f, TranspositionTable.score(entry), 0f);
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(1234, TranspositionTable.move(entry));
+        assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.move(table.probe(~pos.hash())));
+        assertEquals(0L, table.probe(pos.hash() + 1));
+        assertEquals(2L / 3.0, table.getHitRate(), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> TranspositionTable.pack(0, 256, 0));
+        assertThrows(IllegalArgumentException.class, () -> TranspositionTable.pack(0, 1, TranspositionTable.MAX_MOVE + 1));
+    }
+
+    @Test
+    @DisplayName("교체: 같은 키는 얕은 저장을 버리고, 버킷이 차면 얕거나 오래된 항목부터 밀어냄")
+    void replacementTest() {
+        TranspositionTable table = new TranspositionTable(64);     // 버킷 하나 (4항목)
+        for (int k = 1; k <= 4; k++) table.store(k, TranspositionTable.pack(k, k * 2, k));
+
+        table.store(3, TranspositionTable.pack(0, 1, 0));          // 더 얕음: 버림
+        assertEquals(6, TranspositionTable.depth(table.probe(3)));
+        assertEquals(1, table.getRejectedStores());
+
+        table.store(5, TranspositionTable.pack(5, 3, 5));          // 가장 얕은 키 1(깊이 2)을 밀어냄
+        assertEquals(0L, table.probe(1));
+        assertNotEquals(0L, table.probe(5));
+        assertEquals(1, table.getReplacements());
+
+        table.newSearch();
+        table.store(3, TranspositionTable.pack(0, 1, 0));          // 이전 세대 항목은 얕아도 덮어씀
+        assertEquals(1, TranspositionTable.depth(table.probe(3)));
+        // 세대 차이 1은 깊이 8만큼 불리: 키 5(3 - 8), 키 2(4 - 8), 키 4(8 - 8), 키 3(현재 세대 1) 순으로 밀려남
+        table.store(6, TranspositionTable.pack(6, 1, 6));
+        assertEquals(0L, table.probe(5), "이전 세대의 가장 얕은 항목이 밀려남");
+        assertNotEquals(0L, table.probe(3), "현재 세대 항목은 유지");
+        assertNotEquals(0L, table.probe(6));
+    }
+
+    @Test
+    @DisplayName("다중 스레드: 작은 표에 동시에 저장/조회해도 적중한 항목은 항상 자기 키의 값 (찢어진 읽기 없음)")
+    void concurrentStressTest() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1 << 12);   // 256항목: 계속 덮어쓰게 작게
+        long[] keys = new long[1 << 12];
+        Random seed = new Random(46);
+        for (int i = 0; i < keys.length; i++) keys[i] = seed.nextLong();
+
+        int threads = 4;
+        int operations = 400_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong torn = new AtomicLong();
+        AtomicLong hits = new AtomicLong();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int op = 0; op < operations; op++) {
+                    long key = keys[random.nextInt(keys.length)];
+                    if (random.nextBoolean()) {
+                        table.store(key, TranspositionTable.pack(scoreOf(key), random.nextInt(20), moveOf(key)));
+                    } else {
+                        long entry = table.probe(key);
+                        if (entry == 0) continue;
+                        hits.incrementAndGet();
+                        if (TranspositionTable.score(entry) != scoreOf(key)
+                                || TranspositionTable.move(entry) != moveOf(key)) {
+                            torn.incrementAndGet();
+                        }
+                    }
+                    if ((op & 0xFFF) == 0) Thread.yield();         // 단일 코어에서도 스레드가 번갈아 돌게
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+
+        assertEquals(0, torn.get(), "다른 키의 값이나 섞인 값을 읽음");
+        assertTrue(hits.get() > 0);
+        assertEquals(hits.get(), table.getHits());
+        assertEquals((long) threads * operations, table.getProbes() + table.getStores());
+    }
+
+    /** 키에서 정해지는 값 (읽은 값이 자기 키의 것인지 확인용) */
+    private static float scoreOf(long key) { return (float) (key & 0xFFFFF); }
+    private static int moveOf(long key) { return (int) ((key >>> 40) % (TranspositionTable.MAX_MOVE + 1)); }
+}
@@ -0,0 +1,112 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 턴 결과 묶음 분포(TurnOutcomes)와 턴 단위 기대값 계산을 검증하는 테스트 클래스.
+ */
+public class TurnOutcomesTest {
+    private static final BoardGraph BOARD = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+
+    @Test
+    @DisplayName("닫힌 식: 묶음 확률이 곱과 순서 수로 맞고, 잘라 낸 확률까지 합하면 1")
+    void closedFormTest() {
+        TurnOutcomes outcomes = TurnOutcomes.of(RuleSet.standard());
+        double yut = Yut.probability(Yut.Result.윷), mo = Yut.probability(Yut.Result.모);
+        double gae = Yut.probability(Yut.Result.개), backdo = Yut.probability(Yut.Result.빽도);
+
+        assertEquals(Yut.probability(Yut.Result.도), outcomes.probability(List.of(Yut.Result.도)), 1e-15);
+        assertEquals(2 * yut * mo * gae,
+                outcomes.probability(List.of(Yut.Result.모, Yut.Result.개, Yut.Result.윷)), 1e-15);
+        assertEquals(3 * yut * yut * mo * backdo,
+                outcomes.probability(List.of(Yut.Result.윷, Yut.Result.모, Yut.Result.윷, Yut.Result.빽도)), 1e-15);
+        assertEquals(0.0, outcomes.probability(List.of(Yut.Result.윷)), 0.0);         // 낙이 없으면 윷으로 끝날 수 없음
+        assertEquals(0.0, outcomes.probability(List.of(Yut.Result.도, Yut.Result.개)), 0.0);
+
+        double sum = 0;
+        for (TurnOutcomes.Outcome o : outcomes.getOutcomes()) sum += o.getProbability();
+        assertEquals(1, sum + outcomes.getTruncatedMass(), 1e-12);
+        assertTrue(outcomes.getTruncatedMass() < TurnOutcomes.DEFAULT_EPSILON);
+        assertSame(outcomes, TurnOutcomes.of(RuleSet.standard()), "같은 모델은 한 번만 계산");
+    }
+
+    @Test
+    @DisplayName("낙과 가락별 모델: 실제 던지기를 흉내 낸 턴의 묶음 빈도와 일치")
+    void samplingTest() {
+        RuleSet rules = RuleSet.standard().withNakProbability(0.1)
+                .withThrowModel(new ThrowModel(new double[] {0.45, 0.5, 0.55, 0.4}, 3));
+        TurnOutcomes outcomes = TurnOutcomes.of(rules);
+        assertEquals(0.1, outcomes.probability(List.of()), 1e-15);   // 첫 던지기가 낙
+
+        Random random = new Random(3);
+        int turns = 500_000;
+        Map<List<Yut.Result>, Integer> seen = new HashMap<>();
+        for (int t = 0; t < turns; t++) {
+            int[] counts = new int[Yut.Result.values().length];
+            while (true) {
+                Yut.Result r = rules.throwRandom(random);
+                if (r == null) break;
+                counts[r.ordinal()]++;
+                if (r != Yut.Result.윷 && r != Yut.Result.모) break;
+            }
+            List<Yut.Result> key = new ArrayList<>();
+            for (Yut.Result r : Yut.Result.values()) {
+                for (int i = 0; i < counts[r.ordinal()]; i++) key.add(r);
+            }
+            seen.merge(key, 1, Integer::sum);
+        }
+        for (TurnOutcomes.Outcome o : outcomes.getOutcomes().subList(0, 20)) {
+            double p = o.getProbability();
+            double observed = seen.getOrDefault(o.getResults(), 0) / (double) turns;
+            assertEquals(p, observed, 5 * Math.sqrt(p * (1 - p) / turns) + 1e-9, o.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("턴 단위 기대값: 던지기 하나씩 분기한 기대값 탐색과 같고 계획 호출 수는 적음")
+    void expectedScoreTest() {
+        Position pos = new Position(BOARD, 2, 2);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 3));
+        pos.setNode(1, 0, BOARD.nodeOf(0, 6));
+        pos.setNode(1, 1, BOARD.nodeOf(0, 12));
+        int[] plans = new int[1];
+        TurnPlanner planner = new TurnPlanner(TurnPlanner.analytic(BOARD));
+
+        double epsilon = 1e-3;
+        TurnOutcomes outcomes = TurnOutcomes.of(ThrowModel.standard(), 0, epsilon);
+        double grouped = planner.expectedScore(pos, outcomes);
+
+        double extend = Yut.probability(Yut.Result.윷) + Yut.probability(Yut.Result.모);
+        int maxChain = 0;
+        for (double rest = 1; rest >= epsilon; rest *= extend) maxChain++;
+        double perThrow = perThrow(planner, pos, new ArrayList<>(), maxChain, plans)
+                / (1 - outcomes.getTruncatedMass());
+
+        assertEquals(perThrow, grouped, 1e-12);
+        assertTrue(outcomes.getOutcomes().size() < plans[0],
+                "묶음 " + outcomes.getOutcomes().size() + "개, 던지기별 " + plans[0] + "개");
+    }
+
+    /** 던지기 하나씩 분기하는 기준 구현 (윷/모 이어 던지기는 chainLeft번까지) */
+    private static double perThrow(TurnPlanner planner, Position pos, List<Yut.Result> pending,
+                                   int chainLeft, int[] plans) {
+        double sum = 0;
+        for (Yut.Result r : Yut.Result.values()) {
+            pending.add(r);
+            boolean extend = r == Yut.Result.윷 || r == Yut.Result.모;
+            if (!extend) {
+                plans[0]++;
+                sum += Yut.probability(r) * planner.plan(pos, pending).getScore();
+            } else if (chainLeft > 1) {
+                sum += Yut.probability(r) * perThrow(planner, pos, pending, chainLeft - 1, plans);
+            }
+            pending.remove(pending.size() - 1);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TurnPlanner 이동 순서 탐색과 전치 제거를 검증하는 테스트 클래스.
+ */
+public class TurnPlannerTest {
+    private static final BoardGraph BOARD = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+
+    @Test
+    @DisplayName("순서가 중요할 때: '개'를 먼저 써서 잡은 뒤 '도'를 쓴다")
+    void captureOrderTest() {
+        Position pos = new Position(BOARD, 2, 1);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 1));
+        pos.setNode(1, 0, BOARD.nodeOf(0, 3));   // '개'로 바로 잡을 수 있고, '도' 먼저면 지나침
+        TurnPlanner planner = new TurnPlanner(TurnPlanner.analytic(BOARD));
+        TurnPlanner.Plan plan = planner.plan(pos, List.of(Yut.Result.도, Yut.Result.개));
+
+        assertEquals(2, plan.getSteps().size());
+        assertEquals(Yut.Result.개, plan.getSteps().get(0).getResult());
+        assertEquals(BOARD.nodeOf(0, 3), plan.getSteps().get(0).getTo());
+        Bot.Move first = plan.firstMove(List.of(Yut.Result.도, Yut.Result.개));
+        assertEquals(1, first.getResultIndex());
+    }
+
+    @Test
+    @DisplayName("계획대로 두면 계획 점수와 같은 위치에 도달")
+    void planReplayTest() {
+        Position pos = new Position(BOARD, 2, 4);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 4));
+        pos.setNode(1, 0, BOARD.nodeOf(0, 7));
+        pos.setNode(1, 1, BOARD.nodeOf(0, 12));
+        TurnPlanner.Evaluator evaluator = TurnPlanner.analytic(BOARD);
+        TurnPlanner.Plan plan = new TurnPlanner(evaluator).plan(pos,
+                List.of(Yut.Result.윷, Yut.Result.걸, Yut.Result.도));
+
+        Position replay = pos.copy();
+        for (TurnPlanner.Step step : plan.getSteps()) {
+            boolean legal = false;
+            for (int from : replay.legalMoves(step.getResult())) legal |= from == step.getFrom();
+            assertTrue(legal, "불가능한 이동 " + step);
+            replay.apply(step.getFrom(), step.getResult());
+        }
+        assertEquals(3, plan.getSteps().size());
+        assertEquals(evaluator.score(replay, 0), plan.getScore(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("결과 4개 턴: 전치 제거로 순진한 탐색보다 적은 상태를 보고 수 밀리초 안에 끝남")
+    void fourResultTurnTest() {
+        Position pos = new Position(BOARD, 4, 4);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 2));
+        pos.setNode(0, 1, BOARD.nodeOf(0, 6));
+        pos.setNode(0, 2, BOARD.nodeOf(0, 11));
+        pos.setNode(1, 0, BOARD.nodeOf(0, 8));
+        pos.setNode(2, 0, BOARD.nodeOf(0, 13));
+        List<Yut.Result> pending = List.of(Yut.Result.모, Yut.Result.윷, Yut.Result.개, Yut.Result.도);
+        TurnPlanner planner = new TurnPlanner(TurnPlanner.analytic(BOARD));
+        planner.plan(pos, pending);   // 준비 실행
+
+        long start = System.nanoTime();
+        TurnPlanner.Plan plan = planner.plan(pos, pending);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(4, plan.getSteps().size());
+        assertTrue(plan.getPositions() < naiveLeaves(pos, pending), "전치 제거 후 상태 수 " + plan.getPositions());
+        assertTrue(millis < 50, "탐색 시간 " + millis + "ms");
+    }
+
+    /** 순서와 말 배정을 모두 따로 센 이동열 수 */
+    private static long naiveLeaves(Position pos, List<Yut.Result> pending) {
+        if (pending.isEmpty()) return 1;
+        long total = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            for (int from : pos.legalMoves(pending.get(i))) {
+                Position next = pos.copy();
+                next.apply(from, pending.get(i));
+                List<Yut.Result> rest = new java.util.ArrayList<>(pending);
+                rest.remove(i);
+                total += naiveLeaves(next, rest);
+            }
+        }
+        return total;
+    }
+
+    @Test
+    @DisplayName("PlannerBot은 위치에 담긴 규칙의 던지기 분포로 계획")
+    void plannerBotRulesTest() {
+        RuleSet alwaysYut = RuleSet.standard()
+                .withThrowModel(new ThrowModel(new double[] {0.99, 0.99, 0.99, 0.99}, 0));
+        BoardGraph board = alwaysYut.compile(BoardGraph.forType(PlayConfig.BoardType.SQUARE));
+        TurnPlanner custom = new TurnPlanner(TurnPlanner.analytic(board, alwaysYut));
+        TurnPlanner standard = new TurnPlanner(TurnPlanner.analytic(board));
+        PlannerBot bot = new PlannerBot();
+        Yut.Result[] results = {Yut.Result.도, Yut.Result.개, Yut.Result.걸, Yut.Result.윷, Yut.Result.모};
+        java.util.Random random = new java.util.Random(38);
+        int differs = 0;
+        for (int game = 0; game < 10; game++) {
+            Position pos = new Position(board, 2, 4, alwaysYut);
+            for (int move = 0; move < 30 && !pos.isWinner(1 - pos.getCurrent()); move++) {
+                List<Yut.Result> pending = List.of(results[random.nextInt(5)], results[random.nextInt(5)]);
+                Bot.Move chosen = bot.choose(pos.copy(), pending);
+                Bot.Move expected = custom.plan(pos, pending).firstMove(pending);
+                assertEquals(expected.getResultIndex(), chosen.getResultIndex());
+                assertEquals(expected.getFrom(), chosen.getFrom());
+                Bot.Move underStandard = standard.plan(pos, pending).firstMove(pending);
+                if (underStandard.getResultIndex() != expected.getResultIndex()
+                        || underStandard.getFrom() != expected.getFrom()) differs++;
+                pos.apply(chosen.getFrom(), pending.get(chosen.getResultIndex()));
+                pos.nextTurn();
+            }
+        }
+        assertTrue(differs > 0, "규칙에 따라 계획이 달라지는 위치가 있음");
+    }
+}
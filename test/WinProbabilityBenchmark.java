@@ -0,0 +1,75 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 승률 추정 조회 시간 측정: 무작위 게임에서 모은 위치를 처음 평가(캐시 실패, 분석 모델 계산)할 때와
+ * 다시 평가(캐시 적중)할 때의 호출당 시간 분포. 정보 패널은 이동마다 한 번 조회하므로 적중 시 50 us 미만이 목표.
+ * 단위 테스트 실행에서는 제외되며 직접 실행한다: java -cp out WinProbabilityBenchmark [게임 수=200]
+ */
+public class WinProbabilityBenchmark {
+    private static final int ROUNDS = 5;
+    private static final PlayConfig CONFIG = new PlayConfig(4, 4, PlayConfig.BoardType.SQUARE);
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // GameState 이동 로그 숨김
+        List<Position> positions = record(games);
+        System.setOut(console);
+        console.printf("위치 %d개%n", positions.size());
+
+        for (int round = 0; round < ROUNDS; round++) {
+            WinProbabilityEvaluator evaluator = new WinProbabilityEvaluator(CONFIG.getBoardGraph(), CONFIG.getRuleSet());
+            long[] miss = time(evaluator, positions);
+            long[] hit = time(evaluator, positions);
+            console.printf("round %d 캐시 실패 %s | 캐시 적중 %s%n", round, summary(miss), summary(hit));
+        }
+    }
+
+    /** 무작위 봇 게임의 이동마다의 위치 (캐시 칸 수보다 적게) */
+    private static List<Position> record(int games) {
+        List<Position> positions = new ArrayList<>();
+        Random random = new Random(28);
+        Bot bot = new RandomBot(new Random(29));
+        Bot[] bots = {bot, bot, bot, bot};
+        GameSimulator simulator = new GameSimulator(CONFIG);
+        for (int g = 0; g < games && positions.size() < 20_000; g++) {
+            simulator.play(bots, random, new GameEventSink() {
+                final Position pos = new Position(CONFIG.getBoardGraph(), 4, 4, CONFIG.getRuleSet());
+                @Override public void gameStarted(PlayConfig.BoardType boardType, int playerCount, int pieceCount) { }
+                @Override public void thrown(int player, Yut.Result result) { }
+                @Override public void moved(int player, Yut.Result result, int from, int to, int captured) {
+                    pos.setCurrent(player);
+                    pos.apply(from, result);
+                    positions.add(pos.copy());
+                }
+                @Override public void turnEnded(int player) { }
+                @Override public void gameEnded(int winner, int turns) { }
+            });
+        }
+        return positions;
+    }
+
+    private static long[] time(WinProbabilityEvaluator evaluator, List<Position> positions) {
+        long[] nanos = new long[positions.size()];
+        double sink = 0;
+        for (int i = 0; i < nanos.length; i++) {
+            long t0 = System.nanoTime();
+            sink += evaluator.evaluate(positions.get(i))[0];
+            nanos[i] = System.nanoTime() - t0;
+        }
+        if (sink < 0) System.out.println(sink);
+        return nanos;
+    }
+
+    private static String summary(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("p50 %6.2f us, p99 %6.2f us, max %7.1f us",
+                sorted[sorted.length / 2] / 1e3, sorted[sorted.length * 99 / 100] / 1e3, sorted[sorted.length - 1] / 1e3);
+    }
+}
@@ -0,0 +1,152 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 승률 추정(WinProbabilityEvaluator)의 값과 규칙 반영을 검증하는 테스트 클래스.
+ */
+public class WinProbabilityEvaluatorTest {
+    private static final BoardGraph BOARD = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+
+    @Test
+    @DisplayName("끝난 게임은 승자 1, 나머지 0")
+    void terminalTest() {
+        WinProbabilityEvaluator evaluator = new WinProbabilityEvaluator(BOARD);
+        Position pos = new Position(BOARD, 3, 2);
+        pos.setNode(0, 0, BOARD.nodeOf(0, 7));
+        pos.setNode(1, 0, BoardGraph.FINISH);
+        pos.setNode(1, 1, BoardGraph.FINISH);
+        assertArrayEquals(new double[] {0, 1, 0}, evaluator.evaluate(pos), 0.0);
+        pos.setCurrent(2);
+        assertArrayEquals(new double[] {0, 1, 0}, evaluator.evaluate(pos), 0.0);
+    }
+
+    @Test
+    @DisplayName("대칭 위치: 합계 1, 대략 1/n, 던질 차례를 바꾸면 값도 그대로 자리를 바꿈")
+    void symmetricTest() {
+        WinProbabilityEvaluator evaluator = new WinProbabilityEvaluator(BOARD);
+        for (int players = 2; players <= 4; players++) {
+            Position pos = new Position(BOARD, players, 4);
+            double[] first = evaluator.evaluate(pos);
+            assertEquals(1.0, sum(first), 1e-9);
+            for (double p : first) assertEquals(1.0 / players, p, 0.1, players + "명");
+            assertTrue(first[0] > first[1], "먼저 던지는 이점");
+            pos.setCurrent(1);
+            double[] second = evaluator.evaluate(pos);
+            assertEquals(first[0], second[1], 1e-12);
+            assertEquals(first[1], second[0], 1e-12);
+        }
+
+        // 플레이어 번호만 바꾼 위치: 값도 번호만 바뀜
+        Position pos = new Position(BOARD, 2, 2);
+        pos.setNode(1, 0, BOARD.nodeOf(0, 3));
+        double[] a = evaluator.evaluate(pos);
+        Position mirror = new Position(BOARD, 2, 2);
+        mirror.setNode(0, 0, BOARD.nodeOf(0, 3));
+        mirror.setCurrent(1);
+        double[] b = evaluator.evaluate(mirror);
+        assertEquals(a[0], b[1], 1e-12);
+        assertEquals(a[1], b[0], 1e-12);
+    }
+
+    @Test
+    @DisplayName("던지기 분포는 규칙의 윷가락 모델을 따름 (분석 모델과 플레이아웃 모두)")
+    void ruleSetTest() {
+        RuleSet alwaysYut = RuleSet.standard()
+                .withThrowModel(new ThrowModel(new double[] {0.99, 0.99, 0.99, 0.99}, 0));
+        BoardGraph board = alwaysYut.compile(BOARD);
+        WinProbabilityEvaluator standard = new WinProbabilityEvaluator(BOARD);
+        WinProbabilityEvaluator custom = new WinProbabilityEvaluator(board, alwaysYut);
+
+        Position pos = new Position(board, 2, 1, alwaysYut);
+        pos.setNode(0, 0, board.nodeOf(0, 2));
+        double[] s = standard.evaluate(pos);
+        double[] c = custom.evaluate(pos);
+        assertEquals(1.0, sum(c), 1e-9);
+        assertNotEquals(s[0], c[0], 1e-3);
+
+        // 거의 항상 윷이면 먼저 던지는 쪽이 대개 턴을 넘기지 않고 완주한다 (기본 규칙이면 반반에 가까움)
+        Random random = new Random(28);
+        int wins = 0, playouts = 400;
+        for (int i = 0; i < playouts; i++) {
+            if (custom.playout(new Position(board, 2, 1, alwaysYut), random) == 0) wins++;
+        }
+        assertTrue(wins > playouts * 0.7, "윷만 나오는 규칙의 선수 승리 " + wins + "/" + playouts);
+        wins = 0;
+        for (int i = 0; i < playouts; i++) {
+            if (standard.playout(new Position(BOARD, 2, 1), random) == 0) wins++;
+        }
+        assertTrue(wins < playouts * 0.6, "기본 규칙의 선수 승리 " + wins + "/" + playouts);
+    }
+
+    @Test
+    @DisplayName("close 뒤의 조회는 예외 없이 분석 모델 값을 돌려줌 (EDT에 남은 그리기 작업 대비)")
+    void evaluateAfterCloseTest() {
+        WinProbabilityEvaluator evaluator = new WinProbabilityEvaluator(BOARD, null, true);
+        Position pos = new Position(BOARD, 2, 4);
+        evaluator.evaluate(pos);
+        evaluator.close();
+        Position miss = new Position(BOARD, 2, 4);
+        miss.setNode(0, 0, BOARD.nodeOf(0, 4));
+        double[] probs = evaluator.evaluate(miss);
+        assertArrayEquals(evaluator.analytic(miss), probs, 0.0);
+        assertArrayEquals(probs, evaluator.evaluate(miss), 0.0);
+    }
+
+    @Test
+    @DisplayName("EvaluatorBot은 위치에 담긴 규칙의 던지기 분포로 평가")
+    void evaluatorBotRulesTest() {
+        RuleSet alwaysYut = RuleSet.standard()
+                .withThrowModel(new ThrowModel(new double[] {0.99, 0.99, 0.99, 0.99}, 0));
+        BoardGraph board = alwaysYut.compile(BOARD);
+        WinProbabilityEvaluator standard = new WinProbabilityEvaluator(board);
+        WinProbabilityEvaluator custom = new WinProbabilityEvaluator(board, alwaysYut);
+        EvaluatorBot bot = new EvaluatorBot();
+        Yut.Result[] results = {Yut.Result.도, Yut.Result.개, Yut.Result.걸, Yut.Result.윷, Yut.Result.모};
+        Random random = new Random(30);
+        int differs = 0;
+        for (int game = 0; game < 20; game++) {
+            Position pos = new Position(board, 2, 4, alwaysYut);
+            for (int move = 0; move < 30 && !pos.isWinner(1 - pos.getCurrent()); move++) {
+                List<Yut.Result> pending = List.of(results[random.nextInt(5)], results[random.nextInt(5)]);
+                Bot.Move chosen = bot.choose(pos.copy(), pending);
+                Bot.Move expected = best(custom, pos, pending);
+                assertEquals(expected.getResultIndex(), chosen.getResultIndex());
+                assertEquals(expected.getFrom(), chosen.getFrom());
+                Bot.Move underStandard = best(standard, pos, pending);
+                if (underStandard.getResultIndex() != expected.getResultIndex()
+                        || underStandard.getFrom() != expected.getFrom()) differs++;
+                pos.apply(chosen.getFrom(), pending.get(chosen.getResultIndex()));
+                pos.nextTurn();
+            }
+        }
+        assertTrue(differs > 0, "규칙에 따라 고르는 수가 달라지는 위치가 있음");
+    }
+
+    /** 이동 후 분석 모델 승률이 가장 높은 이동 (EvaluatorBot과 같은 순서로 비교) */
+    private static Bot.Move best(WinProbabilityEvaluator evaluator, Position pos, List<Yut.Result> pending) {
+        int player = pos.getCurrent();
+        Bot.Move best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < pending.size(); i++) {
+            for (int from : pos.legalMoves(pending.get(i))) {
+                Position after = pos.copy();
+                after.apply(from, pending.get(i));
+                double score = evaluator.analytic(after)[player];
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = new Bot.Move(i, from);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static double sum(double[] values) {
+        double s = 0;
+        for (double v : values) s += v;
+        return s;
+    }
+}
@@ -152,4 +152,78 @@ public class junitTest {
         long finishedPieces = player0.getPieces().stream().filter(Piece::isFinished).count();
         assertEquals(1, finishedPieces, "완주한 말이 1개이므로 점수는 1");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("완주/판 위 비트마스크: 꺼내기, 잡기, 완주에 따라 갱신되고 승리 판정은 상태를 바꾸지 않음")
+    void pieceMaskTest() {
+        PieceStore store = state.getPieceStore();
+        assertFalse(store.hasPieceOnBoard(0));
+        assertEquals(4, store.waitingCount(0));
+        assertFalse(state.isGameOver());
+        assertNull(state.getWinner());
+
+        // 상대 말을 잡으면 상대의 판 위 비트가 지워지고 대기 말로 돌아감
+        Piece opponentPiece = player1.getPieces().get(0);
+        opponentPiece.setPathIndex(0);
+        opponentPiece.setStepIndex(2);
+        assertTrue(store.hasPieceOnBoard(1));
+        Piece myPiece = player0.getPieces().get(0);
+        myPiece.setPathIndex(0);
+        myPiece.setStepIndex(0);
+        state.applyThrow(Yut.Result.개);
+        state.movePiece(myPiece.getId());
+        assertEquals(0b0001, store.onBoardMask(0));
+        assertFalse(store.hasPieceOnBoard(1));
+        assertEquals(4, store.waitingCount(1));
+
+        // 나머지 말을 완주 직전에 두고 한 묶음으로 완주시키면 승자가 정해짐
+        for (Piece p : player0.getPieces()) {
+            p.setPathIndex(0);
+            p.setStepIndex(19);
+        }
+        assertEquals(0, store.waitingCount(0));
+        state.applyThrow(Yut.Result.개);
+        state.movePiece(myPiece.getId());
+        assertEquals(0, store.onBoardMask(0));
+        assertEquals(4, store.finishedCount(0));
+        assertTrue(state.isGameOver());
+        assertSame(player0, state.getWinner());
+    }
+
+    @Test
+    @DisplayName("Position 비트마스크: 무작위 이동 후에도 말 위치를 훑은 결과와 같음")
+    void positionMaskTest() {
+        BoardGraph board = BoardGraph.forType(PlayConfig.BoardType.SQUARE);
+        java.util.Random random = new java.util.Random(7);
+        Yut.Result[] results = Yut.Result.values();
+        for (int game = 0; game < 200; game++) {
+            Position pos = new Position(board, 3, 4);
+            for (int move = 0; move < 300; move++) {
+                Yut.Result result = results[random.nextInt(results.length)];   // 합법 수를 구한 결과로 그대로 이동
+                int[] moves = pos.legalMoves(result);
+                if (moves.length > 0) pos.apply(moves[random.nextInt(moves.length)], result);
+                pos.nextTurn();
+                for (int pl = 0; pl < 3; pl++) {
+                    int waiting = 0, onBoardMask = 0, finishedMask = 0;
+                    boolean onBoard = false, winner = true;
+                    for (int i = 0; i < 4; i++) {
+                        int node = pos.nodeOf(pl, i);
+                        if (node == Position.WAITING) waiting++;
+                        if (node >= 0) {
+                            onBoard = true;
+                            onBoardMask |= 1 << i;
+                        }
+                        if (node == BoardGraph.FINISH) finishedMask |= 1 << i;
+                        else winner = false;
+                    }
+                    assertEquals(onBoardMask, pos.onBoardMask(pl));
+                    assertEquals(finishedMask, pos.finishedMask(pl));
+                    assertEquals(0, pos.onBoardMask(pl) & pos.finishedMask(pl));
+                    assertEquals(waiting, pos.waitingCount(pl));
+                    assertEquals(onBoard, pos.hasPieceOnBoard(pl));
+                    assertEquals(winner, pos.isWinner(pl));
+                }
+            }
+        }
+    }
+}